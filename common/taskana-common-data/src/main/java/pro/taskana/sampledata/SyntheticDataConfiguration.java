@@ -0,0 +1,272 @@
+package pro.taskana.sampledata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The volume and the distributions of the data created by the {@link SyntheticDataGenerator}. The
+ * defaults create a small but complete data set, the volume is increased with the setters.
+ */
+public class SyntheticDataConfiguration {
+
+  private int domainCount = 2;
+  private int workbasketsPerDomain = 10;
+  private int accessIdsPerWorkbasket = 3;
+  private int distributionTargetsPerWorkbasket = 2;
+  private int rootClassificationsPerDomain = 5;
+  private int childClassificationsPerRoot = 4;
+  private long taskCount = 10_000;
+  private Map<String, Integer> taskStateWeights = createDefaultTaskStateWeights();
+  private Range attachmentsPerTask = new Range(0, 3);
+  private Range commentsPerTask = new Range(0, 2);
+  private Range updateEventsPerTask = new Range(0, 3);
+  private double workbasketSkew = 1.0;
+  private Duration createdWithin = Duration.ofDays(365);
+  private List<String> additionalAccessIds = new ArrayList<>();
+  private long seed = 42;
+  private int batchSize = 1000;
+  private int writerThreads = 4;
+
+  public int getDomainCount() {
+    return domainCount;
+  }
+
+  public void setDomainCount(int domainCount) {
+    this.domainCount = domainCount;
+  }
+
+  public int getWorkbasketsPerDomain() {
+    return workbasketsPerDomain;
+  }
+
+  public void setWorkbasketsPerDomain(int workbasketsPerDomain) {
+    this.workbasketsPerDomain = workbasketsPerDomain;
+  }
+
+  public int getAccessIdsPerWorkbasket() {
+    return accessIdsPerWorkbasket;
+  }
+
+  public void setAccessIdsPerWorkbasket(int accessIdsPerWorkbasket) {
+    this.accessIdsPerWorkbasket = accessIdsPerWorkbasket;
+  }
+
+  public int getDistributionTargetsPerWorkbasket() {
+    return distributionTargetsPerWorkbasket;
+  }
+
+  public void setDistributionTargetsPerWorkbasket(int distributionTargetsPerWorkbasket) {
+    this.distributionTargetsPerWorkbasket = distributionTargetsPerWorkbasket;
+  }
+
+  public int getRootClassificationsPerDomain() {
+    return rootClassificationsPerDomain;
+  }
+
+  public void setRootClassificationsPerDomain(int rootClassificationsPerDomain) {
+    this.rootClassificationsPerDomain = rootClassificationsPerDomain;
+  }
+
+  public int getChildClassificationsPerRoot() {
+    return childClassificationsPerRoot;
+  }
+
+  public void setChildClassificationsPerRoot(int childClassificationsPerRoot) {
+    this.childClassificationsPerRoot = childClassificationsPerRoot;
+  }
+
+  public long getTaskCount() {
+    return taskCount;
+  }
+
+  public void setTaskCount(long taskCount) {
+    this.taskCount = taskCount;
+  }
+
+  public Map<String, Integer> getTaskStateWeights() {
+    return Collections.unmodifiableMap(taskStateWeights);
+  }
+
+  /**
+   * Sets the relative frequency of the task states, e.g. READY=50 and COMPLETED=50 for one half of
+   * ready and one half of completed tasks.
+   *
+   * @param taskStateWeights the weight of each task state
+   */
+  public void setTaskStateWeights(Map<String, Integer> taskStateWeights) {
+    this.taskStateWeights = new LinkedHashMap<>(taskStateWeights);
+  }
+
+  public Range getAttachmentsPerTask() {
+    return attachmentsPerTask;
+  }
+
+  public void setAttachmentsPerTask(Range attachmentsPerTask) {
+    this.attachmentsPerTask = attachmentsPerTask;
+  }
+
+  public Range getCommentsPerTask() {
+    return commentsPerTask;
+  }
+
+  public void setCommentsPerTask(Range commentsPerTask) {
+    this.commentsPerTask = commentsPerTask;
+  }
+
+  public Range getUpdateEventsPerTask() {
+    return updateEventsPerTask;
+  }
+
+  /**
+   * Sets the number of UPDATED history events of a task. Every task additionally gets a CREATED
+   * event and the events of the state transitions which led to its state.
+   *
+   * @param updateEventsPerTask the range of the number of UPDATED events
+   */
+  public void setUpdateEventsPerTask(Range updateEventsPerTask) {
+    this.updateEventsPerTask = updateEventsPerTask;
+  }
+
+  public double getWorkbasketSkew() {
+    return workbasketSkew;
+  }
+
+  /**
+   * Sets how unevenly the tasks are spread over the workbaskets of a domain. With 0 every
+   * workbasket gets about the same number of tasks. Higher values put more and more tasks into
+   * the first workbaskets of a domain, like the few busy group workbaskets of a real installation.
+   *
+   * @param workbasketSkew the skew, at least 0
+   */
+  public void setWorkbasketSkew(double workbasketSkew) {
+    this.workbasketSkew = workbasketSkew;
+  }
+
+  public Duration getCreatedWithin() {
+    return createdWithin;
+  }
+
+  public void setCreatedWithin(Duration createdWithin) {
+    this.createdWithin = createdWithin;
+  }
+
+  public List<String> getAdditionalAccessIds() {
+    return Collections.unmodifiableList(additionalAccessIds);
+  }
+
+  /**
+   * Sets access ids which get all permissions on every generated workbasket, e.g. the users of a
+   * benchmark or of a manual test.
+   *
+   * @param additionalAccessIds the access ids
+   */
+  public void setAdditionalAccessIds(List<String> additionalAccessIds) {
+    this.additionalAccessIds = new ArrayList<>(additionalAccessIds);
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public int getWriterThreads() {
+    return writerThreads;
+  }
+
+  public void setWriterThreads(int writerThreads) {
+    this.writerThreads = writerThreads;
+  }
+
+  @Override
+  public String toString() {
+    return "SyntheticDataConfiguration [domainCount="
+        + domainCount
+        + ", workbasketsPerDomain="
+        + workbasketsPerDomain
+        + ", accessIdsPerWorkbasket="
+        + accessIdsPerWorkbasket
+        + ", distributionTargetsPerWorkbasket="
+        + distributionTargetsPerWorkbasket
+        + ", rootClassificationsPerDomain="
+        + rootClassificationsPerDomain
+        + ", childClassificationsPerRoot="
+        + childClassificationsPerRoot
+        + ", taskCount="
+        + taskCount
+        + ", taskStateWeights="
+        + taskStateWeights
+        + ", attachmentsPerTask="
+        + attachmentsPerTask
+        + ", commentsPerTask="
+        + commentsPerTask
+        + ", updateEventsPerTask="
+        + updateEventsPerTask
+        + ", workbasketSkew="
+        + workbasketSkew
+        + ", createdWithin="
+        + createdWithin
+        + ", additionalAccessIds="
+        + additionalAccessIds
+        + ", seed="
+        + seed
+        + ", batchSize="
+        + batchSize
+        + ", writerThreads="
+        + writerThreads
+        + "]";
+  }
+
+  private static Map<String, Integer> createDefaultTaskStateWeights() {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    weights.put("READY", 50);
+    weights.put("CLAIMED", 15);
+    weights.put("COMPLETED", 30);
+    weights.put("CANCELLED", 3);
+    weights.put("TERMINATED", 2);
+    return weights;
+  }
+
+  /** A uniformly distributed number between a minimum and a maximum, both inclusive. */
+  public static class Range {
+
+    private final int min;
+    private final int max;
+
+    public Range(int min, int max) {
+      if (min < 0 || max < min) {
+        throw new IllegalArgumentException(
+            String.format("Invalid range from %d to %d.", min, max));
+      }
+      this.min = min;
+      this.max = max;
+    }
+
+    public int getMin() {
+      return min;
+    }
+
+    public int getMax() {
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "Range [min=" + min + ", max=" + max + "]";
+    }
+  }
+}
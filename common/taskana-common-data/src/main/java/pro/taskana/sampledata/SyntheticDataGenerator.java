@@ -0,0 +1,691 @@
+package pro.taskana.sampledata;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.apache.ibatis.jdbc.RuntimeSqlException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.sampledata.SyntheticDataConfiguration.Range;
+
+/**
+ * This class generates large volumes of synthetic data for load and volume tests. Unlike the
+ * {@link SampleDataGenerator}, which replays fixed SQL scripts, it creates domains, classification
+ * hierarchies, workbaskets with access lists and distribution targets and any number of tasks with
+ * attachments, comments and history events as described by a {@link SyntheticDataConfiguration}.
+ *
+ * <p>The tasks are written by several threads with their own connections in JDBC batches, which
+ * are committed one by one. Every task is derived from the seed and its number only, so the same
+ * configuration always creates the same data, independent of the number of threads. On PostgreSQL
+ * the batches should be rewritten to multi-row inserts by the driver with the connection property
+ * <code>reWriteBatchedInserts=true</code>.
+ *
+ * <p>The ids of the generated objects start with the usual prefix followed by <code>:s</code>, so
+ * they do not collide with the sample data. The generator does not clear the database.
+ */
+public class SyntheticDataGenerator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+  private static final String INSERT_CLASSIFICATION =
+      "INSERT INTO CLASSIFICATION (ID, KEY, PARENT_ID, PARENT_KEY, CATEGORY, TYPE, DOMAIN, "
+          + "VALID_IN_DOMAIN, CREATED, MODIFIED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_WORKBASKET =
+      "INSERT INTO WORKBASKET (ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, "
+          + "OWNER, ORG_LEVEL_1, MARKED_FOR_DELETION) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ACCESS_ITEM =
+      "INSERT INTO WORKBASKET_ACCESS_LIST (ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, "
+          + "PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE, PERM_CUSTOM_1, PERM_CUSTOM_2, "
+          + "PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, "
+          + "PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12) "
+          + "VALUES (?, ?, ?, ?, 1, 1, 1, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)";
+  private static final String INSERT_DISTRIBUTION_TARGET =
+      "INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) VALUES (?, ?)";
+  private static final String INSERT_TASK =
+      "INSERT INTO TASK (ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, "
+          + "NAME, CREATOR, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_CATEGORY, "
+          + "CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, "
+          + "BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, "
+          + "POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_1) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, "
+          + "?, ?, ?)";
+  private static final String INSERT_ATTACHMENT =
+      "INSERT INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, "
+          + "CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, "
+          + "CHANNEL, RECEIVED) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TASK_COMMENT =
+      "INSERT INTO TASK_COMMENT (ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TASK_HISTORY_EVENT =
+      "INSERT INTO TASK_HISTORY_EVENT (ID, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, "
+          + "TASK_ID, EVENT_TYPE, CREATED, USER_ID, DOMAIN, WORKBASKET_KEY, POR_COMPANY, "
+          + "POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, TASK_CLASSIFICATION_KEY, "
+          + "TASK_CLASSIFICATION_CATEGORY) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String[] CATEGORIES = {"EXTERNAL", "MANUAL", "AUTOMATIC", "PROCESS"};
+  private static final String[] CHANNELS = {"E-MAIL", "FAX", "POST", "PORTAL"};
+  private static final String[] END_STATES = {"COMPLETED", "CANCELLED", "TERMINATED"};
+  // tasks with more lifecycle events than this get ids from the next task's range
+  private static final int LIFECYCLE_EVENTS = 3;
+
+  private final DataSource dataSource;
+  private final String schema;
+  private final SyntheticDataConfiguration configuration;
+  private final Instant now;
+
+  public SyntheticDataGenerator(
+      DataSource dataSource, String schema, SyntheticDataConfiguration configuration) {
+    this(dataSource, schema, configuration, Instant.now().atZone(ZoneId.of("UTC")));
+  }
+
+  public SyntheticDataGenerator(
+      DataSource dataSource,
+      String schema,
+      SyntheticDataConfiguration configuration,
+      ZonedDateTime now) {
+    this.dataSource = dataSource;
+    this.schema = schema;
+    this.configuration = configuration;
+    this.now = now.toInstant();
+  }
+
+  /** Generates the master data and the tasks. */
+  public void generate() {
+    LOGGER.info("Generating synthetic data with {}", configuration);
+    long start = System.currentTimeMillis();
+    MasterData masterData;
+    try (Connection connection = openConnection()) {
+      masterData = writeMasterData(connection);
+    } catch (SQLException e) {
+      throw new RuntimeSqlException("Failed to write synthetic master data.", e);
+    }
+    writeTasks(masterData);
+    LOGGER.info(
+        "Generated {} synthetic tasks in {} ms.",
+        configuration.getTaskCount(),
+        System.currentTimeMillis() - start);
+  }
+
+  static String syntheticId(String prefix, long number) {
+    String digits = Long.toString(number);
+    StringBuilder id = new StringBuilder(40).append(prefix).append(":s");
+    for (int i = digits.length(); i < 35; i++) {
+      id.append('0');
+    }
+    return id.append(digits).toString();
+  }
+
+  private MasterData writeMasterData(Connection connection) throws SQLException {
+    SplittableRandom random = new SplittableRandom(configuration.getSeed());
+    MasterData masterData = new MasterData();
+    try (PreparedStatement classificationStatement =
+            connection.prepareStatement(INSERT_CLASSIFICATION);
+        PreparedStatement workbasketStatement = connection.prepareStatement(INSERT_WORKBASKET);
+        PreparedStatement accessItemStatement = connection.prepareStatement(INSERT_ACCESS_ITEM);
+        PreparedStatement distributionTargetStatement =
+            connection.prepareStatement(INSERT_DISTRIBUTION_TARGET)) {
+      for (int d = 0; d < configuration.getDomainCount(); d++) {
+        String domain = "SYNTHETIC_" + d;
+        masterData.leafClassificationsByDomain.add(
+            addClassifications(classificationStatement, random, masterData, domain));
+        List<WorkbasketRow> workbaskets =
+            addWorkbaskets(workbasketStatement, accessItemStatement, masterData, d, domain);
+        addDistributionTargets(distributionTargetStatement, workbaskets);
+        masterData.workbasketsByDomain.add(workbaskets);
+      }
+      classificationStatement.executeBatch();
+      workbasketStatement.executeBatch();
+      accessItemStatement.executeBatch();
+      distributionTargetStatement.executeBatch();
+      connection.commit();
+    }
+    return masterData;
+  }
+
+  private List<ClassificationRow> addClassifications(
+      PreparedStatement statement, SplittableRandom random, MasterData masterData, String domain)
+      throws SQLException {
+    List<ClassificationRow> leafClassifications = new ArrayList<>();
+    for (int r = 0; r < configuration.getRootClassificationsPerDomain(); r++) {
+      ClassificationRow root =
+          new ClassificationRow(
+              syntheticId(IdGenerator.ID_PREFIX_CLASSIFICATION, masterData.classificationCount++),
+              "SYN-" + r,
+              CATEGORIES[r % CATEGORIES.length],
+              1 + random.nextInt(999),
+              1 + random.nextInt(30));
+      addClassification(statement, root, null, domain);
+      for (int c = 0; c < configuration.getChildClassificationsPerRoot(); c++) {
+        ClassificationRow child =
+            new ClassificationRow(
+                syntheticId(
+                    IdGenerator.ID_PREFIX_CLASSIFICATION, masterData.classificationCount++),
+                root.key + "-" + c,
+                root.category,
+                1 + random.nextInt(999),
+                1 + random.nextInt(30));
+        addClassification(statement, child, root, domain);
+        leafClassifications.add(child);
+      }
+      if (configuration.getChildClassificationsPerRoot() == 0) {
+        leafClassifications.add(root);
+      }
+    }
+    if (leafClassifications.isEmpty()) {
+      throw new IllegalArgumentException("At least one classification per domain is required.");
+    }
+    return leafClassifications;
+  }
+
+  private void addClassification(
+      PreparedStatement statement,
+      ClassificationRow classification,
+      ClassificationRow parent,
+      String domain)
+      throws SQLException {
+    int i = 1;
+    statement.setString(i++, classification.id);
+    statement.setString(i++, classification.key);
+    statement.setString(i++, parent == null ? "" : parent.id);
+    statement.setString(i++, parent == null ? "" : parent.key);
+    statement.setString(i++, classification.category);
+    statement.setString(i++, "TASK");
+    statement.setString(i++, domain);
+    statement.setInt(i++, 1);
+    setTimestamp(statement, i++, now);
+    setTimestamp(statement, i++, now);
+    statement.setString(i++, "Synthetic classification " + classification.key);
+    statement.setString(i++, "Generated for volume tests");
+    statement.setInt(i++, classification.priority);
+    statement.setString(i, "P" + classification.serviceLevelDays + "D");
+    statement.addBatch();
+  }
+
+  private List<WorkbasketRow> addWorkbaskets(
+      PreparedStatement workbasketStatement,
+      PreparedStatement accessItemStatement,
+      MasterData masterData,
+      int domainNumber,
+      String domain)
+      throws SQLException {
+    List<WorkbasketRow> workbaskets = new ArrayList<>();
+    int groupWorkbaskets = Math.max(1, configuration.getWorkbasketsPerDomain() / 4);
+    for (int w = 0; w < configuration.getWorkbasketsPerDomain(); w++) {
+      Set<String> accessIds = new LinkedHashSet<>();
+      for (int a = 0; a < configuration.getAccessIdsPerWorkbasket(); a++) {
+        accessIds.add(String.format("syn-user-%d-%d-%d", domainNumber, w, a));
+      }
+      accessIds.addAll(configuration.getAdditionalAccessIds());
+      WorkbasketRow workbasket =
+          new WorkbasketRow(
+              syntheticId(IdGenerator.ID_PREFIX_WORKBASKET, masterData.workbasketCount++),
+              "SYN-WB-" + w,
+              domain,
+              new ArrayList<>(accessIds));
+      final boolean isGroup = w < groupWorkbaskets;
+
+      int i = 1;
+      workbasketStatement.setString(i++, workbasket.id);
+      workbasketStatement.setString(i++, workbasket.key);
+      setTimestamp(workbasketStatement, i++, now);
+      setTimestamp(workbasketStatement, i++, now);
+      workbasketStatement.setString(i++, "Synthetic workbasket " + w);
+      workbasketStatement.setString(i++, domain);
+      workbasketStatement.setString(i++, isGroup ? "GROUP" : "PERSONAL");
+      workbasketStatement.setString(i++, "Generated for volume tests");
+      workbasketStatement.setString(
+          i++, isGroup || workbasket.accessIds.isEmpty() ? null : workbasket.accessIds.get(0));
+      workbasketStatement.setString(i++, "SYN-ORG-" + domainNumber);
+      workbasketStatement.setInt(i, 0);
+      workbasketStatement.addBatch();
+
+      for (String accessId : workbasket.accessIds) {
+        accessItemStatement.setString(
+            1,
+            syntheticId(
+                IdGenerator.ID_PREFIX_WORKBASKET_AUTHORIZATION, masterData.accessItemCount++));
+        accessItemStatement.setString(2, workbasket.id);
+        accessItemStatement.setString(3, accessId);
+        accessItemStatement.setString(4, accessId);
+        accessItemStatement.addBatch();
+      }
+      workbaskets.add(workbasket);
+    }
+    return workbaskets;
+  }
+
+  private void addDistributionTargets(PreparedStatement statement, List<WorkbasketRow> workbaskets)
+      throws SQLException {
+    int targetCount =
+        Math.min(configuration.getDistributionTargetsPerWorkbasket(), workbaskets.size() - 1);
+    for (int w = 0; w < workbaskets.size(); w++) {
+      for (int t = 1; t <= targetCount; t++) {
+        statement.setString(1, workbaskets.get(w).id);
+        statement.setString(2, workbaskets.get((w + t) % workbaskets.size()).id);
+        statement.addBatch();
+      }
+    }
+  }
+
+  private void writeTasks(MasterData masterData) {
+    if (masterData.workbasketsByDomain.stream().allMatch(List::isEmpty)) {
+      LOGGER.warn("No synthetic tasks are generated, since there are no workbaskets.");
+      return;
+    }
+    int threads = Math.max(1, configuration.getWriterThreads());
+    long tasksPerThread = (configuration.getTaskCount() + threads - 1) / threads;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> writers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        long from = t * tasksPerThread;
+        long to = Math.min(configuration.getTaskCount(), from + tasksPerThread);
+        if (from < to) {
+          writers.add(
+              executor.submit(
+                  () -> {
+                    try (Connection connection = openConnection()) {
+                      writeTasks(connection, masterData, from, to);
+                    }
+                    return null;
+                  }));
+        }
+      }
+      for (Future<Void> writer : writers) {
+        writer.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeSqlException("Interrupted while writing synthetic tasks.", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeSqlException("Failed to write synthetic tasks.", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void writeTasks(Connection connection, MasterData masterData, long from, long to)
+      throws SQLException {
+    try (TaskStatements statements = new TaskStatements(connection)) {
+      for (long taskNumber = from; taskNumber < to; taskNumber++) {
+        addTask(statements, masterData, taskNumber);
+        if ((taskNumber - from + 1) % configuration.getBatchSize() == 0) {
+          statements.executeAndCommit();
+          LOGGER.debug("Wrote synthetic tasks {} to {}.", from, taskNumber);
+        }
+      }
+      statements.executeAndCommit();
+    }
+  }
+
+  private void addTask(TaskStatements statements, MasterData masterData, long taskNumber)
+      throws SQLException {
+    // every task has its own random numbers, so it does not depend on the other tasks
+    SplittableRandom random = new SplittableRandom(configuration.getSeed() * 31 + taskNumber);
+    TaskRow task = new TaskRow();
+    task.id = syntheticId(IdGenerator.ID_PREFIX_TASK, taskNumber);
+    task.businessProcessId = syntheticId(IdGenerator.ID_PREFIX_BUSINESS_PROCESS, taskNumber);
+    List<WorkbasketRow> domainWorkbaskets =
+        masterData.workbasketsByDomain.get(
+            (int) (taskNumber % masterData.workbasketsByDomain.size()));
+    task.workbasket =
+        domainWorkbaskets.get(
+            skewedIndex(random, domainWorkbaskets.size(), configuration.getWorkbasketSkew()));
+    List<ClassificationRow> classifications =
+        masterData.leafClassificationsByDomain.get(
+            (int) (taskNumber % masterData.leafClassificationsByDomain.size()));
+    task.classification = classifications.get(random.nextInt(classifications.size()));
+    task.state = selectState(random);
+    task.creator = selectAccessId(random, task.workbasket);
+    task.porValue = String.format("%08d", random.nextInt(100_000_000));
+    task.porSystem = "SYSTEM_" + random.nextInt(5);
+    long createdWithinSeconds = configuration.getCreatedWithin().getSeconds();
+    task.created = now.minusSeconds((long) (random.nextDouble() * createdWithinSeconds));
+    Instant due = task.created.plus(Duration.ofDays(task.classification.serviceLevelDays));
+    Instant claimed = null;
+    Instant completed = null;
+    String owner = null;
+    if (!"READY".equals(task.state)) {
+      claimed = between(random, task.created, due);
+      owner = selectAccessId(random, task.workbasket);
+    }
+    if (isEndState(task.state)) {
+      completed = between(random, claimed, due);
+    }
+    final Instant modified =
+        completed != null ? completed : claimed != null ? claimed : task.created;
+
+    PreparedStatement statement = statements.task;
+    int i = 1;
+    statement.setString(i++, task.id);
+    statement.setString(i++, syntheticId(IdGenerator.ID_PREFIX_EXT_TASK, taskNumber));
+    setTimestamp(statement, i++, task.created);
+    setTimestamp(statement, i++, claimed);
+    setTimestamp(statement, i++, completed);
+    setTimestamp(statement, i++, modified);
+    setTimestamp(statement, i++, task.created);
+    setTimestamp(statement, i++, due);
+    statement.setString(i++, "Synthetic task " + taskNumber);
+    statement.setString(i++, task.creator);
+    statement.setString(i++, "Generated for volume tests");
+    statement.setInt(i++, task.classification.priority);
+    statement.setString(i++, task.state);
+    statement.setString(i++, task.classification.category);
+    statement.setString(i++, task.classification.key);
+    statement.setString(i++, task.classification.id);
+    statement.setString(i++, task.workbasket.id);
+    statement.setString(i++, task.workbasket.key);
+    statement.setString(i++, task.workbasket.domain);
+    statement.setString(i++, task.businessProcessId);
+    statement.setString(i++, owner);
+    statement.setString(i++, "SYN");
+    statement.setString(i++, task.porSystem);
+    statement.setString(i++, "INSTANCE_1");
+    statement.setString(i++, "VNR");
+    statement.setString(i++, task.porValue);
+    statement.setInt(i++, random.nextInt(2));
+    statement.setInt(i++, random.nextInt(10) == 0 ? 1 : 0);
+    statement.setString(i, "custom-" + random.nextInt(100));
+    statement.addBatch();
+
+    addAttachments(statements.attachment, random, masterData, task, taskNumber);
+    addComments(statements.comment, random, task, taskNumber);
+    addHistoryEvents(statements.historyEvent, random, task, taskNumber, claimed, completed);
+  }
+
+  private void addAttachments(
+      PreparedStatement statement,
+      SplittableRandom random,
+      MasterData masterData,
+      TaskRow task,
+      long taskNumber)
+      throws SQLException {
+    Range range = configuration.getAttachmentsPerTask();
+    int count = sample(random, range);
+    List<ClassificationRow> classifications =
+        masterData.leafClassificationsByDomain.get(
+            (int) (taskNumber % masterData.leafClassificationsByDomain.size()));
+    for (int a = 0; a < count; a++) {
+      final ClassificationRow classification =
+          classifications.get(random.nextInt(classifications.size()));
+      int i = 1;
+      statement.setString(
+          i++,
+          syntheticId(IdGenerator.ID_PREFIX_ATTACHMENT, taskNumber * (range.getMax() + 1) + a));
+      statement.setString(i++, task.id);
+      setTimestamp(statement, i++, task.created);
+      setTimestamp(statement, i++, task.created);
+      statement.setString(i++, classification.key);
+      statement.setString(i++, classification.id);
+      statement.setString(i++, "SYN");
+      statement.setString(i++, task.porSystem);
+      statement.setString(i++, "INSTANCE_1");
+      statement.setString(i++, "ArchiveId");
+      statement.setString(i++, task.porValue + "-" + a);
+      statement.setString(i++, CHANNELS[random.nextInt(CHANNELS.length)]);
+      setTimestamp(statement, i, task.created.minus(Duration.ofHours(random.nextInt(72))));
+      statement.addBatch();
+    }
+  }
+
+  private void addComments(
+      PreparedStatement statement, SplittableRandom random, TaskRow task, long taskNumber)
+      throws SQLException {
+    Range range = configuration.getCommentsPerTask();
+    int count = sample(random, range);
+    for (int c = 0; c < count; c++) {
+      final Instant created = task.created.plus(Duration.ofMinutes(c + 1L));
+      int i = 1;
+      statement.setString(
+          i++,
+          syntheticId(IdGenerator.ID_PREFIX_TASK_COMMENT, taskNumber * (range.getMax() + 1) + c));
+      statement.setString(i++, task.id);
+      statement.setString(i++, "Synthetic comment " + c);
+      statement.setString(i++, selectAccessId(random, task.workbasket));
+      setTimestamp(statement, i++, created);
+      setTimestamp(statement, i, created);
+      statement.addBatch();
+    }
+  }
+
+  private void addHistoryEvents(
+      PreparedStatement statement,
+      SplittableRandom random,
+      TaskRow task,
+      long taskNumber,
+      Instant claimed,
+      Instant completed)
+      throws SQLException {
+    Range range = configuration.getUpdateEventsPerTask();
+    long firstEventNumber = taskNumber * (range.getMax() + LIFECYCLE_EVENTS);
+    int eventCount = 0;
+    addHistoryEvent(
+        statement, task, firstEventNumber + eventCount++, "CREATED", task.created, task.creator);
+    int updates = sample(random, range);
+    for (int u = 0; u < updates; u++) {
+      addHistoryEvent(
+          statement,
+          task,
+          firstEventNumber + eventCount++,
+          "UPDATED",
+          task.created.plus(Duration.ofMinutes(u + 1L)),
+          selectAccessId(random, task.workbasket));
+    }
+    if (claimed != null) {
+      addHistoryEvent(
+          statement,
+          task,
+          firstEventNumber + eventCount++,
+          "CLAIMED",
+          claimed,
+          selectAccessId(random, task.workbasket));
+    }
+    if (completed != null) {
+      addHistoryEvent(
+          statement,
+          task,
+          firstEventNumber + eventCount,
+          task.state,
+          completed,
+          selectAccessId(random, task.workbasket));
+    }
+  }
+
+  private void addHistoryEvent(
+      PreparedStatement statement,
+      TaskRow task,
+      long eventNumber,
+      String eventType,
+      Instant created,
+      String userId)
+      throws SQLException {
+    int i = 1;
+    statement.setString(i++, syntheticId(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT, eventNumber));
+    statement.setString(i++, task.businessProcessId);
+    statement.setString(i++, "");
+    statement.setString(i++, task.id);
+    statement.setString(i++, eventType);
+    setTimestamp(statement, i++, created);
+    statement.setString(i++, userId);
+    statement.setString(i++, task.workbasket.domain);
+    statement.setString(i++, task.workbasket.key);
+    statement.setString(i++, "SYN");
+    statement.setString(i++, task.porSystem);
+    statement.setString(i++, "INSTANCE_1");
+    statement.setString(i++, "VNR");
+    statement.setString(i++, task.porValue);
+    statement.setString(i++, task.classification.key);
+    statement.setString(i, task.classification.category);
+    statement.addBatch();
+  }
+
+  private String selectState(SplittableRandom random) {
+    Map<String, Integer> weights = configuration.getTaskStateWeights();
+    int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    if (total <= 0) {
+      throw new IllegalArgumentException("The task state weights must have a positive sum.");
+    }
+    int value = random.nextInt(total);
+    for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+      value -= weight.getValue();
+      if (value < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("No task state selected.");
+  }
+
+  private static boolean isEndState(String state) {
+    for (String endState : END_STATES) {
+      if (endState.equals(state)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String selectAccessId(SplittableRandom random, WorkbasketRow workbasket) {
+    return workbasket.accessIds.isEmpty()
+        ? "syn-user"
+        : workbasket.accessIds.get(random.nextInt(workbasket.accessIds.size()));
+  }
+
+  private static int skewedIndex(SplittableRandom random, int size, double skew) {
+    // a power of a uniform number prefers the small indexes, more so the higher the skew
+    int index = (int) (size * Math.pow(random.nextDouble(), 1 + Math.max(0, skew)));
+    return Math.min(index, size - 1);
+  }
+
+  private static int sample(SplittableRandom random, Range range) {
+    return range.getMin() + random.nextInt(range.getMax() - range.getMin() + 1);
+  }
+
+  private static Instant between(SplittableRandom random, Instant from, Instant to) {
+    long seconds = Math.max(1, Duration.between(from, to).getSeconds());
+    return from.plusSeconds((long) (random.nextDouble() * seconds));
+  }
+
+  private static void setTimestamp(PreparedStatement statement, int index, Instant instant)
+      throws SQLException {
+    if (instant == null) {
+      statement.setNull(index, Types.TIMESTAMP);
+    } else {
+      statement.setTimestamp(
+          index, Timestamp.from(instant), Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+    }
+  }
+
+  private Connection openConnection() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    connection.setSchema(schema);
+    connection.setAutoCommit(false);
+    return connection;
+  }
+
+  private static class MasterData {
+    private final List<List<WorkbasketRow>> workbasketsByDomain = new ArrayList<>();
+    private final List<List<ClassificationRow>> leafClassificationsByDomain = new ArrayList<>();
+    private long classificationCount;
+    private long workbasketCount;
+    private long accessItemCount;
+  }
+
+  private static class ClassificationRow {
+    private final String id;
+    private final String key;
+    private final String category;
+    private final int priority;
+    private final int serviceLevelDays;
+
+    private ClassificationRow(
+        String id, String key, String category, int priority, int serviceLevelDays) {
+      this.id = id;
+      this.key = key;
+      this.category = category;
+      this.priority = priority;
+      this.serviceLevelDays = serviceLevelDays;
+    }
+  }
+
+  private static class WorkbasketRow {
+    private final String id;
+    private final String key;
+    private final String domain;
+    private final List<String> accessIds;
+
+    private WorkbasketRow(String id, String key, String domain, List<String> accessIds) {
+      this.id = id;
+      this.key = key;
+      this.domain = domain;
+      this.accessIds = accessIds;
+    }
+  }
+
+  private static class TaskRow {
+    private String id;
+    private String businessProcessId;
+    private WorkbasketRow workbasket;
+    private ClassificationRow classification;
+    private String state;
+    private String creator;
+    private String porSystem;
+    private String porValue;
+    private Instant created;
+  }
+
+  private static class TaskStatements implements AutoCloseable {
+    private final Connection connection;
+    private final PreparedStatement task;
+    private final PreparedStatement attachment;
+    private final PreparedStatement comment;
+    private final PreparedStatement historyEvent;
+
+    private TaskStatements(Connection connection) throws SQLException {
+      this.connection = connection;
+      task = connection.prepareStatement(INSERT_TASK);
+      attachment = connection.prepareStatement(INSERT_ATTACHMENT);
+      comment = connection.prepareStatement(INSERT_TASK_COMMENT);
+      historyEvent = connection.prepareStatement(INSERT_TASK_HISTORY_EVENT);
+    }
+
+    private void executeAndCommit() throws SQLException {
+      // the comments refer to the tasks, hence the tasks are written first
+      task.executeBatch();
+      attachment.executeBatch();
+      comment.executeBatch();
+      historyEvent.executeBatch();
+      connection.commit();
+    }
+
+    @Override
+    public void close() throws SQLException {
+      task.close();
+      attachment.close();
+      comment.close();
+      historyEvent.close();
+    }
+  }
+}
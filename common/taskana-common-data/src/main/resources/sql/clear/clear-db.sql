@@ -1,5 +1,6 @@
 -- the order is important!
 DELETE FROM TASK_COMMENT;
+DELETE FROM TASK_TOMBSTONE;
 DELETE FROM CONFIGURATION;
 DELETE FROM TASK_HISTORY_EVENT;
 DELETE FROM WORKBASKET_HISTORY_EVENT;
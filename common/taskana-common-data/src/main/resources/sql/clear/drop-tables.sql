@@ -1,5 +1,6 @@
 DROP TABLE TASKANA_SCHEMA_VERSION;
 DROP TABLE TASK_COMMENT;
+DROP TABLE TASK_TOMBSTONE;
 DROP TABLE TASK_HISTORY_EVENT;
 DROP TABLE WORKBASKET_HISTORY_EVENT;
 DROP TABLE CLASSIFICATION_HISTORY_EVENT;
@@ -15,67 +15,67 @@ INSERT INTO CLASSIFICATION VALUES('CLI:000000000000000000000000000000000007', 'L
 INSERT INTO CLASSIFICATION VALUES('CLI:000000000000000000000000000000000008', 'L33000', ''                                            , ''      , 'Anhang'   , 'TASK', 'DOMAIN_A', TRUE           , RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'Anhang 3'            , 'Anhang 3'          , 1       , 'P1D'        , ''                     , 'VNR,RVNR,KOLVNR, ANR', ''      , ''      , ''      , ''      , ''      , ''      , ''       );
 INSERT INTO CLASSIFICATION VALUES('CLI:000000000000000000000000000000000009', 'L99000', ''                                            , ''      , 'Anhang'   , 'TASK', 'DOMAIN_A', TRUE           , RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'Anhang 9'            , 'Anhang 9'          , 1       , 'P1D'        , ''                     , 'VNR,RVNR,KOLVNR, ANR', ''      , ''      , ''      , ''      , ''      , ''      , ''       );
 
--- ATTACHMENT TABLE          (ID                                        , TASK_ID                                   , CREATED          , MODIFIED         , CLASSIFICATION_KEY,CLASSIFICATION_ID                         , REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED         , CUSTOM_ATTRIBUTES );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000001', 'TKI:000000000000000000000000000000000001', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000002', 'TKI:000000000000000000000000000000000013', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000003', 'TKI:000000000000000000000000000000000014', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000004', 'TKI:000000000000000000000000000000000024', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000005', 'TKI:000000000000000000000000000000000025', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000006', 'TKI:000000000000000000000000000000000033', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000007', 'TKI:000000000000000000000000000000000034', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000008', 'TKI:000000000000000000000000000000000035', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000009', 'TKI:000000000000000000000000000000000036', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000010', 'TKI:000000000000000000000000000000000044', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
-INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000011', 'TKI:000000000000000000000000000000000045', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L99000'          ,'CLI:000000000000000000000000000000000009', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              );
+-- ATTACHMENT TABLE          (ID                                        , TASK_ID                                   , CREATED          , MODIFIED         , CLASSIFICATION_KEY,CLASSIFICATION_ID                         , REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED         , CUSTOM_ATTRIBUTES, VERSION );
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000001', 'TKI:000000000000000000000000000000000001', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000002', 'TKI:000000000000000000000000000000000013', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000003', 'TKI:000000000000000000000000000000000014', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000004', 'TKI:000000000000000000000000000000000024', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000005', 'TKI:000000000000000000000000000000000025', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000006', 'TKI:000000000000000000000000000000000033', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L11000'          ,'CLI:000000000000000000000000000000000006', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000007', 'TKI:000000000000000000000000000000000034', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000008', 'TKI:000000000000000000000000000000000035', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L22000'          ,'CLI:000000000000000000000000000000000007', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000009', 'TKI:000000000000000000000000000000000036', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000010', 'TKI:000000000000000000000000000000000044', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L33000'          ,'CLI:000000000000000000000000000000000008', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
+INSERT INTO ATTACHMENT VALUES('ATT:000000000000000000000000000000000011', 'TKI:000000000000000000000000000000000045', RELATIVE_DATE(0) , RELATIVE_DATE(0) , 'L99000'          ,'CLI:000000000000000000000000000000000009', ''         , ''        , ''          , ''      , ''       , ''     , RELATIVE_DATE(0) , null              , 0);
 
--- TASK TABLE          (ID                                        , EXTERNAL_ID                               , CREATED          , CLAIMED          , COMPLETED        , MODIFIED         , PLANNED          , DUE                  , NAME    ,   CREATOR     , DESCRIPTION          , NOTE              , PRIORITY, STATE    , CLASSIFICATION_CATEGORY , CLASSIFICATION_KEY,  CLASSIFICATION_ID                        , WORKBASKET_ID                             , WORKBASKET_KEY, DOMAIN    , BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER , POR_COMPANY , POR_SYSTEM , POR_INSTANCE , POR_TYPE , POR_VALUE , IS_READ, IS_TRANSFERRED, CALLBACK_INFO, callback_state, CUSTOM_ATTRIBUTES, CUSTOM_1               , CUSTOM_2              , CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9,CUSTOM_10 ,CUSTOM_11 ,CUSTOM_12 ,CUSTOM_13 ,CUSTOM_14 ,CUSTOM_15 ,CUSTOM_16  );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000001', 'ETI:000000000000000000000000000000000001', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-5), RELATIVE_DATE(-70000), 'Task01',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_01'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000002', 'ETI:000000000000000000000000000000000002', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-6), RELATIVE_DATE(-14000), 'Task02',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_02'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000003', 'ETI:000000000000000000000000000000000003', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-2800) , 'Task03',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_03'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000004', 'ETI:000000000000000000000000000000000004', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(-5), RELATIVE_DATE(-1400) , 'Task04',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_04'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000005', 'ETI:000000000000000000000000000000000005', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1400) , 'Task05',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_05'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000006', 'ETI:000000000000000000000000000000000006', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-700)  , 'Task06',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_06'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000007', 'ETI:000000000000000000000000000000000007', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-700)  , 'Task07',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_07'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000008', 'ETI:000000000000000000000000000000000008', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-35)   , 'Task08',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_08'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000009', 'ETI:000000000000000000000000000000000009', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-28)   , 'Task09',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_09'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000010', 'ETI:000000000000000000000000000000000010', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-28)   , 'Task10',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_10'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000011', 'ETI:000000000000000000000000000000000011', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task11',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_11'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000012', 'ETI:000000000000000000000000000000000012', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task12',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_12'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000013', 'ETI:000000000000000000000000000000000013', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task13',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_13'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000014', 'ETI:000000000000000000000000000000000014', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task14',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_14'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000015', 'ETI:000000000000000000000000000000000015', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task15',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_15'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000016', 'ETI:000000000000000000000000000000000016', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task16',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_16'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000017', 'ETI:000000000000000000000000000000000017', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task17',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_17'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000018', 'ETI:000000000000000000000000000000000018', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task18',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_18'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000019', 'ETI:000000000000000000000000000000000019', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task19',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_19'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000020', 'ETI:000000000000000000000000000000000020', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task20',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_20'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000021', 'ETI:000000000000000000000000000000000021', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task21',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_21'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000022', 'ETI:000000000000000000000000000000000022', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task22',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_22'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000023', 'ETI:000000000000000000000000000000000023', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task23',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_23'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000024', 'ETI:000000000000000000000000000000000024', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task24',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_24'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000025', 'ETI:000000000000000000000000000000000025', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task25',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_25'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000026', 'ETI:000000000000000000000000000000000026', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task26',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_26'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000027', 'ETI:000000000000000000000000000000000027', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task27',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_27'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000028', 'ETI:000000000000000000000000000000000028', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task28',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_28'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000029', 'ETI:000000000000000000000000000000000029', RELATIVE_DATE(-8), RELATIVE_DATE(0) , RELATIVE_DATE(-7), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task29',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_29'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000030', 'ETI:000000000000000000000000000000000030', RELATIVE_DATE(-9), RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task30',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_30'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000031', 'ETI:000000000000000000000000000000000031', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task31',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_31'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000032', 'ETI:000000000000000000000000000000000032', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task32',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_32'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000033', 'ETI:000000000000000000000000000000000033', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task33',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_33'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000034', 'ETI:000000000000000000000000000000000034', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task34',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_34'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000035', 'ETI:000000000000000000000000000000000035', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task35',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_35'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000036', 'ETI:000000000000000000000000000000000036', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task36',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_36'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000037', 'ETI:000000000000000000000000000000000037', RELATIVE_DATE(-8), RELATIVE_DATE(0) , RELATIVE_DATE(-2), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task37',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_37'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000038', 'ETI:000000000000000000000000000000000038', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task38',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_38'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000039', 'ETI:000000000000000000000000000000000039', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task39',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_39'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000040', 'ETI:000000000000000000000000000000000040', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task40',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_40'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000041', 'ETI:000000000000000000000000000000000041', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task41',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_41'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000042', 'ETI:000000000000000000000000000000000042', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task42',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_42'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000043', 'ETI:000000000000000000000000000000000043', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task43',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_43'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000044', 'ETI:000000000000000000000000000000000044', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task44',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_44'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000045', 'ETI:000000000000000000000000000000000045', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task45',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_45'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000046', 'ETI:000000000000000000000000000000000046', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(21)    , 'Task46',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_46'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000047', 'ETI:000000000000000000000000000000000047', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(210)   , 'Task47',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_47'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000048', 'ETI:000000000000000000000000000000000048', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(210)   , 'Task48',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_48'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000049', 'ETI:000000000000000000000000000000000049', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(28000) , 'Task49',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_49'      );
-INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000050', 'ETI:000000000000000000000000000000000050', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(700000), 'Task50',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_50'      );
+-- TASK TABLE          (ID                                        , EXTERNAL_ID                               , CREATED          , CLAIMED          , COMPLETED        , MODIFIED         , PLANNED          , DUE                  , NAME    ,   CREATOR     , DESCRIPTION          , NOTE              , PRIORITY, STATE    , CLASSIFICATION_CATEGORY , CLASSIFICATION_KEY,  CLASSIFICATION_ID                        , WORKBASKET_ID                             , WORKBASKET_KEY, DOMAIN    , BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER , POR_COMPANY , POR_SYSTEM , POR_INSTANCE , POR_TYPE , POR_VALUE , IS_READ, IS_TRANSFERRED, CALLBACK_INFO, callback_state, CUSTOM_ATTRIBUTES, CUSTOM_1               , CUSTOM_2              , CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9,CUSTOM_10 ,CUSTOM_11 ,CUSTOM_12 ,CUSTOM_13 ,CUSTOM_14 ,CUSTOM_15 ,CUSTOM_16 , VERSION );
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000001', 'ETI:000000000000000000000000000000000001', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-5), RELATIVE_DATE(-70000), 'Task01',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_01'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000002', 'ETI:000000000000000000000000000000000002', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-6), RELATIVE_DATE(-14000), 'Task02',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_02'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000003', 'ETI:000000000000000000000000000000000003', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-2800) , 'Task03',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_03'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000004', 'ETI:000000000000000000000000000000000004', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(-5), RELATIVE_DATE(-1400) , 'Task04',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_04'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000005', 'ETI:000000000000000000000000000000000005', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1400) , 'Task05',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_05'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000006', 'ETI:000000000000000000000000000000000006', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-700)  , 'Task06',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_06'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000007', 'ETI:000000000000000000000000000000000007', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-700)  , 'Task07',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_07'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000008', 'ETI:000000000000000000000000000000000008', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-35)   , 'Task08',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_08'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000009', 'ETI:000000000000000000000000000000000009', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-28)   , 'Task09',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_09'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000010', 'ETI:000000000000000000000000000000000010', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-28)   , 'Task10',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_10'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000011', 'ETI:000000000000000000000000000000000011', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task11',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_11'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000012', 'ETI:000000000000000000000000000000000012', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task12',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_12'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000013', 'ETI:000000000000000000000000000000000013', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task13',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_13'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000014', 'ETI:000000000000000000000000000000000014', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task14',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_14'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000015', 'ETI:000000000000000000000000000000000015', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task15',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_15'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000016', 'ETI:000000000000000000000000000000000016', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task16',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_16'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000017', 'ETI:000000000000000000000000000000000017', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task17',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_17'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000018', 'ETI:000000000000000000000000000000000018', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task18',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_18'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000019', 'ETI:000000000000000000000000000000000019', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-14)   , 'Task19',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_19'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000020', 'ETI:000000000000000000000000000000000020', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task20',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_20'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000021', 'ETI:000000000000000000000000000000000021', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task21',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_21'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000022', 'ETI:000000000000000000000000000000000022', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task22',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_22'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000023', 'ETI:000000000000000000000000000000000023', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task23',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_23'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000024', 'ETI:000000000000000000000000000000000024', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task24',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_24'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000025', 'ETI:000000000000000000000000000000000025', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task25',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_25'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000026', 'ETI:000000000000000000000000000000000026', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task26',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_26'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000027', 'ETI:000000000000000000000000000000000027', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task27',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_27'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000028', 'ETI:000000000000000000000000000000000028', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task28',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_28'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000029', 'ETI:000000000000000000000000000000000029', RELATIVE_DATE(-8), RELATIVE_DATE(0) , RELATIVE_DATE(-7), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task29',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_29'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000030', 'ETI:000000000000000000000000000000000030', RELATIVE_DATE(-9), RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-7)    , 'Task30',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_30'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000031', 'ETI:000000000000000000000000000000000031', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task31',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_31'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000032', 'ETI:000000000000000000000000000000000032', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task32',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_32'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000033', 'ETI:000000000000000000000000000000000033', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task33',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L10000'          , 'CLI:000000000000000000000000000000000001', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_33'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000034', 'ETI:000000000000000000000000000000000034', RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(-1), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(0)     , 'Task34',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_34'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000035', 'ETI:000000000000000000000000000000000035', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task35',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L20000'          , 'CLI:000000000000000000000000000000000002', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_35'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000036', 'ETI:000000000000000000000000000000000036', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task36',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_36'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000037', 'ETI:000000000000000000000000000000000037', RELATIVE_DATE(-8), RELATIVE_DATE(0) , RELATIVE_DATE(-2), RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task37',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_37'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000038', 'ETI:000000000000000000000000000000000038', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task38',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_38'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000039', 'ETI:000000000000000000000000000000000039', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task39',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_39'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000040', 'ETI:000000000000000000000000000000000040', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task40',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_40'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000041', 'ETI:000000000000000000000000000000000041', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(7)     , 'Task41',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'READY'  , 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle B'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_41'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000042', 'ETI:000000000000000000000000000000000042', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task42',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_42'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000043', 'ETI:000000000000000000000000000000000043', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task43',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'EXTERN'                , 'L50000'          , 'CLI:000000000000000000000000000000000005', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_43'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000044', 'ETI:000000000000000000000000000000000044', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task44',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_44'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000045', 'ETI:000000000000000000000000000000000045', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(14)    , 'Task45',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_45'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000046', 'ETI:000000000000000000000000000000000046', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(21)    , 'Task46',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'AUTOMATIC'             , 'L30000'          , 'CLI:000000000000000000000000000000000003', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_B', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_46'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000047', 'ETI:000000000000000000000000000000000047', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(210)   , 'Task47',   'teamlead-1',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_47'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000048', 'ETI:000000000000000000000000000000000048', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(210)   , 'Task48',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000001', 'USER-1-1'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_48'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000049', 'ETI:000000000000000000000000000000000049', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(28000) , 'Task49',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000003', 'USER-1-3'    , 'DOMAIN_A', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle C'   , 'Vollkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_49'      , 0);
+INSERT INTO TASK VALUES('TKI:000000000000000000000000000000000050', 'ETI:000000000000000000000000000000000050', RELATIVE_DATE(0) , RELATIVE_DATE(0) , null             , RELATIVE_DATE(0) , RELATIVE_DATE(0) , RELATIVE_DATE(700000), 'Task50',   'teamlead-2',   'Some description.', 'Some custom Note', 1       , 'CLAIMED', 'MANUAL'                , 'L40000'          , 'CLI:000000000000000000000000000000000004', 'WBI:000000000000000000000000000000000002', 'USER-1-2'    , 'DOMAIN_C', 'BPI21'            , 'PBPI21'                  , 'John', 'MyCompany1', 'MySystem1', 'MyInstance1', 'MyType1', 'MyValue1', true   , false         , null         , 'NONE'        , null             , 'Geschaeftsstelle A'   , 'Teilkasko'           , null    , null    , null    , null    , null    , null    , null    , null     , null     , null     , null     , null     , null     , 'VALUE_50'      , 0);
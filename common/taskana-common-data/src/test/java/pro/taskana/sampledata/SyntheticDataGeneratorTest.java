@@ -0,0 +1,132 @@
+package pro.taskana.sampledata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.internal.configuration.DbSchemaCreator;
+import pro.taskana.sampledata.SyntheticDataConfiguration.Range;
+
+/** Test SyntheticDataGenerator. */
+class SyntheticDataGeneratorTest {
+
+  private static final String JDBC_URL =
+      "jdbc:h2:mem:synthetic;IGNORECASE=TRUE;LOCK_MODE=0;"
+          + "INIT=CREATE SCHEMA IF NOT EXISTS TASKANA";
+  private static final ZonedDateTime NOW =
+      ZonedDateTime.of(2021, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+  private PooledDataSource dataSource;
+
+  @BeforeEach
+  void setupDatabase() throws Exception {
+    dataSource = new PooledDataSource("org.h2.Driver", JDBC_URL, "sa", "sa");
+    new DbSchemaCreator(dataSource, "TASKANA").run();
+  }
+
+  @AfterEach
+  void dropDatabase() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP ALL OBJECTS");
+    }
+    dataSource.forceCloseAll();
+  }
+
+  @Test
+  void should_GenerateConfiguredVolume() throws SQLException {
+    SyntheticDataConfiguration configuration = new SyntheticDataConfiguration();
+    configuration.setDomainCount(2);
+    configuration.setWorkbasketsPerDomain(4);
+    configuration.setAccessIdsPerWorkbasket(2);
+    configuration.setDistributionTargetsPerWorkbasket(2);
+    configuration.setRootClassificationsPerDomain(3);
+    configuration.setChildClassificationsPerRoot(2);
+    configuration.setTaskCount(500);
+    configuration.setAttachmentsPerTask(new Range(1, 1));
+    configuration.setCommentsPerTask(new Range(0, 2));
+    configuration.setUpdateEventsPerTask(new Range(2, 2));
+    configuration.setAdditionalAccessIds(Collections.singletonList("teamlead-1"));
+    configuration.setBatchSize(64);
+    configuration.setWriterThreads(3);
+
+    new SyntheticDataGenerator(dataSource, "TASKANA", configuration, NOW).generate();
+
+    assertThat(count("SELECT COUNT(*) FROM WORKBASKET")).isEqualTo(8);
+    assertThat(count("SELECT COUNT(*) FROM CLASSIFICATION")).isEqualTo(18);
+    assertThat(count("SELECT COUNT(*) FROM WORKBASKET_ACCESS_LIST")).isEqualTo(24);
+    assertThat(count("SELECT COUNT(*) FROM DISTRIBUTION_TARGETS")).isEqualTo(16);
+    assertThat(count("SELECT COUNT(*) FROM TASK")).isEqualTo(500);
+    assertThat(count("SELECT COUNT(*) FROM ATTACHMENT")).isEqualTo(500);
+    assertThat(count("SELECT COUNT(*) FROM TASK_COMMENT")).isPositive();
+    // one CREATED and two UPDATED events per task plus the events of the state transitions
+    assertThat(count("SELECT COUNT(*) FROM TASK_HISTORY_EVENT")).isGreaterThan(1500);
+    assertThat(count("SELECT COUNT(*) FROM TASK WHERE STATE = 'READY' AND OWNER IS NOT NULL"))
+        .isZero();
+    assertThat(count("SELECT COUNT(*) FROM TASK WHERE STATE = 'COMPLETED' AND COMPLETED IS NULL"))
+        .isZero();
+  }
+
+  @Test
+  void should_GenerateSameTasks_When_NumberOfWriterThreadsDiffers() throws Exception {
+    SyntheticDataConfiguration configuration = new SyntheticDataConfiguration();
+    configuration.setTaskCount(200);
+    configuration.setWriterThreads(1);
+    new SyntheticDataGenerator(dataSource, "TASKANA", configuration, NOW).generate();
+    final List<String> tasksWrittenByOneThread = listTasks();
+
+    dropDatabase();
+    setupDatabase();
+    configuration.setWriterThreads(4);
+    new SyntheticDataGenerator(dataSource, "TASKANA", configuration, NOW).generate();
+
+    assertThat(listTasks()).isEqualTo(tasksWrittenByOneThread);
+  }
+
+  private List<String> listTasks() throws SQLException {
+    List<String> tasks = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      connection.setSchema("TASKANA");
+      try (ResultSet resultSet =
+          statement.executeQuery(
+              "SELECT ID, STATE, WORKBASKET_ID, CLASSIFICATION_ID, CREATED "
+                  + "FROM TASK ORDER BY ID")) {
+        while (resultSet.next()) {
+          tasks.add(
+              String.join(
+                  "|",
+                  resultSet.getString(1),
+                  resultSet.getString(2),
+                  resultSet.getString(3),
+                  resultSet.getString(4),
+                  resultSet.getString(5)));
+        }
+      }
+    }
+    return tasks;
+  }
+
+  private long count(String sql) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      connection.setSchema("TASKANA");
+      try (ResultSet resultSet = statement.executeQuery(sql)) {
+        resultSet.next();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package pro.taskana.common.api;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Main query interface.
@@ -28,6 +29,19 @@ public interface BaseQuery<T, U extends Enum<U> & QueryColumnName> {
    */
   List<T> list(int offset, int limit);
 
+  /**
+   * This method will pass every {@link T} object of the current query to the given action while
+   * the result is still being read from the database. In contrast to {@link #list()} the result is
+   * never held in memory as a whole, which makes this method suitable for exports of arbitrary
+   * size. Queries which do not support a database cursor fall back to {@link #list()}. In case of a
+   * TaskQuery, this method can throw a NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param action the action which is executed for every element of the result
+   */
+  default void forEach(Consumer<? super T> action) {
+    list().forEach(action);
+  }
+
   /**
    * This method will return all currently existing values of a DB-Table once. The order of the
    * returning values can be configured ASC oder DEC - DEFAULT at NULL is ASC. <br>
@@ -0,0 +1,140 @@
+package pro.taskana.common.internal.persistence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.Transaction;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Executes a mapped statement for several parameter objects as JDBC batches on the connection of
+ * the given session. The statements are executed by a MyBatis batch executor of the session's
+ * configuration, so the interceptors and the statement timeout of the configuration apply like for
+ * any other statement of the session.
+ */
+public class BatchStatementExecutor {
+
+  private BatchStatementExecutor() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Executes the mapped statement once per parameter object in JDBC batches. Some JDBC drivers
+   * report a successful statement of a batch as {@link Statement#SUCCESS_NO_INFO} without the
+   * number of updated rows. Whether these statements updated a row is unknown, hence the given
+   * function has to read the rows of these parameter objects again and return the ones whose
+   * update is verified. Their update count is 1, the update count of the others 0.
+   *
+   * @param <T> the type of the parameter objects
+   * @param sqlSession the session whose connection is used
+   * @param statementId the id of the mapped statement, e.g. the mapper class name followed by a dot
+   *     and the method name
+   * @param parameters the parameter objects of the statement
+   * @param verifyUpdates returns the given parameter objects whose rows were updated
+   * @return the update counts in the order of the parameters
+   */
+  public static <T> int[] executeBatch(
+      SqlSession sqlSession,
+      String statementId,
+      List<T> parameters,
+      Function<List<T>, List<T>> verifyUpdates) {
+    if (parameters.isEmpty()) {
+      return new int[0];
+    }
+    Configuration configuration = sqlSession.getConfiguration();
+    MappedStatement mappedStatement = configuration.getMappedStatement(statementId);
+    Executor executor =
+        configuration.newExecutor(
+            new SessionTransaction(sqlSession.getConnection()), ExecutorType.BATCH);
+    int[] updateCounts = new int[parameters.size()];
+    try {
+      for (T parameter : parameters) {
+        executor.update(mappedStatement, parameter);
+      }
+      // statements with the same SQL are executed in one batch, in the order of the parameters
+      int index = 0;
+      for (BatchResult batchResult : executor.flushStatements()) {
+        for (int updateCount : batchResult.getUpdateCounts()) {
+          updateCounts[index++] = updateCount;
+        }
+      }
+    } catch (SQLException e) {
+      throw new SystemException(String.format("Could not execute batch of %s", statementId), e);
+    } finally {
+      executor.close(false);
+      // the batch bypasses the executor of the session, hence its cached query results are stale
+      sqlSession.clearCache();
+    }
+    verifyUnknownUpdateCounts(parameters, updateCounts, verifyUpdates);
+    return updateCounts;
+  }
+
+  private static <T> void verifyUnknownUpdateCounts(
+      List<T> parameters, int[] updateCounts, Function<List<T>, List<T>> verifyUpdates) {
+    List<T> unknownUpdates = new ArrayList<>();
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        unknownUpdates.add(parameters.get(i));
+      }
+    }
+    if (unknownUpdates.isEmpty()) {
+      return;
+    }
+    Set<T> verifiedUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+    verifiedUpdates.addAll(verifyUpdates.apply(unknownUpdates));
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        updateCounts[i] = verifiedUpdates.contains(parameters.get(i)) ? 1 : 0;
+      }
+    }
+  }
+
+  // Lends the connection of the session to the batch executor. The session stays responsible for
+  // committing, rolling back and closing the connection.
+  private static class SessionTransaction implements Transaction {
+
+    private final Connection connection;
+
+    SessionTransaction(Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public Connection getConnection() {
+      return connection;
+    }
+
+    @Override
+    public void commit() {
+      // the session commits the connection
+    }
+
+    @Override
+    public void rollback() {
+      // the session rolls back the connection
+    }
+
+    @Override
+    public void close() {
+      // the session closes the connection
+    }
+
+    @Override
+    public Integer getTimeout() {
+      return null;
+    }
+  }
+}
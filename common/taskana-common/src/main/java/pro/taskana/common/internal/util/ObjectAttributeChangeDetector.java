@@ -3,6 +3,7 @@ package pro.taskana.common.internal.util;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -92,6 +93,44 @@ public class ObjectAttributeChangeDetector {
     return changes.toString();
   }
 
+  /**
+   * Determines the changes of a collection based on the elements which have been removed from and
+   * added to it. Unlike {@link #determineChangesInAttributes(Object, Object)} the unchanged
+   * elements are not part of the result.
+   *
+   * @param removedElements the elements which have been removed from the collection
+   * @param addedElements the elements which have been added to the collection
+   * @param <T> The generic type parameter
+   * @return the removed and added elements as JSON string or an empty String if nothing changed
+   */
+  public static <T> String determineChangesInCollection(
+      Collection<T> removedElements, Collection<T> addedElements) {
+    LOGGER.debug(
+        "Entry to determineChangesInCollection (removedElements = {}, addedElements = {}",
+        removedElements,
+        addedElements);
+
+    if (removedElements.isEmpty() && addedElements.isEmpty()) {
+      LOGGER.debug(
+          "Exit from determineChangesInCollection(), "
+              + "returning empty String because there are no changed elements");
+      return "";
+    }
+
+    JSONObject changedElements = new JSONObject();
+    changedElements.put("removed", removedElements);
+    changedElements.put("added", addedElements);
+
+    JSONObject changes = new JSONObject();
+    changes.put("changes", changedElements);
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from determineChangesInCollection(), returning {}", changes);
+    }
+
+    return changes.toString();
+  }
+
   private static void retrieveFields(List<Field> fields, Class<?> currentClass) {
     while (currentClass.getSuperclass() != null) {
       fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
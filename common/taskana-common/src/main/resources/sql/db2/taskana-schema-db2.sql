@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.3.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.4.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -110,6 +110,7 @@ CREATE TABLE TASK (
         CUSTOM_14 VARCHAR(255) NULL,
         CUSTOM_15 VARCHAR(255) NULL,
         CUSTOM_16 VARCHAR(255) NULL,
+        VERSION INT NOT NULL DEFAULT 0,
         PRIMARY KEY (ID),
         CONSTRAINT UC_EXTERNAL_ID UNIQUE (EXTERNAL_ID),
         CONSTRAINT TASK_WB FOREIGN KEY  (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE NO ACTION,
@@ -173,6 +174,7 @@ CREATE TABLE ATTACHMENT(
     CHANNEL VARCHAR(64) NULL,
     RECEIVED TIMESTAMP NULL,
     CUSTOM_ATTRIBUTES CLOB NULL,
+    VERSION INT NOT NULL DEFAULT 0,
     PRIMARY KEY (ID),
     CONSTRAINT ATT_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
 );
@@ -192,6 +194,13 @@ CREATE TABLE TASK_COMMENT(
     CONSTRAINT COMMENT_TASK FOREIGN KEY (TASK_ID) REFERENCES TASK ON DELETE CASCADE
 );
 
+CREATE TABLE TASK_TOMBSTONE(
+    TASK_ID VARCHAR(40) NOT NULL,
+    WORKBASKET_ID VARCHAR(40) NULL,
+    DELETED TIMESTAMP NOT NULL,
+    PRIMARY KEY (TASK_ID)
+);
+
 CREATE TABLE SCHEDULED_JOB(
         JOB_ID          INTEGER NOT NULL,
         PRIORITY        INTEGER NULL,
@@ -392,3 +401,61 @@ CREATE SEQUENCE SCHEDULED_JOB_SEQ
    ASC, "PERM_APPEND" ASC, "PERM_OPEN" ASC, "PERM_READ"
    ASC, "ACCESS_ID" ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
    COMMIT WORK ;
+
+-- INDEXES FOR THE PERMISSION CHECKS AND THE INBOX OF A WORKBASKET
+-- The permission check of the task queries is a semi-join (EXISTS) on WORKBASKET_ID and ACCESS_ID.
+-- The workbasket queries aggregate all permissions of the access ids per workbasket.
+   CREATE INDEX IDX_WBAL_3 ON WORKBASKET_ACCESS_LIST
+   (ACCESS_ID ASC, WORKBASKET_ID ASC, PERM_READ ASC, PERM_OPEN ASC, PERM_APPEND ASC,
+   PERM_TRANSFER ASC, PERM_DISTRIBUTE ASC, PERM_CUSTOM_1 ASC, PERM_CUSTOM_2 ASC,
+   PERM_CUSTOM_3 ASC, PERM_CUSTOM_4 ASC, PERM_CUSTOM_5 ASC, PERM_CUSTOM_6 ASC,
+   PERM_CUSTOM_7 ASC, PERM_CUSTOM_8 ASC, PERM_CUSTOM_9 ASC, PERM_CUSTOM_10 ASC,
+   PERM_CUSTOM_11 ASC, PERM_CUSTOM_12 ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_WBAL_4 ON WORKBASKET_ACCESS_LIST
+   (WORKBASKET_ID ASC, ACCESS_ID ASC, PERM_READ ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_3 ON TASK
+   (WORKBASKET_ID ASC, STATE ASC, PRIORITY DESC, DUE ASC, ID ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+
+-- INDEXES FOR THE SEEK OF THE CHANGE FEED
+-- The change feed reads the tasks and tombstones after a watermark ordered by timestamp and id.
+   CREATE INDEX IDX_TASK_MODIFIED ON TASK
+   (MODIFIED ASC, ID ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_TOMBSTONE_DELETED ON TASK_TOMBSTONE
+   (DELETED ASC, TASK_ID ASC) ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+
+-- EXPRESSION-BASED INDEXES FOR THE CASE-INSENSITIVE FILTERS OF THE QUERIES
+-- The queries compare UPPER(column) LIKE 'VALUE%', which can only use an index on UPPER(column).
+-- With a case-insensitive collation and taskana.query.case.insensitive.collation.enabled the
+-- queries compare the plain columns instead and can use indexes on these columns.
+   CREATE INDEX IDX_TASK_UPPER_NAME ON TASK
+   (UPPER(NAME) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_UPPER_OWNER ON TASK
+   (UPPER(OWNER) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_UPPER_CREATOR ON TASK
+   (UPPER(CREATOR) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_UPPER_BPI ON TASK
+   (UPPER(BUSINESS_PROCESS_ID) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_UPPER_CL_KEY ON TASK
+   (UPPER(CLASSIFICATION_KEY) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_TASK_UPPER_POR_VALUE ON TASK
+   (UPPER(POR_VALUE) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_WORKBASKET_UPPER_KEY ON WORKBASKET
+   (UPPER(KEY) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_WORKBASKET_UPPER_NAME ON WORKBASKET
+   (UPPER(NAME) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
+   CREATE INDEX IDX_CLASSIFICATION_UPPER_NAME ON CLASSIFICATION
+   (UPPER(NAME) ASC) COLLECT SAMPLED DETAILED STATISTICS;
+   COMMIT WORK ;
@@ -0,0 +1,14 @@
+-- this script updates the tables TASKANA_SCHEMA_VERSION, TASK and ATTACHMENT.
+-- The further taskana_schema_update_4.4.1_*_db2.sql scripts have to be run after this script.
+
+SET SCHEMA %schemaName%;
+
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.4.1', CURRENT_TIMESTAMP);
+
+ALTER TABLE TASK ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
+
+ALTER TABLE ATTACHMENT ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
+
+CALL SYSPROC.ADMIN_CMD ('REORG TABLE TASK');
+
+CALL SYSPROC.ADMIN_CMD ('REORG TABLE ATTACHMENT');
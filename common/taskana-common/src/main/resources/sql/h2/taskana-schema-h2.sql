@@ -14,7 +14,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.3.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.4.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -117,6 +117,7 @@ CREATE TABLE TASK (
         CUSTOM_14 VARCHAR(255) NULL,
         CUSTOM_15 VARCHAR(255) NULL,
         CUSTOM_16 VARCHAR(255) NULL,
+        VERSION INT NOT NULL DEFAULT 0,
         PRIMARY KEY (ID),
         CONSTRAINT UC_EXTERNAL_ID UNIQUE (EXTERNAL_ID),
         CONSTRAINT TASK_WB FOREIGN KEY  (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE NO ACTION,
@@ -180,6 +181,7 @@ CREATE TABLE ATTACHMENT(
     CHANNEL VARCHAR(64) NULL,
     RECEIVED TIMESTAMP NULL,
     CUSTOM_ATTRIBUTES CLOB NULL,
+    VERSION INT NOT NULL DEFAULT 0,
     PRIMARY KEY (ID),
     CONSTRAINT ATT_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
 );
@@ -195,6 +197,13 @@ CREATE TABLE TASK_COMMENT(
     CONSTRAINT COMMENT_TASK FOREIGN KEY (TASK_ID) REFERENCES TASK ON DELETE CASCADE
 );
 
+CREATE TABLE TASK_TOMBSTONE(
+    TASK_ID VARCHAR(40) NOT NULL,
+    WORKBASKET_ID VARCHAR(40) NULL,
+    DELETED TIMESTAMP NOT NULL,
+    PRIMARY KEY (TASK_ID)
+);
+
 CREATE TABLE SCHEDULED_JOB(
         JOB_ID          INTEGER NOT NULL,
         PRIORITY        INTEGER NULL,
@@ -300,3 +309,14 @@ CREATE SEQUENCE SCHEDULED_JOB_SEQ
   INCREMENT BY 1
   CACHE 10;
 
+-- indexes for the permission checks of the queries and the inbox of a workbasket
+CREATE INDEX IDX_WBAL_3 ON WORKBASKET_ACCESS_LIST
+  (ACCESS_ID, WORKBASKET_ID, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE,
+  PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6,
+  PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12);
+CREATE INDEX IDX_WBAL_4 ON WORKBASKET_ACCESS_LIST (WORKBASKET_ID, ACCESS_ID, PERM_READ);
+CREATE INDEX IDX_TASK_3 ON TASK (WORKBASKET_ID, STATE, PRIORITY DESC, DUE, ID);
+
+-- indexes for the seek of the change feed
+CREATE INDEX IDX_TASK_MODIFIED ON TASK (MODIFIED, ID);
+CREATE INDEX IDX_TASK_TOMBSTONE_DELETED ON TASK_TOMBSTONE (DELETED, TASK_ID);
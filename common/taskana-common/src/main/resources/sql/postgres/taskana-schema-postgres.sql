@@ -9,7 +9,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.3.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.4.1', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -112,6 +112,7 @@ CREATE TABLE TASK (
         CUSTOM_14 VARCHAR(255) NULL,
         CUSTOM_15 VARCHAR(255) NULL,
         CUSTOM_16 VARCHAR(255) NULL,
+        VERSION INT NOT NULL DEFAULT 0,
         PRIMARY KEY (ID),
         CONSTRAINT UC_EXTERNAL_ID UNIQUE (EXTERNAL_ID),
         CONSTRAINT TASK_WB FOREIGN KEY  (WORKBASKET_ID) REFERENCES WORKBASKET ON DELETE NO ACTION,
@@ -175,6 +176,7 @@ CREATE TABLE ATTACHMENT(
     CHANNEL VARCHAR(64) NULL,
     RECEIVED TIMESTAMP NULL,
     CUSTOM_ATTRIBUTES TEXT NULL,
+    VERSION INT NOT NULL DEFAULT 0,
     PRIMARY KEY (ID),
     CONSTRAINT ATT_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
 );
@@ -190,6 +192,13 @@ CREATE TABLE TASK_COMMENT(
     CONSTRAINT COMMENT_TASK FOREIGN KEY (TASK_ID) REFERENCES TASK ON DELETE CASCADE
 );
 
+CREATE TABLE TASK_TOMBSTONE(
+    TASK_ID VARCHAR(40) NOT NULL,
+    WORKBASKET_ID VARCHAR(40) NULL,
+    DELETED TIMESTAMP NOT NULL,
+    PRIMARY KEY (TASK_ID)
+);
+
 CREATE TABLE SCHEDULED_JOB(
         JOB_ID          INTEGER NOT NULL,
         PRIORITY        INTEGER NULL,
@@ -371,3 +380,71 @@ CREATE SEQUENCE SCHEDULED_JOB_SEQ
    ASC, ACCESS_ID ASC) ;
    COMMIT WORK ;
 
+-- The permission check of the task queries is a semi-join (EXISTS) on WORKBASKET_ID and ACCESS_ID.
+-- The workbasket queries aggregate all permissions of the access ids per workbasket.
+-- IDX_TASK_3 serves the inbox of a workbasket filtered by state and sorted by priority and due.
+
+ CREATE INDEX IDX_WBAL_3 ON WORKBASKET_ACCESS_LIST
+   (ACCESS_ID ASC, WORKBASKET_ID ASC, PERM_READ ASC, PERM_OPEN ASC, PERM_APPEND ASC,
+   PERM_TRANSFER ASC, PERM_DISTRIBUTE ASC, PERM_CUSTOM_1 ASC, PERM_CUSTOM_2 ASC,
+   PERM_CUSTOM_3 ASC, PERM_CUSTOM_4 ASC, PERM_CUSTOM_5 ASC, PERM_CUSTOM_6 ASC,
+   PERM_CUSTOM_7 ASC, PERM_CUSTOM_8 ASC, PERM_CUSTOM_9 ASC, PERM_CUSTOM_10 ASC,
+   PERM_CUSTOM_11 ASC, PERM_CUSTOM_12 ASC) ;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_WBAL_4 ON WORKBASKET_ACCESS_LIST
+   (WORKBASKET_ID ASC, ACCESS_ID ASC, PERM_READ ASC) ;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_3 ON TASK
+   (WORKBASKET_ID ASC, STATE ASC, PRIORITY DESC, DUE ASC, ID ASC) ;
+   COMMIT WORK ;
+
+-- The change feed reads the tasks and tombstones after a watermark ordered by timestamp and id.
+
+ CREATE INDEX IDX_TASK_MODIFIED ON TASK
+   (MODIFIED ASC, ID ASC) ;
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_TOMBSTONE_DELETED ON TASK_TOMBSTONE
+   (DELETED ASC, TASK_ID ASC) ;
+   COMMIT WORK ;
+
+-- The case-insensitive filters of the queries compare UPPER(column) LIKE 'VALUE%'.
+-- varchar_pattern_ops allows to use these indexes for LIKE independent of the collation.
+
+ CREATE INDEX IDX_TASK_UPPER_NAME ON TASK
+   (UPPER(NAME) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_UPPER_OWNER ON TASK
+   (UPPER(OWNER) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_UPPER_CREATOR ON TASK
+   (UPPER(CREATOR) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_UPPER_BPI ON TASK
+   (UPPER(BUSINESS_PROCESS_ID) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_UPPER_CL_KEY ON TASK
+   (UPPER(CLASSIFICATION_KEY) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_TASK_UPPER_POR_VALUE ON TASK
+   (UPPER(POR_VALUE) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_WORKBASKET_UPPER_KEY ON WORKBASKET
+   (UPPER(KEY) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_WORKBASKET_UPPER_NAME ON WORKBASKET
+   (UPPER(NAME) varchar_pattern_ops);
+   COMMIT WORK ;
+
+ CREATE INDEX IDX_CLASSIFICATION_UPPER_NAME ON CLASSIFICATION
+   (UPPER(NAME) varchar_pattern_ops);
+   COMMIT WORK ;
@@ -0,0 +1,28 @@
+-- OPTIONAL TRIGRAM INDEXES FOR INFIX SEARCHES
+-- The B-tree indexes on UPPER(column) are only used for filters like 'VALUE%'. The wildcard search
+-- and filters like '%VALUE%' can use these GIN indexes of the pg_trgm extension instead.
+-- They slow down the writes of tasks and need disk space, hence this script is not part of the
+-- schema and has to be run manually. The extension must be available on the database server.
+-- Review the list of columns and keep only the ones which are actually searched.
+
+SET search_path = %schemaName%;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IDX_TASK_TRGM_NAME ON TASK USING GIN (UPPER(NAME) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_DESCRIPTION ON TASK USING GIN (UPPER(DESCRIPTION) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_POR_VALUE ON TASK USING GIN (UPPER(POR_VALUE) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_CUSTOM_1 ON TASK USING GIN (UPPER(CUSTOM_1) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_CUSTOM_2 ON TASK USING GIN (UPPER(CUSTOM_2) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_CUSTOM_3 ON TASK USING GIN (UPPER(CUSTOM_3) gin_trgm_ops);
+
+CREATE INDEX IDX_TASK_TRGM_CUSTOM_4 ON TASK USING GIN (UPPER(CUSTOM_4) gin_trgm_ops);
+
+CREATE INDEX IDX_WORKBASKET_TRGM_NAME ON WORKBASKET USING GIN (UPPER(NAME) gin_trgm_ops);
+
+CREATE INDEX IDX_CLASSIFICATION_TRGM_NAME ON CLASSIFICATION USING GIN (UPPER(NAME) gin_trgm_ops);
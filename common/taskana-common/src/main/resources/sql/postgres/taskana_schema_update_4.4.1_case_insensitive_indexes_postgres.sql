@@ -0,0 +1,22 @@
+-- this script creates the indexes for the case-insensitive filters of the queries.
+-- It has to be run after taskana_schema_update_4.3.0_to_4.4.1_postgres.sql.
+
+SET search_path = %schemaName%;
+
+CREATE INDEX IDX_TASK_UPPER_NAME ON TASK (UPPER(NAME) varchar_pattern_ops);
+
+CREATE INDEX IDX_TASK_UPPER_OWNER ON TASK (UPPER(OWNER) varchar_pattern_ops);
+
+CREATE INDEX IDX_TASK_UPPER_CREATOR ON TASK (UPPER(CREATOR) varchar_pattern_ops);
+
+CREATE INDEX IDX_TASK_UPPER_BPI ON TASK (UPPER(BUSINESS_PROCESS_ID) varchar_pattern_ops);
+
+CREATE INDEX IDX_TASK_UPPER_CL_KEY ON TASK (UPPER(CLASSIFICATION_KEY) varchar_pattern_ops);
+
+CREATE INDEX IDX_TASK_UPPER_POR_VALUE ON TASK (UPPER(POR_VALUE) varchar_pattern_ops);
+
+CREATE INDEX IDX_WORKBASKET_UPPER_KEY ON WORKBASKET (UPPER(KEY) varchar_pattern_ops);
+
+CREATE INDEX IDX_WORKBASKET_UPPER_NAME ON WORKBASKET (UPPER(NAME) varchar_pattern_ops);
+
+CREATE INDEX IDX_CLASSIFICATION_UPPER_NAME ON CLASSIFICATION (UPPER(NAME) varchar_pattern_ops);
@@ -0,0 +1,10 @@
+-- this script creates the indexes for the permission checks of the queries.
+-- It has to be run after taskana_schema_update_4.3.0_to_4.4.1_postgres.sql.
+
+SET search_path = %schemaName%;
+
+CREATE INDEX IDX_WBAL_3 ON WORKBASKET_ACCESS_LIST (ACCESS_ID, WORKBASKET_ID, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE, PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12);
+
+CREATE INDEX IDX_WBAL_4 ON WORKBASKET_ACCESS_LIST (WORKBASKET_ID, ACCESS_ID, PERM_READ);
+
+CREATE INDEX IDX_TASK_3 ON TASK (WORKBASKET_ID, STATE, PRIORITY DESC, DUE, ID);
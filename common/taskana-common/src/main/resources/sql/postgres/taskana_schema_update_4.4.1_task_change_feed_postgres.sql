@@ -0,0 +1,15 @@
+-- this script creates the table TASK_TOMBSTONE and the indexes for the change feed of the tasks.
+-- It has to be run after taskana_schema_update_4.3.0_to_4.4.1_postgres.sql.
+
+SET search_path = %schemaName%;
+
+CREATE TABLE TASK_TOMBSTONE(
+    TASK_ID VARCHAR(40) NOT NULL,
+    WORKBASKET_ID VARCHAR(40) NULL,
+    DELETED TIMESTAMP NOT NULL,
+    PRIMARY KEY (TASK_ID)
+);
+
+CREATE INDEX IDX_TASK_MODIFIED ON TASK (MODIFIED, ID);
+
+CREATE INDEX IDX_TASK_TOMBSTONE_DELETED ON TASK_TOMBSTONE (DELETED, TASK_ID);
@@ -0,0 +1,61 @@
+package pro.taskana.simplehistory.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.session.SqlSession;
+
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
+import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
+import pro.taskana.simplehistory.impl.workbasket.WorkbasketHistoryEventMapper;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+
+/**
+ * Collects the history events of one database session. The events are written with one multi-row
+ * INSERT per event type and chunk instead of one INSERT per event.
+ */
+class HistoryEventBuffer {
+
+  // keeps the number of parameters of a statement well below the limits of the databases
+  private static final int MAX_EVENTS_PER_STATEMENT = 100;
+
+  private final List<TaskHistoryEvent> taskEvents = new ArrayList<>();
+  private final List<WorkbasketHistoryEvent> workbasketEvents = new ArrayList<>();
+  private final List<ClassificationHistoryEvent> classificationEvents = new ArrayList<>();
+
+  void add(TaskHistoryEvent event) {
+    taskEvents.add(event);
+  }
+
+  void add(WorkbasketHistoryEvent event) {
+    workbasketEvents.add(event);
+  }
+
+  void add(ClassificationHistoryEvent event) {
+    classificationEvents.add(event);
+  }
+
+  /**
+   * Inserts all buffered events and empties the buffer.
+   *
+   * @param sqlSession the session which is used to insert the events
+   */
+  void flush(SqlSession sqlSession) {
+    insertInChunks(taskEvents, sqlSession.getMapper(TaskHistoryEventMapper.class)::insertAll);
+    insertInChunks(
+        workbasketEvents, sqlSession.getMapper(WorkbasketHistoryEventMapper.class)::insertAll);
+    insertInChunks(
+        classificationEvents,
+        sqlSession.getMapper(ClassificationHistoryEventMapper.class)::insertAll);
+  }
+
+  private static <T> void insertInChunks(List<T> events, Consumer<List<T>> insertAll) {
+    if (!events.isEmpty()) {
+      CollectionUtil.partitionBasedOnSize(events, MAX_EVENTS_PER_STATEMENT).forEach(insertAll);
+      events.clear();
+    }
+  }
+}
@@ -0,0 +1,275 @@
+package pro.taskana.simplehistory.impl;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.simplehistory.impl.partition.HistoryPartitionMapper;
+
+/**
+ * Maintains the monthly range partitions of the history tables, if the optional partitioned layout
+ * of the history tables is installed. The partitions are named after the month whose events they
+ * contain, e.g. TASK_HISTORY_EVENT_P202610 on PostgreSQL and P202610 on DB2. A partition detached
+ * for archiving becomes the table TASK_HISTORY_EVENT_P202610 on both databases. A partition
+ * detached for dropping becomes the table TASK_HISTORY_EVENT_D202610 instead, so tables kept for
+ * archiving are never dropped. The bounds of a partition are the first instants of the month and
+ * of the following month in UTC.
+ */
+public class HistoryPartitionManager {
+
+  public static final List<String> HISTORY_TABLES =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              "TASK_HISTORY_EVENT", "WORKBASKET_HISTORY_EVENT", "CLASSIFICATION_HISTORY_EVENT"));
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryPartitionManager.class);
+  private static final Pattern PARTITION_NAME_PATTERN =
+      Pattern.compile("P(\\d{6})$", Pattern.CASE_INSENSITIVE);
+  private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+  private static final DateTimeFormatter BOUND_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final TaskanaHistoryEngineImpl taskanaHistoryEngine;
+
+  public HistoryPartitionManager(TaskanaHistoryEngineImpl taskanaHistoryEngine) {
+    this.taskanaHistoryEngine = taskanaHistoryEngine;
+  }
+
+  /**
+   * Returns true if the given history table has the partitioned layout. This is never the case on
+   * H2.
+   *
+   * @param tableName the name of the history table
+   * @return true if the table is partitioned
+   */
+  public boolean isPartitioned(String tableName) {
+    String databaseId = getDatabaseId();
+    if (!DB.isPostgres(databaseId) && !DB.isDb2(databaseId)) {
+      return false;
+    }
+    return execute(
+        mapper ->
+            mapper.countPartitionedTables(
+                    taskanaHistoryEngine.getConfiguration().getSchemaName(), tableName)
+                > 0);
+  }
+
+  /**
+   * Returns the months of the existing partitions of a history table. Partitions which do not
+   * follow the naming scheme, e.g. a DEFAULT partition, are ignored.
+   *
+   * @param tableName the name of the history table
+   * @return the months of the partitions in ascending order
+   */
+  public List<YearMonth> getPartitions(String tableName) {
+    List<String> partitionNames =
+        execute(
+            mapper ->
+                mapper.findPartitionNames(
+                    taskanaHistoryEngine.getConfiguration().getSchemaName(), tableName));
+    return partitionNames.stream()
+        .map(HistoryPartitionManager::parseMonth)
+        .filter(Objects::nonNull)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the months of the partitions which were detached from a history table for archiving
+   * and still exist as separate tables.
+   *
+   * @param tableName the name of the history table
+   * @return the months of the detached partitions in ascending order
+   */
+  public List<YearMonth> getDetachedPartitions(String tableName) {
+    return findDetachedTableMonths(getDetachedTableName(tableName, ""));
+  }
+
+  /**
+   * Returns the months of the partitions which were detached from a history table for dropping,
+   * but still exist as separate tables, e.g. because their drop failed.
+   *
+   * @param tableName the name of the history table
+   * @return the months of the partitions pending to be dropped in ascending order
+   */
+  public List<YearMonth> getDropPendingPartitions(String tableName) {
+    return findDetachedTableMonths(getDropPendingTableName(tableName, ""));
+  }
+
+  public void createPartition(String tableName, YearMonth month) {
+    LOGGER.info("Creating partition of {} for {}", tableName, month);
+    executeUpdate(
+        mapper ->
+            mapper.createPartition(
+                tableName,
+                getPartitionName(tableName, month),
+                BOUND_FORMATTER.format(month.atDay(1).atStartOfDay()),
+                BOUND_FORMATTER.format(month.plusMonths(1).atDay(1).atStartOfDay())));
+  }
+
+  /**
+   * Detaches the partition of a month from a history table for archiving. The partition becomes a
+   * regular table, which is left to the operator.
+   *
+   * @param tableName the name of the history table
+   * @param month the month of the partition
+   */
+  public void detachPartition(String tableName, YearMonth month) {
+    LOGGER.info("Detaching partition of {} for {}", tableName, month);
+    executeUpdate(
+        mapper ->
+            mapper.detachPartition(
+                tableName,
+                getPartitionName(tableName, month),
+                getDetachedTableName(tableName, month)));
+  }
+
+  /**
+   * Detaches the partition of a month from a history table for dropping. The partition becomes a
+   * regular table with a distinct name, which is dropped with {@link
+   * #dropPendingPartition(String, YearMonth)}. On DB2 the detached table can only be dropped in a
+   * later transaction.
+   *
+   * @param tableName the name of the history table
+   * @param month the month of the partition
+   */
+  public void detachPartitionForDrop(String tableName, YearMonth month) {
+    LOGGER.info("Detaching partition of {} for {} to drop it", tableName, month);
+    String dropPendingTableName = getDropPendingTableName(tableName, month);
+    if (DB.isDb2(getDatabaseId())) {
+      executeUpdate(
+          mapper ->
+              mapper.detachPartition(
+                  tableName, getPartitionName(tableName, month), dropPendingTableName));
+    } else {
+      // PostgreSQL keeps the name of the partition table when detaching it
+      executeUpdate(
+          mapper -> {
+            String detachedTableName = getDetachedTableName(tableName, month);
+            mapper.detachPartition(tableName, detachedTableName, detachedTableName);
+            mapper.renameTable(detachedTableName, dropPendingTableName);
+          });
+    }
+  }
+
+  public void dropPendingPartition(String tableName, YearMonth month) {
+    LOGGER.info("Dropping detached partition of {} for {}", tableName, month);
+    executeUpdate(mapper -> mapper.dropTable(getDropPendingTableName(tableName, month)));
+  }
+
+  /**
+   * Returns the instant at which the partition of a month ends. All events of the partition were
+   * created before this instant.
+   *
+   * @param month the month of the partition
+   * @return the exclusive upper bound of the partition
+   */
+  public static Instant getEndOfPartition(YearMonth month) {
+    return month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+
+  static YearMonth parseMonth(String partitionName) {
+    Matcher matcher = PARTITION_NAME_PATTERN.matcher(partitionName);
+    if (!matcher.find()) {
+      return null;
+    }
+    return YearMonth.parse(matcher.group(1), MONTH_FORMATTER);
+  }
+
+  static YearMonth parseDetachedMonth(String tableName, String detachedTableName) {
+    return parseTableMonth(getDetachedTableName(tableName, ""), detachedTableName);
+  }
+
+  static YearMonth parseDropPendingMonth(String tableName, String dropPendingTableName) {
+    return parseTableMonth(getDropPendingTableName(tableName, ""), dropPendingTableName);
+  }
+
+  String getPartitionName(String tableName, YearMonth month) {
+    // DB2 names the partitions within the table, PostgreSQL uses a table per partition
+    return DB.isDb2(getDatabaseId())
+        ? "P" + MONTH_FORMATTER.format(month)
+        : getDetachedTableName(tableName, month);
+  }
+
+  static String getDetachedTableName(String tableName, YearMonth month) {
+    return getDetachedTableName(tableName, MONTH_FORMATTER.format(month));
+  }
+
+  private static String getDetachedTableName(String tableName, String month) {
+    return tableName + "_P" + month;
+  }
+
+  static String getDropPendingTableName(String tableName, YearMonth month) {
+    return getDropPendingTableName(tableName, MONTH_FORMATTER.format(month));
+  }
+
+  private static String getDropPendingTableName(String tableName, String month) {
+    return tableName + "_D" + month;
+  }
+
+  private static YearMonth parseTableMonth(String tableNamePrefix, String tableName) {
+    // the LIKE pattern of the lookup also matches other tables, e.g. TASK_HISTORY_EVENT_PENDING
+    boolean hasPrefix =
+        tableName.length() == tableNamePrefix.length() + 6
+            && tableName.regionMatches(true, 0, tableNamePrefix, 0, tableNamePrefix.length());
+    if (!hasPrefix) {
+      return null;
+    }
+    String month = tableName.substring(tableNamePrefix.length());
+    return month.chars().allMatch(Character::isDigit)
+        ? YearMonth.parse(month, MONTH_FORMATTER)
+        : null;
+  }
+
+  private List<YearMonth> findDetachedTableMonths(String tableNamePrefix) {
+    List<String> detachedTableNames =
+        execute(
+            mapper ->
+                mapper.findDetachedTableNames(
+                    taskanaHistoryEngine.getConfiguration().getSchemaName(), tableNamePrefix));
+    return detachedTableNames.stream()
+        .map(name -> parseTableMonth(tableNamePrefix, name))
+        .filter(Objects::nonNull)
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  private String getDatabaseId() {
+    return taskanaHistoryEngine.getSqlSession().getConfiguration().getDatabaseId();
+  }
+
+  private void executeUpdate(Consumer<HistoryPartitionMapper> update) {
+    execute(
+        mapper -> {
+          update.accept(mapper);
+          return null;
+        });
+  }
+
+  private <T> T execute(Function<HistoryPartitionMapper, T> function) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      return function.apply(
+          taskanaHistoryEngine.getSqlSession().getMapper(HistoryPartitionMapper.class));
+    } catch (SQLException e) {
+      throw new SystemException("Could not open a connection to the database.", e);
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+    }
+  }
+}
@@ -2,10 +2,12 @@ package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -51,12 +53,15 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   @Override
   public void create(TaskHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    if (taskanaHistoryEngine.isSessionShared()) {
+      taskanaHistoryEngine.bufferEvent(buffer -> buffer.add(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       taskHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting task history event into database", e);
@@ -68,12 +73,15 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   @Override
   public void create(WorkbasketHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    if (taskanaHistoryEngine.isSessionShared()) {
+      taskanaHistoryEngine.bufferEvent(buffer -> buffer.add(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       workbasketHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting workbasket history event into database", e);
@@ -85,12 +93,15 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   @Override
   public void create(ClassificationHistoryEvent event) {
+    if (event.getCreated() == null) {
+      event.setCreated(Instant.now());
+    }
+    if (taskanaHistoryEngine.isSessionShared()) {
+      taskanaHistoryEngine.bufferEvent(buffer -> buffer.add(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       classificationHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting classification history event into database", e);
@@ -128,6 +139,17 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public List<TaskHistoryEvent> getTaskHistoryEventsByTaskIds(List<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return createTaskHistoryQuery()
+        .taskIdIn(taskIds.toArray(new String[0]))
+        .orderByCreated(SortDirection.ASCENDING)
+        .list();
+  }
+
   public TaskHistoryEvent getTaskHistoryEvent(String historyEventId)
       throws TaskanaHistoryEventNotFoundException {
     LOGGER.debug("entry to getTaskHistoryEvent (id = {})", historyEventId);
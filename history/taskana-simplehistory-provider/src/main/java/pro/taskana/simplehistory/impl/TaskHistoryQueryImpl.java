@@ -1,8 +1,18 @@
 package pro.taskana.simplehistory.impl;
 
+import static java.util.Comparator.naturalOrder;
+
+import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +50,8 @@ public class TaskHistoryQueryImpl implements TaskHistoryQuery {
   private String[] taskIdIn;
   private String[] eventTypeIn;
   private TimeInterval[] createdIn;
+  private Instant createdInBegin;
+  private Instant createdInEnd;
   private String[] userIdIn;
   private String[] domainIn;
   private String[] workbasketKeyIn;
@@ -110,6 +122,14 @@ public class TaskHistoryQueryImpl implements TaskHistoryQuery {
     return createdIn;
   }
 
+  public Instant getCreatedInBegin() {
+    return createdInBegin;
+  }
+
+  public Instant getCreatedInEnd() {
+    return createdInEnd;
+  }
+
   public String[] getUserIdIn() {
     return userIdIn;
   }
@@ -295,6 +315,11 @@ public class TaskHistoryQueryImpl implements TaskHistoryQuery {
   @Override
   public TaskHistoryQuery createdWithin(TimeInterval... createdIn) {
     this.createdIn = createdIn;
+    // the range enclosing all intervals allows the database to skip the partitions outside of it
+    this.createdInBegin =
+        getEnclosingBound(createdIn, TimeInterval::getBegin, BinaryOperator.minBy(naturalOrder()));
+    this.createdInEnd =
+        getEnclosingBound(createdIn, TimeInterval::getEnd, BinaryOperator.maxBy(naturalOrder()));
     return this;
   }
 
@@ -666,6 +691,29 @@ public class TaskHistoryQueryImpl implements TaskHistoryQuery {
     }
   }
 
+  @Override
+  public void forEach(Consumer<? super TaskHistoryEvent> action) {
+    LOGGER.debug("entry to forEach(), this = {}", this);
+    int numberOfResultObjects = 0;
+    try {
+      taskanaHistoryEngine.openConnection();
+      try (Cursor<TaskHistoryEvent> cursor =
+          taskanaHistoryEngine.getSqlSession().selectCursor(LINK_TO_MAPPER, this)) {
+        for (TaskHistoryEvent event : cursor) {
+          action.accept(event);
+          numberOfResultObjects++;
+        }
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the task history query", e);
+      }
+    } catch (SQLException e) {
+      LOGGER.error(SQL_EXCEPTION_MESSAGE, e.getCause());
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+      LOGGER.debug("exit from forEach(). Passed {} resulting Objects", numberOfResultObjects);
+    }
+  }
+
   @Override
   public List<String> listValues(
       TaskHistoryQueryColumnName dbColumnName, SortDirection sortDirection) {
@@ -739,4 +787,15 @@ public class TaskHistoryQueryImpl implements TaskHistoryQuery {
     orderColumns.add(columnName);
     return this;
   }
+
+  // returns null if there are no intervals or one of them is open on this side
+  private static Instant getEnclosingBound(
+      TimeInterval[] intervals,
+      Function<TimeInterval, Instant> getBound,
+      BinaryOperator<Instant> selectOuter) {
+    if (intervals == null || Arrays.stream(intervals).map(getBound).anyMatch(Objects::isNull)) {
+      return null;
+    }
+    return Arrays.stream(intervals).map(getBound).reduce(selectOuter).orElse(null);
+  }
 }
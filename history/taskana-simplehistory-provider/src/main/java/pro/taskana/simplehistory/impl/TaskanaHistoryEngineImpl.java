@@ -1,11 +1,14 @@
 package pro.taskana.simplehistory.impl;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
@@ -22,16 +25,28 @@ import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.simplehistory.TaskanaHistoryEngine;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryQueryMapper;
+import pro.taskana.simplehistory.impl.partition.HistoryPartitionMapper;
 import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
 import pro.taskana.simplehistory.impl.task.TaskHistoryQueryMapper;
 import pro.taskana.simplehistory.impl.workbasket.WorkbasketHistoryEventMapper;
 import pro.taskana.simplehistory.impl.workbasket.WorkbasketHistoryQueryMapper;
 import pro.taskana.spi.history.api.TaskanaHistory;
 
-/** This is the implementation of TaskanaHistoryEngine. */
+/**
+ * This is the implementation of TaskanaHistoryEngine.
+ *
+ * <p>By default the history uses its own database sessions. If {@link
+ * TaskanaEngineConfiguration#isHistorySharedSessionEnabled()} is set, the history shares the
+ * session and therefore the connection and transaction of the TaskanaEngine. In this case the
+ * history events are buffered and inserted in batches at the end of the session.
+ */
 public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
 
   protected static final ThreadLocal<Deque<SqlSessionManager>> SESSION_STACK = new ThreadLocal<>();
@@ -40,15 +55,23 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
   private final SqlSessionManager sessionManager;
   private final TaskanaEngineConfiguration taskanaEngineConfiguration;
   private final TaskanaEngine taskanaEngine;
+  private final InternalTaskanaEngine sharedTaskanaEngine;
+  private final ThreadLocal<HistoryEventBuffer> eventBuffer = new ThreadLocal<>();
   private TransactionFactory transactionFactory;
   private TaskanaHistory taskanaHistoryService;
 
   protected TaskanaHistoryEngineImpl(TaskanaEngine taskanaEngine) {
     this.taskanaEngineConfiguration = taskanaEngine.getConfiguration();
     this.taskanaEngine = taskanaEngine;
+    this.sharedTaskanaEngine = getSharedTaskanaEngine(taskanaEngine);
 
-    createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
-    sessionManager = createSqlSessionManager();
+    if (sharedTaskanaEngine == null) {
+      createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
+      sessionManager = createSqlSessionManager();
+    } else {
+      sessionManager = null;
+      addMappers(sharedTaskanaEngine.getSqlSession().getConfiguration());
+    }
   }
 
   public static TaskanaHistoryEngineImpl createTaskanaEngine(TaskanaEngine taskanaEngine) {
@@ -103,18 +126,52 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
             DEFAULT, this.transactionFactory, taskanaEngineConfiguration.getDatasource());
     Configuration configuration = new Configuration(environment);
 
-    // add mappers
-    configuration.addMapper(TaskHistoryEventMapper.class);
-    configuration.addMapper(TaskHistoryQueryMapper.class);
-    configuration.addMapper(WorkbasketHistoryEventMapper.class);
-    configuration.addMapper(WorkbasketHistoryQueryMapper.class);
-    configuration.addMapper(ClassificationHistoryEventMapper.class);
-    configuration.addMapper(ClassificationHistoryQueryMapper.class);
+    // set databaseId
+    try (Connection con = taskanaEngineConfiguration.getDatasource().getConnection()) {
+      configuration.setDatabaseId(
+          DB.getDatabaseProductId(con.getMetaData().getDatabaseProductName()));
+    } catch (SQLException e) {
+      throw new SystemException(
+          "Method createSqlSessionManager() could not open a connection "
+              + "to the database. No databaseId has been set.",
+          e.getCause());
+    }
+    addMappers(configuration);
 
     SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
     return SqlSessionManager.newInstance(localSessionFactory);
   }
 
+  /**
+   * Returns true if the history shares the database session of the TaskanaEngine.
+   *
+   * @return true if the session is shared
+   */
+  boolean isSessionShared() {
+    return sharedTaskanaEngine != null;
+  }
+
+  /**
+   * Adds a history event to the buffer of the current session. The buffer is flushed at the end of
+   * the session of the TaskanaEngine or before the history is accessed within the session. May
+   * only be called if the session is shared.
+   *
+   * @param addEvent adds the event to the buffer
+   */
+  void bufferEvent(Consumer<HistoryEventBuffer> addEvent) {
+    HistoryEventBuffer buffer = eventBuffer.get();
+    boolean isNewBuffer = buffer == null;
+    if (isNewBuffer) {
+      buffer = new HistoryEventBuffer();
+      eventBuffer.set(buffer);
+    }
+    addEvent.accept(buffer);
+    if (isNewBuffer) {
+      // executes the flush immediately if there is no active session
+      sharedTaskanaEngine.executeBeforeSessionEnd(this::flushEventBuffer);
+    }
+  }
+
   protected static void pushSessionToStack(SqlSessionManager session) {
     getSessionStack().push(session);
   }
@@ -164,6 +221,12 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
    * @throws SQLException thrown if the connection could not be opened.
    */
   void openConnection() throws SQLException {
+    if (isSessionShared()) {
+      sharedTaskanaEngine.openConnection();
+      // the buffered events of the current session have to be visible
+      flushEventBuffer();
+      return;
+    }
     initSqlSession();
     this.sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
   }
@@ -175,6 +238,10 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
    * call that accesses the database
    */
   void returnConnection() {
+    if (isSessionShared()) {
+      sharedTaskanaEngine.returnConnection();
+      return;
+    }
     popSessionFromStack();
     if (getSessionStack().isEmpty()
         && this.sessionManager != null
@@ -199,9 +266,57 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
    * @return the myBatis SqlSession object used by taskana
    */
   SqlSession getSqlSession() {
+    if (isSessionShared()) {
+      return sharedTaskanaEngine.getSqlSession();
+    }
     return this.sessionManager;
   }
 
+  // the buffer is removed even if the insert fails. Otherwise its events would be written by a
+  // later session, or never, since a new flush is only registered together with a new buffer.
+  private void flushEventBuffer() {
+    HistoryEventBuffer buffer = eventBuffer.get();
+    if (buffer != null) {
+      try {
+        sharedTaskanaEngine.openConnection();
+        try {
+          buffer.flush(sharedTaskanaEngine.getSqlSession());
+        } finally {
+          sharedTaskanaEngine.returnConnection();
+        }
+      } finally {
+        eventBuffer.remove();
+      }
+    }
+  }
+
+  private static InternalTaskanaEngine getSharedTaskanaEngine(TaskanaEngine taskanaEngine) {
+    if (!taskanaEngine.getConfiguration().isHistorySharedSessionEnabled()) {
+      return null;
+    }
+    if (taskanaEngine instanceof TaskanaEngineImpl) {
+      return ((TaskanaEngineImpl) taskanaEngine).getInternalTaskanaEngine();
+    }
+    LOGGER.warn(
+        "The session of {} can not be shared. The history uses its own sessions.",
+        taskanaEngine.getClass().getName());
+    return null;
+  }
+
+  // several history engines may share the session of the same TaskanaEngine
+  private static void addMappers(Configuration configuration) {
+    Stream.of(
+            TaskHistoryEventMapper.class,
+            TaskHistoryQueryMapper.class,
+            WorkbasketHistoryEventMapper.class,
+            WorkbasketHistoryQueryMapper.class,
+            ClassificationHistoryEventMapper.class,
+            ClassificationHistoryQueryMapper.class,
+            HistoryPartitionMapper.class)
+        .filter(mapper -> !configuration.hasMapper(mapper))
+        .forEach(configuration::addMapper);
+  }
+
   /**
    * creates the MyBatis transaction factory.
    *
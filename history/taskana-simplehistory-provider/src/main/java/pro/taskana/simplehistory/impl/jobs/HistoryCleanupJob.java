@@ -12,6 +12,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.simplehistory.impl.HistoryPartitionManager;
 import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
 import pro.taskana.simplehistory.impl.TaskanaHistoryEngineImpl;
 import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
@@ -43,13 +45,16 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupJob.class);
 
-  private static final String TASKANA_PROPERTIES = "/taskana.properties";
+  static final String TASKANA_PROPERTIES = "/taskana.properties";
 
   private static final String TASKANA_JOB_HISTORY_BATCH_SIZE = "taskana.jobs.history.batchSize";
 
   private static final String TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE =
       "taskana.jobs.history.cleanup.minimumAge";
 
+  private static final String TASKANA_JOB_HISTORY_CLEANUP_RETENTION_MODE =
+      "taskana.jobs.history.cleanup.retentionMode";
+
   private final boolean allCompletedSameParentBusiness;
 
   TaskanaHistoryEngineImpl taskanaHistoryEngine =
@@ -57,6 +62,7 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
 
   private Duration minimumAge = Duration.parse("P14D");
   private int batchSize = 100;
+  private HistoryRetentionMode retentionMode = HistoryRetentionMode.DELETE;
 
   public HistoryCleanupJob(
       TaskanaEngine taskanaEngine,
@@ -77,6 +83,13 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
     LOGGER.info("Running job to delete all history events created before ({})", createdBefore);
 
     try {
+      if (retentionMode != HistoryRetentionMode.DELETE && arePartitionsAvailable()) {
+        int numberOfRemovedPartitions = removeExpiredPartitions(createdBefore);
+        LOGGER.info(
+            "Job ended successfully. {} history partitions removed.", numberOfRemovedPartitions);
+        return;
+      }
+
       SimpleHistoryServiceImpl simpleHistoryService =
           (SimpleHistoryServiceImpl) taskanaHistoryEngine.getTaskanaHistoryService();
 
@@ -154,6 +167,56 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
     job.scheduleNextCleanupJob();
   }
 
+  private boolean arePartitionsAvailable() {
+    HistoryPartitionManager partitionManager = new HistoryPartitionManager(taskanaHistoryEngine);
+    if (HistoryPartitionManager.HISTORY_TABLES.stream().allMatch(partitionManager::isPartitioned)) {
+      return true;
+    }
+    LOGGER.warn(
+        "Retention mode {} requires partitioned history tables. Deleting events instead.",
+        retentionMode);
+    return false;
+  }
+
+  private int removeExpiredPartitions(Instant createdBefore) {
+    HistoryPartitionManager partitionManager = new HistoryPartitionManager(taskanaHistoryEngine);
+    int numberOfRemovedPartitions = 0;
+    for (String tableName : HistoryPartitionManager.HISTORY_TABLES) {
+      if (retentionMode == HistoryRetentionMode.DROP_PARTITIONS) {
+        // drops the partitions of earlier runs, which were detached, but could not be dropped
+        for (YearMonth month : partitionManager.getDropPendingPartitions(tableName)) {
+          executeTransactionally(() -> partitionManager.dropPendingPartition(tableName, month));
+        }
+      }
+      for (YearMonth month : partitionManager.getPartitions(tableName)) {
+        if (HistoryPartitionManager.getEndOfPartition(month).isAfter(createdBefore)) {
+          break;
+        }
+        if (retentionMode == HistoryRetentionMode.DROP_PARTITIONS) {
+          executeTransactionally(() -> partitionManager.detachPartitionForDrop(tableName, month));
+          // DB2 does not allow to drop the detached table within the same transaction
+          executeTransactionally(() -> partitionManager.dropPendingPartition(tableName, month));
+        } else {
+          executeTransactionally(() -> partitionManager.detachPartition(tableName, month));
+        }
+        numberOfRemovedPartitions++;
+      }
+    }
+    return numberOfRemovedPartitions;
+  }
+
+  private void executeTransactionally(Runnable action) {
+    if (txProvider != null) {
+      txProvider.executeInTransaction(
+          () -> {
+            action.run();
+            return null;
+          });
+    } else {
+      action.run();
+    }
+  }
+
   private List<String> filterSameParentBusinessHistoryEventsQualifiedToClean(
       List<TaskHistoryEvent> historyEventCandidatesToClean) {
 
@@ -294,14 +357,27 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
       }
     }
 
+    String retentionModeProperty = props.getProperty(TASKANA_JOB_HISTORY_CLEANUP_RETENTION_MODE);
+    if (retentionModeProperty != null && !retentionModeProperty.isEmpty()) {
+      try {
+        retentionMode = HistoryRetentionMode.valueOf(retentionModeProperty.trim().toUpperCase());
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse retentionModeProperty ({}). Using default. Exception: {} ",
+            retentionModeProperty,
+            e.getMessage());
+      }
+    }
+
     LOGGER.debug("Configured number of history events per transaction: {}", batchSize);
     LOGGER.debug("HistoryCleanupJob configuration: runs every {}", runEvery);
     LOGGER.debug(
         "HistoryCleanupJob configuration: minimum age of history events to be cleanup up is {}",
         minimumAge);
+    LOGGER.debug("HistoryCleanupJob configuration: retention mode is {}", retentionMode);
   }
 
-  private Properties readPropertiesFromFile(String propertiesFile) {
+  static Properties readPropertiesFromFile(String propertiesFile) {
     Properties props = new Properties();
     boolean loadFromClasspath = loadFromClasspath(propertiesFile);
     try {
@@ -329,7 +405,7 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
     return props;
   }
 
-  private boolean loadFromClasspath(String propertiesFile) {
+  private static boolean loadFromClasspath(String propertiesFile) {
     boolean loadFromClasspath = true;
     File f = new File(propertiesFile);
     if (f.exists() && !f.isDirectory()) {
@@ -0,0 +1,129 @@
+package pro.taskana.simplehistory.impl.jobs;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.ScheduledJob.Type;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.simplehistory.impl.HistoryPartitionManager;
+import pro.taskana.simplehistory.impl.TaskanaHistoryEngineImpl;
+
+/**
+ * Creates the monthly partitions of the history tables in advance, so that events never have to be
+ * stored in a default partition. The partitions of the current month and of the configured number
+ * of following months are created. History tables without the partitioned layout are skipped.
+ */
+public class HistoryPartitionMaintenanceJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(HistoryPartitionMaintenanceJob.class);
+
+  private static final String TASKANA_JOB_HISTORY_PARTITIONS_PRECREATE_MONTHS =
+      "taskana.jobs.history.partitions.precreateMonths";
+
+  private final HistoryPartitionManager partitionManager;
+  private int precreateMonths = 3;
+
+  public HistoryPartitionMaintenanceJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob);
+    partitionManager =
+        new HistoryPartitionManager(TaskanaHistoryEngineImpl.createTaskanaEngine(taskanaEngine));
+    initJobParameters(
+        HistoryCleanupJob.readPropertiesFromFile(HistoryCleanupJob.TASKANA_PROPERTIES));
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+    LOGGER.info(
+        "Running job to create the history partitions from {} to {}",
+        currentMonth,
+        currentMonth.plusMonths(precreateMonths));
+    try {
+      int numberOfCreatedPartitions = 0;
+      for (String tableName : HistoryPartitionManager.HISTORY_TABLES) {
+        if (!partitionManager.isPartitioned(tableName)) {
+          LOGGER.debug("Skipping {}, since it is not partitioned.", tableName);
+          continue;
+        }
+        List<YearMonth> existingPartitions = partitionManager.getPartitions(tableName);
+        for (int i = 0; i <= precreateMonths; i++) {
+          YearMonth month = currentMonth.plusMonths(i);
+          if (!existingPartitions.contains(month)) {
+            createPartitionTransactionally(tableName, month);
+            numberOfCreatedPartitions++;
+          }
+        }
+      }
+      LOGGER.info(
+          "Job ended successfully. {} history partitions created.", numberOfCreatedPartitions);
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing HistoryPartitionMaintenanceJob.", e);
+    } finally {
+      scheduleNextJob();
+    }
+  }
+
+  /**
+   * Initializes the HistoryPartitionMaintenanceJob schedule. <br>
+   * All scheduled partition maintenance jobs are cancelled/deleted and a new one is scheduled.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    jobService.deleteJobs(Type.HISTORYPARTITIONMAINTENANCEJOB);
+    HistoryPartitionMaintenanceJob job =
+        new HistoryPartitionMaintenanceJob(taskanaEngine, null, null);
+    job.scheduleNextJob();
+  }
+
+  private void createPartitionTransactionally(String tableName, YearMonth month) {
+    if (txProvider != null) {
+      txProvider.executeInTransaction(
+          () -> {
+            partitionManager.createPartition(tableName, month);
+            return null;
+          });
+    } else {
+      partitionManager.createPartition(tableName, month);
+    }
+  }
+
+  private void scheduleNextJob() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(Type.HISTORYPARTITIONMAINTENANCEJOB);
+    job.setDue(getNextDueForCleanupJob());
+    taskanaEngineImpl.getJobService().createJob(job);
+  }
+
+  private void initJobParameters(Properties props) {
+    String precreateMonthsProperty =
+        props.getProperty(TASKANA_JOB_HISTORY_PARTITIONS_PRECREATE_MONTHS);
+    if (precreateMonthsProperty != null && !precreateMonthsProperty.isEmpty()) {
+      try {
+        precreateMonths = Integer.parseInt(precreateMonthsProperty.trim());
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse precreateMonthsProperty ({}). Using default. Exception: {} ",
+            precreateMonthsProperty,
+            e.getMessage());
+      }
+    }
+    LOGGER.debug(
+        "HistoryPartitionMaintenanceJob configuration: creates partitions {} months ahead",
+        precreateMonths);
+  }
+}
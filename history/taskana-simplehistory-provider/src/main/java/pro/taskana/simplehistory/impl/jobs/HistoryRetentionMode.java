@@ -0,0 +1,24 @@
+package pro.taskana.simplehistory.impl.jobs;
+
+/** The ways in which the {@link HistoryCleanupJob} removes expired history events. */
+public enum HistoryRetentionMode {
+  /**
+   * Deletes the events of tasks, which were completed, cancelled or terminated before the minimum
+   * age. This is the default.
+   */
+  DELETE,
+  /**
+   * Detaches the partitions of the history tables which only contain events older than the
+   * minimum age. The detached partitions remain as separate tables, e.g. for archiving. Requires
+   * the partitioned layout of the history tables.
+   */
+  DETACH_PARTITIONS,
+  /**
+   * Detaches and drops the partitions of the history tables which only contain events older than
+   * the minimum age. Partitions which an earlier run detached for dropping, but which still exist
+   * as tables, e.g. because their drop failed, are dropped as well. Tables detached for archiving
+   * in the DETACH_PARTITIONS mode are left alone. Requires the partitioned layout of the history
+   * tables.
+   */
+  DROP_PARTITIONS
+}
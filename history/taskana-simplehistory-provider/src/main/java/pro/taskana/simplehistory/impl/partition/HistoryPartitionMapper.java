@@ -0,0 +1,99 @@
+package pro.taskana.simplehistory.impl.partition;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * This class is the mybatis mapping of the maintenance of partitioned history tables. The
+ * statements are only supported by PostgreSQL and DB2. Since DDL statements can not contain bind
+ * parameters, the names and bounds are inserted literally. They are computed by TASKANA and never
+ * contain user input.
+ */
+@SuppressWarnings("checkstyle:LineLength")
+public interface HistoryPartitionMapper {
+
+  @Select(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "SELECT COUNT(*) FROM SYSCAT.DATAPARTITIONEXPRESSION WHERE TABSCHEMA = #{schemaName} AND TABNAME = #{tableName} "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+          + "WHERE n.nspname = LOWER(#{schemaName}) AND c.relname = LOWER(#{tableName}) "
+          + "</otherwise>"
+          + "</choose></script>")
+  int countPartitionedTables(
+      @Param("schemaName") String schemaName, @Param("tableName") String tableName);
+
+  @Select(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "SELECT DATAPARTITIONNAME FROM SYSCAT.DATAPARTITIONS WHERE TABSCHEMA = #{schemaName} AND TABNAME = #{tableName} "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent JOIN pg_namespace n ON n.oid = p.relnamespace "
+          + "WHERE n.nspname = LOWER(#{schemaName}) AND p.relname = LOWER(#{tableName}) "
+          + "</otherwise>"
+          + "</choose></script>")
+  List<String> findPartitionNames(
+      @Param("schemaName") String schemaName, @Param("tableName") String tableName);
+
+  @Select(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "SELECT TABNAME FROM SYSCAT.TABLES WHERE TABSCHEMA = #{schemaName} AND TYPE = 'T' AND TABNAME LIKE #{tableNamePrefix} || '%' "
+          + "</when>"
+          + "<otherwise>"
+          + "SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+          + "WHERE n.nspname = LOWER(#{schemaName}) AND c.relkind = 'r' AND NOT c.relispartition AND c.relname LIKE LOWER(#{tableNamePrefix}) || '%' "
+          + "</otherwise>"
+          + "</choose></script>")
+  List<String> findDetachedTableNames(
+      @Param("schemaName") String schemaName, @Param("tableNamePrefix") String tableNamePrefix);
+
+  @Update(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "ALTER TABLE ${tableName} ADD PARTITION ${partitionName} STARTING ('${from}') ENDING ('${to}') EXCLUSIVE"
+          + "</when>"
+          + "<otherwise>"
+          + "CREATE TABLE ${partitionName} PARTITION OF ${tableName} FOR VALUES FROM ('${from}') TO ('${to}')"
+          + "</otherwise>"
+          + "</choose></script>")
+  void createPartition(
+      @Param("tableName") String tableName,
+      @Param("partitionName") String partitionName,
+      @Param("from") String from,
+      @Param("to") String to);
+
+  @Update(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "ALTER TABLE ${tableName} DETACH PARTITION ${partitionName} INTO ${detachedTableName}"
+          + "</when>"
+          + "<otherwise>"
+          + "ALTER TABLE ${tableName} DETACH PARTITION ${detachedTableName}"
+          + "</otherwise>"
+          + "</choose></script>")
+  void detachPartition(
+      @Param("tableName") String tableName,
+      @Param("partitionName") String partitionName,
+      @Param("detachedTableName") String detachedTableName);
+
+  @Update(
+      "<script><choose>"
+          + "<when test=\"_databaseId == 'db2'\">"
+          + "RENAME TABLE ${tableName} TO ${newTableName}"
+          + "</when>"
+          + "<otherwise>"
+          + "ALTER TABLE ${tableName} RENAME TO ${newTableName}"
+          + "</otherwise>"
+          + "</choose></script>")
+  void renameTable(
+      @Param("tableName") String tableName, @Param("newTableName") String newTableName);
+
+  @Update("DROP TABLE ${tableName}")
+  void dropTable(@Param("tableName") String tableName);
+}
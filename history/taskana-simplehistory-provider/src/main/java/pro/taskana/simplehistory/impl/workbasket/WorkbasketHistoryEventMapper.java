@@ -1,5 +1,6 @@
 package pro.taskana.simplehistory.impl.workbasket;
 
+import java.util.List;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
@@ -26,6 +27,21 @@ public interface WorkbasketHistoryEventMapper {
           + "</script>")
   void insert(@Param("historyEvent") WorkbasketHistoryEvent historyEvent);
 
+  @Insert(
+      "<script>INSERT INTO WORKBASKET_HISTORY_EVENT (ID,WORKBASKET_ID,"
+          + " EVENT_TYPE, CREATED, USER_ID, DOMAIN, KEY, TYPE, OWNER, "
+          + " CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORGLEVEL_1,"
+          + " ORGLEVEL_2, ORGLEVEL_3, ORGLEVEL_4, DETAILS)"
+          + " VALUES <foreach item='historyEvent' collection='historyEvents' separator=',' >( #{historyEvent.id}, #{historyEvent.workbasketId},"
+          + " #{historyEvent.eventType}, #{historyEvent.created}, #{historyEvent.userId},"
+          + " #{historyEvent.domain}, #{historyEvent.key}, "
+          + " #{historyEvent.type}, #{historyEvent.owner}, "
+          + " #{historyEvent.custom1}, #{historyEvent.custom2}, #{historyEvent.custom3}, "
+          + "#{historyEvent.custom4}, #{historyEvent.orgLevel1}, #{historyEvent.orgLevel2}, "
+          + "#{historyEvent.orgLevel3}, #{historyEvent.orgLevel4}, #{historyEvent.details})</foreach> "
+          + "</script>")
+  void insertAll(@Param("historyEvents") List<WorkbasketHistoryEvent> historyEvents);
+
   @Select(
       "<script>"
           + "SELECT ID, WORKBASKET_ID, EVENT_TYPE, CREATED, USER_ID, DOMAIN, KEY, TYPE, OWNER,  "
@@ -0,0 +1,148 @@
+-- Optional partitioned layout of the history tables for DB2.
+--
+-- This script converts TASK_HISTORY_EVENT, WORKBASKET_HISTORY_EVENT and CLASSIFICATION_HISTORY_EVENT
+-- into tables which are range partitioned by month on CREATED. Run it once on a schema which was
+-- created by taskana-schema-db2.sql, using @ as statement terminator:
+--   db2 -td@ -f taskana-history-partitioning-db2.sql
+-- Existing events are moved into monthly partitions. Afterwards
+--   * the HistoryPartitionMaintenanceJob creates the partitions of the coming months
+--     (taskana.jobs.history.partitions.precreateMonths) and
+--   * the HistoryCleanupJob removes whole expired partitions, if
+--     taskana.jobs.history.cleanup.retentionMode is DETACH_PARTITIONS or DROP_PARTITIONS.
+--
+-- The partitions are named P<YYYYMM>. Their bounds are the first instants of the month and of the
+-- following month in UTC. A detached partition becomes the table <TABLE>_P<YYYYMM>. The primary key
+-- consists of ID and CREATED, so that it can be partitioned as well. DB2 has no default partition:
+-- events for which no partition exists can not be inserted. Hence the HistoryPartitionMaintenanceJob
+-- has to run regularly. The partition P_INITIAL holds events created before 2000.
+
+SET SCHEMA TASKANA@
+
+RENAME TABLE TASK_HISTORY_EVENT TO TASK_HISTORY_EVENT_OLD@
+RENAME TABLE WORKBASKET_HISTORY_EVENT TO WORKBASKET_HISTORY_EVENT_OLD@
+RENAME TABLE CLASSIFICATION_HISTORY_EVENT TO CLASSIFICATION_HISTORY_EVENT_OLD@
+
+UPDATE TASK_HISTORY_EVENT_OLD SET CREATED = CURRENT TIMESTAMP - CURRENT TIMEZONE WHERE CREATED IS NULL@
+UPDATE WORKBASKET_HISTORY_EVENT_OLD SET CREATED = CURRENT TIMESTAMP - CURRENT TIMEZONE WHERE CREATED IS NULL@
+UPDATE CLASSIFICATION_HISTORY_EVENT_OLD SET CREATED = CURRENT TIMESTAMP - CURRENT TIMEZONE WHERE CREATED IS NULL@
+
+CREATE TABLE TASK_HISTORY_EVENT
+(
+    ID VARCHAR(40) NOT NULL,
+    BUSINESS_PROCESS_ID           VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID    VARCHAR(128) NULL,
+    TASK_ID                       VARCHAR(40)  NULL,
+    EVENT_TYPE                    VARCHAR(32)  NULL,
+    CREATED                       TIMESTAMP    NOT NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    WORKBASKET_KEY                VARCHAR(64)  NULL,
+    POR_COMPANY                   VARCHAR(32)  NULL,
+    POR_SYSTEM                    VARCHAR(32)  NULL,
+    POR_INSTANCE                  VARCHAR(32)  NULL,
+    POR_TYPE                      VARCHAR(32)  NULL,
+    POR_VALUE                     VARCHAR(128) NULL,
+    TASK_CLASSIFICATION_KEY       VARCHAR(32)  NULL,
+    TASK_CLASSIFICATION_CATEGORY  VARCHAR(32)  NULL,
+    ATTACHMENT_CLASSIFICATION_KEY VARCHAR(32)  NULL,
+    OLD_VALUE                     VARCHAR(255) NULL,
+    NEW_VALUE                     VARCHAR(255) NULL,
+    CUSTOM_1                      VARCHAR(128) NULL,
+    CUSTOM_2                      VARCHAR(128) NULL,
+    CUSTOM_3                      VARCHAR(128) NULL,
+    CUSTOM_4                      VARCHAR(128) NULL,
+    DETAILS                       CLOB         NULL,
+    PRIMARY KEY (ID, CREATED)
+)
+PARTITION BY RANGE (CREATED)
+(PARTITION P_INITIAL STARTING MINVALUE ENDING ('2000-01-01-00.00.00') EXCLUSIVE)@
+
+CREATE TABLE WORKBASKET_HISTORY_EVENT
+(
+    ID                            VARCHAR(40) NOT NULL,
+    EVENT_TYPE                    VARCHAR(40)  NULL,
+    CREATED                       TIMESTAMP    NOT NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    WORKBASKET_ID                 VARCHAR(40)  NULL,
+    KEY                           VARCHAR(64)  NULL,
+    TYPE                          VARCHAR(64)  NULL,
+    OWNER                         VARCHAR(128) NULL,
+    CUSTOM_1                      VARCHAR(255) NULL,
+    CUSTOM_2                      VARCHAR(255) NULL,
+    CUSTOM_3                      VARCHAR(255) NULL,
+    CUSTOM_4                      VARCHAR(255) NULL,
+    ORGLEVEL_1                    VARCHAR(255) NULL,
+    ORGLEVEL_2                    VARCHAR(255) NULL,
+    ORGLEVEL_3                    VARCHAR(255) NULL,
+    ORGLEVEL_4                    VARCHAR(255) NULL,
+    DETAILS                       CLOB         NULL,
+    PRIMARY KEY (ID, CREATED)
+)
+PARTITION BY RANGE (CREATED)
+(PARTITION P_INITIAL STARTING MINVALUE ENDING ('2000-01-01-00.00.00') EXCLUSIVE)@
+
+CREATE TABLE CLASSIFICATION_HISTORY_EVENT
+(
+    ID                            VARCHAR(40) NOT NULL,
+    EVENT_TYPE                    VARCHAR(40)  NULL,
+    CREATED                       TIMESTAMP    NOT NULL,
+    USER_ID                       VARCHAR(32)  NULL,
+    CLASSIFICATION_ID             VARCHAR(40)  NULL,
+    APPLICATION_ENTRY_POINT       VARCHAR(255)  NULL,
+    CATEGORY                      VARCHAR(64)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    KEY                           VARCHAR(40)  NULL,
+    NAME                          VARCHAR(255) NULL,
+    PARENT_ID                     VARCHAR(40) NOT NULL,
+    PARENT_KEY                    VARCHAR(32) NOT NULL,
+    PRIORITY                      INT NOT NULL,
+    SERVICE_LEVEL                 VARCHAR(255) NULL,
+    TYPE                          VARCHAR(32),
+    CUSTOM_1                      VARCHAR(255) NULL,
+    CUSTOM_2                      VARCHAR(255) NULL,
+    CUSTOM_3                      VARCHAR(255) NULL,
+    CUSTOM_4                      VARCHAR(255) NULL,
+    CUSTOM_5                      VARCHAR(255) NULL,
+    CUSTOM_6                      VARCHAR(255) NULL,
+    CUSTOM_7                      VARCHAR(255) NULL,
+    CUSTOM_8                      VARCHAR(255) NULL,
+    DETAILS                       CLOB         NULL,
+    PRIMARY KEY (ID, CREATED)
+)
+PARTITION BY RANGE (CREATED)
+(PARTITION P_INITIAL STARTING MINVALUE ENDING ('2000-01-01-00.00.00') EXCLUSIVE)@
+
+-- contiguous monthly partitions from the oldest existing event up to three months ahead
+BEGIN
+    DECLARE PARTITION_START TIMESTAMP;
+    DECLARE LAST_PARTITION_START TIMESTAMP;
+    DECLARE PARTITION_CLAUSE VARCHAR(200);
+
+    SET LAST_PARTITION_START =
+        TIMESTAMP(FIRST_DAY(DATE(CURRENT TIMESTAMP - CURRENT TIMEZONE))) + 3 MONTHS;
+    SET PARTITION_START = (SELECT TIMESTAMP(FIRST_DAY(DATE(MIN(CREATED)))) FROM (
+        SELECT CREATED FROM TASK_HISTORY_EVENT_OLD
+        UNION ALL SELECT CREATED FROM WORKBASKET_HISTORY_EVENT_OLD
+        UNION ALL SELECT CREATED FROM CLASSIFICATION_HISTORY_EVENT_OLD) AS EVENTS);
+    SET PARTITION_START = GREATEST(
+        COALESCE(PARTITION_START, LAST_PARTITION_START - 3 MONTHS), TIMESTAMP('2000-01-01-00.00.00'));
+
+    WHILE PARTITION_START <= LAST_PARTITION_START DO
+        SET PARTITION_CLAUSE = ' ADD PARTITION P' || VARCHAR_FORMAT(PARTITION_START, 'YYYYMM')
+            || ' STARTING (''' || VARCHAR(PARTITION_START)
+            || ''') ENDING (''' || VARCHAR(PARTITION_START + 1 MONTH) || ''') EXCLUSIVE';
+        EXECUTE IMMEDIATE 'ALTER TABLE TASK_HISTORY_EVENT' || PARTITION_CLAUSE;
+        EXECUTE IMMEDIATE 'ALTER TABLE WORKBASKET_HISTORY_EVENT' || PARTITION_CLAUSE;
+        EXECUTE IMMEDIATE 'ALTER TABLE CLASSIFICATION_HISTORY_EVENT' || PARTITION_CLAUSE;
+        SET PARTITION_START = PARTITION_START + 1 MONTH;
+    END WHILE;
+END@
+
+INSERT INTO TASK_HISTORY_EVENT SELECT * FROM TASK_HISTORY_EVENT_OLD@
+INSERT INTO WORKBASKET_HISTORY_EVENT SELECT * FROM WORKBASKET_HISTORY_EVENT_OLD@
+INSERT INTO CLASSIFICATION_HISTORY_EVENT SELECT * FROM CLASSIFICATION_HISTORY_EVENT_OLD@
+
+DROP TABLE TASK_HISTORY_EVENT_OLD@
+DROP TABLE WORKBASKET_HISTORY_EVENT_OLD@
+DROP TABLE CLASSIFICATION_HISTORY_EVENT_OLD@
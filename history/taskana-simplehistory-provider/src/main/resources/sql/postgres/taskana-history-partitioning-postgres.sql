@@ -0,0 +1,49 @@
+-- Optional partitioned layout of the history tables for PostgreSQL 11 or newer.
+--
+-- This script converts TASK_HISTORY_EVENT, WORKBASKET_HISTORY_EVENT and CLASSIFICATION_HISTORY_EVENT
+-- into tables which are range partitioned by month on CREATED. Run it once on a schema which was
+-- created by taskana-schema-postgres.sql. Existing events are moved into monthly partitions.
+-- Afterwards
+--   * the HistoryPartitionMaintenanceJob creates the partitions of the coming months
+--     (taskana.jobs.history.partitions.precreateMonths) and
+--   * the HistoryCleanupJob removes whole expired partitions, if
+--     taskana.jobs.history.cleanup.retentionMode is DETACH_PARTITIONS or DROP_PARTITIONS.
+--
+-- The partitions are named <TABLE>_P<YYYYMM>. Their bounds are the first instants of the month and
+-- of the following month in UTC. The primary key of a partitioned table has to contain the
+-- partition key, hence it consists of ID and CREATED. Events without a matching partition are
+-- stored in the partition <TABLE>_DEFAULT. A partition can not be created for a month, for which
+-- the default partition already contains events.
+
+SET search_path TO taskana;
+
+DO $$
+DECLARE
+    history_table TEXT;
+    partition_start TIMESTAMP;
+BEGIN
+    FOREACH history_table IN ARRAY ARRAY['TASK_HISTORY_EVENT', 'WORKBASKET_HISTORY_EVENT', 'CLASSIFICATION_HISTORY_EVENT']
+    LOOP
+        EXECUTE format('ALTER TABLE %s RENAME TO %s_OLD', history_table, history_table);
+        EXECUTE format('UPDATE %s_OLD SET CREATED = CURRENT_TIMESTAMP WHERE CREATED IS NULL', history_table);
+        EXECUTE format('CREATE TABLE %s (LIKE %s_OLD INCLUDING DEFAULTS) PARTITION BY RANGE (CREATED)',
+                       history_table, history_table);
+        EXECUTE format('ALTER TABLE %s ADD PRIMARY KEY (ID, CREATED)', history_table);
+        EXECUTE format('CREATE TABLE %s_DEFAULT PARTITION OF %s DEFAULT', history_table, history_table);
+
+        -- the partitions of the existing events, of the current month and of the next three months
+        FOR partition_start IN EXECUTE format(
+                'SELECT DATE_TRUNC(''month'', CREATED) FROM %s_OLD '
+                    || 'UNION SELECT GENERATE_SERIES(DATE_TRUNC(''month'', CURRENT_TIMESTAMP AT TIME ZONE ''UTC''), '
+                    || 'DATE_TRUNC(''month'', CURRENT_TIMESTAMP AT TIME ZONE ''UTC'') + INTERVAL ''3 month'', INTERVAL ''1 month'')',
+                history_table)
+        LOOP
+            EXECUTE format('CREATE TABLE %s_P%s PARTITION OF %s FOR VALUES FROM (%L) TO (%L)',
+                           history_table, TO_CHAR(partition_start, 'YYYYMM'), history_table,
+                           partition_start, partition_start + INTERVAL '1 month');
+        END LOOP;
+
+        EXECUTE format('INSERT INTO %s SELECT * FROM %s_OLD', history_table, history_table);
+        EXECUTE format('DROP TABLE %s_OLD', history_table);
+    END LOOP;
+END $$;
@@ -0,0 +1,132 @@
+package acceptance.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEventType;
+
+/** Acceptance test for the history which shares the database session of the TaskanaEngine. */
+class CreateHistoryEventInSharedSessionAccTest extends AbstractAccTest {
+
+  private static TaskanaEngine sharedTaskanaEngine;
+  private static SimpleHistoryServiceImpl sharedHistoryService;
+
+  @BeforeAll
+  static void setupSharedHistoryService() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(getDataSource(), false, getSchemaName());
+    configuration.setHistorySharedSessionEnabled(true);
+    sharedTaskanaEngine = configuration.buildTaskanaEngine();
+    sharedTaskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    sharedHistoryService = new SimpleHistoryServiceImpl();
+    sharedHistoryService.initialize(sharedTaskanaEngine);
+  }
+
+  @Test
+  void should_InsertEventsAtEndOfSession_When_SessionIsShared() {
+    String taskId = IdGenerator.generateWithPrefix("TKI");
+
+    long countWithinSession =
+        sharedTaskanaEngine.runInSession(
+            () -> {
+              sharedHistoryService.create(
+                  createTaskHistoryEvent(
+                      "WBI:01", taskId, TaskHistoryEventType.CREATED.getName(), null, "admin", ""));
+              sharedHistoryService.create(
+                  createTaskHistoryEvent(
+                      "WBI:01", taskId, TaskHistoryEventType.CLAIMED.getName(), null, "admin", ""));
+              sharedHistoryService.create(
+                  createWorkbasketHistoryEvent(
+                      "WBI:01", WorkbasketHistoryEventType.UPDATED.getName(), "admin", ""));
+              // the default history service uses its own connection
+              return getHistoryService().createTaskHistoryQuery().taskIdIn(taskId).count();
+            });
+
+    assertThat(countWithinSession).isZero();
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn(taskId).count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void should_FlushBufferedEvents_When_QueryingWithinSharedSession() {
+    String taskId = IdGenerator.generateWithPrefix("TKI");
+
+    long countWithinSession =
+        sharedTaskanaEngine.runInSession(
+            () -> {
+              sharedHistoryService.create(
+                  createTaskHistoryEvent(
+                      "WBI:01", taskId, TaskHistoryEventType.CREATED.getName(), null, "admin", ""));
+              return sharedHistoryService.createTaskHistoryQuery().taskIdIn(taskId).count();
+            });
+
+    assertThat(countWithinSession).isEqualTo(1);
+  }
+
+  @Test
+  void should_InsertEventImmediately_When_NoSessionIsActive() {
+    String taskId = IdGenerator.generateWithPrefix("TKI");
+
+    sharedHistoryService.create(
+        createTaskHistoryEvent(
+            "WBI:01", taskId, TaskHistoryEventType.CREATED.getName(), null, "admin", ""));
+
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn(taskId).count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void should_DiscardBufferedEvents_When_SessionEndActionFails() {
+    InternalTaskanaEngine internalEngine =
+        ((TaskanaEngineImpl) sharedTaskanaEngine).getInternalTaskanaEngine();
+    String failedTaskId = IdGenerator.generateWithPrefix("TKI");
+    String taskId = IdGenerator.generateWithPrefix("TKI");
+
+    ThrowingCallable call =
+        () ->
+            sharedTaskanaEngine.runInSession(
+                () -> {
+                  internalEngine.executeBeforeSessionEnd(
+                      () -> {
+                        throw new SystemException("session end action failed");
+                      });
+                  sharedHistoryService.create(
+                      createTaskHistoryEvent(
+                          "WBI:01",
+                          failedTaskId,
+                          TaskHistoryEventType.CREATED.getName(),
+                          null,
+                          "admin",
+                          ""));
+                  return null;
+                });
+    assertThatThrownBy(call).hasMessage("session end action failed");
+
+    sharedTaskanaEngine.runInSession(
+        () -> {
+          sharedHistoryService.create(
+              createTaskHistoryEvent(
+                  "WBI:01", taskId, TaskHistoryEventType.CREATED.getName(), null, "admin", ""));
+          return null;
+        });
+
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn(failedTaskId).count())
+        .isZero();
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn(taskId).count())
+        .isEqualTo(1);
+  }
+}
@@ -56,7 +56,7 @@ class CreateHistoryEventOnWorkbasketDistributionTargetsSetAccTest extends Abstra
 
     assertThat(details)
         .contains(
-            "\"newValue\":[\"WBI:100000000000000000000000000000000002\","
+            "\"added\":[\"WBI:100000000000000000000000000000000002\","
                 + "\"WBI:100000000000000000000000000000000003\"");
   }
 }
@@ -0,0 +1,70 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.ScheduledJob.Type;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.simplehistory.impl.HistoryPartitionManager;
+import pro.taskana.simplehistory.impl.jobs.HistoryPartitionMaintenanceJob;
+
+@ExtendWith(JaasExtension.class)
+class HistoryPartitionMaintenanceJobAccTest extends AbstractAccTest {
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(getSchemaName());
+  }
+
+  @Test
+  void should_NotReportPartitionedTables_When_DatabaseDoesNotSupportPartitions() {
+    HistoryPartitionManager partitionManager = new HistoryPartitionManager(taskanaHistoryEngine);
+
+    assertThat(HistoryPartitionManager.HISTORY_TABLES).noneMatch(partitionManager::isPartitioned);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_SkipTablesAndScheduleNextJob_When_HistoryTablesAreNotPartitioned()
+      throws Exception {
+    HistoryPartitionMaintenanceJob job =
+        new HistoryPartitionMaintenanceJob(taskanaEngine, null, null);
+    job.run();
+
+    assertThat(findScheduledMaintenanceJobs()).hasSize(1);
+    assertThat(getHistoryService().createTaskHistoryQuery().count()).isEqualTo(13);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_DeleteOldMaintenanceJobs_When_InitializingSchedule() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      ScheduledJob job = new ScheduledJob();
+      job.setType(Type.HISTORYPARTITIONMAINTENANCEJOB);
+      taskanaEngine.getJobService().createJob(job);
+    }
+    List<ScheduledJob> oldJobs = findScheduledMaintenanceJobs();
+    assertThat(oldJobs).hasSize(3);
+
+    HistoryPartitionMaintenanceJob.initializeSchedule(taskanaEngine);
+
+    List<ScheduledJob> newJobs = findScheduledMaintenanceJobs();
+    assertThat(newJobs).hasSize(1).doesNotContainAnyElementsOf(oldJobs);
+  }
+
+  private List<ScheduledJob> findScheduledMaintenanceJobs() throws Exception {
+    return getJobMapper().findJobsToRun(Instant.now().plus(3650, ChronoUnit.DAYS)).stream()
+        .filter(job -> job.getType() == Type.HISTORYPARTITIONMAINTENANCEJOB)
+        .collect(Collectors.toList());
+  }
+}
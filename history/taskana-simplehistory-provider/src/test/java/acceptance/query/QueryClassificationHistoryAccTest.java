@@ -259,6 +259,23 @@ class QueryClassificationHistoryAccTest extends AbstractAccTest {
     assertThat(returnValues).hasSize(11);
   }
 
+  @Test
+  void should_ReturnHistoryEvents_When_CreatedWithinSeveralIntervals() {
+    TimeInterval intervalOfTestData =
+        new TimeInterval(
+            Instant.parse("2018-01-28T00:00:00Z"), Instant.parse("2018-01-31T00:00:00Z"));
+    TimeInterval recentInterval =
+        new TimeInterval(Instant.now().minusSeconds(10), Instant.now());
+
+    List<ClassificationHistoryEvent> returnValues =
+        historyService
+            .createClassificationHistoryQuery()
+            .createdWithin(intervalOfTestData, recentInterval)
+            .list();
+
+    assertThat(returnValues).hasSize(11);
+  }
+
   @Test
   void should_ReturnHistoryEvents_For_DifferentLikeAttributes() {
 
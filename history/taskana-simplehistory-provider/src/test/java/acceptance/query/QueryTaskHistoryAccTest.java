@@ -6,8 +6,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.ibatis.exceptions.TooManyResultsException;
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +78,23 @@ class QueryTaskHistoryAccTest extends AbstractAccTest {
     assertThat(offsetAndLimitResult.get(0).getUserId()).isEqualTo(regularResult.get(1).getUserId());
   }
 
+  @Test
+  void should_PassSameEventsAsList_When_UsingForEach() {
+    TaskHistoryQuery query =
+        getHistoryService()
+            .createTaskHistoryQuery()
+            .domainLike("%A")
+            .orderByCreated(SortDirection.DESCENDING);
+    List<TaskHistoryEvent> passedEvents = new ArrayList<>();
+
+    query.forEach(passedEvents::add);
+
+    assertThat(passedEvents)
+        .extracting(TaskHistoryEvent::getId)
+        .containsExactlyElementsOf(
+            query.list().stream().map(TaskHistoryEvent::getId).collect(Collectors.toList()));
+  }
+
   @Test
   void should_ReturnEmptyList_When_ProvidingWrongContraints() {
     List<TaskHistoryEvent> result = getHistoryService().createTaskHistoryQuery().list(1, 1000);
@@ -264,6 +283,41 @@ class QueryTaskHistoryAccTest extends AbstractAccTest {
     assertThat(returnValues).hasSize(7);
   }
 
+  @Test
+  void should_ReturnHistoryEvents_When_CreatedWithinSeveralIntervals() {
+    TimeInterval intervalOfTestData =
+        new TimeInterval(
+            Instant.parse("2018-01-28T00:00:00Z"), Instant.parse("2018-01-31T00:00:00Z"));
+    TimeInterval recentInterval =
+        new TimeInterval(Instant.now().minusSeconds(10), Instant.now());
+
+    List<TaskHistoryEvent> returnValues =
+        getHistoryService()
+            .createTaskHistoryQuery()
+            .createdWithin(intervalOfTestData, recentInterval)
+            .list();
+
+    assertThat(returnValues).hasSize(13);
+  }
+
+  @Test
+  void should_ReturnHistoryEventsOfTasks_When_ReadingEventsByTaskIds() {
+    List<TaskHistoryEvent> events =
+        getHistoryService()
+            .getTaskHistoryEventsByTaskIds(
+                List.of(
+                    "TKI:000000000000000000000000000000000000",
+                    "TKI:000000000000000000000000000000000036"));
+
+    assertThat(events)
+        .hasSize(4)
+        .extracting(TaskHistoryEvent::getTaskId)
+        .containsOnly(
+            "TKI:000000000000000000000000000000000000", "TKI:000000000000000000000000000000000036");
+    assertThat(events).extracting(TaskHistoryEvent::getCreated).isSorted();
+    assertThat(getHistoryService().getTaskHistoryEventsByTaskIds(List.of())).isEmpty();
+  }
+
   @Test
   void should_ReturnHistoryEvents_For_DifferentLikeAttributes() {
     List<TaskHistoryEvent> returnValues =
@@ -0,0 +1,82 @@
+package pro.taskana.simplehistory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+/** Unit Test for HistoryPartitionManager. */
+class HistoryPartitionManagerTest {
+
+  @Test
+  void should_ParseMonth_When_PartitionNameFollowsNamingScheme() {
+    assertThat(HistoryPartitionManager.parseMonth("task_history_event_p202610"))
+        .isEqualTo(YearMonth.of(2026, 10));
+    assertThat(HistoryPartitionManager.parseMonth("P202610")).isEqualTo(YearMonth.of(2026, 10));
+  }
+
+  @Test
+  void should_IgnorePartition_When_PartitionNameDoesNotFollowNamingScheme() {
+    assertThat(HistoryPartitionManager.parseMonth("TASK_HISTORY_EVENT_DEFAULT")).isNull();
+    assertThat(HistoryPartitionManager.parseMonth("P_INITIAL")).isNull();
+  }
+
+  @Test
+  void should_ParseMonth_When_TableIsDetachedPartitionOfHistoryTable() {
+    assertThat(
+            HistoryPartitionManager.parseDetachedMonth(
+                "TASK_HISTORY_EVENT", "task_history_event_p202610"))
+        .isEqualTo(YearMonth.of(2026, 10));
+    assertThat(
+            HistoryPartitionManager.parseDetachedMonth(
+                "TASK_HISTORY_EVENT", "TASK_HISTORY_EVENT_ARCHIVE_P202610"))
+        .isNull();
+    assertThat(
+            HistoryPartitionManager.parseDetachedMonth(
+                "TASK_HISTORY_EVENT", "WORKBASKET_HISTORY_EVENT_P202610"))
+        .isNull();
+  }
+
+  @Test
+  void should_ParseMonth_When_TableIsDropPendingPartitionOfHistoryTable() {
+    assertThat(
+            HistoryPartitionManager.parseDropPendingMonth(
+                "TASK_HISTORY_EVENT", "task_history_event_d202610"))
+        .isEqualTo(YearMonth.of(2026, 10));
+    assertThat(
+            HistoryPartitionManager.parseDropPendingMonth(
+                "TASK_HISTORY_EVENT", "TASK_HISTORY_EVENT_DEFAULT"))
+        .isNull();
+  }
+
+  @Test
+  void should_NotTreatArchivedTableAsDropPending_When_ParsingDetachedTables() {
+    assertThat(
+            HistoryPartitionManager.parseDropPendingMonth(
+                "TASK_HISTORY_EVENT", "TASK_HISTORY_EVENT_P202610"))
+        .isNull();
+    assertThat(
+            HistoryPartitionManager.parseDetachedMonth(
+                "TASK_HISTORY_EVENT", "TASK_HISTORY_EVENT_D202610"))
+        .isNull();
+  }
+
+  @Test
+  void should_NameDetachedTableAfterMonth() {
+    assertThat(
+            HistoryPartitionManager.getDetachedTableName(
+                "TASK_HISTORY_EVENT", YearMonth.of(2026, 1)))
+        .isEqualTo("TASK_HISTORY_EVENT_P202601");
+    assertThat(
+            HistoryPartitionManager.getDropPendingTableName(
+                "TASK_HISTORY_EVENT", YearMonth.of(2026, 1)))
+        .isEqualTo("TASK_HISTORY_EVENT_D202601");
+  }
+
+  @Test
+  void should_EndPartitionAtStartOfNextMonthInUtc() {
+    assertThat(HistoryPartitionManager.getEndOfPartition(YearMonth.of(2026, 12)))
+        .isEqualTo(Instant.parse("2027-01-01T00:00:00Z"));
+  }
+}
@@ -16,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.BaseQuery.SortDirection;
@@ -23,6 +24,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.rest.QueryPagingParameter;
 import pro.taskana.common.rest.QuerySortBy;
 import pro.taskana.common.rest.QuerySortParameter;
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
 import pro.taskana.common.rest.util.QueryParamsValidator;
 import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
 import pro.taskana.simplehistory.impl.task.TaskHistoryQuery;
@@ -42,17 +44,20 @@ public class TaskHistoryEventController {
 
   private final SimpleHistoryServiceImpl simpleHistoryService;
   private final TaskHistoryEventRepresentationModelAssembler assembler;
+  private final StreamingRepresentationModelWriter streamingWriter;
 
   @Autowired
   public TaskHistoryEventController(
       TaskanaEngineConfiguration taskanaEngineConfiguration,
       SimpleHistoryServiceImpl simpleHistoryServiceImpl,
-      TaskHistoryEventRepresentationModelAssembler assembler)
+      TaskHistoryEventRepresentationModelAssembler assembler,
+      StreamingRepresentationModelWriter streamingWriter)
       throws SQLException {
 
     this.simpleHistoryService = simpleHistoryServiceImpl;
     this.simpleHistoryService.initialize(taskanaEngineConfiguration.buildTaskanaEngine());
     this.assembler = assembler;
+    this.streamingWriter = streamingWriter;
   }
 
   /**
@@ -98,6 +103,44 @@ public class TaskHistoryEventController {
     return response;
   }
 
+  /**
+   * This endpoint streams a list of existing Task History Events in a compact format. It is
+   * selected by requesting the media type {@value
+   * StreamingRepresentationModelWriter#COMPACT_JSON_VALUE}. Filters can be applied. The events are
+   * written as rows of values while they are read from the database.
+   *
+   * @title Stream a compact list of all Task History Events
+   * @param request the HTTP request
+   * @param filterParameter the filter parameters
+   * @param sortParameter the sort parameters
+   * @return the Task History Events with the given filter and sort options.
+   */
+  @GetMapping(
+      path = HistoryRestEndpoints.URL_HISTORY_EVENTS,
+      produces = StreamingRepresentationModelWriter.COMPACT_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamCompactTaskHistoryEvents(
+      HttpServletRequest request,
+      TaskHistoryQueryFilterParameter filterParameter,
+      TaskHistoryQuerySortParameter sortParameter) {
+
+    QueryParamsValidator.validateParams(
+        request, TaskHistoryQueryFilterParameter.class, QuerySortParameter.class);
+
+    TaskHistoryQuery query = simpleHistoryService.createTaskHistoryQuery();
+    filterParameter.applyToQuery(query);
+    sortParameter.applyToQuery(query);
+
+    ResponseEntity<StreamingResponseBody> response =
+        streamingWriter.streamCompact(
+            TaskHistoryEventRepresentationModelAssembler.COMPACT_COLUMNS, query::forEach);
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from streamCompactTaskHistoryEvents(), returning {}", response);
+    }
+
+    return response;
+  }
+
   /**
    * This endpoint retrieves a single Task History Event.
    *
@@ -3,11 +3,15 @@ package pro.taskana.simplehistory.rest.assembler;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.CompactColumn;
 import pro.taskana.common.rest.assembler.PagedRepresentationModelAssembler;
 import pro.taskana.common.rest.models.PageMetadata;
 import pro.taskana.simplehistory.rest.TaskHistoryEventController;
@@ -23,6 +27,46 @@ public class TaskHistoryEventRepresentationModelAssembler
         TaskHistoryEventRepresentationModel,
         TaskHistoryEventPagedRepresentationModel> {
 
+  /**
+   * The columns of the compact response format. They correspond to the properties of {@link
+   * TaskHistoryEventRepresentationModel}.
+   */
+  public static final List<CompactColumn<TaskHistoryEvent>> COMPACT_COLUMNS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              CompactColumn.of("taskHistoryId", TaskHistoryEvent::getId),
+              CompactColumn.of("businessProcessId", TaskHistoryEvent::getBusinessProcessId),
+              CompactColumn.of(
+                  "parentBusinessProcessId", TaskHistoryEvent::getParentBusinessProcessId),
+              CompactColumn.of("taskId", TaskHistoryEvent::getTaskId),
+              CompactColumn.dictionary("eventType", TaskHistoryEvent::getEventType),
+              CompactColumn.of("created", TaskHistoryEvent::getCreated),
+              CompactColumn.dictionary("userId", TaskHistoryEvent::getUserId),
+              CompactColumn.dictionary("domain", TaskHistoryEvent::getDomain),
+              CompactColumn.dictionary("workbasketKey", TaskHistoryEvent::getWorkbasketKey),
+              CompactColumn.dictionary("porCompany", TaskHistoryEvent::getPorCompany),
+              CompactColumn.dictionary("porType", TaskHistoryEvent::getPorType),
+              CompactColumn.dictionary("porInstance", TaskHistoryEvent::getPorInstance),
+              CompactColumn.dictionary("porSystem", TaskHistoryEvent::getPorSystem),
+              CompactColumn.of("porValue", TaskHistoryEvent::getPorValue),
+              CompactColumn.dictionary(
+                  "taskClassificationKey", TaskHistoryEvent::getTaskClassificationKey),
+              CompactColumn.dictionary(
+                  "taskClassificationCategory", TaskHistoryEvent::getTaskClassificationCategory),
+              CompactColumn.dictionary(
+                  "attachmentClassificationKey", TaskHistoryEvent::getAttachmentClassificationKey),
+              CompactColumn.of("oldValue", TaskHistoryEvent::getOldValue),
+              CompactColumn.of("newValue", TaskHistoryEvent::getNewValue),
+              CompactColumn.of(
+                  "custom1", t -> t.getCustomAttribute(TaskHistoryCustomField.CUSTOM_1)),
+              CompactColumn.of(
+                  "custom2", t -> t.getCustomAttribute(TaskHistoryCustomField.CUSTOM_2)),
+              CompactColumn.of(
+                  "custom3", t -> t.getCustomAttribute(TaskHistoryCustomField.CUSTOM_3)),
+              CompactColumn.of(
+                  "custom4", t -> t.getCustomAttribute(TaskHistoryCustomField.CUSTOM_4)),
+              CompactColumn.of("details", TaskHistoryEvent::getDetails)));
+
   @NonNull
   @Override
   public TaskHistoryEventRepresentationModel toModel(@NonNull TaskHistoryEvent historyEvent) {
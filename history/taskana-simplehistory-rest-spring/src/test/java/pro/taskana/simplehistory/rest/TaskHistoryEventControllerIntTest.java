@@ -5,9 +5,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -15,12 +18,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
 import pro.taskana.common.rest.models.PageMetadata;
 import pro.taskana.common.test.rest.RestHelper;
 import pro.taskana.common.test.rest.TaskanaSpringBootTest;
@@ -60,6 +66,26 @@ class TaskHistoryEventControllerIntTest {
     assertThat(response.getBody().getContent()).hasSize(45);
   }
 
+  @Test
+  void should_StreamCompactHistoryEvents_When_CompactFormatIsAccepted() throws Exception {
+    HttpHeaders headers = restHelper.getHeadersTeamlead_1();
+    headers.setAccept(List.of(StreamingRepresentationModelWriter.COMPACT_JSON));
+    ResponseEntity<String> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(HistoryRestEndpoints.URL_HISTORY_EVENTS),
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            String.class);
+
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(StreamingRepresentationModelWriter.COMPACT_JSON);
+    JsonNode body = new ObjectMapper().readTree(response.getBody());
+    List<String> columns = body.get("columns").findValuesAsText("name");
+    assertThat(columns).startsWith("taskHistoryId").contains("eventType", "details");
+    assertThat(body.get("rows")).hasSize(45);
+    assertThat(body.get("rows").get(0)).hasSize(columns.size());
+  }
+
   @Test
   void should_GenerateSelfLink_When_TaskHistoryEventsAreRequested() {
     ResponseEntity<TaskHistoryEventPagedRepresentationModel> response =
@@ -0,0 +1,235 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.security.auth.Subject;
+import javax.sql.DataSource;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.sampledata.SyntheticDataConfiguration;
+import pro.taskana.sampledata.SyntheticDataGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/**
+ * Creates a TaskanaEngine on an embedded H2 database which is seeded with the SQL scripts of
+ * taskana-common-data. Every benchmark creates its own workbaskets and tasks, so that the
+ * measurements do not depend on the state of the shared test data.
+ */
+public class BenchmarkEnvironment {
+
+  /** The user who executes the benchmarked operations. */
+  public static final String USER = "teamlead-1";
+
+  public static final String ADMIN = "admin";
+  public static final String MONITOR = "monitor";
+  public static final String DOMAIN = "DOMAIN_A";
+  public static final String CLASSIFICATION_KEY = "L10000";
+
+  private static final String SCHEMA_NAME = "TASKANA";
+  private static final String JDBC_URL =
+      "jdbc:h2:mem:taskana-benchmark;IGNORECASE=TRUE;DB_CLOSE_DELAY=-1;"
+          + "INIT=CREATE SCHEMA IF NOT EXISTS TASKANA";
+
+  private final TaskanaEngine taskanaEngine;
+
+  private BenchmarkEnvironment(TaskanaEngine taskanaEngine) {
+    this.taskanaEngine = taskanaEngine;
+  }
+
+  /**
+   * Creates an environment whose database contains the test data of taskana-common-data.
+   *
+   * @return the environment
+   * @throws SQLException if the TaskanaEngine cannot be created
+   */
+  public static BenchmarkEnvironment withTestData() throws SQLException {
+    return withTestData(configuration -> {});
+  }
+
+  /**
+   * Creates an environment whose database contains the test data of taskana-common-data. The
+   * configuration of the TaskanaEngine is customized before the engine is built, e.g. to compare
+   * MyBatis settings.
+   *
+   * @param configurer customizes the configuration of the TaskanaEngine
+   * @return the environment
+   * @throws SQLException if the TaskanaEngine cannot be created
+   */
+  public static BenchmarkEnvironment withTestData(Consumer<TaskanaEngineConfiguration> configurer)
+      throws SQLException {
+    DataSource dataSource = createDataSource();
+    BenchmarkEnvironment environment =
+        new BenchmarkEnvironment(createTaskanaEngine(dataSource, configurer));
+    SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, SCHEMA_NAME);
+    sampleDataGenerator.clearDb();
+    sampleDataGenerator.generateTestData();
+    return environment;
+  }
+
+  /**
+   * Creates an environment whose database contains the monitor data of taskana-common-data.
+   *
+   * @return the environment
+   * @throws SQLException if the TaskanaEngine cannot be created
+   */
+  public static BenchmarkEnvironment withMonitorData() throws SQLException {
+    DataSource dataSource = createDataSource();
+    BenchmarkEnvironment environment =
+        new BenchmarkEnvironment(createTaskanaEngine(dataSource, configuration -> {}));
+    SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, SCHEMA_NAME);
+    sampleDataGenerator.clearDb();
+    sampleDataGenerator.generateMonitorData();
+    return environment;
+  }
+
+  /**
+   * Creates an environment whose database contains the test data of taskana-common-data and the
+   * synthetic data described by the given configuration. The {@link #USER} gets all permissions on
+   * the synthetic workbaskets.
+   *
+   * @param configuration the volume and the distributions of the synthetic data
+   * @return the environment
+   * @throws SQLException if the TaskanaEngine cannot be created
+   */
+  public static BenchmarkEnvironment withSyntheticData(SyntheticDataConfiguration configuration)
+      throws SQLException {
+    List<String> additionalAccessIds = new ArrayList<>(configuration.getAdditionalAccessIds());
+    if (!additionalAccessIds.contains(USER)) {
+      additionalAccessIds.add(USER);
+    }
+    configuration.setAdditionalAccessIds(additionalAccessIds);
+    BenchmarkEnvironment environment = withTestData();
+    new SyntheticDataGenerator(createDataSource(), SCHEMA_NAME, configuration).generate();
+    return environment;
+  }
+
+  public TaskanaEngine getTaskanaEngine() {
+    return taskanaEngine;
+  }
+
+  public TaskService getTaskService() {
+    return taskanaEngine.getTaskService();
+  }
+
+  /**
+   * Executes the given action with the identity of the given user. The overhead is constant and
+   * negligible compared to the database roundtrips of the benchmarked operations.
+   *
+   * @param userId the id of the user
+   * @param action the action to execute
+   * @param <T> the result type of the action
+   * @return the result of the action
+   * @throws Exception if the action throws an exception
+   */
+  public <T> T runAs(String userId, PrivilegedExceptionAction<T> action) throws Exception {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal(userId));
+    try {
+      return Subject.doAs(subject, action);
+    } catch (PrivilegedActionException e) {
+      throw e.getException();
+    }
+  }
+
+  /**
+   * Creates a personal workbasket on which the given users have all permissions.
+   *
+   * @param key the key of the workbasket
+   * @param userIds the users who are allowed to work on the workbasket
+   * @return the id of the created workbasket
+   * @throws Exception if the workbasket cannot be created
+   */
+  public String createWorkbasket(String key, String... userIds) throws Exception {
+    return runAs(
+        ADMIN,
+        () -> {
+          WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+          Workbasket workbasket = workbasketService.newWorkbasket(key, DOMAIN);
+          workbasket.setName(key);
+          workbasket.setType(WorkbasketType.PERSONAL);
+          String workbasketId = workbasketService.createWorkbasket(workbasket).getId();
+          for (String userId : userIds) {
+            WorkbasketAccessItem accessItem =
+                workbasketService.newWorkbasketAccessItem(workbasketId, userId);
+            for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+              accessItem.setPermission(permission, true);
+            }
+            workbasketService.createWorkbasketAccessItem(accessItem);
+          }
+          return workbasketId;
+        });
+  }
+
+  /**
+   * Creates the given number of ready tasks in a workbasket.
+   *
+   * @param workbasketId the id of the workbasket
+   * @param count the number of tasks to create
+   * @return the ids of the created tasks
+   * @throws Exception if a task cannot be created
+   */
+  public List<String> createTasks(String workbasketId, int count) throws Exception {
+    return runAs(
+        USER,
+        () -> {
+          List<String> taskIds = new ArrayList<>(count);
+          for (int i = 0; i < count; i++) {
+            taskIds.add(getTaskService().createTask(newTask(workbasketId)).getId());
+          }
+          return taskIds;
+        });
+  }
+
+  /**
+   * Instantiates a task which is ready to be created in the given workbasket.
+   *
+   * @param workbasketId the id of the workbasket
+   * @return the new task
+   */
+  public Task newTask(String workbasketId) {
+    Task task = getTaskService().newTask(workbasketId);
+    task.setClassificationKey(CLASSIFICATION_KEY);
+    ObjectReference objectReference = new ObjectReference();
+    objectReference.setCompany("COMPANY_A");
+    objectReference.setSystem("SYSTEM_A");
+    objectReference.setSystemInstance("INSTANCE_A");
+    objectReference.setType("VNR");
+    objectReference.setValue("1234567");
+    task.setPrimaryObjRef(objectReference);
+    return task;
+  }
+
+  private static DataSource createDataSource() {
+    PooledDataSource dataSource =
+        new PooledDataSource(
+            Thread.currentThread().getContextClassLoader(), "org.h2.Driver", JDBC_URL, "sa", "sa");
+    dataSource.forceCloseAll(); // otherwise the MyBatis pool is not initialized correctly
+    return dataSource;
+  }
+
+  private static TaskanaEngine createTaskanaEngine(
+      DataSource dataSource, Consumer<TaskanaEngineConfiguration> configurer) throws SQLException {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(dataSource, false, true, SCHEMA_NAME);
+    configurer.accept(configuration);
+    TaskanaEngine taskanaEngine = configuration.buildTaskanaEngine();
+    taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    return taskanaEngine;
+  }
+}
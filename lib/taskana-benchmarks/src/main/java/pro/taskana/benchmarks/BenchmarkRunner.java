@@ -0,0 +1,35 @@
+package pro.taskana.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module. It accepts the same arguments as the JMH command line, e.g.
+ * a regular expression to select benchmarks. Unless specified otherwise, the results are written
+ * in JSON format to <code>benchmark-results.json</code>, so that they can be compared between
+ * releases.
+ */
+public class BenchmarkRunner {
+
+  public static final String DEFAULT_RESULT_FILE = "benchmark-results.json";
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    if (commandLineOptions.getIncludes().isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,81 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.ClassificationReport;
+import pro.taskana.monitor.api.reports.TaskStatusReport;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+
+/** Measures the building of the monitor reports on the monitor data of taskana-common-data. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MonitorReportBenchmark {
+
+  private BenchmarkEnvironment environment;
+  private List<TimeIntervalColumnHeader> columnHeaders;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    environment = BenchmarkEnvironment.withMonitorData();
+    // one column for every day of the last and the next two weeks
+    columnHeaders =
+        IntStream.rangeClosed(-14, 14)
+            .mapToObj(TimeIntervalColumnHeader::new)
+            .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public WorkbasketReport buildWorkbasketReport() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.MONITOR,
+        () ->
+            getMonitorService()
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(columnHeaders)
+                .inWorkingDays()
+                .buildReport());
+  }
+
+  @Benchmark
+  public ClassificationReport buildClassificationReport() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.MONITOR,
+        () ->
+            getMonitorService()
+                .createClassificationReportBuilder()
+                .withColumnHeaders(columnHeaders)
+                .inWorkingDays()
+                .buildReport());
+  }
+
+  @Benchmark
+  public TaskStatusReport buildTaskStatusReport() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.MONITOR,
+        () -> getMonitorService().createTaskStatusReportBuilder().buildReport());
+  }
+
+  private MonitorService getMonitorService() {
+    return environment.getTaskanaEngine().getMonitorService();
+  }
+}
@@ -0,0 +1,85 @@
+package pro.taskana.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.exceptions.InvalidOwnerException;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * Measures {@link TaskService#selectAndClaim} while several users compete for the same tasks.
+ * Each claimed task is released again, so that the pool of ready tasks never runs dry. Losing the
+ * race for a task is part of the measured behavior and is not treated as an error.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SelectAndClaimBenchmark {
+
+  private static final String[] CONTENDERS = {
+    BenchmarkEnvironment.USER, "user-1-1", "user-1-2", "user-2-1"
+  };
+  private static final int TASK_COUNT = 50;
+
+  @Benchmark
+  public Task selectAndClaim(SharedState state, Contender contender) throws Exception {
+    return state.environment.runAs(
+        contender.userId,
+        () -> {
+          TaskService taskService = state.environment.getTaskService();
+          try {
+            Task task =
+                taskService.selectAndClaim(
+                    taskService
+                        .createTaskQuery()
+                        .workbasketIdIn(state.workbasketId)
+                        .orderByPriority(SortDirection.DESCENDING));
+            return taskService.cancelClaim(task.getId());
+          } catch (InvalidOwnerException e) {
+            return null;
+          }
+        });
+  }
+
+  @State(Scope.Benchmark)
+  public static class SharedState {
+
+    private BenchmarkEnvironment environment;
+    private String workbasketId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      environment = BenchmarkEnvironment.withTestData();
+      workbasketId = environment.createWorkbasket("BENCHMARK-SELECT-AND-CLAIM", CONTENDERS);
+      environment.createTasks(workbasketId, TASK_COUNT);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Contender {
+
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setup(ThreadParams threadParams) {
+      userId = CONTENDERS[threadParams.getThreadIndex() % CONTENDERS.length];
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Measures the throughput of task queries and task creation with different MyBatis settings, e.g.
+ * the SIMPLE executor, which prepares every statement anew, and the REUSE executor, which reuses
+ * the prepared statements within a session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StatementExecutionBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"SIMPLE", "REUSE"})
+  public ExecutorType executorType;
+
+  @Param({"SESSION", "STATEMENT"})
+  public LocalCacheScope localCacheScope;
+
+  /** The fetch size of the TaskQueryMapper. 0 uses the default of the JDBC driver. */
+  @Param({"0", "500"})
+  public int taskQueryFetchSize;
+
+  @Param({"1000"})
+  public int taskCount;
+
+  private BenchmarkEnvironment environment;
+  private String workbasketId;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    environment =
+        BenchmarkEnvironment.withTestData(
+            configuration -> {
+              configuration.setExecutorType(executorType);
+              configuration.setLocalCacheScope(localCacheScope);
+              if (taskQueryFetchSize > 0) {
+                configuration.getMapperFetchSizes().put("TaskQueryMapper", taskQueryFetchSize);
+              }
+            });
+    workbasketId = environment.createWorkbasket("BENCHMARK-STATEMENTS", BenchmarkEnvironment.USER);
+    environment.createTasks(workbasketId, taskCount);
+  }
+
+  @Benchmark
+  public List<TaskSummary> listInbox() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () ->
+            environment
+                .getTaskService()
+                .createTaskQuery()
+                .workbasketIdIn(workbasketId)
+                .stateIn(TaskState.READY, TaskState.CLAIMED)
+                .orderByPriority(SortDirection.DESCENDING)
+                .list());
+  }
+
+  @Benchmark
+  public List<TaskSummary> listInboxPage() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () ->
+            environment
+                .getTaskService()
+                .createTaskQuery()
+                .workbasketIdIn(workbasketId)
+                .stateIn(TaskState.READY, TaskState.CLAIMED)
+                .orderByPriority(SortDirection.DESCENDING)
+                .listPage(1, PAGE_SIZE));
+  }
+
+  @Benchmark
+  public Task createTask() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () -> environment.getTaskService().createTask(environment.newTask(workbasketId)));
+  }
+}
@@ -0,0 +1,72 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.sampledata.SyntheticDataConfiguration;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Measures the task queries of a user who has access to many workbaskets with an uneven number of
+ * tasks, with the tasks, attachments, comments and history events of the synthetic data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SyntheticTaskQueryBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"100000"})
+  public long taskCount;
+
+  private BenchmarkEnvironment environment;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    SyntheticDataConfiguration configuration = new SyntheticDataConfiguration();
+    configuration.setTaskCount(taskCount);
+    environment = BenchmarkEnvironment.withSyntheticData(configuration);
+  }
+
+  @Benchmark
+  public List<TaskSummary> listOpenTasksPage() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () ->
+            createOpenTaskQuery()
+                .orderByPriority(SortDirection.DESCENDING)
+                .orderByDue(SortDirection.ASCENDING)
+                .listPage(1, PAGE_SIZE));
+  }
+
+  @Benchmark
+  public long countOpenTasks() throws Exception {
+    return environment.runAs(BenchmarkEnvironment.USER, () -> createOpenTaskQuery().count());
+  }
+
+  private TaskQuery createOpenTaskQuery() {
+    return environment
+        .getTaskService()
+        .createTaskQuery()
+        .stateIn(TaskState.READY, TaskState.CLAIMED);
+  }
+}
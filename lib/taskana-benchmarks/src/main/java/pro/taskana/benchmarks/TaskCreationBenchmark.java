@@ -0,0 +1,42 @@
+package pro.taskana.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.task.api.models.Task;
+
+/** Measures the creation of a single task. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskCreationBenchmark {
+
+  private BenchmarkEnvironment environment;
+  private String workbasketId;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    environment = BenchmarkEnvironment.withTestData();
+    workbasketId = environment.createWorkbasket("BENCHMARK-CREATE", BenchmarkEnvironment.USER);
+  }
+
+  @Benchmark
+  public Task createTask() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () -> environment.getTaskService().createTask(environment.newTask(workbasketId)));
+  }
+}
@@ -0,0 +1,79 @@
+package pro.taskana.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.task.api.models.Task;
+
+/**
+ * Measures the state transitions of a single task. The task is prepared before each invocation,
+ * which is feasible since every transition takes several database roundtrips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskLifecycleBenchmark {
+
+  @Benchmark
+  public Task claim(SharedState state, ReadyTask task) throws Exception {
+    return state.environment.runAs(
+        BenchmarkEnvironment.USER,
+        () -> state.environment.getTaskService().claim(task.taskId));
+  }
+
+  @Benchmark
+  public Task completeTask(SharedState state, ClaimedTask task) throws Exception {
+    return state.environment.runAs(
+        BenchmarkEnvironment.USER,
+        () -> state.environment.getTaskService().completeTask(task.taskId));
+  }
+
+  @State(Scope.Benchmark)
+  public static class SharedState {
+
+    private BenchmarkEnvironment environment;
+    private String workbasketId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      environment = BenchmarkEnvironment.withTestData();
+      workbasketId = environment.createWorkbasket("BENCHMARK-LIFECYCLE", BenchmarkEnvironment.USER);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ReadyTask {
+
+    private String taskId;
+
+    @Setup(Level.Invocation)
+    public void createTask(SharedState state) throws Exception {
+      taskId = state.environment.createTasks(state.workbasketId, 1).get(0);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ClaimedTask {
+
+    private String taskId;
+
+    @Setup(Level.Invocation)
+    public void createAndClaimTask(SharedState state) throws Exception {
+      taskId = state.environment.createTasks(state.workbasketId, 1).get(0);
+      state.environment.runAs(
+          BenchmarkEnvironment.USER, () -> state.environment.getTaskService().claim(taskId));
+    }
+  }
+}
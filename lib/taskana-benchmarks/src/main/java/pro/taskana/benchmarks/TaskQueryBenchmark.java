@@ -0,0 +1,75 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Measures the task queries which are executed for the inbox of a user. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskQueryBenchmark {
+
+  private static final int PAGE_SIZE = 50;
+
+  @Param({"1000"})
+  public int taskCount;
+
+  private BenchmarkEnvironment environment;
+  private String workbasketId;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    environment = BenchmarkEnvironment.withTestData();
+    workbasketId = environment.createWorkbasket("BENCHMARK-QUERY", BenchmarkEnvironment.USER);
+    environment.createTasks(workbasketId, taskCount);
+  }
+
+  @Benchmark
+  public List<TaskSummary> listInboxPage() throws Exception {
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () ->
+            createInboxQuery()
+                .orderByPriority(SortDirection.DESCENDING)
+                .orderByDue(SortDirection.ASCENDING)
+                .listPage(1, PAGE_SIZE));
+  }
+
+  @Benchmark
+  public long countInbox() throws Exception {
+    return environment.runAs(BenchmarkEnvironment.USER, () -> createInboxQuery().count());
+  }
+
+  @Benchmark
+  public List<TaskSummary> listInbox() throws Exception {
+    return environment.runAs(BenchmarkEnvironment.USER, () -> createInboxQuery().list());
+  }
+
+  private TaskQuery createInboxQuery() {
+    return environment
+        .getTaskService()
+        .createTaskQuery()
+        .workbasketIdIn(workbasketId)
+        .stateIn(TaskState.READY, TaskState.CLAIMED);
+  }
+}
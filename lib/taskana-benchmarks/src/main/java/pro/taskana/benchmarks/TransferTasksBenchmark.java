@@ -0,0 +1,59 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.TaskanaException;
+
+/**
+ * Measures the bulk transfer of tasks. The tasks are moved back and forth between two workbaskets,
+ * so that every invocation transfers the same number of tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TransferTasksBenchmark {
+
+  @Param({"10", "100"})
+  public int taskCount;
+
+  private BenchmarkEnvironment environment;
+  private String[] workbasketIds;
+  private List<String> taskIds;
+  private int transferCount;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    environment = BenchmarkEnvironment.withTestData();
+    workbasketIds =
+        new String[] {
+          environment.createWorkbasket("BENCHMARK-TRANSFER-A", BenchmarkEnvironment.USER),
+          environment.createWorkbasket("BENCHMARK-TRANSFER-B", BenchmarkEnvironment.USER)
+        };
+    taskIds = environment.createTasks(workbasketIds[0], taskCount);
+  }
+
+  @Benchmark
+  public BulkOperationResults<String, TaskanaException> transferTasks() throws Exception {
+    String destinationWorkbasketId = workbasketIds[++transferCount % 2];
+    return environment.runAs(
+        BenchmarkEnvironment.USER,
+        () -> environment.getTaskService().transferTasks(destinationWorkbasketId, taskIds));
+  }
+}
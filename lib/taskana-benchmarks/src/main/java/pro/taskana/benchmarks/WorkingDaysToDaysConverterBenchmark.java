@@ -0,0 +1,60 @@
+package pro.taskana.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.WorkingDaysToDaysConverter;
+
+/** Measures the working day calculations which are used to compute planned and due dates. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WorkingDaysToDaysConverterBenchmark {
+
+  // a thursday right before the easter holidays
+  private static final Instant START = Instant.parse("2021-04-01T10:00:00Z");
+  private static final Duration SERVICE_LEVEL = Duration.ofDays(8);
+
+  private WorkingDaysToDaysConverter converter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    converter = new WorkingDaysToDaysConverter(true, true);
+  }
+
+  @Benchmark
+  public Instant addWorkingDaysToInstant() {
+    return converter.addWorkingDaysToInstant(START, SERVICE_LEVEL);
+  }
+
+  @Benchmark
+  public Instant subtractWorkingDaysFromInstant() {
+    return converter.subtractWorkingDaysFromInstant(START, SERVICE_LEVEL);
+  }
+
+  @Benchmark
+  public boolean hasWorkingDaysInBetween() {
+    return converter.hasWorkingDaysInBetween(START, START.plus(SERVICE_LEVEL));
+  }
+
+  @Benchmark
+  public boolean isGermanHoliday() {
+    return converter.isGermanHoliday(LocalDate.of(2021, 5, 24));
+  }
+}
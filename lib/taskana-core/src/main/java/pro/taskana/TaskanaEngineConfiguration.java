@@ -6,6 +6,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Duration;
@@ -29,6 +31,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.LocalCacheScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,6 +64,26 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
   private static final String TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENT_BUSINESS =
       "taskana.jobs.cleanup.allCompletedSameParentBusiness";
+  private static final String TASKANA_JOB_ARCHIVE_DIRECTORY = "taskana.jobs.archive.directory";
+  private static final String TASKANA_JOB_ARCHIVE_MINIMUM_AGE = "taskana.jobs.archive.minimumAge";
+  private static final String TASKANA_JOB_ARCHIVE_CHUNK_SIZE = "taskana.jobs.archive.chunkSize";
+  private static final String TASKANA_JOB_REFRESH_PRIORITY_IN_DATABASE =
+      "taskana.jobs.refresh.priorityInDatabase";
+  private static final String TASKANA_JOB_REFRESH_CHUNK_SIZE = "taskana.jobs.refresh.chunkSize";
+  private static final String TASKANA_JOB_REFRESH_THREADS = "taskana.jobs.refresh.threads";
+  private static final String TASKANA_BULK_OPERATIONS_CHUNK_SIZE =
+      "taskana.bulkOperations.chunkSize";
+  private static final String TASKANA_BULK_OPERATIONS_THREADS = "taskana.bulkOperations.threads";
+  private static final String TASKANA_TASK_CHANGES_SAFETY_LAG = "taskana.taskChanges.safetyLag";
+  private static final String TASKANA_MYBATIS_EXECUTOR_TYPE = "taskana.mybatis.executorType";
+  private static final String TASKANA_MYBATIS_LOCAL_CACHE_SCOPE = "taskana.mybatis.localCacheScope";
+  private static final String TASKANA_MYBATIS_DEFAULT_FETCH_SIZE =
+      "taskana.mybatis.defaultFetchSize";
+  private static final String TASKANA_MYBATIS_DEFAULT_STATEMENT_TIMEOUT =
+      "taskana.mybatis.defaultStatementTimeout";
+  private static final String TASKANA_MYBATIS_MAPPER_FETCH_SIZE = "taskana.mybatis.fetchSize.";
+  private static final String TASKANA_MYBATIS_SHARED_SQL_SESSION_FACTORY_ENABLED =
+      "taskana.mybatis.sharedSqlSessionFactory.enabled";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
@@ -72,6 +96,10 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_CUSTOM_HOLIDAY_DAY_MONTH_SEPARATOR = ".";
   private static final String TASKANA_HISTORY_DELETION_ON_TASK_DELETION_ENABLED =
       "taskana.history.deletion.on.task.deletion.enabled";
+  private static final String TASKANA_HISTORY_SHARED_SESSION_ENABLED =
+      "taskana.history.shared.session.enabled";
+  private static final String TASKANA_QUERY_CASE_INSENSITIVE_COLLATION_ENABLED =
+      "taskana.query.case.insensitive.collation.enabled";
   // TASKANA_SCHEMA_VERSION
   private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -95,6 +123,8 @@ public class TaskanaEngineConfiguration {
   protected Map<String, List<String>> classificationCategoriesByTypeMap = new HashMap<>();
   // Properties for the monitor
   private boolean deleteHistoryOnTaskDeletionEnabled;
+  private boolean historySharedSessionEnabled;
+  private boolean caseInsensitiveCollationEnabled;
   private boolean germanPublicHolidaysEnabled;
   private boolean corpusChristiEnabled;
   // Properties for general job execution
@@ -105,6 +135,26 @@ public class TaskanaEngineConfiguration {
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
+  // Properties for the archive job
+  private Path archiveDirectory;
+  private Duration archiveJobMinimumAge = Duration.parse("P365D");
+  private int archiveJobChunkSize = 1000;
+  // Properties for the task refresh job
+  private boolean taskRefreshJobPriorityInDatabase;
+  private int taskRefreshJobChunkSize = 1000;
+  private int taskRefreshJobThreads = 1;
+  // Properties for the parallel execution of bulk operations
+  private int bulkOperationChunkSize = 1000;
+  private int bulkOperationThreads = 1;
+  // Property for the change feed of the tasks
+  private Duration taskChangesSafetyLag = Duration.parse("PT5S");
+  // Properties for the execution of the SQL statements by MyBatis
+  private ExecutorType executorType = ExecutorType.SIMPLE;
+  private LocalCacheScope localCacheScope = LocalCacheScope.SESSION;
+  private Integer defaultFetchSize;
+  private Integer defaultStatementTimeout;
+  private Map<String, Integer> mapperFetchSizes = new HashMap<>();
+  private boolean sharedSqlSessionFactoryEnabled;
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName) {
@@ -154,6 +204,9 @@ public class TaskanaEngineConfiguration {
     Properties props = readPropertiesFromFile(propertiesFile);
     initTaskanaRoles(props, separator);
     initJobParameters(props);
+    initBulkOperationParameters(props);
+    initTaskChangesParameters(props);
+    initMyBatisParameters(props);
     initDomains(props);
     initClassificationTypes(props);
     initClassificationCategories(props);
@@ -165,6 +218,12 @@ public class TaskanaEngineConfiguration {
         props,
         TASKANA_HISTORY_DELETION_ON_TASK_DELETION_ENABLED,
         this::setDeleteHistoryOnTaskDeletionEnabled);
+    initBooleanProperty(
+        props, TASKANA_HISTORY_SHARED_SESSION_ENABLED, this::setHistorySharedSessionEnabled);
+    initBooleanProperty(
+        props,
+        TASKANA_QUERY_CASE_INSENSITIVE_COLLATION_ENABLED,
+        this::setCaseInsensitiveCollationEnabled);
     initCustomHolidays(props, separator);
   }
 
@@ -261,6 +320,37 @@ public class TaskanaEngineConfiguration {
     this.deleteHistoryOnTaskDeletionEnabled = deleteHistoryOnTaskDeletionEnabled;
   }
 
+  /**
+   * Returns true if history providers which support it write their events within the database
+   * session and transaction of the TaskanaEngine instead of using their own connections.
+   *
+   * @return true if the history shares the session of the TaskanaEngine
+   */
+  public boolean isHistorySharedSessionEnabled() {
+    return historySharedSessionEnabled;
+  }
+
+  public void setHistorySharedSessionEnabled(boolean historySharedSessionEnabled) {
+    this.historySharedSessionEnabled = historySharedSessionEnabled;
+  }
+
+  /**
+   * Returns true if the database compares strings case-insensitively, e.g. H2 with
+   * <code>IGNORECASE=TRUE</code> or DB2 with a case-insensitive collation. The case-insensitive
+   * filters of the queries then compare the plain columns instead of their upper case values, so
+   * that the indexes of the columns can be used. It must not be enabled for a database which
+   * compares case-sensitively, since the filters would no longer ignore the case.
+   *
+   * @return true if the queries rely on the collation of the database to ignore the case
+   */
+  public boolean isCaseInsensitiveCollationEnabled() {
+    return caseInsensitiveCollationEnabled;
+  }
+
+  public void setCaseInsensitiveCollationEnabled(boolean caseInsensitiveCollationEnabled) {
+    this.caseInsensitiveCollationEnabled = caseInsensitiveCollationEnabled;
+  }
+
   public List<CustomHoliday> getCustomHolidays() {
     return customHolidays;
   }
@@ -349,6 +439,188 @@ public class TaskanaEngineConfiguration {
         taskCleanupJobAllCompletedSameParentBusiness;
   }
 
+  public Path getArchiveDirectory() {
+    return archiveDirectory;
+  }
+
+  public void setArchiveDirectory(Path archiveDirectory) {
+    this.archiveDirectory = archiveDirectory;
+  }
+
+  public Duration getArchiveJobMinimumAge() {
+    return archiveJobMinimumAge;
+  }
+
+  public void setArchiveJobMinimumAge(Duration archiveJobMinimumAge) {
+    this.archiveJobMinimumAge = archiveJobMinimumAge;
+  }
+
+  public int getArchiveJobChunkSize() {
+    return archiveJobChunkSize;
+  }
+
+  public void setArchiveJobChunkSize(int archiveJobChunkSize) {
+    this.archiveJobChunkSize = archiveJobChunkSize;
+  }
+
+  /**
+   * Returns whether the TaskRefreshJob recomputes the priority of the tasks affected by a
+   * classification change with a single UPDATE statement per chunk of tasks in the database
+   * instead of loading the tasks, attachments and classifications.
+   *
+   * @return true if the priority is recomputed in the database, false otherwise
+   */
+  public boolean isTaskRefreshJobPriorityInDatabase() {
+    return taskRefreshJobPriorityInDatabase;
+  }
+
+  public void setTaskRefreshJobPriorityInDatabase(boolean taskRefreshJobPriorityInDatabase) {
+    this.taskRefreshJobPriorityInDatabase = taskRefreshJobPriorityInDatabase;
+  }
+
+  public int getTaskRefreshJobChunkSize() {
+    return taskRefreshJobChunkSize;
+  }
+
+  public void setTaskRefreshJobChunkSize(int taskRefreshJobChunkSize) {
+    this.taskRefreshJobChunkSize = taskRefreshJobChunkSize;
+  }
+
+  public int getTaskRefreshJobThreads() {
+    return taskRefreshJobThreads;
+  }
+
+  public void setTaskRefreshJobThreads(int taskRefreshJobThreads) {
+    this.taskRefreshJobThreads = taskRefreshJobThreads;
+  }
+
+  /**
+   * Returns the maximum number of ids a {@link
+   * pro.taskana.common.internal.BulkOperationExecutor} passes to a bulk operation within one
+   * transaction.
+   *
+   * @return the number of ids per chunk
+   */
+  public int getBulkOperationChunkSize() {
+    return bulkOperationChunkSize;
+  }
+
+  public void setBulkOperationChunkSize(int bulkOperationChunkSize) {
+    this.bulkOperationChunkSize = bulkOperationChunkSize;
+  }
+
+  /**
+   * Returns the maximum number of chunks a {@link
+   * pro.taskana.common.internal.BulkOperationExecutor} processes in parallel transactions.
+   *
+   * @return the number of threads
+   */
+  public int getBulkOperationThreads() {
+    return bulkOperationThreads;
+  }
+
+  public void setBulkOperationThreads(int bulkOperationThreads) {
+    this.bulkOperationThreads = bulkOperationThreads;
+  }
+
+  /**
+   * Returns the minimum age of the changes which the change feed of the tasks returns. The time of
+   * a change is set before its transaction commits, so a change can become visible after later
+   * changes were already read. Younger changes are returned by a later read of the feed, once the
+   * transactions which were open when they were read had time to commit.
+   *
+   * @return the minimum age of the returned changes
+   */
+  public Duration getTaskChangesSafetyLag() {
+    return taskChangesSafetyLag;
+  }
+
+  public void setTaskChangesSafetyLag(Duration taskChangesSafetyLag) {
+    this.taskChangesSafetyLag = taskChangesSafetyLag;
+  }
+
+  /**
+   * Returns the type of the MyBatis executor. The REUSE executor keeps the prepared statements of
+   * a session open and reuses them when the same SQL is executed again within that session. The
+   * BATCH executor is not supported, since TASKANA evaluates the update counts of its statements.
+   *
+   * @return the type of the executor
+   */
+  public ExecutorType getExecutorType() {
+    return executorType;
+  }
+
+  public void setExecutorType(ExecutorType executorType) {
+    this.executorType = executorType;
+  }
+
+  public LocalCacheScope getLocalCacheScope() {
+    return localCacheScope;
+  }
+
+  public void setLocalCacheScope(LocalCacheScope localCacheScope) {
+    this.localCacheScope = localCacheScope;
+  }
+
+  /**
+   * Returns the fetch size of the statements which do not specify one. If it is null, the default
+   * of the JDBC driver is used.
+   *
+   * @return the default fetch size
+   */
+  public Integer getDefaultFetchSize() {
+    return defaultFetchSize;
+  }
+
+  public void setDefaultFetchSize(Integer defaultFetchSize) {
+    this.defaultFetchSize = defaultFetchSize;
+  }
+
+  /**
+   * Returns the number of seconds the database waits for a statement to complete. If it is null,
+   * the statements do not time out.
+   *
+   * @return the default statement timeout in seconds
+   */
+  public Integer getDefaultStatementTimeout() {
+    return defaultStatementTimeout;
+  }
+
+  public void setDefaultStatementTimeout(Integer defaultStatementTimeout) {
+    this.defaultStatementTimeout = defaultStatementTimeout;
+  }
+
+  /**
+   * Returns the fetch sizes of the select statements of individual mappers, mapped by the simple
+   * class name of the mapper, e.g. <code>TaskQueryMapper</code>. They take precedence over the
+   * {@link #getDefaultFetchSize() default fetch size}.
+   *
+   * @return the fetch sizes by mapper
+   */
+  public Map<String, Integer> getMapperFetchSizes() {
+    return mapperFetchSizes;
+  }
+
+  public void setMapperFetchSizes(Map<String, Integer> mapperFetchSizes) {
+    this.mapperFetchSizes = mapperFetchSizes;
+  }
+
+  /**
+   * Returns whether TaskanaEngines share their MyBatis SqlSessionFactory. If enabled, all engines
+   * which use the same DataSource, the same kind of transaction management and the same MyBatis
+   * settings are built on one SqlSessionFactory, so that the mappers are parsed only once. The
+   * SqlSessionFactory is released when none of these engines is used anymore.
+   *
+   * @return true, if the SqlSessionFactory is shared
+   */
+  public boolean isSharedSqlSessionFactoryEnabled() {
+    return sharedSqlSessionFactoryEnabled;
+  }
+
+  public void setSharedSqlSessionFactoryEnabled(boolean sharedSqlSessionFactoryEnabled) {
+    this.sharedSqlSessionFactoryEnabled = sharedSqlSessionFactoryEnabled;
+  }
+
   public String getSchemaName() {
     return schemaName;
   }
@@ -407,6 +679,24 @@ public class TaskanaEngineConfiguration {
             Boolean::parseBoolean)
         .ifPresent(this::setTaskCleanupJobAllCompletedSameParentBusiness);
 
+    parseProperty(props, TASKANA_JOB_ARCHIVE_DIRECTORY, Paths::get)
+        .ifPresent(this::setArchiveDirectory);
+
+    parseProperty(props, TASKANA_JOB_ARCHIVE_MINIMUM_AGE, Duration::parse)
+        .ifPresent(this::setArchiveJobMinimumAge);
+
+    parseProperty(props, TASKANA_JOB_ARCHIVE_CHUNK_SIZE, Integer::parseInt)
+        .ifPresent(this::setArchiveJobChunkSize);
+
+    parseProperty(props, TASKANA_JOB_REFRESH_PRIORITY_IN_DATABASE, Boolean::parseBoolean)
+        .ifPresent(this::setTaskRefreshJobPriorityInDatabase);
+
+    parseProperty(props, TASKANA_JOB_REFRESH_CHUNK_SIZE, Integer::parseInt)
+        .ifPresent(this::setTaskRefreshJobChunkSize);
+
+    parseProperty(props, TASKANA_JOB_REFRESH_THREADS, Integer::parseInt)
+        .ifPresent(this::setTaskRefreshJobThreads);
+
     LOGGER.debug(
         "Configured number of task and workbasket updates per transaction: {}", jobBatchSize);
     LOGGER.debug("Number of retries of failed task updates: {}", maxNumberOfJobRetries);
@@ -419,6 +709,89 @@ public class TaskanaEngineConfiguration {
         "TaskCleanupJob configuration: all completed task with the "
             + "same parent business property id {}",
         taskCleanupJobAllCompletedSameParentBusiness);
+    LOGGER.debug("TaskArchiveJob configuration: archive directory is {}", archiveDirectory);
+    LOGGER.debug(
+        "TaskArchiveJob configuration: minimum age of tasks to be archived is {}",
+        archiveJobMinimumAge);
+    LOGGER.debug(
+        "TaskArchiveJob configuration: number of tasks per archive file is {}",
+        archiveJobChunkSize);
+    LOGGER.debug(
+        "TaskRefreshJob configuration: priority recomputed in database {}, "
+            + "{} tasks per chunk, {} threads",
+        taskRefreshJobPriorityInDatabase,
+        taskRefreshJobChunkSize,
+        taskRefreshJobThreads);
+  }
+
+  private void initBulkOperationParameters(Properties props) {
+    parseProperty(props, TASKANA_BULK_OPERATIONS_CHUNK_SIZE, Integer::parseInt)
+        .ifPresent(this::setBulkOperationChunkSize);
+
+    parseProperty(props, TASKANA_BULK_OPERATIONS_THREADS, Integer::parseInt)
+        .ifPresent(this::setBulkOperationThreads);
+
+    LOGGER.debug(
+        "BulkOperationExecutor configuration: {} ids per chunk, {} threads",
+        bulkOperationChunkSize,
+        bulkOperationThreads);
+  }
+
+  private void initTaskChangesParameters(Properties props) {
+    parseProperty(props, TASKANA_TASK_CHANGES_SAFETY_LAG, Duration::parse)
+        .ifPresent(this::setTaskChangesSafetyLag);
+
+    LOGGER.debug("Change feed configuration: safety lag is {}", taskChangesSafetyLag);
+  }
+
+  private void initMyBatisParameters(Properties props) {
+    parseProperty(
+            props, TASKANA_MYBATIS_EXECUTOR_TYPE, TaskanaEngineConfiguration::parseExecutorType)
+        .ifPresent(this::setExecutorType);
+
+    parseProperty(props, TASKANA_MYBATIS_LOCAL_CACHE_SCOPE, LocalCacheScope::valueOf)
+        .ifPresent(this::setLocalCacheScope);
+
+    parseProperty(props, TASKANA_MYBATIS_DEFAULT_FETCH_SIZE, Integer::parseInt)
+        .ifPresent(this::setDefaultFetchSize);
+
+    parseProperty(props, TASKANA_MYBATIS_DEFAULT_STATEMENT_TIMEOUT, Integer::parseInt)
+        .ifPresent(this::setDefaultStatementTimeout);
+
+    props.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(TASKANA_MYBATIS_MAPPER_FETCH_SIZE))
+        .forEach(
+            key ->
+                parseProperty(props, key, Integer::parseInt)
+                    .ifPresent(
+                        fetchSize ->
+                            mapperFetchSizes.put(
+                                key.substring(TASKANA_MYBATIS_MAPPER_FETCH_SIZE.length()),
+                                fetchSize)));
+
+    initBooleanProperty(
+        props,
+        TASKANA_MYBATIS_SHARED_SQL_SESSION_FACTORY_ENABLED,
+        this::setSharedSqlSessionFactoryEnabled);
+
+    LOGGER.debug(
+        "MyBatis configuration: executor type {}, local cache scope {}, default fetch size {}, "
+            + "default statement timeout {}, fetch sizes by mapper {}, "
+            + "shared SqlSessionFactory enabled {}",
+        executorType,
+        localCacheScope,
+        defaultFetchSize,
+        defaultStatementTimeout,
+        mapperFetchSizes,
+        sharedSqlSessionFactoryEnabled);
+  }
+
+  private static ExecutorType parseExecutorType(String executorType) {
+    ExecutorType parsedExecutorType = ExecutorType.valueOf(executorType);
+    if (parsedExecutorType == ExecutorType.BATCH) {
+      throw new IllegalArgumentException("The BATCH executor is not supported");
+    }
+    return parsedExecutorType;
   }
 
   private void initDomains(Properties props) {
@@ -1,5 +1,7 @@
 package pro.taskana.classification.api;
 
+import java.util.List;
+
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationInUseException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
@@ -34,6 +36,15 @@ public interface ClassificationService {
    */
   Classification getClassification(String id) throws ClassificationNotFoundException;
 
+  /**
+   * Get the Classifications with the given ids with one query per 1000 ids instead of one query
+   * per Classification. Classifications which do not exist are omitted from the result.
+   *
+   * @param ids the ids of the searched-for classifications
+   * @return the classifications identified by the ids, in no particular order
+   */
+  List<Classification> getClassifications(List<String> ids);
+
   /**
    * Delete a classification with all child classifications.
    *
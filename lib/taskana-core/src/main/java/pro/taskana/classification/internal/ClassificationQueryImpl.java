@@ -1,8 +1,11 @@
 package pro.taskana.classification.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -369,6 +372,23 @@ public class ClassificationQueryImpl implements ClassificationQuery {
     }
   }
 
+  @Override
+  public void forEach(Consumer<? super ClassificationSummary> action) {
+    LOGGER.debug("entry to forEach(), this = {}", this);
+    try {
+      taskanaEngine.openConnection();
+      try (Cursor<ClassificationSummary> cursor =
+          taskanaEngine.getSqlSession().selectCursor(LINK_TO_SUMMARYMAPPER, this)) {
+        cursor.forEach(action);
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the classification query", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from forEach()");
+    }
+  }
+
   @Override
   public List<String> listValues(
       ClassificationQueryColumnName columnName, SortDirection sortDirection) {
@@ -24,29 +24,29 @@ public interface ClassificationQueryMapper {
           + "<if test='createdIn !=null'> AND ( <foreach item='item' collection='createdIn' separator=' OR ' > ( <if test='item.begin!=null'> CREATED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> CREATED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "<if test='modifiedIn !=null'> AND ( <foreach item='item' collection='modifiedIn' separator=' OR ' > ( <if test='item.begin!=null'> MODIFIED &gt;= #{item.begin} </if> <if test='item.begin!=null and item.end!=null'> AND </if><if test='item.end!=null'> MODIFIED &lt;=#{item.end} </if>)</foreach>)</if> "
           + "<if test='nameIn != null'>AND NAME IN(<foreach item='item' collection='nameIn' separator=',' >#{item}</foreach>)</if> "
-          + "<if test='nameLike != null'>AND (<foreach item='item' collection='nameLike' separator=' OR '>UPPER(NAME) LIKE #{item}</foreach>)</if> "
-          + "<if test='descriptionLike != null'>AND UPPER(DESCRIPTION) like #{descriptionLike}</if> "
+          + "<if test='nameLike != null'>AND (<foreach item='item' collection='nameLike' separator=' OR '>${upperIfCaseSensitive}(NAME) LIKE #{item}</foreach>)</if> "
+          + "<if test='descriptionLike != null'>AND ${upperIfCaseSensitive}(DESCRIPTION) like #{descriptionLike}</if> "
           + "<if test='priority != null'>AND PRIORITY IN(<foreach item='item' collection='priority' separator=',' >#{item}</foreach>)</if> "
           + "<if test='serviceLevelIn != null'>AND SERVICE_LEVEL IN(<foreach item='item' collection='serviceLevelIn' separator=',' >#{item}</foreach>)</if> "
-          + "<if test='serviceLevelLike != null'>AND (<foreach item='item' collection='serviceLevelLike' separator=' OR ' >UPPER(SERVICE_LEVEL) LIKE #{item}</foreach>)</if> "
+          + "<if test='serviceLevelLike != null'>AND (<foreach item='item' collection='serviceLevelLike' separator=' OR ' >${upperIfCaseSensitive}(SERVICE_LEVEL) LIKE #{item}</foreach>)</if> "
           + "<if test='applicationEntryPointIn != null'>AND APPLICATION_ENTRY_POINT IN(<foreach item='item' collection='applicationEntryPointIn' separator=',' >#{item}</foreach>)</if> "
-          + "<if test='applicationEntryPointLike != null'>AND (<foreach item='item' collection='applicationEntryPointLike' separator=' OR ' >UPPER(APPLICATION_ENTRY_POINT) LIKE #{item}</foreach>)</if> "
+          + "<if test='applicationEntryPointLike != null'>AND (<foreach item='item' collection='applicationEntryPointLike' separator=' OR ' >${upperIfCaseSensitive}(APPLICATION_ENTRY_POINT) LIKE #{item}</foreach>)</if> "
           + "<if test='custom1In != null'>AND CUSTOM_1 IN(<foreach item='item' collection='custom1In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom1Like != null'>AND (<foreach item='item' collection='custom1Like' separator=' OR ' > UPPER(CUSTOM_1) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom1Like != null'>AND (<foreach item='item' collection='custom1Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_1) LIKE #{item}</foreach>)</if> "
           + "<if test='custom2In != null'>AND CUSTOM_2 IN(<foreach item='item' collection='custom2In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom2Like != null'>AND (<foreach item='item' collection='custom2Like' separator=' OR ' > UPPER(CUSTOM_2) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom2Like != null'>AND (<foreach item='item' collection='custom2Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_2) LIKE #{item}</foreach>)</if> "
           + "<if test='custom3In != null'>AND CUSTOM_3 IN(<foreach item='item' collection='custom3In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom3Like != null'>AND (<foreach item='item' collection='custom3Like' separator=' OR ' > UPPER(CUSTOM_3) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom3Like != null'>AND (<foreach item='item' collection='custom3Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_3) LIKE #{item}</foreach>)</if> "
           + "<if test='custom4In != null'>AND CUSTOM_4 IN(<foreach item='item' collection='custom4In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom4Like != null'>AND (<foreach item='item' collection='custom4Like' separator=' OR ' > UPPER(CUSTOM_4) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom4Like != null'>AND (<foreach item='item' collection='custom4Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_4) LIKE #{item}</foreach>)</if> "
           + "<if test='custom5In != null'>AND CUSTOM_5 IN(<foreach item='item' collection='custom5In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom5Like != null'>AND (<foreach item='item' collection='custom5Like' separator=' OR ' > UPPER(CUSTOM_5) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom5Like != null'>AND (<foreach item='item' collection='custom5Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_5) LIKE #{item}</foreach>)</if> "
           + "<if test='custom6In != null'>AND CUSTOM_6 IN(<foreach item='item' collection='custom6In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom6Like != null'>AND (<foreach item='item' collection='custom6Like' separator=' OR ' > UPPER(CUSTOM_6) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom6Like != null'>AND (<foreach item='item' collection='custom6Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_6) LIKE #{item}</foreach>)</if> "
           + "<if test='custom7In != null'>AND CUSTOM_7 IN(<foreach item='item' collection='custom7In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom7Like != null'>AND (<foreach item='item' collection='custom7Like' separator=' OR ' > UPPER(CUSTOM_7) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom7Like != null'>AND (<foreach item='item' collection='custom7Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_7) LIKE #{item}</foreach>)</if> "
           + "<if test='custom8In != null'>AND CUSTOM_8 IN(<foreach item='item' collection='custom8In' separator=',' >#{item}</foreach>) </if> "
-          + "<if test='custom8Like != null'>AND (<foreach item='item' collection='custom8Like' separator=' OR ' > UPPER(CUSTOM_8) LIKE #{item}</foreach>)</if> "
+          + "<if test='custom8Like != null'>AND (<foreach item='item' collection='custom8Like' separator=' OR ' > ${upperIfCaseSensitive}(CUSTOM_8) LIKE #{item}</foreach>)</if> "
           + "</where>"
           + "<if test='!orderBy.isEmpty()'>ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach></if> "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
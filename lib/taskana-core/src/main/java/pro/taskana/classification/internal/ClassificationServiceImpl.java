@@ -6,6 +6,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,6 +30,7 @@ import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -43,6 +45,7 @@ import pro.taskana.task.internal.TaskMapper;
 public class ClassificationServiceImpl implements ClassificationService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
+  private static final int BATCH_SIZE = 1000;
   private final HistoryEventManager historyEventManager;
   private final ClassificationMapper classificationMapper;
   private final TaskMapper taskMapper;
@@ -106,6 +109,21 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  @Override
+  public List<Classification> getClassifications(List<String> ids) {
+    LOGGER.debug("entry to getClassifications(ids = {})", ids);
+    List<Classification> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      CollectionUtil.partitionBasedOnSize(new HashSet<>(ids), BATCH_SIZE)
+          .forEach(idsOfBatch -> result.addAll(classificationMapper.findByIds(idsOfBatch)));
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getClassifications(), found {} classifications", result.size());
+    }
+  }
+
   @Override
   public void deleteClassification(String classificationId)
       throws ClassificationInUseException, ClassificationNotFoundException, NotAuthorizedException {
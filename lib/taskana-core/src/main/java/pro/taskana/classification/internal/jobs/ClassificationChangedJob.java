@@ -39,38 +39,30 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
-      }
+      int batchSize = taskanaEngineImpl.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+      // the refresh jobs are created while the affected tasks are read, hence the ids of all
+      // affected tasks are never held in memory at once.
+      int numberOfAffectedTasks =
+          taskService.processTaskIdsAffectedByClassificationChange(
+              classificationId, batchSize, this::scheduleTaskRefreshJob);
+      LOGGER.debug(
+          "Created TaskRefreshJobs for {} affected tasks with a maximum number of {} tasks each.",
+          numberOfAffectedTasks,
+          batchSize);
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
       throw new TaskanaException("Error while processing ClassificationChangedJob.", e);
     }
   }
 
-  private void scheduleTaskRefreshJobs(List<String> affectedTaskIds) {
-    int batchSize = taskanaEngineImpl.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
-    List<List<String>> affectedTaskBatches = partition(affectedTaskIds, batchSize);
-    LOGGER.debug(
-        "Creating {} TaskRefreshJobs out of {} affected tasks "
-            + "with a maximum number of {} tasks each. ",
-        affectedTaskBatches.size(),
-        affectedTaskIds.size(),
-        batchSize);
-    for (List<String> taskIdBatch : affectedTaskBatches) {
-      Map<String, String> args = new HashMap<>();
-      if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
-        args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
-        ScheduledJob job = new ScheduledJob();
-        job.setType(ScheduledJob.Type.UPDATETASKSJOB);
-        job.setArguments(args);
-        taskanaEngineImpl.getJobService().createJob(job);
-      }
-    }
+  private void scheduleTaskRefreshJob(List<String> taskIdBatch) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TASK_IDS, String.join(",", taskIdBatch));
+    args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
+    args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    job.setArguments(args);
+    taskanaEngineImpl.getJobService().createJob(job);
   }
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -173,8 +174,11 @@ public class ScheduledJob {
     CLASSIFICATIONCHANGEDJOB(ClassificationChangedJob.class.getName()),
     UPDATETASKSJOB(TaskRefreshJob.class.getName()),
     TASKCLEANUPJOB(TaskCleanupJob.class.getName()),
+    TASKARCHIVEJOB(TaskArchiveJob.class.getName()),
     WORKBASKETCLEANUPJOB(WorkbasketCleanupJob.class.getName()),
-    HISTORYCLEANUPJOB("pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob");
+    HISTORYCLEANUPJOB("pro.taskana.simplehistory.impl.jobs.HistoryCleanupJob"),
+    HISTORYPARTITIONMAINTENANCEJOB(
+        "pro.taskana.simplehistory.impl.jobs.HistoryPartitionMaintenanceJob");
 
     private String clazz;
 
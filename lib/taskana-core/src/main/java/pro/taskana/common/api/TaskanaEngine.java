@@ -1,6 +1,7 @@
 package pro.taskana.common.api;
 
 import java.sql.SQLException;
+import java.util.function.Supplier;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
@@ -8,6 +9,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.security.CurrentUserContext;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.events.TaskChangeListener;
 import pro.taskana.workbasket.api.WorkbasketService;
 
 /** The TaskanaEngine represents an overall set of all needed services. */
@@ -69,6 +71,35 @@ public interface TaskanaEngine {
    */
   boolean isHistoryEnabled();
 
+  /**
+   * Registers a listener which is notified about all changes of tasks made through this engine,
+   * e.g. to push them to clients instead of letting them poll for changes. See {@link
+   * TaskChangeListener} for the contract of the listener.
+   *
+   * @param listener the listener to register
+   */
+  void addTaskChangeListener(TaskChangeListener listener);
+
+  /**
+   * Removes a listener which was registered by {@link #addTaskChangeListener}.
+   *
+   * @param listener the listener to remove
+   */
+  void removeTaskChangeListener(TaskChangeListener listener);
+
+  /**
+   * Executes the supplier within a single database session. All API calls within the supplier share
+   * this session instead of starting and preparing a session of their own. This reduces the
+   * overhead of operations which call multiple services, e.g. the processing of a single request.
+   * In mode AUTOCOMMIT the session is committed once after the supplier has been executed. In mode
+   * EXPLICIT the connection of the client is used anyway.
+   *
+   * @param supplier the operations which are executed within the session
+   * @param <T> the type of the result
+   * @return the result of the supplier
+   */
+  <T> T runInSession(Supplier<T> supplier);
+
   /**
    * sets the connection management mode.
    *
@@ -0,0 +1,181 @@
+package pro.taskana.common.internal;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.security.auth.Subject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.CheckedFunction;
+
+/**
+ * Executes a bulk operation, e.g. {@link pro.taskana.task.api.TaskService#completeTasks}, in
+ * chunks. Every chunk is passed to the operation within its own transaction and up to the
+ * configured number of chunks are processed in parallel. The results of all chunks are merged.
+ *
+ * <p>A chunk whose transaction fails is rolled back and all its ids are reported as failed, the
+ * other chunks are not affected. Hence the operation must not rely on a surrounding transaction.
+ * The chunks are processed with the JAAS subject of the calling thread.
+ *
+ * <p>All calls share one pool of threads, so that the number of parallel transactions stays
+ * bounded, no matter how many bulk operations are executed at the same time.
+ */
+public class BulkOperationExecutor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BulkOperationExecutor.class);
+
+  private final TaskanaTransactionProvider<Object> txProvider;
+  private final int chunkSize;
+  private final ThreadPoolExecutor executor;
+
+  public BulkOperationExecutor(
+      TaskanaEngineConfiguration configuration, TaskanaTransactionProvider<Object> txProvider) {
+    this(
+        txProvider,
+        configuration.getBulkOperationChunkSize(),
+        configuration.getBulkOperationThreads());
+  }
+
+  public BulkOperationExecutor(
+      TaskanaTransactionProvider<Object> txProvider, int chunkSize, int threads) {
+    this.txProvider = txProvider;
+    this.chunkSize = Math.max(1, chunkSize);
+    if (threads > 1) {
+      AtomicInteger threadNumber = new AtomicInteger();
+      executor =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              60,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                Thread thread =
+                    new Thread(runnable, "taskana-bulk-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+    } else {
+      executor = null;
+    }
+  }
+
+  /**
+   * Passes the given ids in chunks to the given bulk operation and merges the results.
+   *
+   * @param ids the ids of the objects the operation is applied to. Duplicates are removed.
+   * @param operation the bulk operation which is executed for each chunk
+   * @return the merged results of all chunks
+   * @throws InvalidArgumentException if the ids are null
+   */
+  public BulkOperationResults<String, TaskanaException> execute(
+      List<String> ids,
+      CheckedFunction<List<String>, BulkOperationResults<String, TaskanaException>> operation)
+      throws InvalidArgumentException {
+    if (ids == null) {
+      throw new InvalidArgumentException("Ids can't be used as NULL-Parameter.");
+    }
+    List<List<String>> chunks = partition(ids.stream().distinct().collect(Collectors.toList()));
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    if (executor == null || chunks.size() <= 1) {
+      chunks.forEach(chunk -> bulkLog.addAllErrors(executeChunk(chunk, operation)));
+    } else {
+      Subject subject = Subject.getSubject(AccessController.getContext());
+      List<Future<BulkOperationResults<String, TaskanaException>>> results = new ArrayList<>();
+      try {
+        for (List<String> chunk : chunks) {
+          results.add(executor.submit(() -> executeChunkAs(subject, chunk, operation)));
+        }
+        for (Future<BulkOperationResults<String, TaskanaException>> result : results) {
+          bulkLog.addAllErrors(result.get());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        results.forEach(result -> result.cancel(true));
+        throw new SystemException("The bulk operation was interrupted.", e);
+      } catch (ExecutionException e) {
+        results.forEach(result -> result.cancel(true));
+        throw new SystemException("The bulk operation failed.", e.getCause());
+      }
+    }
+    LOGGER.debug(
+        "Executed bulk operation for {} ids in {} chunks, {} ids failed.",
+        ids.size(),
+        chunks.size(),
+        bulkLog.getFailedIds().size());
+    return bulkLog;
+  }
+
+  /** Stops the threads of this executor. Chunks which are processed right now are interrupted. */
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  private List<List<String>> partition(List<String> ids) {
+    List<List<String>> chunks = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += chunkSize) {
+      chunks.add(ids.subList(i, Math.min(i + chunkSize, ids.size())));
+    }
+    return chunks;
+  }
+
+  private BulkOperationResults<String, TaskanaException> executeChunkAs(
+      Subject subject,
+      List<String> chunk,
+      CheckedFunction<List<String>, BulkOperationResults<String, TaskanaException>> operation) {
+    if (subject == null) {
+      return executeChunk(chunk, operation);
+    }
+    return Subject.doAs(
+        subject,
+        (PrivilegedAction<BulkOperationResults<String, TaskanaException>>)
+            () -> executeChunk(chunk, operation));
+  }
+
+  @SuppressWarnings("unchecked")
+  private BulkOperationResults<String, TaskanaException> executeChunk(
+      List<String> chunk,
+      CheckedFunction<List<String>, BulkOperationResults<String, TaskanaException>> operation) {
+    try {
+      return (BulkOperationResults<String, TaskanaException>)
+          txProvider.executeInTransaction(
+              () -> {
+                try {
+                  return operation.apply(chunk);
+                } catch (RuntimeException e) {
+                  throw e;
+                } catch (Throwable e) {
+                  throw new SystemException("The bulk operation failed.", e);
+                }
+              });
+    } catch (RuntimeException e) {
+      LOGGER.warn(
+          "The transaction of a chunk of {} ids failed and was rolled back.", chunk.size(), e);
+      TaskanaException error =
+          e.getCause() instanceof TaskanaException
+              ? (TaskanaException) e.getCause()
+              : new TaskanaException("The transaction of the bulk operation was rolled back.", e);
+      BulkOperationResults<String, TaskanaException> chunkLog = new BulkOperationResults<>();
+      chunk.forEach(id -> chunkLog.addError(id, error));
+      return chunkLog;
+    }
+  }
+}
@@ -5,8 +5,10 @@ import org.apache.ibatis.session.SqlSession;
 
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.spi.history.internal.HistoryEventManager;
+import pro.taskana.spi.metrics.internal.MetricsManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
+import pro.taskana.task.internal.TaskChangeEventPublisher;
 
 /**
  * FOR INTERNAL USE ONLY.
@@ -38,6 +40,37 @@ public interface InternalTaskanaEngine {
    */
   <T> T openAndReturnConnection(Supplier<T> supplier);
 
+  /**
+   * Returns the statistics of the current database session of the current thread. If there is no
+   * active session the statistics of the latest session are returned. Sessions of mode EXPLICIT are
+   * not covered.
+   *
+   * @return the statistics of the current or latest session
+   */
+  SessionStatistics getSessionStatistics();
+
+  /**
+   * Registers an action which is executed once, when the database session of the current thread
+   * ends. The action is executed before the session is committed in mode AUTOCOMMIT and within the
+   * transaction of the session in mode PARTICIPATE. If there is no active session or the mode is
+   * EXPLICIT, the action is executed immediately. If the action fails, the session is not
+   * committed.
+   *
+   * @param action the action to execute at the end of the session
+   */
+  void executeBeforeSessionEnd(Runnable action);
+
+  /**
+   * Registers an action which is executed once, after the database session of the current thread
+   * ended. In mode AUTOCOMMIT the action is executed after the session was committed and dropped
+   * if the session is not committed. In mode PARTICIPATE the action is executed after the session
+   * ended, the surrounding transaction may still be rolled back. If there is no active session or
+   * the mode is EXPLICIT, the action is executed immediately.
+   *
+   * @param action the action to execute after the session ended
+   */
+  void executeAfterSessionEnd(Runnable action);
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -84,6 +117,20 @@ public interface InternalTaskanaEngine {
    */
   CreateTaskPreprocessorManager getCreateTaskPreprocessorManager();
 
+  /**
+   * Retrieve MetricsManager.
+   *
+   * @return the MetricsManager instance.
+   */
+  MetricsManager getMetricsManager();
+
+  /**
+   * Retrieve TaskChangeEventPublisher.
+   *
+   * @return the TaskChangeEventPublisher instance.
+   */
+  TaskChangeEventPublisher getTaskChangeEventPublisher();
+
   /**
    * This method is supposed to skip further permission checks if we are already in a secured
    * environment. With great power comes great responsibility.
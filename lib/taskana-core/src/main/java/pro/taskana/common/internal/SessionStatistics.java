@@ -0,0 +1,103 @@
+package pro.taskana.common.internal;
+
+import java.time.Duration;
+
+/**
+ * Collects statistics about a database session of the current thread. A session starts with the
+ * outermost call of {@link InternalTaskanaEngine#openConnection()} and ends with the matching call
+ * of {@link InternalTaskanaEngine#returnConnection()}. All nested calls in between share the
+ * session.
+ */
+public class SessionStatistics {
+
+  private int openCount;
+  private int maxNestingDepth;
+  private int schemaInitializationCount;
+  private long startNanos;
+  private long endNanos;
+  private boolean active;
+
+  /**
+   * Returns the number of {@link InternalTaskanaEngine#openConnection()} calls within the session.
+   *
+   * @return the number of openConnection calls
+   */
+  public int getOpenCount() {
+    return openCount;
+  }
+
+  /**
+   * Returns the maximal depth of nested {@link InternalTaskanaEngine#openConnection()} calls within
+   * the session. A session without nested calls has the depth 1.
+   *
+   * @return the maximal nesting depth
+   */
+  public int getMaxNestingDepth() {
+    return maxNestingDepth;
+  }
+
+  /**
+   * Returns how often the schema was set on the database connection within the session.
+   *
+   * @return the number of schema initializations
+   */
+  public int getSchemaInitializationCount() {
+    return schemaInitializationCount;
+  }
+
+  /**
+   * Returns how long the database session has been held. For a session which is still active this
+   * is the time since the session was started.
+   *
+   * @return the hold time of the session
+   */
+  public Duration getHoldTime() {
+    return Duration.ofNanos((active ? System.nanoTime() : endNanos) - startNanos);
+  }
+
+  /**
+   * Returns whether the session is still active.
+   *
+   * @return <code>true</code> if the session has not been ended yet
+   */
+  public boolean isActive() {
+    return active;
+  }
+
+  void sessionStarted() {
+    openCount = 0;
+    maxNestingDepth = 0;
+    schemaInitializationCount = 0;
+    startNanos = System.nanoTime();
+    active = true;
+  }
+
+  void connectionOpened(int nestingDepth) {
+    openCount++;
+    maxNestingDepth = Math.max(maxNestingDepth, nestingDepth);
+  }
+
+  void schemaInitialized() {
+    schemaInitializationCount++;
+  }
+
+  void sessionEnded() {
+    endNanos = System.nanoTime();
+    active = false;
+  }
+
+  @Override
+  public String toString() {
+    return "SessionStatistics [openCount="
+        + openCount
+        + ", maxNestingDepth="
+        + maxNestingDepth
+        + ", schemaInitializationCount="
+        + schemaInitializationCount
+        + ", holdTime="
+        + getHoldTime()
+        + ", active="
+        + active
+        + "]";
+  }
+}
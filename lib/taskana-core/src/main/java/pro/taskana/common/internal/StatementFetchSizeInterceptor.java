@@ -0,0 +1,73 @@
+package pro.taskana.common.internal;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+
+/**
+ * MyBatis interceptor which sets the fetch size of the select statements of individual mappers,
+ * e.g. a large fetch size for the TaskQueryMapper. The fetch sizes are configured by the simple
+ * class name of the mapper. A fetch size which is declared on the mapped statement itself takes
+ * precedence.
+ */
+@Intercepts({
+  @Signature(
+      type = StatementHandler.class,
+      method = "prepare",
+      args = {Connection.class, Integer.class})
+})
+public class StatementFetchSizeInterceptor implements Interceptor {
+
+  private final Map<String, Integer> fetchSizesByMapper;
+
+  public StatementFetchSizeInterceptor(Map<String, Integer> fetchSizesByMapper) {
+    this.fetchSizesByMapper = fetchSizesByMapper;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Statement statement = (Statement) invocation.proceed();
+    MetaObject statementHandler = SystemMetaObject.forObject(invocation.getTarget());
+    MappedStatement mappedStatement =
+        (MappedStatement) statementHandler.getValue("delegate.mappedStatement");
+    if (mappedStatement.getSqlCommandType() == SqlCommandType.SELECT
+        && mappedStatement.getFetchSize() == null) {
+      Integer fetchSize = fetchSizesByMapper.get(getMapperName(mappedStatement.getId()));
+      if (fetchSize != null) {
+        statement.setFetchSize(fetchSize);
+      }
+    }
+    return statement;
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    return target instanceof StatementHandler ? Plugin.wrap(target, this) : target;
+  }
+
+  @Override
+  public void setProperties(Properties properties) {
+    // no properties are supported
+  }
+
+  // the id of a mapped statement consists of the class name of the mapper and the method name
+  private static String getMapperName(String statementId) {
+    int methodSeparator = statementId.lastIndexOf('.');
+    if (methodSeparator < 0) {
+      return statementId;
+    }
+    String mapperClassName = statementId.substring(0, methodSeparator);
+    return mapperClassName.substring(mapperClassName.lastIndexOf('.') + 1);
+  }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.common.internal;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.Principal;
 import java.security.PrivilegedAction;
@@ -7,15 +8,23 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
+import javax.sql.DataSource;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -53,11 +62,16 @@ import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
 import pro.taskana.spi.history.internal.HistoryEventManager;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.spi.metrics.internal.StatementMetricsInterceptor;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.events.TaskChangeListener;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.ObjectReferenceMapper;
+import pro.taskana.task.internal.TaskChangeEventPublisher;
 import pro.taskana.task.internal.TaskCommentMapper;
 import pro.taskana.task.internal.TaskMapper;
 import pro.taskana.task.internal.TaskQueryMapper;
@@ -73,15 +87,22 @@ import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 public class TaskanaEngineImpl implements TaskanaEngine {
 
   // must match the VERSION value in table
-  private static final String TASKANA_SCHEMA_VERSION = "4.0.0";
+  private static final String TASKANA_SCHEMA_VERSION = "4.4.1";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
   private static final SessionStack SESSION_STACK = new SessionStack();
+  // SqlSessionFactories which are shared between engines, see #createSqlSessionManager. The
+  // factories are weakly referenced, so that they are collected together with the last engine
+  // using them. Their DataSource is a weak key, so that its entry vanishes afterwards.
+  private static final Map<DataSource, Map<List<Object>, WeakReference<SqlSessionFactory>>>
+      SHARED_SQL_SESSION_FACTORIES = new WeakHashMap<>();
   private final TaskRoutingManager taskRoutingManager;
   private final CreateTaskPreprocessorManager createTaskPreprocessorManager;
   private final InternalTaskanaEngineImpl internalTaskanaEngineImpl;
   private final WorkingDaysToDaysConverter workingDaysToDaysConverter;
   private final HistoryEventManager historyEventManager;
+  private final MetricsManager metricsManager;
   private final CurrentUserContext currentUserContext;
+  private final TaskChangeEventPublisher taskChangeEventPublisher;
   protected TaskanaEngineConfiguration taskanaEngineConfiguration;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -91,11 +112,15 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   protected TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration)
       throws SQLException {
     this.taskanaEngineConfiguration = taskanaEngineConfiguration;
+    // the metrics SPI is initialized first, since the SQL statements are instrumented as well
+    metricsManager = MetricsManager.getInstance(taskanaEngineConfiguration);
     createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
     this.sessionManager = createSqlSessionManager();
     initializeDbSchema(taskanaEngineConfiguration);
     createTaskPreprocessorManager = CreateTaskPreprocessorManager.getInstance();
     this.internalTaskanaEngineImpl = new InternalTaskanaEngineImpl();
+    taskChangeEventPublisher =
+        new TaskChangeEventPublisher(internalTaskanaEngineImpl::executeAfterSessionEnd);
     workingDaysToDaysConverter =
         new WorkingDaysToDaysConverter(
             taskanaEngineConfiguration.isGermanPublicHolidaysEnabled(),
@@ -162,6 +187,16 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return this.taskanaEngineConfiguration;
   }
 
+  /**
+   * FOR INTERNAL USE ONLY. Grants TASKANA extensions, e.g. history providers, access to the
+   * database session of this engine.
+   *
+   * @return the InternalTaskanaEngine of this engine
+   */
+  public InternalTaskanaEngine getInternalTaskanaEngine() {
+    return internalTaskanaEngineImpl;
+  }
+
   @Override
   public WorkingDaysToDaysConverter getWorkingDaysToDaysConverter() {
     return workingDaysToDaysConverter;
@@ -172,6 +207,21 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return HistoryEventManager.isHistoryEnabled();
   }
 
+  @Override
+  public void addTaskChangeListener(TaskChangeListener listener) {
+    taskChangeEventPublisher.addListener(listener);
+  }
+
+  @Override
+  public void removeTaskChangeListener(TaskChangeListener listener) {
+    taskChangeEventPublisher.removeListener(listener);
+  }
+
+  @Override
+  public <T> T runInSession(Supplier<T> supplier) {
+    return internalTaskanaEngineImpl.openAndReturnConnection(supplier);
+  }
+
   @Override
   public void setConnectionManagementMode(ConnectionManagementMode mode) {
     if (this.mode == ConnectionManagementMode.EXPLICIT
@@ -253,12 +303,29 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   }
 
   /**
-   * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers and
-   * sets the databaseId attribute.
+   * This method creates the sqlSessionManager of myBatis. If the SqlSessionFactory is shared, the
+   * SqlSessionFactory of another engine with the same DataSource, the same kind of
+   * TransactionFactory and the same MyBatis settings is reused, as long as that engine is in use.
    *
-   * @return a {@link SqlSessionFactory}
+   * @return a {@link SqlSessionManager}
    */
   protected SqlSessionManager createSqlSessionManager() {
+    SqlSessionFactory sqlSessionFactory;
+    if (taskanaEngineConfiguration.isSharedSqlSessionFactoryEnabled()) {
+      sqlSessionFactory = getSharedSqlSessionFactory();
+    } else {
+      sqlSessionFactory = createSqlSessionFactory();
+    }
+    return SqlSessionManager.newInstance(sqlSessionFactory);
+  }
+
+  /**
+   * This method creates the sqlSessionFactory of myBatis. It integrates all the SQL mappers, sets
+   * the databaseId attribute and applies the MyBatis settings of the configuration.
+   *
+   * @return a {@link SqlSessionFactory}
+   */
+  protected SqlSessionFactory createSqlSessionFactory() {
     Environment environment =
         new Environment(
             "default", this.transactionFactory, taskanaEngineConfiguration.getDatasource());
@@ -277,10 +344,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
           e.getCause());
     }
 
+    // tune the execution of the statements
+    if (taskanaEngineConfiguration.getExecutorType() == ExecutorType.BATCH) {
+      throw new SystemException("The BATCH executor of MyBatis is not supported.");
+    }
+    configuration.setDefaultExecutorType(taskanaEngineConfiguration.getExecutorType());
+    configuration.setLocalCacheScope(taskanaEngineConfiguration.getLocalCacheScope());
+    configuration.setDefaultFetchSize(taskanaEngineConfiguration.getDefaultFetchSize());
+    configuration.setDefaultStatementTimeout(
+        taskanaEngineConfiguration.getDefaultStatementTimeout());
+
     // register type handlers
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    // the variables are resolved when the mappers are added
+    configuration.setVariables(createMapperVariables());
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
@@ -295,8 +374,67 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.addMapper(ClassificationQueryMapper.class);
     configuration.addMapper(AttachmentMapper.class);
     configuration.addMapper(JobMapper.class);
-    SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-    return SqlSessionManager.newInstance(localSessionFactory);
+    if (MetricsManager.isMetricsEnabled()) {
+      configuration.addInterceptor(new StatementMetricsInterceptor(metricsManager));
+    }
+    if (!taskanaEngineConfiguration.getMapperFetchSizes().isEmpty()) {
+      configuration.addInterceptor(
+          new StatementFetchSizeInterceptor(
+              new HashMap<>(taskanaEngineConfiguration.getMapperFetchSizes())));
+    }
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  private SqlSessionFactory getSharedSqlSessionFactory() {
+    synchronized (SHARED_SQL_SESSION_FACTORIES) {
+      Map<List<Object>, WeakReference<SqlSessionFactory>> sqlSessionFactories =
+          SHARED_SQL_SESSION_FACTORIES.computeIfAbsent(
+              taskanaEngineConfiguration.getDatasource(), dataSource -> new HashMap<>());
+      sqlSessionFactories.values().removeIf(reference -> reference.get() == null);
+      List<Object> key = createSqlSessionFactoryKey();
+      WeakReference<SqlSessionFactory> reference = sqlSessionFactories.get(key);
+      SqlSessionFactory sqlSessionFactory = reference == null ? null : reference.get();
+      if (sqlSessionFactory == null) {
+        sqlSessionFactory = createSqlSessionFactory();
+        sqlSessionFactories.put(key, new WeakReference<>(sqlSessionFactory));
+      }
+      return sqlSessionFactory;
+    }
+  }
+
+  /**
+   * Creates the key of the shared SqlSessionFactory of the DataSource. It consists of everything
+   * else which the SqlSessionFactory is built from. The TransactionFactory is identified by its
+   * class, since it determines how the transactions are managed, e.g. by Spring.
+   *
+   * @return the key
+   */
+  private List<Object> createSqlSessionFactoryKey() {
+    return Arrays.asList(
+        transactionFactory.getClass(),
+        taskanaEngineConfiguration.isCaseInsensitiveCollationEnabled(),
+        MetricsManager.isMetricsEnabled(),
+        taskanaEngineConfiguration.getExecutorType(),
+        taskanaEngineConfiguration.getLocalCacheScope(),
+        taskanaEngineConfiguration.getDefaultFetchSize(),
+        taskanaEngineConfiguration.getDefaultStatementTimeout(),
+        new HashMap<>(taskanaEngineConfiguration.getMapperFetchSizes()));
+  }
+
+  /**
+   * Creates the variables which are resolved in the SQL of the mappers. The case-insensitive
+   * filters of the queries compare the upper case values of the columns. If the database already
+   * compares case-insensitively, the plain columns are compared instead, so that their indexes can
+   * be used.
+   *
+   * @return the variables
+   */
+  private Properties createMapperVariables() {
+    Properties variables = new Properties();
+    variables.setProperty(
+        "upperIfCaseSensitive",
+        taskanaEngineConfiguration.isCaseInsensitiveCollationEnabled() ? "" : "UPPER");
+    return variables;
   }
 
   private void initializeDbSchema(TaskanaEngineConfiguration taskanaEngineConfiguration)
@@ -344,6 +482,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   private static class SessionStack {
 
     private final ThreadLocal<Deque<SqlSessionManager>> sessionStack = new ThreadLocal<>();
+    private final ThreadLocal<SessionStatistics> sessionStatistics =
+        ThreadLocal.withInitial(SessionStatistics::new);
+    private final ThreadLocal<List<Runnable>> sessionEndActions = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> afterSessionEndActions = new ThreadLocal<>();
 
     /**
      * Get latest SqlSession from session stack.
@@ -359,6 +501,15 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return stack;
     }
 
+    /**
+     * Get the statistics of the current or latest session of the current thread.
+     *
+     * @return the statistics of the session
+     */
+    private SessionStatistics getSessionStatistics() {
+      return sessionStatistics.get();
+    }
+
     private void pushSessionToStack(SqlSessionManager session) {
       getSessionStack().push(session);
     }
@@ -369,6 +520,65 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         stack.pop();
       }
     }
+
+    private void addSessionEndAction(Runnable action) {
+      List<Runnable> actions = sessionEndActions.get();
+      if (actions == null) {
+        actions = new ArrayList<>();
+        sessionEndActions.set(actions);
+      }
+      actions.add(action);
+    }
+
+    private void addAfterSessionEndAction(Runnable action) {
+      List<Runnable> actions = afterSessionEndActions.get();
+      if (actions == null) {
+        actions = new ArrayList<>();
+        afterSessionEndActions.set(actions);
+      }
+      actions.add(action);
+    }
+
+    /**
+     * Executes and removes the actions which were registered for the session of the current
+     * thread. Actions registered while executing are executed as well. A failing action does not
+     * prevent the execution of the other actions. The first failure is rethrown after all actions
+     * were executed, further failures are added to it as suppressed exceptions.
+     */
+    private void runSessionEndActions() {
+      RuntimeException failure = null;
+      List<Runnable> actions = sessionEndActions.get();
+      while (actions != null) {
+        sessionEndActions.remove();
+        for (Runnable action : actions) {
+          try {
+            action.run();
+          } catch (RuntimeException e) {
+            if (failure == null) {
+              failure = e;
+            } else {
+              failure.addSuppressed(e);
+            }
+          }
+        }
+        actions = sessionEndActions.get();
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    /**
+     * Removes the actions which were registered to be executed after the session of the current
+     * thread ended.
+     *
+     * @return the removed actions
+     */
+    private List<Runnable> removeAfterSessionEndActions() {
+      List<Runnable> actions = afterSessionEndActions.get();
+      afterSessionEndActions.remove();
+      return actions == null ? Collections.emptyList() : actions;
+    }
   }
 
   /** Internal Engine for internal operations. */
@@ -377,34 +587,59 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     @Override
     public void openConnection() {
       initSqlSession();
-      try {
-        sessionManager.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
-      } catch (SQLException e) {
-        throw new SystemException(
-            "Method openConnection() could not open a connection "
-                + "to the database. No schema has been created.",
-            e.getCause());
-      }
       if (mode != ConnectionManagementMode.EXPLICIT) {
+        // the schema of an explicit connection is set once by setConnection(). Otherwise the
+        // connection may be shared with other engines, e.g. the history, which set their own
+        // schema. Hence the schema is checked for each call, but only set if it differs.
+        SessionStatistics statistics = SESSION_STACK.getSessionStatistics();
+        if (SESSION_STACK.getSessionStack().isEmpty()) {
+          statistics.sessionStarted();
+        }
+        if (initializeSchema()) {
+          statistics.schemaInitialized();
+        }
         SESSION_STACK.pushSessionToStack(sessionManager);
+        statistics.connectionOpened(SESSION_STACK.getSessionStack().size());
       }
     }
 
     @Override
     public void returnConnection() {
       if (mode != ConnectionManagementMode.EXPLICIT) {
-        SESSION_STACK.popSessionFromStack();
-        if (SESSION_STACK.getSessionStack().isEmpty()
-            && sessionManager != null
-            && sessionManager.isManagedSessionStarted()) {
-          if (mode == ConnectionManagementMode.AUTOCOMMIT) {
-            try {
-              sessionManager.commit();
-            } catch (Exception e) {
-              throw new AutocommitFailedException(e.getCause());
+        boolean isSessionActive = !SESSION_STACK.getSessionStack().isEmpty();
+        boolean isCommitRequired = mode == ConnectionManagementMode.AUTOCOMMIT;
+        try {
+          // the actions are executed while the session is still on the stack, so that nested
+          // calls of openConnection() and returnConnection() do not end the session prematurely
+          if (SESSION_STACK.getSessionStack().size() == 1) {
+            SESSION_STACK.runSessionEndActions();
+          }
+        } catch (RuntimeException e) {
+          isCommitRequired = false;
+          throw e;
+        } finally {
+          SESSION_STACK.popSessionFromStack();
+          if (SESSION_STACK.getSessionStack().isEmpty()) {
+            // removed before the commit, so that they are dropped if the commit fails
+            List<Runnable> afterSessionEndActions = SESSION_STACK.removeAfterSessionEndActions();
+            if (isSessionActive) {
+              endSessionStatistics();
+            }
+            if (sessionManager != null && sessionManager.isManagedSessionStarted()) {
+              if (isCommitRequired) {
+                try {
+                  sessionManager.commit();
+                } catch (Exception e) {
+                  throw new AutocommitFailedException(e.getCause());
+                }
+              }
+              sessionManager.close();
+            }
+            // in mode AUTOCOMMIT the session is rolled back if it was not committed
+            if (isCommitRequired || mode != ConnectionManagementMode.AUTOCOMMIT) {
+              afterSessionEndActions.forEach(Runnable::run);
             }
           }
-          sessionManager.close();
         }
       }
     }
@@ -420,6 +655,29 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public SessionStatistics getSessionStatistics() {
+      return SESSION_STACK.getSessionStatistics();
+    }
+
+    @Override
+    public void executeBeforeSessionEnd(Runnable action) {
+      if (mode == ConnectionManagementMode.EXPLICIT || SESSION_STACK.getSessionStack().isEmpty()) {
+        action.run();
+      } else {
+        SESSION_STACK.addSessionEndAction(action);
+      }
+    }
+
+    @Override
+    public void executeAfterSessionEnd(Runnable action) {
+      if (mode == ConnectionManagementMode.EXPLICIT || SESSION_STACK.getSessionStack().isEmpty()) {
+        action.run();
+      } else {
+        SESSION_STACK.addAfterSessionEndAction(action);
+      }
+    }
+
     @Override
     public void initSqlSession() {
       if (mode == ConnectionManagementMode.EXPLICIT && connection == null) {
@@ -460,6 +718,16 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       return createTaskPreprocessorManager;
     }
 
+    @Override
+    public MetricsManager getMetricsManager() {
+      return metricsManager;
+    }
+
+    @Override
+    public TaskChangeEventPublisher getTaskChangeEventPublisher() {
+      return taskChangeEventPublisher;
+    }
+
     @Override
     public <T> T runAsAdmin(Supplier<T> supplier) {
 
@@ -484,5 +752,32 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
       return Subject.doAs(subject1, (PrivilegedAction<T>) supplier::get);
     }
+
+    private boolean initializeSchema() {
+      try {
+        Connection connection = sessionManager.getConnection();
+        String schemaName = taskanaEngineConfiguration.getSchemaName();
+        if (schemaName.equals(connection.getSchema())) {
+          return false;
+        }
+        connection.setSchema(schemaName);
+        return true;
+      } catch (SQLException e) {
+        throw new SystemException(
+            "Method openConnection() could not open a connection "
+                + "to the database. No schema has been created.",
+            e.getCause());
+      }
+    }
+
+    private void endSessionStatistics() {
+      SessionStatistics statistics = SESSION_STACK.getSessionStatistics();
+      statistics.sessionEnded();
+      metricsManager.recordDuration(
+          TaskanaMetric.CONNECTION_HOLD, mode.name(), statistics.getHoldTime());
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Returned database session of current thread. {}", statistics);
+      }
+    }
   }
 }
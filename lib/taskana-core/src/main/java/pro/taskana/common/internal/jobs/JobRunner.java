@@ -18,6 +18,9 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.security.UserPrincipal;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.spi.metrics.internal.MetricsManager.Timer;
 
 /** This is the runner for Tasks jobs. */
 public class JobRunner {
@@ -25,11 +28,13 @@ public class JobRunner {
   private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
   private final TaskanaEngine taskanaEngine;
   private final JobServiceImpl jobService;
+  private final MetricsManager metricsManager;
   private TaskanaTransactionProvider<Object> txProvider;
 
   public JobRunner(TaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
     jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    metricsManager = MetricsManager.getInstance(taskanaEngine.getConfiguration());
   }
 
   public void registerTransactionProvider(TaskanaTransactionProvider<Object> txProvider) {
@@ -129,10 +134,12 @@ public class JobRunner {
   }
 
   private void runScheduledJobImpl(ScheduledJob scheduledJob) {
-    try {
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.JOB, String.valueOf(scheduledJob.getType()))) {
       TaskanaJob job =
           AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, txProvider, scheduledJob);
       job.run();
+      timer.succeeded();
     } catch (Exception e) {
       LOGGER.error("Error running job: {} ", scheduledJob.getType(), e);
       throw new SystemException(
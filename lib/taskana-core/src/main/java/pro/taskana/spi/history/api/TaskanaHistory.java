@@ -1,5 +1,6 @@
 package pro.taskana.spi.history.api;
 
+import java.util.Collections;
 import java.util.List;
 
 import pro.taskana.common.api.TaskanaEngine;
@@ -49,4 +50,15 @@ public interface TaskanaHistory {
    */
   void deleteHistoryEventsByTaskIds(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException;
+
+  /**
+   * Returns the history events of the given tasks. It is used to archive the history of tasks
+   * together with the tasks. Providers which can not read their events return an empty list.
+   *
+   * @param taskIds the ids of the tasks whose history events are returned
+   * @return the history events of the tasks
+   */
+  default List<TaskHistoryEvent> getTaskHistoryEventsByTaskIds(List<String> taskIds) {
+    return Collections.emptyList();
+  }
 }
@@ -1,6 +1,7 @@
 package pro.taskana.spi.history.api.events.task;
 
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 
 /** Event fired if a task is cancelled to be claimed. */
 public class TaskClaimCancelledEvent extends TaskHistoryEvent {
@@ -10,4 +11,10 @@ public class TaskClaimCancelledEvent extends TaskHistoryEvent {
     eventType = TaskHistoryEventType.CLAIM_CANCELLED.getName();
     created = task.getModified();
   }
+
+  public TaskClaimCancelledEvent(String id, TaskSummary task, String userId) {
+    super(id, task, userId, null);
+    eventType = TaskHistoryEventType.CLAIM_CANCELLED.getName();
+    created = task.getModified();
+  }
 }
@@ -1,5 +1,6 @@
 package pro.taskana.spi.history.internal;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.ServiceLoader;
@@ -12,6 +13,9 @@ import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.spi.metrics.internal.MetricsManager.Timer;
 
 /** Creates and deletes events and emits them to the registered history service providers. */
 public final class HistoryEventManager {
@@ -19,9 +23,11 @@ public final class HistoryEventManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventManager.class);
   private static HistoryEventManager singleton;
   private final ServiceLoader<TaskanaHistory> serviceLoader;
+  private final MetricsManager metricsManager;
   private boolean enabled = false;
 
   private HistoryEventManager(TaskanaEngine taskanaEngine) {
+    metricsManager = MetricsManager.getInstance(taskanaEngine.getConfiguration());
     serviceLoader = ServiceLoader.load(TaskanaHistory.class);
     for (TaskanaHistory history : serviceLoader) {
       history.initialize(taskanaEngine);
@@ -48,8 +54,9 @@ public final class HistoryEventManager {
     LOGGER.debug("Sending event to history service providers: {}", event);
     serviceLoader.forEach(
         historyProvider -> {
-          try {
+          try (Timer timer = startTimer(historyProvider, "create")) {
             historyProvider.create(event);
+            timer.succeeded();
           } catch (Exception e) {
             LOGGER.error(
                 String.format(
@@ -65,8 +72,9 @@ public final class HistoryEventManager {
     LOGGER.debug("Sending event to history service providers: {}", event);
     serviceLoader.forEach(
         historyProvider -> {
-          try {
+          try (Timer timer = startTimer(historyProvider, "create")) {
             historyProvider.create(event);
+            timer.succeeded();
           } catch (Exception e) {
             LOGGER.error(
                 String.format(
@@ -82,8 +90,9 @@ public final class HistoryEventManager {
     LOGGER.debug("Sending event to history service providers: {}", event);
     serviceLoader.forEach(
         historyProvider -> {
-          try {
+          try (Timer timer = startTimer(historyProvider, "create")) {
             historyProvider.create(event);
+            timer.succeeded();
           } catch (Exception e) {
             LOGGER.error(
                 String.format(
@@ -100,8 +109,9 @@ public final class HistoryEventManager {
     LOGGER.debug("Sending taskIds to history service providers: {}", taskIds);
     serviceLoader.forEach(
         historyProvider -> {
-          try {
+          try (Timer timer = startTimer(historyProvider, "deleteHistoryEventsByTaskIds")) {
             historyProvider.deleteHistoryEventsByTaskIds(taskIds);
+            timer.succeeded();
           } catch (Exception e) {
             LOGGER.error(
                 String.format(
@@ -112,4 +122,29 @@ public final class HistoryEventManager {
           }
         });
   }
+
+  public List<TaskHistoryEvent> getTaskEvents(List<String> taskIds) {
+    LOGGER.debug("Reading history events of tasks from history service providers: {}", taskIds);
+    List<TaskHistoryEvent> events = new ArrayList<>();
+    serviceLoader.forEach(
+        historyProvider -> {
+          try (Timer timer = startTimer(historyProvider, "getTaskHistoryEventsByTaskIds")) {
+            events.addAll(historyProvider.getTaskHistoryEventsByTaskIds(taskIds));
+            timer.succeeded();
+          } catch (Exception e) {
+            LOGGER.error(
+                String.format(
+                    "Caught an exception while trying to read HistoryEvents in class %s",
+                    historyProvider.getClass().getName()),
+                e);
+            throw new SystemException(e.getMessage(), e.getCause());
+          }
+        });
+    return events;
+  }
+
+  private Timer startTimer(TaskanaHistory historyProvider, String method) {
+    return metricsManager.startTimer(
+        TaskanaMetric.HISTORY_PROVIDER, historyProvider.getClass().getSimpleName() + "." + method);
+  }
 }
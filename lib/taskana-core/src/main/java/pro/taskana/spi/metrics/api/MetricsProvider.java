@@ -0,0 +1,45 @@
+package pro.taskana.spi.metrics.api;
+
+import pro.taskana.TaskanaEngineConfiguration;
+
+/**
+ * Interface for TASKANA MetricsProvider SPI. A MetricsProvider receives the durations measured by
+ * TASKANA and forwards them to a metrics backend.
+ *
+ * <p>The measured code paths are executed very often. Therefore an implementation must not block
+ * and should not throw exceptions.
+ */
+public interface MetricsProvider {
+
+  /**
+   * Initialize MetricsProvider service. The provider is initialized before the TaskanaEngine is
+   * created, since the database access is instrumented as well.
+   *
+   * @param taskanaEngineConfiguration {@link TaskanaEngineConfiguration} The configuration of the
+   *     TaskanaEngine which is instrumented.
+   */
+  void initialize(TaskanaEngineConfiguration taskanaEngineConfiguration);
+
+  /**
+   * Records the duration of a single execution of an operation.
+   *
+   * @param metric {@link TaskanaMetric} the metric the duration belongs to.
+   * @param operation the name of the executed operation, e.g. <code>TaskService.claim</code>.
+   * @param durationInNanos the duration of the execution in nanoseconds.
+   */
+  void recordDuration(TaskanaMetric metric, String operation, long durationInNanos);
+
+  /**
+   * Records the duration of a single execution of an operation which either succeeded or failed.
+   * By default the outcome is ignored.
+   *
+   * @param metric {@link TaskanaMetric} the metric the duration belongs to.
+   * @param operation the name of the executed operation, e.g. <code>TaskService.claim</code>.
+   * @param successful whether the execution completed without an exception.
+   * @param durationInNanos the duration of the execution in nanoseconds.
+   */
+  default void recordDuration(
+      TaskanaMetric metric, String operation, boolean successful, long durationInNanos) {
+    recordDuration(metric, operation, durationInNanos);
+  }
+}
@@ -0,0 +1,25 @@
+package pro.taskana.spi.metrics.api;
+
+/** The metrics which are recorded by TASKANA and passed to the {@link MetricsProvider}. */
+public enum TaskanaMetric {
+  /** The duration of a method call on one of the TASKANA services. */
+  SERVICE_METHOD("taskana.service.method"),
+  /** The duration of a single SQL statement, identified by its mapped statement id. */
+  SQL_STATEMENT("taskana.sql.statement"),
+  /** The time a database session was held, from the outermost open until its return. */
+  CONNECTION_HOLD("taskana.connection.hold"),
+  /** The duration of a call of a history provider. */
+  HISTORY_PROVIDER("taskana.history.provider"),
+  /** The duration of a scheduled job run. */
+  JOB("taskana.job");
+
+  private final String metricName;
+
+  TaskanaMetric(String metricName) {
+    this.metricName = metricName;
+  }
+
+  public String getMetricName() {
+    return metricName;
+  }
+}
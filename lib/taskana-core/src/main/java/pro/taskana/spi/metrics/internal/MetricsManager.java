@@ -0,0 +1,159 @@
+package pro.taskana.spi.metrics.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+
+/**
+ * Loads MetricsProvider SPI implementation(s) and passes the measured durations to them. Without
+ * a registered provider no time is measured at all.
+ */
+public final class MetricsManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetricsManager.class);
+  private static MetricsManager singleton;
+  private final List<MetricsProvider> metricsProviders = new ArrayList<>();
+  private boolean enabled = false;
+
+  private MetricsManager(TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    ServiceLoader<MetricsProvider> serviceLoader = ServiceLoader.load(MetricsProvider.class);
+    for (MetricsProvider metricsProvider : serviceLoader) {
+      metricsProvider.initialize(taskanaEngineConfiguration);
+      metricsProviders.add(metricsProvider);
+      LOGGER.info("Registered metrics provider: {}", metricsProvider.getClass().getName());
+    }
+
+    if (metricsProviders.isEmpty()) {
+      LOGGER.info("No metrics provider found. Running without metrics.");
+    } else {
+      enabled = true;
+    }
+  }
+
+  public static synchronized MetricsManager getInstance(
+      TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    if (singleton == null) {
+      singleton = new MetricsManager(taskanaEngineConfiguration);
+    }
+    return singleton;
+  }
+
+  public static boolean isMetricsEnabled() {
+    return Objects.nonNull(singleton) && singleton.enabled;
+  }
+
+  /**
+   * Starts a time measurement of an operation. The measurement is stopped and passed together with
+   * the outcome of the operation to all registered providers when the returned timer is closed. It
+   * is meant to be used in a try-with-resources statement, so that failed executions are measured
+   * as well:
+   *
+   * <pre>
+   * try (Timer timer = metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "operation")) {
+   *   return timer.succeeded(operation());
+   * }
+   * </pre>
+   *
+   * @param metric the metric the measurement belongs to
+   * @param operation the name of the measured operation
+   * @return the running measurement
+   */
+  public Timer startTimer(TaskanaMetric metric, String operation) {
+    return new Timer(metric, operation, enabled ? System.nanoTime() : 0L);
+  }
+
+  /**
+   * Passes an already measured duration to all registered providers.
+   *
+   * @param metric the metric the measurement belongs to
+   * @param operation the name of the measured operation
+   * @param duration the measured duration
+   */
+  public void recordDuration(TaskanaMetric metric, String operation, Duration duration) {
+    if (enabled) {
+      record(metric, operation, duration.toNanos());
+    }
+  }
+
+  private void record(
+      TaskanaMetric metric, String operation, boolean successful, long durationInNanos) {
+    for (MetricsProvider metricsProvider : metricsProviders) {
+      try {
+        metricsProvider.recordDuration(metric, operation, successful, durationInNanos);
+      } catch (Exception e) {
+        logProviderException(metric, metricsProvider, e);
+      }
+    }
+  }
+
+  // a failing metrics backend must never break the instrumented operation.
+  private void record(TaskanaMetric metric, String operation, long durationInNanos) {
+    for (MetricsProvider metricsProvider : metricsProviders) {
+      try {
+        metricsProvider.recordDuration(metric, operation, durationInNanos);
+      } catch (Exception e) {
+        logProviderException(metric, metricsProvider, e);
+      }
+    }
+  }
+
+  private void logProviderException(
+      TaskanaMetric metric, MetricsProvider metricsProvider, Exception e) {
+    LOGGER.warn(
+        "Caught an exception while recording metric {} in class {}",
+        metric,
+        metricsProvider.getClass().getName(),
+        e);
+  }
+
+  /**
+   * A running time measurement of an operation. An execution of the operation is recorded as
+   * successful if it was marked with {@link #succeeded()} before the timer is closed.
+   */
+  public final class Timer implements AutoCloseable {
+
+    private final TaskanaMetric metric;
+    private final String operation;
+    private final long start;
+    private boolean successful;
+
+    private Timer(TaskanaMetric metric, String operation, long start) {
+      this.metric = metric;
+      this.operation = operation;
+      this.start = start;
+    }
+
+    /** Marks the execution of the operation as successful. */
+    public void succeeded() {
+      successful = true;
+    }
+
+    /**
+     * Marks the execution of the operation as successful and returns its result.
+     *
+     * @param <T> the type of the result
+     * @param result the result of the operation
+     * @return the given result
+     */
+    public <T> T succeeded(T result) {
+      successful = true;
+      return result;
+    }
+
+    /** Stops the measurement and passes it to all registered providers. */
+    @Override
+    public void close() {
+      if (enabled) {
+        record(metric, operation, successful, System.nanoTime() - start);
+      }
+    }
+  }
+}
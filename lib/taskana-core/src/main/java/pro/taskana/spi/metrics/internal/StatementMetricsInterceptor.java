@@ -0,0 +1,74 @@
+package pro.taskana.spi.metrics.internal;
+
+import java.util.Properties;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+import pro.taskana.spi.metrics.internal.MetricsManager.Timer;
+
+/**
+ * MyBatis interceptor which measures the execution time of every SQL statement. The id of the
+ * mapped statement is used as operation name.
+ */
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      }),
+  @Signature(
+      type = Executor.class,
+      method = "queryCursor",
+      args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  private final MetricsManager metricsManager;
+
+  public StatementMetricsInterceptor(MetricsManager metricsManager) {
+    this.metricsManager = metricsManager;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SQL_STATEMENT, mappedStatement.getId())) {
+      return timer.succeeded(invocation.proceed());
+    }
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    return Plugin.wrap(target, this);
+  }
+
+  @Override
+  public void setProperties(Properties properties) {
+    // no properties are supported
+  }
+}
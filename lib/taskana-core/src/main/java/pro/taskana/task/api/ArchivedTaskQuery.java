@@ -0,0 +1,68 @@
+package pro.taskana.task.api;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import pro.taskana.task.api.models.ArchivedTask;
+
+/**
+ * Read-only query for tasks in the archive. The archive index is used to find the archive files
+ * which contain the requested tasks, so only these files are read. The criteria of the different
+ * methods are combined with AND, the values of one method with OR.
+ */
+public interface ArchivedTaskQuery {
+
+  /**
+   * Selects the archived tasks with the given ids.
+   *
+   * @param taskIds the ids of the tasks
+   * @return the query
+   */
+  ArchivedTaskQuery idIn(String... taskIds);
+
+  /**
+   * Selects the archived tasks with the given external ids.
+   *
+   * @param externalIds the external ids of the tasks
+   * @return the query
+   */
+  ArchivedTaskQuery externalIdIn(String... externalIds);
+
+  /**
+   * Selects the archived tasks with the given business process ids.
+   *
+   * @param businessProcessIds the business process ids of the tasks
+   * @return the query
+   */
+  ArchivedTaskQuery businessProcessIdIn(String... businessProcessIds);
+
+  /**
+   * Reads all matching archived tasks.
+   *
+   * @return the matching archived tasks
+   */
+  List<ArchivedTask> list();
+
+  /**
+   * Reads the single matching archived task.
+   *
+   * @return the matching archived task or null if no task matches
+   * @throws pro.taskana.common.api.exceptions.SystemException if more than one task matches
+   */
+  ArchivedTask single();
+
+  /**
+   * Counts the matching archived tasks. Only the archive index is read.
+   *
+   * @return the number of matching archived tasks
+   */
+  long count();
+
+  /**
+   * Streams the matching archived tasks. The archive files are read one after another while the
+   * stream is consumed. The stream has to be closed after use.
+   *
+   * @return a stream of the matching archived tasks
+   */
+  Stream<ArchivedTask> stream();
+}
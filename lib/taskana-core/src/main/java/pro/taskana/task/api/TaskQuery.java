@@ -640,6 +640,14 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    */
   TaskQuery wildcardSearchFieldsIn(WildcardSearchField... wildcardSearchFields);
 
+  /**
+   * Adds the number of comments of each task to the query result. The comments themselves are not
+   * loaded. Without this option {@link TaskSummary#getCommentCount()} returns 0.
+   *
+   * @return the query
+   */
+  TaskQuery withCommentCount();
+
   /**
    * This method sorts the query result according to the completed timestamp.
    *
@@ -19,6 +19,7 @@ import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskChanges;
 import pro.taskana.task.api.models.TaskComment;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
@@ -216,6 +217,37 @@ public interface TaskService {
    */
   TaskQuery createTaskQuery();
 
+  /**
+   * This method provides a query builder for querying the tasks which were moved into the archive
+   * by the TaskArchiveJob. If no archive directory is configured, the query finds no tasks.
+   *
+   * @return an {@link ArchivedTaskQuery}
+   * @throws NotAuthorizedException if the current user is neither admin nor task admin
+   */
+  ArchivedTaskQuery createArchivedTaskQuery() throws NotAuthorizedException;
+
+  /**
+   * Reads the next batch of the change feed of the tasks. The feed contains every task which was
+   * created or modified and every task which was deleted after the given watermark, ordered by the
+   * time of the change and the id of the task. The position within the feed is looked up with an
+   * index on these columns, so clients can synchronize incrementally without scanning all tasks.
+   *
+   * <p>Only changes of tasks in workbaskets the current user is allowed to read are returned.
+   * Deletions are recorded until the TaskCleanupJob removes records older than its minimum age.
+   *
+   * <p>The time of a change is taken before its transaction commits. A transaction which commits
+   * later than another one may therefore add a change before the watermark of a batch which was
+   * already read. To avoid that such changes are missed, the feed only returns changes which are
+   * older than the safety lag of the {@link pro.taskana.TaskanaEngineConfiguration}. Changes of
+   * transactions which take longer than the safety lag to commit can still be missed.
+   *
+   * @param watermark the watermark of the previous batch or null to read the feed from its start
+   * @param maxResults the maximum number of changes of the batch
+   * @return the changed tasks, the deleted task ids and the watermark of the next batch
+   * @throws InvalidArgumentException if the watermark is invalid or maxResults is not positive
+   */
+  TaskChanges getTaskChanges(String watermark, int maxResults) throws InvalidArgumentException;
+
   /**
    * Returns a not inserted instance of {@link Task}. The returned task has no workbasket Id set.
    * When createTask() is invoked for this task, TaskService will call the TaskRouting SPI to
@@ -380,6 +412,50 @@ public interface TaskService {
   BulkOperationResults<String, TaskanaException> forceCompleteTasks(List<String> taskIds)
       throws InvalidArgumentException;
 
+  /**
+   * Claims a list of tasks for the current user. The preconditions of {@link
+   * TaskService#claim(String)} are checked for each task.
+   *
+   * @param taskIds the ids of the tasks which should be claimed.
+   * @return the result of the operations with Id and Exception for each failed task claim.
+   * @throws InvalidArgumentException If the taskIds parameter is NULL.
+   */
+  BulkOperationResults<String, TaskanaException> claimTasks(List<String> taskIds)
+      throws InvalidArgumentException;
+
+  /**
+   * Claims a list of tasks for the current user, even if they are claimed by someone else.
+   *
+   * @see TaskService#forceClaim
+   * @param taskIds the ids of the tasks which should be claimed.
+   * @return the result of the operations with Id and Exception for each failed task claim.
+   * @throws InvalidArgumentException If the taskIds parameter is NULL.
+   */
+  BulkOperationResults<String, TaskanaException> forceClaimTasks(List<String> taskIds)
+      throws InvalidArgumentException;
+
+  /**
+   * Cancels the claims of a list of tasks. The preconditions of {@link
+   * TaskService#cancelClaim(String)} are checked for each task.
+   *
+   * @param taskIds the ids of the tasks whose claims should be cancelled.
+   * @return the result of the operations with Id and Exception for each failed cancellation.
+   * @throws InvalidArgumentException If the taskIds parameter is NULL.
+   */
+  BulkOperationResults<String, TaskanaException> cancelClaimTasks(List<String> taskIds)
+      throws InvalidArgumentException;
+
+  /**
+   * Cancels the claims of a list of tasks, even if they are claimed by someone else.
+   *
+   * @see TaskService#forceCancelClaim
+   * @param taskIds the ids of the tasks whose claims should be cancelled.
+   * @return the result of the operations with Id and Exception for each failed cancellation.
+   * @throws InvalidArgumentException If the taskIds parameter is NULL.
+   */
+  BulkOperationResults<String, TaskanaException> forceCancelClaimTasks(List<String> taskIds)
+      throws InvalidArgumentException;
+
   /**
    * Updates tasks with a matching {@link ObjectReference}.
    *
@@ -488,6 +564,16 @@ public interface TaskService {
   List<TaskComment> getTaskComments(String taskId)
       throws NotAuthorizedException, TaskNotFoundException;
 
+  /**
+   * Retrieves the task comments of several tasks with one query per 1000 tasks instead of one
+   * query per task. Tasks which do not exist or which the current user is not authorized to read
+   * are omitted from the result.
+   *
+   * @param taskIds The ids of the tasks for which all task comments should be retrieved
+   * @return the task comments of each readable task by its id, ordered by their creation
+   */
+  Map<String, List<TaskComment>> getTaskComments(List<String> taskIds);
+
   /**
    * Sets the callback state on a list of tasks. Note: this method is primarily intended to be used
    * by the TaskanaAdapter
@@ -0,0 +1,88 @@
+package pro.taskana.task.api.events;
+
+import java.util.Objects;
+
+/**
+ * Notifies a {@link TaskChangeListener} that a task was changed. The event only identifies the
+ * task and its workbasket, listeners which need the task itself have to read it.
+ */
+public final class TaskChangeEvent {
+
+  private final TaskChangeType type;
+  private final String taskId;
+  private final String workbasketId;
+  private final String previousWorkbasketId;
+
+  public TaskChangeEvent(TaskChangeType type, String taskId, String workbasketId) {
+    this(type, taskId, workbasketId, null);
+  }
+
+  public TaskChangeEvent(
+      TaskChangeType type, String taskId, String workbasketId, String previousWorkbasketId) {
+    this.type = Objects.requireNonNull(type, "type must not be null");
+    this.taskId = Objects.requireNonNull(taskId, "taskId must not be null");
+    this.workbasketId = workbasketId;
+    this.previousWorkbasketId = previousWorkbasketId;
+  }
+
+  public TaskChangeType getType() {
+    return type;
+  }
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  /**
+   * Gets the id of the workbasket the task belongs to after the change. For deleted tasks this is
+   * the workbasket the task belonged to.
+   *
+   * @return the id of the workbasket of the task
+   */
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  /**
+   * Gets the id of the workbasket the task was transferred from.
+   *
+   * @return the id of the source workbasket or null if the type is not {@link
+   *     TaskChangeType#TRANSFERRED}
+   */
+  public String getPreviousWorkbasketId() {
+    return previousWorkbasketId;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, taskId, workbasketId, previousWorkbasketId);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof TaskChangeEvent)) {
+      return false;
+    }
+    TaskChangeEvent other = (TaskChangeEvent) obj;
+    return type == other.type
+        && Objects.equals(taskId, other.taskId)
+        && Objects.equals(workbasketId, other.workbasketId)
+        && Objects.equals(previousWorkbasketId, other.previousWorkbasketId);
+  }
+
+  @Override
+  public String toString() {
+    return "TaskChangeEvent [type="
+        + type
+        + ", taskId="
+        + taskId
+        + ", workbasketId="
+        + workbasketId
+        + ", previousWorkbasketId="
+        + previousWorkbasketId
+        + "]";
+  }
+}
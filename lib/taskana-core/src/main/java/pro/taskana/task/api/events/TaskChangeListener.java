@@ -0,0 +1,25 @@
+package pro.taskana.task.api.events;
+
+/**
+ * Is notified about the changes of tasks, see {@link
+ * pro.taskana.common.api.TaskanaEngine#addTaskChangeListener(TaskChangeListener)}.
+ *
+ * <p>The listener is called synchronously by the thread which changes the task, when the TASKANA
+ * session of the change ended. In connection management mode AUTOCOMMIT the change is committed
+ * then and changes which are not committed are not passed. In mode PARTICIPATE the surrounding
+ * transaction is not committed yet and can still be rolled back, so listeners which notify other
+ * parties have to defer this until the transaction is committed, e.g. with the transaction
+ * synchronization of the surrounding container. In mode EXPLICIT the listener is called right
+ * after the change was written to the database. Listeners must neither block nor call TASKANA
+ * themselves. Exceptions of listeners are logged and do not affect the change.
+ */
+@FunctionalInterface
+public interface TaskChangeListener {
+
+  /**
+   * Is called after a task was changed.
+   *
+   * @param event the change of the task
+   */
+  void onTaskChange(TaskChangeEvent event);
+}
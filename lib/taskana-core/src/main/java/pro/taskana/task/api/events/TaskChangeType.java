@@ -0,0 +1,9 @@
+package pro.taskana.task.api.events;
+
+/** This enum contains the kinds of changes a {@link TaskChangeEvent} is published for. */
+public enum TaskChangeType {
+  CREATED,
+  UPDATED,
+  TRANSFERRED,
+  DELETED
+}
@@ -0,0 +1,42 @@
+package pro.taskana.task.api.models;
+
+import java.time.Instant;
+import java.util.List;
+
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+
+/**
+ * A completed task which was moved from the database into the archive, together with its
+ * attachments, comments and history events. Archived tasks are read-only.
+ */
+public interface ArchivedTask {
+
+  /**
+   * Gets the archived task including its attachments.
+   *
+   * @return the task
+   */
+  Task getTask();
+
+  /**
+   * Gets the comments of the task at the time it was archived.
+   *
+   * @return the task comments
+   */
+  List<TaskComment> getTaskComments();
+
+  /**
+   * Gets the history events of the task at the time it was archived. The list is empty if no
+   * history provider was registered.
+   *
+   * @return the task history events
+   */
+  List<TaskHistoryEvent> getHistoryEvents();
+
+  /**
+   * Gets the time when the task was archived.
+   *
+   * @return the archived Instant
+   */
+  Instant getArchived();
+}
@@ -66,6 +66,14 @@ public interface AttachmentSummary {
    */
   Instant getReceived();
 
+  /**
+   * Gets the version of the attachment. The version is incremented with every update of the
+   * attachment and is used to detect concurrent modifications.
+   *
+   * @return the attachment's version
+   */
+  int getVersion();
+
   /**
    * Duplicates this AttachmentSummary without the id and taskId.
    *
@@ -0,0 +1,45 @@
+package pro.taskana.task.api.models;
+
+import java.util.List;
+
+/**
+ * A batch of the change feed of the tasks, see {@link
+ * pro.taskana.task.api.TaskService#getTaskChanges(String, int)}.
+ *
+ * <p>The changes are ordered by the time of their modification or deletion and the id of the task.
+ * A task which was modified again while the feed was read can be contained in a later batch once
+ * more, so clients should apply the changes idempotently.
+ */
+public interface TaskChanges {
+
+  /**
+   * Gets the tasks which were created or modified after the watermark of the request, ordered by
+   * their modification.
+   *
+   * @return the summaries of the changed tasks
+   */
+  List<TaskSummary> getChangedTasks();
+
+  /**
+   * Gets the ids of the tasks which were deleted after the watermark of the request, ordered by
+   * their deletion.
+   *
+   * @return the ids of the deleted tasks
+   */
+  List<String> getDeletedTaskIds();
+
+  /**
+   * Gets the watermark which has to be passed to retrieve the next batch of changes. If this batch
+   * is empty, the watermark of the request is returned.
+   *
+   * @return the opaque watermark of the last change of this batch
+   */
+  String getWatermark();
+
+  /**
+   * Tells whether there are further changes after this batch which can be retrieved immediately.
+   *
+   * @return true if the batch was limited by the maximum number of results
+   */
+  boolean hasMoreChanges();
+}
@@ -182,6 +182,23 @@ public interface TaskSummary {
    */
   boolean isTransferred();
 
+  /**
+   * Gets the version of the task. The version is incremented with every update of the task and is
+   * used to detect concurrent modifications.
+   *
+   * @return the task's version
+   */
+  int getVersion();
+
+  /**
+   * Gets the number of comments of the task. The count is only loaded by a {@link
+   * pro.taskana.task.api.TaskQuery} with {@link pro.taskana.task.api.TaskQuery#withCommentCount()}.
+   * It is derived from the comments and hence not considered by equals and hashCode.
+   *
+   * @return the task's number of comments or 0 if it was not loaded
+   */
+  int getCommentCount();
+
   /**
    * Gets the custom attribute of the task.
    *
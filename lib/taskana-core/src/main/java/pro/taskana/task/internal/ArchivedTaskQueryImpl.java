@@ -0,0 +1,124 @@
+package pro.taskana.task.internal;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.ArchivedTaskQuery;
+import pro.taskana.task.api.models.ArchivedTask;
+import pro.taskana.task.internal.archive.TaskArchive;
+import pro.taskana.task.internal.archive.TaskArchive.IndexEntry;
+import pro.taskana.task.internal.archive.TaskArchive.IndexKey;
+
+/** Implementation of ArchivedTaskQuery. */
+public class ArchivedTaskQueryImpl implements ArchivedTaskQuery {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ArchivedTaskQueryImpl.class);
+
+  private final TaskArchive archive;
+  private Set<String> taskIds;
+  private Set<String> externalIds;
+  private Set<String> businessProcessIds;
+
+  ArchivedTaskQueryImpl(Path archiveDirectory) {
+    archive = archiveDirectory == null ? null : new TaskArchive(archiveDirectory);
+  }
+
+  @Override
+  public ArchivedTaskQuery idIn(String... taskIds) {
+    this.taskIds = new HashSet<>(Arrays.asList(taskIds));
+    return this;
+  }
+
+  @Override
+  public ArchivedTaskQuery externalIdIn(String... externalIds) {
+    this.externalIds = new HashSet<>(Arrays.asList(externalIds));
+    return this;
+  }
+
+  @Override
+  public ArchivedTaskQuery businessProcessIdIn(String... businessProcessIds) {
+    this.businessProcessIds = new HashSet<>(Arrays.asList(businessProcessIds));
+    return this;
+  }
+
+  @Override
+  public List<ArchivedTask> list() {
+    try (Stream<ArchivedTask> archivedTasks = stream()) {
+      return archivedTasks.collect(Collectors.toList());
+    }
+  }
+
+  @Override
+  public ArchivedTask single() {
+    List<ArchivedTask> archivedTasks = list();
+    if (archivedTasks.size() > 1) {
+      throw new SystemException(
+          String.format("Expected one archived task, but found %d.", archivedTasks.size()));
+    }
+    return archivedTasks.isEmpty() ? null : archivedTasks.get(0);
+  }
+
+  @Override
+  public long count() {
+    try (Stream<IndexEntry> entries = findMatchingIndexEntries()) {
+      return entries.count();
+    }
+  }
+
+  @Override
+  public Stream<ArchivedTask> stream() {
+    Map<String, Set<String>> taskIdsByChunkFile;
+    try (Stream<IndexEntry> entries = findMatchingIndexEntries()) {
+      taskIdsByChunkFile =
+          entries.collect(
+              Collectors.groupingBy(
+                  IndexEntry::getChunkFileName,
+                  LinkedHashMap::new,
+                  Collectors.mapping(IndexEntry::getTaskId, Collectors.toSet())));
+    }
+    LOGGER.debug("Reading archived tasks from {}", taskIdsByChunkFile.keySet());
+    return taskIdsByChunkFile.entrySet().stream()
+        .flatMap(
+            chunk ->
+                archive
+                    .readChunk(chunk.getKey())
+                    .filter(
+                        archivedTask -> chunk.getValue().contains(archivedTask.getTask().getId())));
+  }
+
+  // the most selective criterion determines the partitions of the index which are read
+  private Stream<IndexEntry> findMatchingIndexEntries() {
+    if (archive == null) {
+      return Stream.empty();
+    }
+    Predicate<IndexEntry> filter =
+        entry ->
+            matches(taskIds, entry.getTaskId())
+                && matches(externalIds, entry.getExternalId())
+                && matches(businessProcessIds, entry.getBusinessProcessId());
+    if (taskIds != null) {
+      return archive.readIndex(IndexKey.TASK_ID, taskIds, filter);
+    } else if (externalIds != null) {
+      return archive.readIndex(IndexKey.EXTERNAL_ID, externalIds, filter);
+    } else if (businessProcessIds != null) {
+      return archive.readIndex(IndexKey.BUSINESS_PROCESS_ID, businessProcessIds, filter);
+    }
+    return archive.readIndex(IndexKey.TASK_ID, null, filter);
+  }
+
+  private static boolean matches(Collection<String> values, String value) {
+    return values == null || values.contains(value);
+  }
+}
@@ -1,36 +1,58 @@
 package pro.taskana.task.internal;
 
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.classification.api.ClassificationQueryColumnName;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.persistence.BatchStatementExecutor;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.internal.models.AttachmentImpl;
+import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 import pro.taskana.task.internal.models.TaskImpl;
 
+/**
+ * Persists the attachments of tasks. The attachments of one or several tasks are written in
+ * batches: new attachments with multi-row inserts, removed attachments with one delete per batch
+ * and modified attachments with a JDBC batch of updates.
+ */
 public class AttachmentHandler {
   private static final Logger LOGGER = LoggerFactory.getLogger(AttachmentHandler.class);
+  private static final int BATCH_SIZE = 1000;
+  private static final String UPDATE_STATEMENT = AttachmentMapper.class.getName() + ".update";
+  private final InternalTaskanaEngine taskanaEngine;
   private final AttachmentMapper attachmentMapper;
   private final ClassificationService classificationService;
 
   AttachmentHandler(
-      AttachmentMapper attachmentMapper, ClassificationService classificationService) {
+      InternalTaskanaEngine taskanaEngine,
+      AttachmentMapper attachmentMapper,
+      ClassificationService classificationService) {
+    this.taskanaEngine = taskanaEngine;
     this.attachmentMapper = attachmentMapper;
     this.classificationService = classificationService;
   }
@@ -42,7 +64,7 @@ public class AttachmentHandler {
     if (attachmentImpls == null || attachmentImpls.isEmpty()) {
       return result;
     }
-    List<ClassificationSummary> classifications =
+    Map<String, ClassificationSummary> classificationsById =
         classificationService
             .createClassificationQuery()
             .idIn(
@@ -50,13 +72,12 @@ public class AttachmentHandler {
                     .map(t -> t.getClassificationSummary().getId())
                     .distinct()
                     .toArray(String[]::new))
-            .list();
+            .list()
+            .stream()
+            .collect(Collectors.toMap(ClassificationSummary::getId, Function.identity()));
     for (AttachmentImpl att : attachmentImpls) {
       ClassificationSummary classificationSummary =
-          classifications.stream()
-              .filter(cl -> cl.getId().equals(att.getClassificationSummary().getId()))
-              .findFirst()
-              .orElse(null);
+          classificationsById.get(att.getClassificationSummary().getId());
       if (classificationSummary == null) {
         String id = att.getClassificationSummary().getId();
         bulkLog.addError(
@@ -78,135 +99,88 @@ public class AttachmentHandler {
   }
 
   void insertAndDeleteAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
-      throws AttachmentPersistenceException {
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "entry to insertAndDeleteAttachmentsOnTaskUpdate(oldTaskImpl = {}, newTaskImpl = {})",
-          oldTaskImpl,
-          newTaskImpl);
-    }
-    List<Attachment> newAttachments =
-        newTaskImpl.getAttachments().stream().filter(Objects::nonNull).collect(Collectors.toList());
-    newTaskImpl.setAttachments(newAttachments);
-
-    deleteRemovedAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
-    insertNewAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
-    updateModifiedAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "exit from insertAndDeleteAttachmentsOnTaskUpdate(oldTaskImpl = {}, newTaskImpl = {})",
-          oldTaskImpl,
-          newTaskImpl);
-    }
+      throws AttachmentPersistenceException, ConcurrencyException {
+    insertAndDeleteAttachmentsOnTasksUpdate(
+        Collections.singletonList(Pair.of(newTaskImpl, oldTaskImpl)));
   }
 
-  void updateModifiedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
-    List<Attachment> newAttachments = newTaskImpl.getAttachments();
-    List<Attachment> oldAttachments = oldTaskImpl.getAttachments();
-    if (newAttachments != null
-        && !newAttachments.isEmpty()
-        && oldAttachments != null
-        && !oldAttachments.isEmpty()) {
-      final Map<String, Attachment> oldAttachmentMap =
-          oldAttachments.stream()
+  /**
+   * Writes the changes of the attachments of several updated tasks. The attachments which were
+   * removed, added or modified are collected over all tasks and written in batches.
+   *
+   * @param newAndOldTasks the updated tasks, each paired with its currently persisted state
+   * @throws AttachmentPersistenceException if an added attachment cannot be inserted
+   * @throws ConcurrencyException if a modified attachment was updated by another user
+   */
+  void insertAndDeleteAttachmentsOnTasksUpdate(List<Pair<TaskImpl, TaskImpl>> newAndOldTasks)
+      throws AttachmentPersistenceException, ConcurrencyException {
+    LOGGER.debug("entry to insertAndDeleteAttachmentsOnTasksUpdate(tasks = {})", newAndOldTasks);
+    List<String> removedAttachmentIds = new ArrayList<>();
+    List<AttachmentImpl> addedAttachments = new ArrayList<>();
+    List<AttachmentImpl> modifiedAttachments = new ArrayList<>();
+    for (Pair<TaskImpl, TaskImpl> newAndOldTask : newAndOldTasks) {
+      TaskImpl newTaskImpl = newAndOldTask.getLeft();
+      TaskImpl oldTaskImpl = newAndOldTask.getRight();
+      List<Attachment> newAttachments =
+          newTaskImpl.getAttachments().stream()
+              .filter(Objects::nonNull)
+              .collect(Collectors.toList());
+      newTaskImpl.setAttachments(newAttachments);
+      Map<String, Attachment> oldAttachmentsById =
+          oldTaskImpl.getAttachments().stream()
               .collect(Collectors.toMap(AttachmentSummary::getId, Function.identity()));
-      newAttachments.forEach(
-          a -> {
-            if (oldAttachmentMap.containsKey(a.getId())
-                && !a.equals(oldAttachmentMap.get(a.getId()))) {
-              attachmentMapper.update((AttachmentImpl) a);
-            }
-          });
-    }
-  }
+      Set<String> newAttachmentIds =
+          newAttachments.stream().map(Attachment::getId).collect(Collectors.toSet());
 
-  void insertNewAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
-      throws AttachmentPersistenceException {
-    List<String> oldAttachmentIds =
-        oldTaskImpl.getAttachments().stream()
-            .map(AttachmentSummary::getId)
-            .collect(Collectors.toList());
-    List<AttachmentPersistenceException> exceptions = new ArrayList<>();
-    newTaskImpl
-        .getAttachments()
-        .forEach(
-            a -> {
-              if (!oldAttachmentIds.contains(a.getId())) {
-                try {
-                  insertNewAttachmentOnTaskUpdate(newTaskImpl, a);
-                } catch (AttachmentPersistenceException excpt) {
-                  exceptions.add(excpt);
-                  LOGGER.warn("attempted to insert attachment {} and caught exception", a, excpt);
-                }
-              }
-            });
-    if (!exceptions.isEmpty()) {
-      throw exceptions.get(0);
+      oldAttachmentsById.keySet().stream()
+          .filter(id -> !newAttachmentIds.contains(id))
+          .forEach(removedAttachmentIds::add);
+      for (Attachment attachment : newAttachments) {
+        Attachment oldAttachment = oldAttachmentsById.get(attachment.getId());
+        if (oldAttachment == null) {
+          AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+          initAttachment(attachmentImpl, newTaskImpl);
+          addedAttachments.add(attachmentImpl);
+        } else if (!attachment.equals(oldAttachment)) {
+          modifiedAttachments.add((AttachmentImpl) attachment);
+        }
+      }
     }
+
+    deleteAttachments(removedAttachmentIds);
+    insertAttachments(addedAttachments);
+    updateAttachments(modifiedAttachments);
+    LOGGER.debug("exit from insertAndDeleteAttachmentsOnTasksUpdate()");
   }
 
   void insertNewAttachmentsOnTaskCreation(TaskImpl task)
       throws InvalidArgumentException, AttachmentPersistenceException {
-    List<Attachment> attachments = task.getAttachments();
-    if (attachments != null) {
-      for (Attachment attachment : attachments) {
-        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-        initializeAndInsertAttachment(task, attachmentImpl);
-      }
-    }
+    insertNewAttachmentsOnTasksCreation(Collections.singletonList(task));
   }
 
-  void deleteRemovedAttachmentsOnTaskUpdate(TaskImpl newTaskImpl, TaskImpl oldTaskImpl) {
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "entry to deleteRemovedAttachmentsOnTaskUpdate(oldTaskImpl = {}, newTaskImpl = {})",
-          oldTaskImpl,
-          newTaskImpl);
-    }
-
-    final List<Attachment> newAttachments = newTaskImpl.getAttachments();
-    List<String> newAttachmentIds = new ArrayList<>();
-    if (newAttachments != null && !newAttachments.isEmpty()) {
-      newAttachmentIds =
-          newAttachments.stream().map(Attachment::getId).collect(Collectors.toList());
-    }
-    List<Attachment> oldAttachments = oldTaskImpl.getAttachments();
-    if (oldAttachments != null && !oldAttachments.isEmpty()) {
-      final List<String> newAttIds = newAttachmentIds;
-      oldAttachments.forEach(
-          a -> {
-            if (!newAttIds.contains(a.getId())) {
-              attachmentMapper.delete(a.getId());
-              LOGGER.debug(
-                  "TaskService.updateTask() for TaskId={} DELETED an Attachment={}.",
-                  newTaskImpl.getId(),
-                  a);
-            }
-          });
-    }
-    LOGGER.debug("exit from deleteRemovedAttachmentsOnTaskUpdate()");
-  }
-
-  void insertNewAttachmentOnTaskUpdate(TaskImpl newTaskImpl, Attachment attachment)
-      throws AttachmentPersistenceException {
-    LOGGER.debug("entry to insertNewAttachmentOnTaskUpdate()");
-    AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-    initAttachment(attachmentImpl, newTaskImpl);
-
-    try {
-      attachmentMapper.insert(attachmentImpl);
-      LOGGER.debug(
-          "TaskService.updateTask() for TaskId={} INSERTED an Attachment={}.",
-          newTaskImpl.getId(),
-          attachmentImpl);
-    } catch (PersistenceException e) {
-      throw new AttachmentPersistenceException(
-          String.format(
-              "Cannot insert the Attachement %s for Task %s  because it already exists.",
-              attachmentImpl.getId(), newTaskImpl.getId()),
-          e.getCause());
+  /**
+   * Initializes and inserts the attachments of several new tasks with multi-row inserts.
+   *
+   * @param tasks the new tasks
+   * @throws InvalidArgumentException if the object reference of an attachment is invalid
+   * @throws AttachmentPersistenceException if an attachment cannot be inserted
+   */
+  void insertNewAttachmentsOnTasksCreation(List<TaskImpl> tasks)
+      throws InvalidArgumentException, AttachmentPersistenceException {
+    List<AttachmentImpl> attachments = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      if (task.getAttachments() == null) {
+        continue;
+      }
+      for (Attachment attachment : task.getAttachments()) {
+        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+        initAttachment(attachmentImpl, task);
+        ObjectReference.validate(
+            attachmentImpl.getObjectReference(), "ObjectReference", "Attachment");
+        attachments.add(attachmentImpl);
+      }
     }
-    LOGGER.debug("exit from insertNewAttachmentOnTaskUpdate(), returning");
+    insertAttachments(attachments);
   }
 
   void initAttachment(AttachmentImpl attachment, Task newTask) {
@@ -226,25 +200,113 @@ public class AttachmentHandler {
     LOGGER.debug("exit from initAttachment()");
   }
 
-  private void initializeAndInsertAttachment(TaskImpl task, AttachmentImpl attachmentImpl)
-      throws AttachmentPersistenceException, InvalidArgumentException {
-    LOGGER.debug("entry to initializeAndInsertAttachment()");
-    initAttachment(attachmentImpl, task);
-    ObjectReference objRef = attachmentImpl.getObjectReference();
-    ObjectReference.validate(objRef, "ObjectReference", "Attachment");
-    try {
-      attachmentMapper.insert(attachmentImpl);
-      LOGGER.debug(
-          "TaskService.updateTask() for TaskId={} INSERTED an Attachment={}.",
-          task.getId(),
-          attachmentImpl);
-    } catch (PersistenceException e) {
+  private void deleteAttachments(List<String> attachmentIds) {
+    if (attachmentIds.isEmpty()) {
+      return;
+    }
+    CollectionUtil.partitionBasedOnSize(attachmentIds, BATCH_SIZE)
+        .forEach(attachmentMapper::deleteMultiple);
+    LOGGER.debug("TaskService.updateTask() DELETED the Attachments {}.", attachmentIds);
+  }
+
+  private void insertAttachments(List<AttachmentImpl> attachments)
+      throws AttachmentPersistenceException {
+    if (attachments.isEmpty()) {
+      return;
+    }
+    verifyClassificationsOfAttachmentsExist(attachments);
+    for (List<AttachmentImpl> batch :
+        CollectionUtil.partitionBasedOnSize(attachments, BATCH_SIZE)) {
+      try {
+        attachmentMapper.insertMultiple(batch);
+      } catch (PersistenceException e) {
+        throw new AttachmentPersistenceException(
+            String.format(
+                "Cannot insert the Attachments %s, because at least one of them already exists.",
+                batch.stream().map(AttachmentImpl::getId).collect(Collectors.toList())),
+            e.getCause());
+      }
+    }
+    LOGGER.debug("TaskService INSERTED the Attachments {}.", attachments);
+  }
+
+  private void updateAttachments(List<AttachmentImpl> attachments) throws ConcurrencyException {
+    if (attachments.isEmpty()) {
+      return;
+    }
+    int[] updateCounts =
+        BatchStatementExecutor.executeBatch(
+            taskanaEngine.getSqlSession(),
+            UPDATE_STATEMENT,
+            attachments,
+            this::findUpdatedAttachments);
+    for (int i = 0; i < attachments.size(); i++) {
+      // the version condition of the update was not met
+      if (updateCounts[i] == 0) {
+        throw new ConcurrencyException(
+            String.format(
+                "The attachment %s has already been updated by another user",
+                attachments.get(i).getId()));
+      }
+    }
+    attachments.forEach(attachment -> attachment.setVersion(attachment.getVersion() + 1));
+  }
+
+  // an updated attachment has the incremented version and the new modification timestamp, which
+  // is compared in milliseconds, since the database may store it with a lower precision
+  private List<AttachmentImpl> findUpdatedAttachments(List<AttachmentImpl> attachments) {
+    Map<String, AttachmentSummaryImpl> storedAttachmentsById =
+        attachmentMapper
+            .findAttachmentSummariesByTaskIds(
+                attachments.stream()
+                    .map(AttachmentImpl::getTaskId)
+                    .distinct()
+                    .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(AttachmentSummaryImpl::getId, Function.identity()));
+    return attachments.stream()
+        .filter(
+            attachment -> {
+              AttachmentSummaryImpl storedAttachment =
+                  storedAttachmentsById.get(attachment.getId());
+              return storedAttachment != null
+                  && storedAttachment.getVersion() == attachment.getVersion() + 1
+                  && storedAttachment
+                      .getModified()
+                      .truncatedTo(ChronoUnit.MILLIS)
+                      .equals(attachment.getModified().truncatedTo(ChronoUnit.MILLIS));
+            })
+        .collect(Collectors.toList());
+  }
+
+  // the classifications of all attachments are checked with one query before they are inserted
+  private void verifyClassificationsOfAttachmentsExist(List<AttachmentImpl> attachments)
+      throws AttachmentPersistenceException {
+    Set<String> classificationIds =
+        attachments.stream()
+            .map(Attachment::getClassificationSummary)
+            .filter(Objects::nonNull)
+            .map(ClassificationSummary::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    if (classificationIds.isEmpty()) {
+      return;
+    }
+    Set<String> missingClassificationIds = new HashSet<>(classificationIds);
+    CollectionUtil.partitionBasedOnSize(classificationIds, BATCH_SIZE)
+        .forEach(
+            ids ->
+                missingClassificationIds.removeAll(
+                    classificationService
+                        .createClassificationQuery()
+                        .idIn(ids.toArray(new String[0]))
+                        .listValues(ClassificationQueryColumnName.ID, null)));
+    if (!missingClassificationIds.isEmpty()) {
       throw new AttachmentPersistenceException(
           String.format(
-              "Cannot insert the Attachement %s for Task %s  because it already exists.",
-              attachmentImpl.getId(), task.getId()),
-          e.getCause());
+              "Cannot insert the Attachments, because the Classifications %s do not exist.",
+              missingClassificationIds),
+          null);
     }
-    LOGGER.debug("exit from initializeAndInsertAttachment()");
   }
 }
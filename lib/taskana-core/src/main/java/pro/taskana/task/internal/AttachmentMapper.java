@@ -1,6 +1,5 @@
 package pro.taskana.task.internal;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import org.apache.ibatis.annotations.Delete;
@@ -12,7 +11,6 @@ import org.apache.ibatis.annotations.Update;
 import org.apache.ibatis.type.ClobTypeHandler;
 
 import pro.taskana.common.internal.persistence.MapTypeHandler;
-import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 
@@ -26,8 +24,16 @@ public interface AttachmentMapper {
           + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )")
   void insert(@Param("att") AttachmentImpl att);
 
+  @Insert(
+      "<script>INSERT INTO ATTACHMENT (ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES) VALUES "
+          + "<foreach item='att' collection='attachments' separator=',' >"
+          + "(#{att.id}, #{att.taskId}, #{att.created}, #{att.modified}, #{att.classificationSummary.key}, #{att.classificationSummary.id}, #{att.objectReference.company}, #{att.objectReference.system}, #{att.objectReference.systemInstance}, "
+          + " #{att.objectReference.type}, #{att.objectReference.value}, #{att.channel}, #{att.received}, #{att.customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} )"
+          + "</foreach></script>")
+  void insertMultiple(@Param("attachments") List<AttachmentImpl> attachments);
+
   @Select(
-      "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES "
+      "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES, VERSION "
           + "FROM ATTACHMENT "
           + "WHERE TASK_ID = #{taskId} "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -45,6 +51,7 @@ public interface AttachmentMapper {
   @Result(property = "objectReference.value", column = "REF_VALUE")
   @Result(property = "channel", column = "CHANNEL")
   @Result(property = "received", column = "RECEIVED")
+  @Result(property = "version", column = "VERSION")
   @Result(
       property = "customAttributes",
       column = "CUSTOM_ATTRIBUTES",
@@ -53,7 +60,34 @@ public interface AttachmentMapper {
   List<AttachmentImpl> findAttachmentsByTaskId(@Param("taskId") String taskId);
 
   @Select(
-      "<script>SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED "
+      "<script> SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES, VERSION "
+          + "FROM ATTACHMENT "
+          + "WHERE TASK_ID IN (<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "taskId", column = "TASK_ID")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID")
+  @Result(property = "objectReference.company", column = "REF_COMPANY")
+  @Result(property = "objectReference.system", column = "REF_SYSTEM")
+  @Result(property = "objectReference.systemInstance", column = "REF_INSTANCE")
+  @Result(property = "objectReference.type", column = "REF_TYPE")
+  @Result(property = "objectReference.value", column = "REF_VALUE")
+  @Result(property = "channel", column = "CHANNEL")
+  @Result(property = "received", column = "RECEIVED")
+  @Result(property = "version", column = "VERSION")
+  @Result(
+      property = "customAttributes",
+      column = "CUSTOM_ATTRIBUTES",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  List<AttachmentImpl> findAttachmentsByTaskIds(@Param("taskIds") List<String> taskIds);
+
+  @Select(
+      "<script>SELECT ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, CLASSIFICATION_ID, REF_COMPANY, REF_SYSTEM, REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, VERSION "
           + "FROM ATTACHMENT "
           + "<where>"
           + "<choose>"
@@ -80,12 +114,17 @@ public interface AttachmentMapper {
   @Result(property = "objectReference.value", column = "REF_VALUE")
   @Result(property = "channel", column = "CHANNEL")
   @Result(property = "received", column = "RECEIVED")
+  @Result(property = "version", column = "VERSION")
   List<AttachmentSummaryImpl> findAttachmentSummariesByTaskIds(
       @Param("taskIds") List<String> taskIds);
 
   @Delete("DELETE FROM ATTACHMENT WHERE ID=#{attachmentId}")
   void delete(@Param("attachmentId") String attachmentId);
 
+  @Delete(
+      "<script>DELETE FROM ATTACHMENT WHERE ID IN(<foreach item='item' collection='attachmentIds' separator=',' >#{item}</foreach>)</script>")
+  void deleteMultiple(@Param("attachmentIds") List<String> attachmentIds);
+
   @Delete(
       "<script>DELETE FROM ATTACHMENT WHERE TASK_ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</script>")
   void deleteMultipleByTaskIds(@Param("taskIds") List<String> taskIds);
@@ -94,9 +133,10 @@ public interface AttachmentMapper {
       "UPDATE ATTACHMENT SET TASK_ID = #{taskId}, CREATED = #{created}, MODIFIED = #{modified},"
           + " CLASSIFICATION_KEY = #{classificationSummary.key}, CLASSIFICATION_ID = #{classificationSummary.id}, REF_COMPANY = #{objectReference.company}, REF_SYSTEM = #{objectReference.system},"
           + " REF_INSTANCE = #{objectReference.systemInstance}, REF_TYPE = #{objectReference.type}, REF_VALUE = #{objectReference.value},"
-          + " CHANNEL = #{channel}, RECEIVED = #{received}, CUSTOM_ATTRIBUTES = #{customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}"
-          + " WHERE ID = #{id}")
-  void update(AttachmentImpl attachment);
+          + " CHANNEL = #{channel}, RECEIVED = #{received}, CUSTOM_ATTRIBUTES = #{customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler},"
+          + " VERSION = VERSION + 1"
+          + " WHERE ID = #{id} AND VERSION = #{version}")
+  int update(AttachmentImpl attachment);
 
   @Select(
       "<script> select CUSTOM_ATTRIBUTES from ATTACHMENT where id = #{attachmentId}"
@@ -108,15 +148,4 @@ public interface AttachmentMapper {
       javaType = String.class,
       typeHandler = ClobTypeHandler.class)
   String getCustomAttributesAsString(@Param("attachmentId") String attachmentId);
-
-  @Select(
-      "<script> SELECT DISTINCT t.ID, t.PLANNED FROM TASK t "
-          + "LEFT JOIN ATTACHMENT AS a on a.TASK_ID = t.ID"
-          + " WHERE a.CLASSIFICATION_ID = #{classificationId} "
-          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
-          + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(property = "right", column = "PLANNED")
-  List<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
-      @Param("classificationId") String classificationId);
 }
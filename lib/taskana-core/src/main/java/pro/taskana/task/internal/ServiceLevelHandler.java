@@ -4,13 +4,17 @@ import static java.util.stream.Collectors.groupingBy;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +25,9 @@ import pro.taskana.common.api.WorkingDaysToDaysConverter;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.persistence.BatchStatementExecutor;
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.exceptions.UpdateFailedException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
@@ -34,6 +41,8 @@ class ServiceLevelHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ServiceLevelHandler.class);
   private static final Duration MAX_DURATION = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+  private static final String UPDATE_DUE_DATE_STATEMENT =
+      TaskMapper.class.getName() + ".updateDueDate";
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskMapper taskMapper;
   private final AttachmentMapper attachmentMapper;
@@ -227,14 +236,89 @@ class ServiceLevelHandler {
     return actualPriority;
   }
 
+  // the due dates of the tasks are almost always distinct, hence they are computed in memory and
+  // written with one JDBC batch per chunk of tasks instead of one UPDATE per distinct due date.
   private BulkLog updateTaskDueDatesOnClassificationUpdate(
       List<MinimalTaskSummary> existingTasks,
       List<AttachmentSummaryImpl> attachments,
       List<ClassificationWithServiceLevelResolved> allInvolvedClassificationsWithDuration) {
-    Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration =
-        getTasksPerPlannedAndDuration(
-            existingTasks, attachments, allInvolvedClassificationsWithDuration);
-    return updateDuePropertyOfAffectedTasks(tasksPerPlannedAndDuration);
+    Map<String, Duration> durationPerClassificationId =
+        getClassificationIdToDurationMap(allInvolvedClassificationsWithDuration);
+    Map<String, Set<String>> taskIdToClassificationIdsMap =
+        getTaskIdToClassificationsMap(existingTasks, attachments);
+    WorkingDayCalendar calendar = new WorkingDayCalendar(converter);
+    Instant now = Instant.now();
+
+    List<TaskImpl> tasksToUpdate = new ArrayList<>();
+    for (MinimalTaskSummary task : existingTasks) {
+      Duration duration =
+          determineMinimalDurationForATask(
+              taskIdToClassificationIdsMap.get(task.getTaskId()), durationPerClassificationId);
+      TaskImpl taskToUpdate = new TaskImpl();
+      taskToUpdate.setId(task.getTaskId());
+      taskToUpdate.setDue(calendar.addWorkingDays(task.getPlanned(), duration));
+      taskToUpdate.setModified(now);
+      tasksToUpdate.add(taskToUpdate);
+    }
+    return updateDueDatesInBatches(tasksToUpdate);
+  }
+
+  private BulkLog updateDueDatesInBatches(List<TaskImpl> tasksToUpdate) {
+    BulkLog bulkLog = new BulkLog();
+    int chunkSize =
+        Math.max(1, taskanaEngine.getEngine().getConfiguration().getTaskRefreshJobChunkSize());
+    long start = System.nanoTime();
+    int updatedTasks = 0;
+    for (List<TaskImpl> chunk : CollectionUtil.partitionBasedOnSize(tasksToUpdate, chunkSize)) {
+      int[] updateCounts =
+          BatchStatementExecutor.executeBatch(
+              taskanaEngine.getSqlSession(),
+              UPDATE_DUE_DATE_STATEMENT,
+              chunk,
+              this::findTasksWithUpdatedDueDate);
+      for (int i = 0; i < chunk.size(); i++) {
+        if (updateCounts[i] == 0) {
+          String taskId = chunk.get(i).getId();
+          bulkLog.addError(
+              taskId,
+              new UpdateFailedException(
+                  String.format("Could not set Due Date of Task with Id %s. ", taskId)));
+        } else {
+          updatedTasks++;
+        }
+      }
+    }
+    long durationInMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+    LOGGER.info(
+        "Refreshed the due date of {} tasks in {} ms ({} tasks per second).",
+        updatedTasks,
+        durationInMillis,
+        updatedTasks * 1000L / durationInMillis);
+    return bulkLog;
+  }
+
+  // the timestamps are compared in milliseconds, since the database may store them with a lower
+  // precision
+  private List<TaskImpl> findTasksWithUpdatedDueDate(List<TaskImpl> tasks) {
+    Map<String, TaskImpl> storedTasksById =
+        taskMapper.findByIds(tasks.stream().map(TaskImpl::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(TaskImpl::getId, Function.identity()));
+    return tasks.stream()
+        .filter(
+            task -> {
+              TaskImpl storedTask = storedTasksById.get(task.getId());
+              return storedTask != null
+                  && storedTask
+                      .getDue()
+                      .truncatedTo(ChronoUnit.MILLIS)
+                      .equals(task.getDue().truncatedTo(ChronoUnit.MILLIS))
+                  && storedTask
+                      .getModified()
+                      .truncatedTo(ChronoUnit.MILLIS)
+                      .equals(task.getModified().truncatedTo(ChronoUnit.MILLIS));
+            })
+        .collect(Collectors.toList());
   }
 
   private TaskImpl updatePlannedDueOnTaskUpdate(
@@ -338,37 +422,6 @@ class ServiceLevelHandler {
     return newTask;
   }
 
-  private BulkLog updateDuePropertyOfAffectedTasks(
-      Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration) {
-    BulkLog bulkLog = new BulkLog();
-    tasksPerPlannedAndDuration.forEach(
-        (instDurHld, taskDurationList) ->
-            bulkLog.addAllErrors(
-                updateDuePropertyOfTasksWithIdenticalDueDate(instDurHld, taskDurationList)));
-    return bulkLog;
-  }
-
-  private BulkOperationResults<String, TaskanaException>
-      updateDuePropertyOfTasksWithIdenticalDueDate(
-          InstantDurationHolder durationHolder, List<TaskDuration> taskDurationList) {
-    BulkLog bulkLog = new BulkLog();
-    TaskImpl referenceTask = new TaskImpl();
-    referenceTask.setPlanned(durationHolder.getPlanned());
-    referenceTask.setModified(Instant.now());
-    referenceTask.setDue(
-        getFollowingWorkingDays(referenceTask.getPlanned(), durationHolder.getDuration()));
-    List<String> taskIdsToUpdate =
-        taskDurationList.stream().map(TaskDuration::getTaskId).collect(Collectors.toList());
-    long numTasksUpdated = taskMapper.updateTaskDueDates(taskIdsToUpdate, referenceTask);
-    if (numTasksUpdated != taskIdsToUpdate.size()) {
-      BulkLog checkResult =
-          checkResultsOfTasksUpdateAndAddErrorsToBulkLog(
-              taskIdsToUpdate, referenceTask, numTasksUpdated);
-      bulkLog.addAllErrors(checkResult);
-    }
-    return bulkLog;
-  }
-
   private BulkLog updatePlannedPropertyOfAffectedTasks(
       Instant planned, Map<Duration, List<String>> durationToTaskIdsMap) {
     BulkLog bulkLog = new BulkLog();
@@ -448,31 +501,6 @@ class ServiceLevelHandler {
                 Collectors.mapping(TaskDuration::getTaskId, Collectors.toList())));
   }
 
-  private Map<InstantDurationHolder, List<TaskDuration>> getTasksPerPlannedAndDuration(
-      List<MinimalTaskSummary> minimalTaskSummaries,
-      List<AttachmentSummaryImpl> attachments,
-      List<ClassificationWithServiceLevelResolved>
-          allInvolvedClassificationsWithServiceLevelResolved) {
-
-    Map<String, Duration> durationPerClassificationId =
-        getClassificationIdToDurationMap(allInvolvedClassificationsWithServiceLevelResolved);
-
-    List<TaskDuration> resultingTaskDurations = new ArrayList<>();
-    // Map taskId -> Set Of involved classification Ids
-    Map<String, Set<String>> taskIdClassificationIdsMap =
-        getTaskIdToClassificationsMap(minimalTaskSummaries, attachments);
-
-    for (MinimalTaskSummary task : minimalTaskSummaries) {
-      Duration duration =
-          determineMinimalDurationForATask(
-              taskIdClassificationIdsMap.get(task.getTaskId()), durationPerClassificationId);
-
-      TaskDuration taskDuration = new TaskDuration(task.getTaskId(), duration, task.getPlanned());
-      resultingTaskDurations.add(taskDuration);
-    }
-    return resultingTaskDurations.stream().collect(groupingBy(TaskDuration::getPlannedDuration));
-  }
-
   private Map<String, Duration> getClassificationIdToDurationMap(
       List<ClassificationWithServiceLevelResolved>
           allInvolvedClassificationsWithServiceLevelResolved) {
@@ -690,10 +718,6 @@ class ServiceLevelHandler {
     Instant getPlanned() {
       return planned;
     }
-
-    InstantDurationHolder getPlannedDuration() {
-      return new InstantDurationHolder(planned, duration);
-    }
   }
 
   private static final class TaskIdPriority {
@@ -723,50 +747,33 @@ class ServiceLevelHandler {
     }
   }
 
-  private static final class InstantDurationHolder {
-
-    private Instant planned;
-    private Duration duration;
-
-    InstantDurationHolder(Instant planned, Duration duration) {
-      this.planned = planned;
-      this.duration = duration;
-    }
-
-    public Instant getPlanned() {
-      return planned;
-    }
-
-    public void setPlanned(Instant planned) {
-      this.planned = planned;
-    }
-
-    public Duration getDuration() {
-      return duration;
-    }
+  /**
+   * Caches the number of calendar days which are added to a timestamp for a number of working days.
+   * This number only depends on the day of the timestamp. Timestamps close to midnight are computed
+   * individually, because adding whole days to them may change the day at a daylight saving time
+   * change.
+   */
+  private static final class WorkingDayCalendar {
 
-    public void setDuration(Duration duration) {
-      this.duration = duration;
-    }
+    private final WorkingDaysToDaysConverter converter;
+    private final Map<Pair<LocalDate, Duration>, Duration> calendarDays = new HashMap<>();
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(planned, duration);
+    WorkingDayCalendar(WorkingDaysToDaysConverter converter) {
+      this.converter = converter;
     }
 
-    @Override
-    public boolean equals(Object obj) {
-      if (this == obj) {
-        return true;
-      }
-      if (obj == null) {
-        return false;
-      }
-      if (getClass() != obj.getClass()) {
-        return false;
+    Instant addWorkingDays(Instant instant, Duration workingDays) {
+      LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+      if (localDateTime.getHour() == 0 || localDateTime.getHour() == 23) {
+        return converter.addWorkingDaysToInstant(instant, workingDays);
       }
-      InstantDurationHolder other = (InstantDurationHolder) obj;
-      return Objects.equals(planned, other.planned) && Objects.equals(duration, other.duration);
+      Duration days =
+          calendarDays.computeIfAbsent(
+              new Pair<>(localDateTime.toLocalDate(), workingDays),
+              key ->
+                  Duration.between(
+                      instant, converter.addWorkingDaysToInstant(instant, workingDays)));
+      return instant.plus(days);
     }
   }
 
@@ -0,0 +1,75 @@
+package pro.taskana.task.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.task.api.events.TaskChangeEvent;
+import pro.taskana.task.api.events.TaskChangeListener;
+import pro.taskana.task.api.events.TaskChangeType;
+
+/**
+ * Passes the changes of tasks to the registered {@link TaskChangeListener TaskChangeListeners}.
+ * Without a registered listener no event is created at all. The listeners are notified when the
+ * database session of the change ended, so that changes which are rolled back are not passed.
+ */
+public final class TaskChangeEventPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeEventPublisher.class);
+  private final List<TaskChangeListener> listeners = new CopyOnWriteArrayList<>();
+  private final Consumer<Runnable> afterSessionEnd;
+
+  /**
+   * Creates a publisher which notifies the listeners by the given action.
+   *
+   * @param afterSessionEnd executes the notification after the session of the current thread ended
+   */
+  public TaskChangeEventPublisher(Consumer<Runnable> afterSessionEnd) {
+    this.afterSessionEnd = afterSessionEnd;
+  }
+
+  public void addListener(TaskChangeListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener must not be null");
+    }
+    listeners.add(listener);
+  }
+
+  public void removeListener(TaskChangeListener listener) {
+    listeners.remove(listener);
+  }
+
+  public boolean isActive() {
+    return !listeners.isEmpty();
+  }
+
+  public void publish(TaskChangeType type, String taskId, String workbasketId) {
+    if (isActive()) {
+      notifyListeners(new TaskChangeEvent(type, taskId, workbasketId));
+    }
+  }
+
+  public void publishTransfer(String taskId, String workbasketId, String previousWorkbasketId) {
+    if (isActive()) {
+      notifyListeners(
+          new TaskChangeEvent(
+              TaskChangeType.TRANSFERRED, taskId, workbasketId, previousWorkbasketId));
+    }
+  }
+
+  private void notifyListeners(TaskChangeEvent event) {
+    afterSessionEnd.accept(() -> notifyListenersNow(event));
+  }
+
+  private void notifyListenersNow(TaskChangeEvent event) {
+    for (TaskChangeListener listener : listeners) {
+      try {
+        listener.onTaskChange(event);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Caught exception while passing {} to listener {}", event, listener, e);
+      }
+    }
+  }
+}
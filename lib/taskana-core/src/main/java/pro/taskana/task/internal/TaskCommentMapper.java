@@ -10,6 +10,7 @@ import org.apache.ibatis.annotations.Update;
 
 import pro.taskana.task.internal.models.TaskCommentImpl;
 
+@SuppressWarnings("checkstyle:LineLength")
 public interface TaskCommentMapper {
 
   @Insert(
@@ -41,6 +42,21 @@ public interface TaskCommentMapper {
   @Result(property = "modified", column = "MODIFIED")
   List<TaskCommentImpl> findByTaskId(@Param("taskId") String taskId);
 
+  @Select(
+      "<script> SELECT ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED"
+          + " FROM TASK_COMMENT "
+          + "WHERE TASK_ID IN (<foreach item='taskId' collection='taskIds' separator=',' >#{taskId}</foreach>) "
+          + " ORDER BY TASK_ID ASC, CREATED ASC "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "taskId", column = "TASK_ID")
+  @Result(property = "textField", column = "TEXT_FIELD")
+  @Result(property = "creator", column = "CREATOR")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "modified", column = "MODIFIED")
+  List<TaskCommentImpl> findByTaskIds(@Param("taskIds") List<String> taskIds);
+
   @Select(
       "<script> SELECT ID, TASK_ID, TEXT_FIELD, CREATOR, CREATED, MODIFIED"
           + " FROM TASK_COMMENT "
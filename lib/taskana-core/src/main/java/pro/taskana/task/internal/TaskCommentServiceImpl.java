@@ -2,17 +2,23 @@ package pro.taskana.task.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.exceptions.TaskCommentNotFoundException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.TaskComment;
@@ -21,6 +27,7 @@ import pro.taskana.task.internal.models.TaskCommentImpl;
 class TaskCommentServiceImpl {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskCommentServiceImpl.class);
+  private static final int BATCH_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskServiceImpl taskService;
@@ -187,6 +194,46 @@ class TaskCommentServiceImpl {
     }
   }
 
+  Map<String, List<TaskComment>> getTaskComments(List<String> taskIds) {
+
+    LOGGER.debug("entry to getTaskComments (taskIds = {})", taskIds);
+
+    Map<String, List<TaskComment>> taskCommentsByTaskId = new LinkedHashMap<>();
+    try {
+
+      taskanaEngine.openConnection();
+
+      List<String> distinctTaskIds = new ArrayList<>(new HashSet<>(taskIds));
+      for (List<String> taskIdsOfBatch :
+          CollectionUtil.partitionBasedOnSize(distinctTaskIds, BATCH_SIZE)) {
+        // the task query only returns the tasks which the current user is allowed to read
+        List<String> readableTaskIds =
+            taskService
+                .createTaskQuery()
+                .idIn(taskIdsOfBatch.toArray(new String[0]))
+                .listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING);
+        if (readableTaskIds.isEmpty()) {
+          continue;
+        }
+        readableTaskIds.forEach(taskId -> taskCommentsByTaskId.put(taskId, new ArrayList<>()));
+        taskCommentMapper
+            .findByTaskIds(readableTaskIds)
+            .forEach(
+                taskComment ->
+                    taskCommentsByTaskId.get(taskComment.getTaskId()).add(taskComment));
+      }
+
+      return taskCommentsByTaskId;
+
+    } finally {
+
+      taskanaEngine.returnConnection();
+
+      LOGGER.debug(
+          "exit from getTaskComments(), found comments of {} tasks", taskCommentsByTaskId.size());
+    }
+  }
+
   TaskComment getTaskComment(String taskCommentId)
       throws TaskCommentNotFoundException, NotAuthorizedException, TaskNotFoundException,
           InvalidArgumentException {
@@ -10,6 +10,7 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
 
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
@@ -26,7 +27,7 @@ public interface TaskMapper {
 
   @Select(
       "<script>SELECT ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, "
-          + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16 "
+          + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16, VERSION "
           + "FROM TASK "
           + "WHERE ID = #{id} "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -88,8 +89,76 @@ public interface TaskMapper {
   @Result(property = "custom14", column = "CUSTOM_14")
   @Result(property = "custom15", column = "CUSTOM_15")
   @Result(property = "custom16", column = "CUSTOM_16")
+  @Result(property = "version", column = "VERSION")
   TaskImpl findById(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, "
+          + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16, VERSION "
+          + "FROM TASK "
+          + "WHERE ID IN (<foreach item='item' collection='ids' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "externalId", column = "EXTERNAL_ID")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "claimed", column = "CLAIMED")
+  @Result(property = "completed", column = "COMPLETED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "planned", column = "PLANNED")
+  @Result(property = "due", column = "DUE")
+  @Result(property = "name", column = "NAME")
+  @Result(property = "creator", column = "CREATOR")
+  @Result(property = "description", column = "DESCRIPTION")
+  @Result(property = "note", column = "NOTE")
+  @Result(property = "priority", column = "PRIORITY")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "workbasketSummaryImpl.id", column = "WORKBASKET_ID")
+  @Result(property = "workbasketSummaryImpl.key", column = "WORKBASKET_KEY")
+  @Result(property = "classificationSummaryImpl.category", column = "CLASSIFICATION_CATEGORY")
+  @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID")
+  @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "businessProcessId", column = "BUSINESS_PROCESS_ID")
+  @Result(property = "parentBusinessProcessId", column = "PARENT_BUSINESS_PROCESS_ID")
+  @Result(property = "owner", column = "OWNER")
+  @Result(property = "primaryObjRef.company", column = "POR_COMPANY")
+  @Result(property = "primaryObjRef.system", column = "POR_SYSTEM")
+  @Result(property = "primaryObjRef.systemInstance", column = "POR_INSTANCE")
+  @Result(property = "primaryObjRef.type", column = "POR_TYPE")
+  @Result(property = "primaryObjRef.value", column = "POR_VALUE")
+  @Result(property = "isRead", column = "IS_READ")
+  @Result(property = "isTransferred", column = "IS_TRANSFERRED")
+  @Result(
+      property = "callbackInfo",
+      column = "CALLBACK_INFO",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  @Result(property = "callbackState", column = "CALLBACK_STATE")
+  @Result(
+      property = "customAttributes",
+      column = "CUSTOM_ATTRIBUTES",
+      javaType = Map.class,
+      typeHandler = MapTypeHandler.class)
+  @Result(property = "custom1", column = "CUSTOM_1")
+  @Result(property = "custom2", column = "CUSTOM_2")
+  @Result(property = "custom3", column = "CUSTOM_3")
+  @Result(property = "custom4", column = "CUSTOM_4")
+  @Result(property = "custom5", column = "CUSTOM_5")
+  @Result(property = "custom6", column = "CUSTOM_6")
+  @Result(property = "custom7", column = "CUSTOM_7")
+  @Result(property = "custom8", column = "CUSTOM_8")
+  @Result(property = "custom9", column = "CUSTOM_9")
+  @Result(property = "custom10", column = "CUSTOM_10")
+  @Result(property = "custom11", column = "CUSTOM_11")
+  @Result(property = "custom12", column = "CUSTOM_12")
+  @Result(property = "custom13", column = "CUSTOM_13")
+  @Result(property = "custom14", column = "CUSTOM_14")
+  @Result(property = "custom15", column = "CUSTOM_15")
+  @Result(property = "custom16", column = "CUSTOM_16")
+  @Result(property = "version", column = "VERSION")
+  List<TaskImpl> findByIds(@Param("ids") List<String> ids);
+
   @Insert(
       "INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,  CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, "
           + "POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CALLBACK_INFO, CALLBACK_STATE, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, "
@@ -113,9 +182,15 @@ public interface TaskMapper {
           + "CALLBACK_INFO = #{callbackInfo,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, "
           + "CUSTOM_ATTRIBUTES = #{customAttributes,jdbcType=CLOB,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler}, CUSTOM_1 = #{custom1}, CUSTOM_2 = #{custom2}, "
           + "CUSTOM_3 = #{custom3}, CUSTOM_4 = #{custom4}, CUSTOM_5 = #{custom5}, CUSTOM_6 = #{custom6}, CUSTOM_7 = #{custom7}, CUSTOM_8 = #{custom8}, "
-          + "CUSTOM_9 = #{custom9}, CUSTOM_10 = #{custom10}, CUSTOM_11 = #{custom11}, CUSTOM_12 = #{custom12}, CUSTOM_13 = #{custom13}, CUSTOM_14 = #{custom14}, CUSTOM_15 = #{custom15}, CUSTOM_16 = #{custom16} "
-          + "WHERE ID = #{id}")
-  void update(TaskImpl task);
+          + "CUSTOM_9 = #{custom9}, CUSTOM_10 = #{custom10}, CUSTOM_11 = #{custom11}, CUSTOM_12 = #{custom12}, CUSTOM_13 = #{custom13}, CUSTOM_14 = #{custom14}, CUSTOM_15 = #{custom15}, CUSTOM_16 = #{custom16}, "
+          + "VERSION = VERSION + 1 "
+          + "WHERE ID = #{id} AND VERSION = #{version}")
+  int update(TaskImpl task);
+
+  @Update(
+      "UPDATE TASK SET IS_READ = #{isRead}, MODIFIED = #{modified}, VERSION = VERSION + 1 WHERE ID = #{id}")
+  void setRead(
+      @Param("id") String id, @Param("isRead") boolean isRead, @Param("modified") Instant modified);
 
   @Delete("DELETE FROM TASK WHERE ID = #{id}")
   void delete(String id);
@@ -124,13 +199,80 @@ public interface TaskMapper {
       "<script>DELETE FROM TASK WHERE ID IN(<foreach item='item' collection='ids' separator=',' >#{item}</foreach>)</script>")
   void deleteMultiple(@Param("ids") List<String> ids);
 
+  @Insert(
+      "<script>INSERT INTO TASK_TOMBSTONE (TASK_ID, WORKBASKET_ID, DELETED) "
+          + "SELECT ID, WORKBASKET_ID, #{deleted} FROM TASK "
+          + "WHERE ID IN(<foreach item='item' collection='ids' separator=',' >#{item}</foreach>)</script>")
+  void insertTombstones(@Param("ids") List<String> ids, @Param("deleted") Instant deleted);
+
+  @Delete("DELETE FROM TASK_TOMBSTONE WHERE DELETED < #{deletedBefore}")
+  int deleteTombstones(@Param("deletedBefore") Instant deletedBefore);
+
+  @Select(
+      "<script>SELECT t.ID, t.MODIFIED FROM TASK AS t "
+          + "<where>"
+          + "<if test='timestamp != null'>"
+          + "t.MODIFIED &gt;= #{timestamp} AND (t.MODIFIED &gt; #{timestamp} OR t.ID &gt; #{id}) "
+          + "</if>"
+          + "AND t.MODIFIED &lt; #{changedBefore} "
+          + "<if test='accessIds != null'>"
+          + "AND EXISTS (SELECT 1 FROM WORKBASKET_ACCESS_LIST AS s WHERE s.WORKBASKET_ID = t.WORKBASKET_ID "
+          + "AND s.ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND <choose><when test=\"_databaseId == 'postgres'\">s.PERM_READ</when>"
+          + "<otherwise>s.PERM_READ = 1</otherwise></choose>) "
+          + "</if>"
+          + "</where>"
+          + "ORDER BY t.MODIFIED, t.ID FETCH FIRST ${limit} ROWS ONLY"
+          + "</script>")
+  @Result(property = "left", column = "ID")
+  @Result(
+      property = "right",
+      column = "MODIFIED",
+      javaType = Instant.class,
+      typeHandler = InstantTypeHandler.class)
+  List<Pair<String, Instant>> findTasksModifiedAfter(
+      @Param("timestamp") Instant timestamp,
+      @Param("id") String id,
+      @Param("changedBefore") Instant changedBefore,
+      @Param("accessIds") List<String> accessIds,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT tt.TASK_ID, tt.DELETED FROM TASK_TOMBSTONE AS tt "
+          + "<where>"
+          + "<if test='timestamp != null'>"
+          + "tt.DELETED &gt;= #{timestamp} AND (tt.DELETED &gt; #{timestamp} OR tt.TASK_ID &gt; #{id}) "
+          + "</if>"
+          + "AND tt.DELETED &lt; #{changedBefore} "
+          + "<if test='accessIds != null'>"
+          + "AND EXISTS (SELECT 1 FROM WORKBASKET_ACCESS_LIST AS s WHERE s.WORKBASKET_ID = tt.WORKBASKET_ID "
+          + "AND s.ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND <choose><when test=\"_databaseId == 'postgres'\">s.PERM_READ</when>"
+          + "<otherwise>s.PERM_READ = 1</otherwise></choose>) "
+          + "</if>"
+          + "</where>"
+          + "ORDER BY tt.DELETED, tt.TASK_ID FETCH FIRST ${limit} ROWS ONLY"
+          + "</script>")
+  @Result(property = "left", column = "TASK_ID")
+  @Result(
+      property = "right",
+      column = "DELETED",
+      javaType = Instant.class,
+      typeHandler = InstantTypeHandler.class)
+  List<Pair<String, Instant>> findTasksDeletedAfter(
+      @Param("timestamp") Instant timestamp,
+      @Param("id") String id,
+      @Param("changedBefore") Instant changedBefore,
+      @Param("accessIds") List<String> accessIds,
+      @Param("limit") int limit);
+
   @Update(
-      "<script>UPDATE TASK SET CALLBACK_STATE = #{state} WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)</script>")
+      "<script>UPDATE TASK SET CALLBACK_STATE = #{state}, VERSION = VERSION + 1 WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>)</script>")
   void setCallbackStateMultiple(
       @Param("externalIds") List<String> externalIds, @Param("state") CallbackState state);
 
   @Update(
-      "<script>UPDATE TASK SET OWNER = #{owner}, MODIFIED = #{modified} "
+      "<script>UPDATE TASK SET OWNER = #{owner}, MODIFIED = #{modified}, VERSION = VERSION + 1 "
           + "WHERE STATE = 'READY' "
           + "AND ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach> "
           + "</script>")
@@ -142,7 +284,7 @@ public interface TaskMapper {
   @Update(
       "<script>"
           + " UPDATE TASK SET MODIFIED = #{referencetask.modified}, STATE = #{referencetask.state}, WORKBASKET_KEY = #{referencetask.workbasketSummary.key}, WORKBASKET_ID= #{referencetask.workbasketSummary.id}, "
-          + " DOMAIN = #{referencetask.domain}, OWNER = #{referencetask.owner}, IS_READ = #{referencetask.isRead}, IS_TRANSFERRED = #{referencetask.isTransferred}"
+          + " DOMAIN = #{referencetask.domain}, OWNER = #{referencetask.owner}, IS_READ = #{referencetask.isRead}, IS_TRANSFERRED = #{referencetask.isTransferred}, VERSION = VERSION + 1"
           + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
           + "</script>")
   void updateTransfered(
@@ -151,7 +293,7 @@ public interface TaskMapper {
 
   @Update(
       "<script>"
-          + " UPDATE TASK SET COMPLETED = #{referenceTask.completed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}"
+          + " UPDATE TASK SET COMPLETED = #{referenceTask.completed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}, VERSION = VERSION + 1"
           + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
           + "</script>")
   void updateCompleted(
@@ -159,12 +301,17 @@ public interface TaskMapper {
 
   @Update(
       "<script>"
-          + " UPDATE TASK SET CLAIMED = #{referenceTask.claimed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}, IS_READ = #{referenceTask.isRead}"
+          + " UPDATE TASK SET CLAIMED = #{referenceTask.claimed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}, IS_READ = #{referenceTask.isRead}, VERSION = VERSION + 1"
           + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
           + "</script>")
   void updateClaimed(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskSummary referenceTask);
 
+  @Update(
+      "UPDATE TASK SET CLAIMED = #{claimed}, MODIFIED = #{modified}, STATE = #{state}, OWNER = #{owner}, IS_READ = #{isRead}, VERSION = VERSION + 1 "
+          + "WHERE ID = #{id} AND VERSION = #{version} AND STATE IN ('READY', 'CLAIMED')")
+  int updateClaimedIfUnmodified(TaskSummaryImpl task);
+
   @Select(
       "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, MODIFIED, CLASSIFICATION_ID, "
           + "PLANNED, DUE, CALLBACK_STATE FROM TASK "
@@ -189,7 +336,7 @@ public interface TaskMapper {
 
   @Update(
       "<script>"
-          + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory} "
+          + " UPDATE TASK SET CLASSIFICATION_CATEGORY = #{newCategory}, VERSION = VERSION + 1 "
           + " WHERE ID IN <foreach item='taskId' index='index' separator=',' open='(' close=')' collection='taskIds'>#{taskId}</foreach>"
           + "</script>")
   void updateClassificationCategoryOnChange(
@@ -213,7 +360,7 @@ public interface TaskMapper {
           + "<if test='fields.custom14'>CUSTOM_14 = #{task.custom14}, </if> "
           + "<if test='fields.custom15'>CUSTOM_15 = #{task.custom15}, </if> "
           + "<if test='fields.custom16'>CUSTOM_16 = #{task.custom16}, </if> "
-          + "MODIFIED = #{task.modified} "
+          + "MODIFIED = #{task.modified}, VERSION = VERSION + 1 "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
           + "</script>")
   void updateTasks(
@@ -225,38 +372,59 @@ public interface TaskMapper {
       "<script>"
           + "<if test='taskIds != null'> "
           + "UPDATE TASK SET  MODIFIED = #{referenceTask.modified}, "
-          + "PLANNED = #{referenceTask.planned}, DUE = #{referenceTask.due} "
+          + "PLANNED = #{referenceTask.planned}, DUE = #{referenceTask.due}, VERSION = VERSION + 1 "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
           + "</if> "
           + "</script>")
   long updateTaskDueDates(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
+  @Update(
+      "UPDATE TASK SET DUE = #{due}, MODIFIED = #{modified}, VERSION = VERSION + 1 WHERE ID = #{id}")
+  int updateDueDate(TaskImpl task);
+
   @Update(
       "<script>"
           + "<if test='taskIds != null'> "
           + "UPDATE TASK SET MODIFIED = #{referenceTask.modified}, "
-          + "PRIORITY = #{referenceTask.priority} "
+          + "PRIORITY = #{referenceTask.priority}, VERSION = VERSION + 1 "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
           + "</if> "
           + "</script>")
   long updatePriorityOfTasks(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
-  @Select(
-      "<script>SELECT ID, PLANNED, STATE FROM TASK "
+  @Update(
+      "<script>"
+          + "UPDATE TASK SET MODIFIED = #{now}, VERSION = VERSION + 1, PRIORITY = "
+          + "COALESCE((SELECT MAX(c.PRIORITY) FROM CLASSIFICATION c WHERE c.PRIORITY &gt; 0 "
+          + "AND (c.ID = TASK.CLASSIFICATION_ID OR c.ID IN (SELECT a.CLASSIFICATION_ID FROM ATTACHMENT a WHERE a.TASK_ID = TASK.ID))), 0) "
           + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
-          + "AND STATE IN ( 'READY','CLAIMED') "
+          + "AND PRIORITY &lt;&gt; "
+          + "COALESCE((SELECT MAX(c.PRIORITY) FROM CLASSIFICATION c WHERE c.PRIORITY &gt; 0 "
+          + "AND (c.ID = TASK.CLASSIFICATION_ID OR c.ID IN (SELECT a.CLASSIFICATION_ID FROM ATTACHMENT a WHERE a.TASK_ID = TASK.ID))), 0) "
+          + "</script>")
+  int recomputePriorityOfTasks(
+      @Param("taskIds") List<String> taskIds, @Param("now") Instant now);
+
+  @Select(
+      "<script>SELECT ID, PLANNED FROM TASK "
+          + "WHERE CLASSIFICATION_ID = #{classificationId} AND STATE IN ('READY', 'CLAIMED') "
+          + "UNION "
+          + "SELECT t.ID, t.PLANNED FROM TASK AS t JOIN ATTACHMENT AS a ON a.TASK_ID = t.ID "
+          + "WHERE a.CLASSIFICATION_ID = #{classificationId} AND t.STATE IN ('READY', 'CLAIMED') "
+          + "ORDER BY PLANNED, ID "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
+  @Options(fetchSize = 1000)
   @Result(property = "left", column = "ID")
   @Result(
       property = "right",
       column = "PLANNED",
       javaType = Instant.class,
       typeHandler = InstantTypeHandler.class)
-  List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
-      @Param("taskIds") List<String> taskIds);
+  Cursor<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
+      @Param("classificationId") String classificationId);
 
   @Select(
       "<script> "
@@ -266,17 +434,10 @@ public interface TaskMapper {
           + "</when>"
           + "<otherwise>"
           + "SELECT t.ID FROM TASK t WHERE t.ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)"
-          + "AND NOT (t.WORKBASKET_ID IN ( "
-          + "<choose>"
-          + "<when test=\"_databaseId == 'db2'\">"
-          + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "</when>"
-          + "<otherwise>"
-          + "SELECT WID from (SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ FROM WORKBASKET_ACCESS_LIST AS s where "
-          + "</otherwise>"
-          + "</choose>"
-          + "ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
-          + "group by WORKBASKET_ID ) AS f where max_read = 1 ))"
+          + "AND NOT EXISTS (SELECT 1 FROM WORKBASKET_ACCESS_LIST AS s WHERE s.WORKBASKET_ID = t.WORKBASKET_ID "
+          + "AND s.ACCESS_ID IN (<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+          + "AND <choose><when test=\"_databaseId == 'postgres'\">s.PERM_READ</when>"
+          + "<otherwise>s.PERM_READ = 1</otherwise></choose>) "
           + "</otherwise>"
           + "</choose>"
           + "</script>")
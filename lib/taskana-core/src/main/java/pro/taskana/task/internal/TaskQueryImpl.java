@@ -1,9 +1,12 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -48,6 +51,7 @@ public class TaskQueryImpl implements TaskQuery {
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskColumnValues";
   private static final String TIME_INTERVAL = "TimeInterval ";
   private static final String IS_INVALID = " is invalid.";
+  private static final int CURSOR_CHUNK_SIZE = 1000;
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskServiceImpl taskService;
@@ -150,6 +154,7 @@ public class TaskQueryImpl implements TaskQuery {
   private WildcardSearchField[] wildcardSearchFieldIn;
   private String wildcardSearchValueLike;
   private boolean selectAndClaim;
+  private boolean withCommentCount;
 
   private boolean useDistinctKeyword = false;
   private boolean joinWithAttachments = false;
@@ -736,6 +741,12 @@ public class TaskQueryImpl implements TaskQuery {
     return this;
   }
 
+  @Override
+  public TaskQuery withCommentCount() {
+    this.withCommentCount = true;
+    return this;
+  }
+
   @Override
   public TaskQuery orderByCompleted(SortDirection sortDirection) {
     return addOrderCriteria("COMPLETED", sortDirection);
@@ -976,6 +987,37 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public void forEach(Consumer<? super TaskSummary> action) {
+    LOGGER.debug("entry to forEach(), this = {}", this);
+    int numberOfResultObjects = 0;
+    try {
+      taskanaEngine.openConnection();
+      checkForIllegalParamCombinations();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupJoinAndOrderParameters();
+      setupAccessIds();
+      try (Cursor<TaskSummaryImpl> cursor =
+          taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this)) {
+        // the contained summaries are fetched in chunks in order to keep the amount of
+        // additional queries low without holding the whole result in memory
+        List<TaskSummaryImpl> chunk = new ArrayList<>(CURSOR_CHUNK_SIZE);
+        for (TaskSummaryImpl task : cursor) {
+          chunk.add(task);
+          if (chunk.size() == CURSOR_CHUNK_SIZE) {
+            numberOfResultObjects += augmentAndPassChunk(chunk, action);
+          }
+        }
+        numberOfResultObjects += augmentAndPassChunk(chunk, action);
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the task query", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from forEach(). Passed {} resulting Objects", numberOfResultObjects);
+    }
+  }
+
   @Override
   public List<String> listValues(TaskQueryColumnName columnName, SortDirection sortDirection) {
     LOGGER.debug("Entry to listValues(dbColumnName={}) this = {}", columnName, this);
@@ -1057,6 +1099,17 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private int augmentAndPassChunk(
+      List<TaskSummaryImpl> chunk, Consumer<? super TaskSummary> action) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+    int size = chunk.size();
+    taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(chunk).forEach(action);
+    chunk.clear();
+    return size;
+  }
+
   // optimized query for db2 can't be used for now in case of selectAndClaim because of temporary
   // tables and the "for update" clause clashing in db2
   public String getLinkToMapperScript() {
@@ -1169,6 +1222,10 @@ public class TaskQueryImpl implements TaskQuery {
     return selectAndClaim;
   }
 
+  public boolean isWithCommentCount() {
+    return withCommentCount;
+  }
+
   public String[] getPorCompanyIn() {
     return porCompanyIn;
   }
@@ -1892,6 +1949,8 @@ public class TaskQueryImpl implements TaskQuery {
         + wildcardSearchValueLike
         + ", selectAndClaim="
         + selectAndClaim
+        + ", withCommentCount="
+        + withCommentCount
         + ", useDistinctKeyword="
         + useDistinctKeyword
         + ", joinWithAttachments="
@@ -1,8 +1,12 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -13,9 +17,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +39,7 @@ import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.persistence.BatchStatementExecutor;
 import pro.taskana.common.internal.util.CheckedConsumer;
 import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
@@ -45,12 +53,17 @@ import pro.taskana.spi.history.api.events.task.TaskCreatedEvent;
 import pro.taskana.spi.history.api.events.task.TaskTerminatedEvent;
 import pro.taskana.spi.history.api.events.task.TaskUpdatedEvent;
 import pro.taskana.spi.history.internal.HistoryEventManager;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.spi.metrics.internal.MetricsManager.Timer;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
+import pro.taskana.task.api.ArchivedTaskQuery;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.events.TaskChangeType;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.exceptions.InvalidOwnerException;
 import pro.taskana.task.api.exceptions.InvalidStateException;
@@ -61,12 +74,14 @@ import pro.taskana.task.api.exceptions.UpdateFailedException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskChanges;
 import pro.taskana.task.api.models.TaskComment;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.ServiceLevelHandler.BulkLog;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 import pro.taskana.task.internal.models.MinimalTaskSummary;
+import pro.taskana.task.internal.models.TaskChangesImpl;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketPermission;
@@ -82,6 +97,10 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class TaskServiceImpl implements TaskService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  private static final int AFFECTED_TASK_IDS_BATCH_SIZE = 1000;
+  private static final char WATERMARK_SEPARATOR = '|';
+  private static final String UPDATE_CLAIMED_STATEMENT =
+      TaskMapper.class.getName() + ".updateClaimedIfUnmodified";
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketService workbasketService;
@@ -94,6 +113,8 @@ public class TaskServiceImpl implements TaskService {
   private final AttachmentMapper attachmentMapper;
   private final HistoryEventManager historyEventManager;
   private final CreateTaskPreprocessorManager createTaskPreprocessorManager;
+  private final MetricsManager metricsManager;
+  private final TaskChangeEventPublisher taskChangeEventPublisher;
 
   public TaskServiceImpl(
       InternalTaskanaEngine taskanaEngine,
@@ -107,52 +128,73 @@ public class TaskServiceImpl implements TaskService {
     this.classificationService = taskanaEngine.getEngine().getClassificationService();
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
     this.createTaskPreprocessorManager = taskanaEngine.getCreateTaskPreprocessorManager();
+    this.metricsManager = taskanaEngine.getMetricsManager();
+    this.taskChangeEventPublisher = taskanaEngine.getTaskChangeEventPublisher();
     this.taskTransferrer = new TaskTransferrer(taskanaEngine, taskMapper, this);
     this.taskCommentService = new TaskCommentServiceImpl(taskanaEngine, taskCommentMapper, this);
     this.serviceLevelHandler = new ServiceLevelHandler(taskanaEngine, taskMapper, attachmentMapper);
-    this.attachmentHandler = new AttachmentHandler(attachmentMapper, classificationService);
+    this.attachmentHandler =
+        new AttachmentHandler(taskanaEngine, attachmentMapper, classificationService);
   }
 
   @Override
   public Task claim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return claim(taskId, false);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.claim")) {
+      return timer.succeeded(claim(taskId, false));
+    }
   }
 
   @Override
   public Task forceClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return claim(taskId, true);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.forceClaim")) {
+      return timer.succeeded(claim(taskId, true));
+    }
   }
 
   @Override
   public Task cancelClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return this.cancelClaim(taskId, false);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.cancelClaim")) {
+      return timer.succeeded(cancelClaim(taskId, false));
+    }
   }
 
   @Override
   public Task forceCancelClaim(String taskId)
       throws TaskNotFoundException, InvalidStateException, InvalidOwnerException,
           NotAuthorizedException {
-    return this.cancelClaim(taskId, true);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.forceCancelClaim")) {
+      return timer.succeeded(cancelClaim(taskId, true));
+    }
   }
 
   @Override
   public Task completeTask(String taskId)
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException {
-    return completeTask(taskId, false);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.completeTask")) {
+      return timer.succeeded(completeTask(taskId, false));
+    }
   }
 
   @Override
   public Task forceCompleteTask(String taskId)
       throws TaskNotFoundException, InvalidOwnerException, InvalidStateException,
           NotAuthorizedException {
-    return completeTask(taskId, true);
+    try (Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.forceCompleteTask")) {
+      return timer.succeeded(completeTask(taskId, true));
+    }
   }
 
   @Override
@@ -160,6 +202,8 @@ public class TaskServiceImpl implements TaskService {
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
           TaskAlreadyExistException, InvalidArgumentException {
     LOGGER.debug("entry to createTask(task = {})", taskToCreate);
+    Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.createTask");
 
     if (CreateTaskPreprocessorManager.isCreateTaskPreprocessorEnabled()) {
       taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
@@ -220,6 +264,7 @@ public class TaskServiceImpl implements TaskService {
       try {
         this.taskMapper.insert(task);
         LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
+        publishTaskChange(TaskChangeType.CREATED, task);
         if (HistoryEventManager.isHistoryEnabled()) {
 
           String details =
@@ -263,9 +308,11 @@ public class TaskServiceImpl implements TaskService {
           throw e;
         }
       }
+      timer.succeeded();
       return task;
     } finally {
       taskanaEngine.returnConnection();
+      timer.close();
       LOGGER.debug("exit from createTask(task = {})", task);
     }
   }
@@ -353,7 +400,9 @@ public class TaskServiceImpl implements TaskService {
       task = (TaskImpl) getTask(taskId);
       task.setRead(isRead);
       task.setModified(Instant.now());
-      taskMapper.update(task);
+      taskMapper.setRead(taskId, isRead, task.getModified());
+      task.setVersion(task.getVersion() + 1);
+      publishTaskChange(TaskChangeType.UPDATED, task);
       LOGGER.debug("Method setTaskRead() set read property of Task '{}' to {} ", task, isRead);
       return task;
     } finally {
@@ -367,6 +416,89 @@ public class TaskServiceImpl implements TaskService {
     return new TaskQueryImpl(taskanaEngine);
   }
 
+  @Override
+  public ArchivedTaskQuery createArchivedTaskQuery() throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN);
+    return new ArchivedTaskQueryImpl(
+        taskanaEngine.getEngine().getConfiguration().getArchiveDirectory());
+  }
+
+  @Override
+  public TaskChanges getTaskChanges(String watermark, int maxResults)
+      throws InvalidArgumentException {
+    LOGGER.debug(
+        "entry to getTaskChanges(watermark = {}, maxResults = {})", watermark, maxResults);
+    if (maxResults <= 0) {
+      throw new InvalidArgumentException("maxResults must be greater than 0.");
+    }
+    Pair<String, Instant> position = parseWatermark(watermark);
+    List<String> accessIds =
+        taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)
+            ? null
+            : taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+    TaskChangesImpl changes = new TaskChangesImpl();
+    changes.setWatermark(watermark);
+    if (accessIds != null && accessIds.isEmpty()) {
+      return changes;
+    }
+    try {
+      taskanaEngine.openConnection();
+      // changes younger than the safety lag may still be followed by older changes of
+      // transactions which did not commit yet, hence they are returned by a later read
+      Instant changedBefore =
+          Instant.now()
+              .minus(taskanaEngine.getEngine().getConfiguration().getTaskChangesSafetyLag());
+      // both seeks read one change more than requested to tell whether there are more changes
+      List<Pair<String, Instant>> feed =
+          new ArrayList<>(
+              taskMapper.findTasksModifiedAfter(
+                  position.getRight(),
+                  position.getLeft(),
+                  changedBefore,
+                  accessIds,
+                  maxResults + 1));
+      List<Pair<String, Instant>> deletedTasks =
+          taskMapper.findTasksDeletedAfter(
+              position.getRight(), position.getLeft(), changedBefore, accessIds, maxResults + 1);
+      Set<String> deletedTaskIds =
+          deletedTasks.stream().map(Pair::getLeft).collect(Collectors.toSet());
+      feed.addAll(deletedTasks);
+      feed.sort(
+          Comparator.comparing((Pair<String, Instant> change) -> change.getRight())
+              .thenComparing(Pair::getLeft));
+
+      changes.setMoreChanges(feed.size() > maxResults);
+      List<Pair<String, Instant>> batch = feed.subList(0, Math.min(maxResults, feed.size()));
+      if (batch.isEmpty()) {
+        return changes;
+      }
+
+      List<String> changedTaskIds = new ArrayList<>();
+      for (Pair<String, Instant> change : batch) {
+        if (deletedTaskIds.contains(change.getLeft())) {
+          changes.getDeletedTaskIds().add(change.getLeft());
+        } else {
+          changedTaskIds.add(change.getLeft());
+        }
+      }
+      if (!changedTaskIds.isEmpty()) {
+        Map<String, TaskSummary> summariesById =
+            createTaskQuery().idIn(changedTaskIds.toArray(new String[0])).list().stream()
+                .collect(Collectors.toMap(TaskSummary::getId, Function.identity()));
+        // a task which was deleted in the meantime is skipped, its deletion follows in the feed
+        changedTaskIds.stream()
+            .map(summariesById::get)
+            .filter(Objects::nonNull)
+            .forEach(changes.getChangedTasks()::add);
+      }
+      changes.setWatermark(toWatermark(batch.get(batch.size() - 1)));
+      return changes;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getTaskChanges(), returning {}", changes);
+    }
+  }
+
   @Override
   public Task newTask() {
     return newTask(null);
@@ -411,6 +543,8 @@ public class TaskServiceImpl implements TaskService {
           ClassificationNotFoundException {
     String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
     LOGGER.debug("entry to updateTask(task = {}, userId = {})", task, userId);
+    Timer timer =
+        metricsManager.startTimer(TaskanaMetric.SERVICE_METHOD, "TaskService.updateTask");
     TaskImpl newTaskImpl = (TaskImpl) task;
     TaskImpl oldTaskImpl;
     try {
@@ -424,7 +558,11 @@ public class TaskServiceImpl implements TaskService {
 
       standardUpdateActions(oldTaskImpl, newTaskImpl);
 
-      taskMapper.update(newTaskImpl);
+      if (taskMapper.update(newTaskImpl) == 0) {
+        throw new ConcurrencyException("The task has already been updated by another user");
+      }
+      newTaskImpl.setVersion(newTaskImpl.getVersion() + 1);
+      publishTaskChange(TaskChangeType.UPDATED, newTaskImpl);
 
       LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
@@ -440,9 +578,10 @@ public class TaskServiceImpl implements TaskService {
                 taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
                 changeDetails));
       }
-
+      timer.succeeded();
     } finally {
       taskanaEngine.returnConnection();
+      timer.close();
       LOGGER.debug("exit from claim()");
     }
     return task;
@@ -538,7 +677,9 @@ public class TaskServiceImpl implements TaskService {
 
       if (!taskIds.isEmpty()) {
         attachmentMapper.deleteMultipleByTaskIds(taskIds);
+        taskMapper.insertTombstones(taskIds, Instant.now());
         taskMapper.deleteMultiple(taskIds);
+        publishTaskChanges(TaskChangeType.DELETED, taskSummaries, bulkLog.getFailedIds());
 
         if (taskanaEngine.getEngine().isHistoryEnabled()
             && taskanaEngine
@@ -567,6 +708,30 @@ public class TaskServiceImpl implements TaskService {
     return completeTasks(taskIds, true);
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> claimTasks(List<String> taskIds)
+      throws InvalidArgumentException {
+    return claimTasks(taskIds, false);
+  }
+
+  @Override
+  public BulkOperationResults<String, TaskanaException> forceClaimTasks(List<String> taskIds)
+      throws InvalidArgumentException {
+    return claimTasks(taskIds, true);
+  }
+
+  @Override
+  public BulkOperationResults<String, TaskanaException> cancelClaimTasks(List<String> taskIds)
+      throws InvalidArgumentException {
+    return cancelClaimTasks(taskIds, false);
+  }
+
+  @Override
+  public BulkOperationResults<String, TaskanaException> forceCancelClaimTasks(
+      List<String> taskIds) throws InvalidArgumentException {
+    return cancelClaimTasks(taskIds, true);
+  }
+
   @Override
   public List<String> updateTasks(
       ObjectReference selectionCriteria, Map<TaskCustomField, String> customFieldsToUpdate)
@@ -592,6 +757,7 @@ public class TaskServiceImpl implements TaskService {
       if (!taskSummaries.isEmpty()) {
         changedTasks = taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toList());
         taskMapper.updateTasks(changedTasks, updated, fieldSelector);
+        taskSummaries.forEach(summary -> publishTaskChange(TaskChangeType.UPDATED, summary));
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug("updateTasks() updated the following tasks: {} ", changedTasks);
         }
@@ -631,6 +797,7 @@ public class TaskServiceImpl implements TaskService {
       if (!taskSummaries.isEmpty()) {
         changedTasks = taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toList());
         taskMapper.updateTasks(changedTasks, updatedTask, fieldSelector);
+        taskSummaries.forEach(summary -> publishTaskChange(TaskChangeType.UPDATED, summary));
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug("updateTasks() updated the following tasks: {} ", changedTasks);
         }
@@ -679,6 +846,11 @@ public class TaskServiceImpl implements TaskService {
     return taskCommentService.getTaskComments(taskId);
   }
 
+  @Override
+  public Map<String, List<TaskComment>> getTaskComments(List<String> taskIds) {
+    return taskCommentService.getTaskComments(taskIds);
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> setCallbackStateForTasks(
       List<String> externalIds, CallbackState state) {
@@ -750,6 +922,8 @@ public class TaskServiceImpl implements TaskService {
                 bulkLog.getFailedIds().size());
           }
         }
+        publishTaskChanges(
+            TaskChangeType.UPDATED, existingMinimalTaskSummaries, bulkLog.getFailedIds());
       }
       return bulkLog;
     } finally {
@@ -778,6 +952,7 @@ public class TaskServiceImpl implements TaskService {
       BulkLog errorsFromProcessing =
           serviceLevelHandler.setPlannedPropertyOfTasksImpl(planned, tasksToModify);
       bulkLog.addAllErrors(errorsFromProcessing);
+      publishTaskChanges(TaskChangeType.UPDATED, tasksToModify, bulkLog.getFailedIds());
       return bulkLog;
     } finally {
       LOGGER.debug("exit from setPlannedPropertyOfTasks");
@@ -840,48 +1015,52 @@ public class TaskServiceImpl implements TaskService {
   }
 
   public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
+    List<String> affectedTaskIds = new ArrayList<>();
+    processTaskIdsAffectedByClassificationChange(
+        classificationId, AFFECTED_TASK_IDS_BATCH_SIZE, affectedTaskIds::addAll);
+    return affectedTaskIds;
+  }
+
+  /**
+   * Passes the ids of all READY and CLAIMED tasks which reference the given classification directly
+   * or via an attachment to the consumer. The ids are ordered by the planned timestamp of the tasks
+   * and read with a cursor, hence at most one batch of ids is held in memory.
+   *
+   * @param classificationId the id of the changed classification
+   * @param batchSize the maximum number of task ids passed to the consumer at once
+   * @param batchConsumer the consumer of the batches of task ids
+   * @return the number of affected tasks
+   */
+  public int processTaskIdsAffectedByClassificationChange(
+      String classificationId, int batchSize, Consumer<List<String>> batchConsumer) {
     LOGGER.debug(
-        "entry to findTasksIdsAffectedByClassificationChange(classificationId = {})",
+        "entry to processTaskIdsAffectedByClassificationChange(classificationId = {})",
         classificationId);
-    // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
-
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> Pair.of(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
-        attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
-
-    List<String> taskIdsFromAttachments =
-        taskIdsAndPlannedFromAttachments.stream().map(Pair::getLeft).collect(Collectors.toList());
-    List<Pair<String, Instant>> filteredTaskIdsAndPlannedFromAttachments =
-        taskIdsFromAttachments.isEmpty()
-            ? new ArrayList<>()
-            : taskMapper.filterTaskIdsForReadyAndClaimed(taskIdsFromAttachments);
-    affectedPairs.addAll(filteredTaskIdsAndPlannedFromAttachments);
-    //  sort all affected tasks according to the planned instant
-    List<String> affectedTaskIds =
-        affectedPairs.stream()
-            .sorted(Comparator.comparing(Pair::getRight))
-            .distinct()
-            .map(Pair::getLeft)
-            .collect(Collectors.toList());
-
-    if (LOGGER.isDebugEnabled()) {
+    int numberOfAffectedTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      try (Cursor<Pair<String, Instant>> cursor =
+          taskMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId)) {
+        List<String> batch = new ArrayList<>();
+        for (Pair<String, Instant> taskIdAndPlanned : cursor) {
+          batch.add(taskIdAndPlanned.getLeft());
+          if (batch.size() == batchSize) {
+            numberOfAffectedTasks += passBatch(batch, batchConsumer);
+          }
+        }
+        numberOfAffectedTasks += passBatch(batch, batchConsumer);
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the affected tasks", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
       LOGGER.debug(
-          "the following tasks are affected by the update of classification {} : {}",
-          classificationId,
-          affectedTaskIds);
+          "exit from processTaskIdsAffectedByClassificationChange(). {} tasks are affected by the "
+              + "update of classification {}",
+          numberOfAffectedTasks,
+          classificationId);
     }
-    LOGGER.debug("exit from findTasksIdsAffectedByClassificationChange(). ");
-    return affectedTaskIds;
+    return numberOfAffectedTasks;
   }
 
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
@@ -912,6 +1091,141 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  /**
+   * Removes the records of deleted tasks from the change feed which are older than the given
+   * instant.
+   *
+   * @param deletedBefore the instant before which the tasks were deleted
+   * @return the number of removed records
+   */
+  public int deleteTaskTombstones(Instant deletedBefore) {
+    LOGGER.debug("entry to deleteTaskTombstones(deletedBefore = {})", deletedBefore);
+    int deletedTombstones = 0;
+    try {
+      taskanaEngine.openConnection();
+      deletedTombstones = taskMapper.deleteTombstones(deletedBefore);
+      return deletedTombstones;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from deleteTaskTombstones(), returning {}", deletedTombstones);
+    }
+  }
+
+  /**
+   * Loads the given tasks with their attachments like {@link #getTask(String)}, but with one query
+   * per table instead of several queries per task. Ids of tasks which do not exist are ignored.
+   *
+   * @param taskIds the ids of the tasks
+   * @return the existing tasks
+   * @throws NotAuthorizedException if the current user may not read the workbasket of a task
+   */
+  public List<TaskImpl> getTasks(List<String> taskIds) throws NotAuthorizedException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("entry to getTasks(taskIds = {})", taskIds);
+    }
+    List<TaskImpl> tasks = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      if (taskIds.isEmpty()) {
+        return tasks;
+      }
+      tasks = taskMapper.findByIds(taskIds);
+
+      WorkbasketQueryImpl query = (WorkbasketQueryImpl) workbasketService.createWorkbasketQuery();
+      query.setUsedToAugmentTasks(true);
+      Map<String, WorkbasketSummary> workbasketsById =
+          query
+              .idIn(
+                  tasks.stream()
+                      .map(task -> task.getWorkbasketSummary().getId())
+                      .distinct()
+                      .toArray(String[]::new))
+              .list()
+              .stream()
+              .collect(Collectors.toMap(WorkbasketSummary::getId, Function.identity()));
+
+      Map<String, List<AttachmentImpl>> attachmentsByTaskId =
+          attachmentMapper.findAttachmentsByTaskIds(taskIds).stream()
+              .collect(Collectors.groupingBy(AttachmentImpl::getTaskId));
+      Set<String> classificationIds =
+          Stream.concat(
+                  tasks.stream().map(TaskImpl::getClassificationSummary),
+                  attachmentsByTaskId.values().stream()
+                      .flatMap(List::stream)
+                      .map(AttachmentImpl::getClassificationSummary))
+              .map(ClassificationSummary::getId)
+              .collect(Collectors.toSet());
+      Map<String, ClassificationSummary> classificationsById =
+          queryClassificationsForTasksAndAttachments(classificationIds).stream()
+              .collect(Collectors.toMap(ClassificationSummary::getId, Function.identity()));
+
+      for (TaskImpl task : tasks) {
+        String workbasketId = task.getWorkbasketSummary().getId();
+        WorkbasketSummary workbasket = workbasketsById.get(workbasketId);
+        if (workbasket == null) {
+          String currentUser = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+          throw new NotAuthorizedException(
+              "The current user "
+                  + currentUser
+                  + " has no read permission for workbasket "
+                  + workbasketId,
+              currentUser);
+        }
+        task.setWorkbasketSummary(workbasket);
+
+        List<Attachment> attachments = new ArrayList<>();
+        for (AttachmentImpl attachment :
+            attachmentsByTaskId.getOrDefault(task.getId(), Collections.emptyList())) {
+          ClassificationSummary classification =
+              classificationsById.get(attachment.getClassificationSummary().getId());
+          if (classification == null) {
+            throw new SystemException(
+                "Could not find a Classification for attachment " + attachment);
+          }
+          attachment.setClassificationSummary(classification);
+          attachments.add(attachment);
+        }
+        task.setAttachments(attachments);
+
+        ClassificationSummary classification =
+            classificationsById.get(task.getClassificationSummary().getId());
+        if (classification == null) {
+          throw new SystemException("Could not find a Classification for task " + task.getId());
+        }
+        task.setClassificationSummary(classification);
+      }
+      return tasks;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getTasks(), returning {} tasks", tasks.size());
+    }
+  }
+
+  /**
+   * Recomputes the priority of the given tasks in the database. The priority of a task is the
+   * maximum priority of its classification and the classifications of its attachments. Only tasks
+   * whose priority changes are updated.
+   *
+   * @param taskIds the ids of the tasks
+   * @return the number of updated tasks
+   */
+  public int recomputePriorityOfTasks(List<String> taskIds) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("entry to recomputePriorityOfTasks(tasks = {})", taskIds);
+    }
+    int updatedTasks = 0;
+    try {
+      taskanaEngine.openConnection();
+      if (!taskIds.isEmpty()) {
+        updatedTasks = taskMapper.recomputePriorityOfTasks(taskIds, Instant.now());
+      }
+      return updatedTasks;
+    } finally {
+      LOGGER.debug("exit from recomputePriorityOfTasks(), updated {} tasks", updatedTasks);
+      taskanaEngine.returnConnection();
+    }
+  }
+
   Pair<List<MinimalTaskSummary>, BulkLog> getMinimalTaskSummaries(List<String> argTaskIds) {
     BulkLog bulkLog = new BulkLog();
     // remove duplicates
@@ -1079,6 +1393,130 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  private BulkOperationResults<String, TaskanaException> claimTasks(
+      List<String> taskIds, boolean forced) throws InvalidArgumentException {
+    try {
+      LOGGER.debug("entry to claimTasks(taskIds = {}, forced = {})", taskIds, forced);
+      taskanaEngine.openConnection();
+      if (taskIds == null) {
+        throw new InvalidArgumentException("TaskIds can't be used as NULL-Parameter.");
+      }
+      BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+
+      String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+      List<TaskSummaryImpl> tasksToClaim =
+          filterNotExistingTaskIds(
+                  taskIds.stream().distinct().collect(Collectors.toList()), bulkLog)
+              .filter(
+                  addErrorToBulkLog(
+                      summary -> checkPreconditionsForClaimTask(summary, forced), bulkLog))
+              .peek(summary -> claimActionsOnTask(summary, userId, now))
+              .collect(Collectors.toList());
+
+      List<TaskSummaryImpl> claimedTasks = updateClaimedTasks(tasksToClaim, bulkLog);
+      if (HistoryEventManager.isHistoryEnabled()) {
+        claimedTasks.forEach(
+            summary ->
+                historyEventManager.createEvent(
+                    new TaskClaimedEvent(
+                        IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                        summary,
+                        userId)));
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from claimTasks(taskIds = {})", taskIds);
+    }
+  }
+
+  private BulkOperationResults<String, TaskanaException> cancelClaimTasks(
+      List<String> taskIds, boolean forced) throws InvalidArgumentException {
+    try {
+      LOGGER.debug("entry to cancelClaimTasks(taskIds = {}, forced = {})", taskIds, forced);
+      taskanaEngine.openConnection();
+      if (taskIds == null) {
+        throw new InvalidArgumentException("TaskIds can't be used as NULL-Parameter.");
+      }
+      BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+
+      String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+      List<TaskSummaryImpl> tasksToUnclaim =
+          filterNotExistingTaskIds(
+                  taskIds.stream().distinct().collect(Collectors.toList()), bulkLog)
+              .filter(
+                  addErrorToBulkLog(
+                      summary -> checkPreconditionsForCancelClaimTask(summary, forced), bulkLog))
+              .peek(summary -> cancelClaimActionsOnTask(summary, now))
+              .collect(Collectors.toList());
+
+      List<TaskSummaryImpl> unclaimedTasks = updateClaimedTasks(tasksToUnclaim, bulkLog);
+      if (HistoryEventManager.isHistoryEnabled()) {
+        unclaimedTasks.forEach(
+            summary ->
+                historyEventManager.createEvent(
+                    new TaskClaimCancelledEvent(
+                        IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                        summary,
+                        userId)));
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from cancelClaimTasks(taskIds = {})", taskIds);
+    }
+  }
+
+  // the preconditions were checked on the read tasks. Each task is only updated if its version
+  // is unchanged, since every update of a task increments it. Tasks which were modified since they
+  // were read are reported as failures.
+  private List<TaskSummaryImpl> updateClaimedTasks(
+      List<TaskSummaryImpl> taskSummaries,
+      BulkOperationResults<String, TaskanaException> bulkLog) {
+    int[] updateCounts =
+        BatchStatementExecutor.executeBatch(
+            taskanaEngine.getSqlSession(),
+            UPDATE_CLAIMED_STATEMENT,
+            taskSummaries,
+            this::findTasksWithUpdatedClaim);
+    List<TaskSummaryImpl> updatedTasks = new ArrayList<>();
+    for (int i = 0; i < taskSummaries.size(); i++) {
+      TaskSummaryImpl summary = taskSummaries.get(i);
+      if (updateCounts[i] == 0) {
+        bulkLog.addError(
+            summary.getId(),
+            new InvalidStateException(
+                String.format(
+                    "Task with id %s has been modified concurrently.", summary.getId())));
+      } else {
+        summary.setVersion(summary.getVersion() + 1);
+        updatedTasks.add(summary);
+        publishTaskChange(TaskChangeType.UPDATED, summary);
+      }
+    }
+    return updatedTasks;
+  }
+
+  private List<TaskSummaryImpl> findTasksWithUpdatedClaim(List<TaskSummaryImpl> taskSummaries) {
+    Map<String, TaskImpl> storedTasksById =
+        taskMapper
+            .findByIds(
+                taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(TaskImpl::getId, Function.identity()));
+    return taskSummaries.stream()
+        .filter(
+            summary -> {
+              TaskImpl storedTask = storedTasksById.get(summary.getId());
+              return storedTask != null
+                  && storedTask.getVersion() == summary.getVersion() + 1
+                  && storedTask.getModified().equals(summary.getModified());
+            })
+        .collect(Collectors.toList());
+  }
+
   private Stream<TaskSummaryImpl> filterNotExistingTaskIds(
       List<String> taskIds, BulkOperationResults<String, TaskanaException> bulkLog) {
 
@@ -1102,6 +1540,43 @@ public class TaskServiceImpl implements TaskService {
         .map(Pair::getRight);
   }
 
+  private static Pair<String, Instant> parseWatermark(String watermark)
+      throws InvalidArgumentException {
+    if (watermark == null || watermark.isEmpty()) {
+      return Pair.of(null, null);
+    }
+    try {
+      String decoded =
+          new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf(WATERMARK_SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidArgumentException(
+            String.format("The watermark '%s' is invalid.", watermark));
+      }
+      return Pair.of(
+          decoded.substring(separator + 1), Instant.parse(decoded.substring(0, separator)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidArgumentException(
+          String.format("The watermark '%s' is invalid.", watermark), e);
+    }
+  }
+
+  private static String toWatermark(Pair<String, Instant> change) {
+    String position = change.getRight().toString() + WATERMARK_SEPARATOR + change.getLeft();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static int passBatch(List<String> batch, Consumer<List<String>> batchConsumer) {
+    int size = batch.size();
+    if (size > 0) {
+      batchConsumer.accept(new ArrayList<>(batch));
+      batch.clear();
+    }
+    return size;
+  }
+
   private static Predicate<TaskSummaryImpl> addErrorToBulkLog(
       CheckedConsumer<TaskSummaryImpl, TaskanaException> checkedConsumer,
       BulkOperationResults<String, TaskanaException> bulkLog) {
@@ -1116,21 +1591,51 @@ public class TaskServiceImpl implements TaskService {
     };
   }
 
+  // fails early, before the attachments are written. The update of the task checks the version
+  // again, so that a modification between this check and the update is detected, too.
   private void checkConcurrencyAndSetModified(TaskImpl newTaskImpl, TaskImpl oldTaskImpl)
       throws ConcurrencyException {
-    // TODO: not safe to rely only on different timestamps.
-    // With fast execution below 1ms there will be no concurrencyException
-    if (oldTaskImpl.getModified() != null
-            && !oldTaskImpl.getModified().equals(newTaskImpl.getModified())
-        || oldTaskImpl.getClaimed() != null
-            && !oldTaskImpl.getClaimed().equals(newTaskImpl.getClaimed())
-        || oldTaskImpl.getState() != null
-            && !oldTaskImpl.getState().equals(newTaskImpl.getState())) {
+    if (oldTaskImpl.getVersion() != newTaskImpl.getVersion()) {
       throw new ConcurrencyException("The task has already been updated by another user");
     }
     newTaskImpl.setModified(Instant.now());
   }
 
+  /**
+   * Updates a task which was read and modified within the current operation. The update fails if
+   * the task has been modified by someone else in the meantime.
+   *
+   * @param task the task to update
+   * @throws InvalidStateException if the task has been modified since it was read
+   */
+  void updateIfUnmodified(TaskImpl task) throws InvalidStateException {
+    if (taskMapper.update(task) == 0) {
+      throw new InvalidStateException(
+          String.format("Task with id %s has been modified concurrently.", task.getId()));
+    }
+    task.setVersion(task.getVersion() + 1);
+  }
+
+  private <T extends TaskSummary> T publishTaskChange(TaskChangeType type, T task) {
+    if (taskChangeEventPublisher.isActive()) {
+      taskChangeEventPublisher.publish(type, task.getId(), task.getWorkbasketSummary().getId());
+    }
+    return task;
+  }
+
+  private void publishTaskChanges(
+      TaskChangeType type, List<MinimalTaskSummary> taskSummaries, List<String> failedTaskIds) {
+    if (taskChangeEventPublisher.isActive()) {
+      Set<String> failedIds = new HashSet<>(failedTaskIds);
+      taskSummaries.stream()
+          .filter(summary -> !failedIds.contains(summary.getTaskId()))
+          .forEach(
+              summary ->
+                  taskChangeEventPublisher.publish(
+                      type, summary.getTaskId(), summary.getWorkbasketId()));
+    }
+  }
+
   private TaskImpl terminateCancelCommonActions(String taskId, TaskState targetState)
       throws NotAuthorizedException, TaskNotFoundException, InvalidStateException {
     if (taskId == null || taskId.isEmpty()) {
@@ -1148,7 +1653,8 @@ public class TaskServiceImpl implements TaskService {
     task.setModified(now);
     task.setCompleted(now);
     task.setState(targetState);
-    taskMapper.update(task);
+    updateIfUnmodified(task);
+    publishTaskChange(TaskChangeType.UPDATED, task);
     LOGGER.debug(
         "Task '{}' cancelled by user '{}'.",
         taskId,
@@ -1194,7 +1700,8 @@ public class TaskServiceImpl implements TaskService {
 
       checkPreconditionsForClaimTask(task, forceClaim);
       claimActionsOnTask(task, userId, now);
-      taskMapper.update(task);
+      updateIfUnmodified(task);
+      publishTaskChange(TaskChangeType.UPDATED, task);
       LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
@@ -1218,6 +1725,14 @@ public class TaskServiceImpl implements TaskService {
     task.setState(TaskState.CLAIMED);
   }
 
+  private static void cancelClaimActionsOnTask(TaskSummaryImpl task, Instant now) {
+    task.setOwner(null);
+    task.setModified(now);
+    task.setClaimed(null);
+    task.setRead(true);
+    task.setState(TaskState.READY);
+  }
+
   private static void completeActionsOnTask(TaskSummaryImpl task, String userId, Instant now) {
     task.setCompleted(now);
     task.setModified(now);
@@ -1241,6 +1756,22 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  private void checkPreconditionsForCancelClaimTask(TaskSummary task, boolean forced)
+      throws InvalidStateException, InvalidOwnerException {
+    TaskState state = task.getState();
+    if (state.isEndState()) {
+      throw new InvalidStateException(
+          String.format("Task with Id %s is already in an end state.", task.getId()));
+    }
+    if (!forced
+        && state == TaskState.CLAIMED
+        && !task.getOwner().equals(taskanaEngine.getEngine().getCurrentUserContext().getUserid())) {
+      throw new InvalidOwnerException(
+          String.format(
+              "Task with id %s is already claimed by %s.", task.getId(), task.getOwner()));
+    }
+  }
+
   private static boolean taskIsNotClaimed(TaskSummary task) {
     return task.getClaimed() == null || task.getState() != TaskState.CLAIMED;
   }
@@ -1287,22 +1818,11 @@ public class TaskServiceImpl implements TaskService {
     try {
       taskanaEngine.openConnection();
       task = (TaskImpl) getTask(taskId);
-      TaskState state = task.getState();
-      if (state.isEndState()) {
-        throw new InvalidStateException(
-            String.format("Task with Id %s is already in an end state.", taskId));
-      }
-      if (state == TaskState.CLAIMED && !forceUnclaim && !userId.equals(task.getOwner())) {
-        throw new InvalidOwnerException(
-            String.format("Task with id %s is already claimed by %s.", taskId, task.getOwner()));
-      }
       Instant now = Instant.now();
-      task.setOwner(null);
-      task.setModified(now);
-      task.setClaimed(null);
-      task.setRead(true);
-      task.setState(TaskState.READY);
-      taskMapper.update(task);
+      checkPreconditionsForCancelClaimTask(task, forceUnclaim);
+      cancelClaimActionsOnTask(task, now);
+      updateIfUnmodified(task);
+      publishTaskChange(TaskChangeType.UPDATED, task);
       LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
@@ -1343,7 +1863,8 @@ public class TaskServiceImpl implements TaskService {
 
       Instant now = Instant.now();
       completeActionsOnTask(task, userId, now);
-      taskMapper.update(task);
+      updateIfUnmodified(task);
+      publishTaskChange(TaskChangeType.UPDATED, task);
       LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
       if (HistoryEventManager.isHistoryEnabled()) {
         historyEventManager.createEvent(
@@ -1381,7 +1902,9 @@ public class TaskServiceImpl implements TaskService {
       }
 
       attachmentMapper.deleteMultipleByTaskIds(Collections.singletonList(taskId));
+      taskMapper.insertTombstones(Collections.singletonList(taskId), Instant.now());
       taskMapper.delete(taskId);
+      publishTaskChange(TaskChangeType.DELETED, task);
 
       if (taskanaEngine.getEngine().isHistoryEnabled()
           && taskanaEngine.getEngine().getConfiguration().isDeleteHistoryOnTaskDeletionEnabled()) {
@@ -1598,6 +2121,7 @@ public class TaskServiceImpl implements TaskService {
       if (!updateClaimedTaskIds.isEmpty()) {
         taskMapper.updateClaimed(updateClaimedTaskIds, claimedReference);
       }
+      taskSummaryList.forEach(summary -> publishTaskChange(TaskChangeType.UPDATED, summary));
       if (HistoryEventManager.isHistoryEnabled()) {
         createTasksCompletedEvents(taskSummaryList);
       }
@@ -47,6 +47,7 @@ class TaskTransferrer {
   private final TaskServiceImpl taskService;
   private final TaskMapper taskMapper;
   private final HistoryEventManager historyEventManager;
+  private final TaskChangeEventPublisher taskChangeEventPublisher;
 
   TaskTransferrer(
       InternalTaskanaEngine taskanaEngine, TaskMapper taskMapper, TaskServiceImpl taskService) {
@@ -55,6 +56,7 @@ class TaskTransferrer {
     this.taskMapper = taskMapper;
     this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
+    this.taskChangeEventPublisher = taskanaEngine.getTaskChangeEventPublisher();
   }
 
   Task transfer(String taskId, String destinationWorkbasketKey, String domain)
@@ -104,7 +106,7 @@ class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
-      taskMapper.update(task);
+      taskService.updateIfUnmodified(task);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -113,6 +115,8 @@ class TaskTransferrer {
         createTaskTransferredEvent(
             task, oldWorkbasketSummary.getId(), destinationWorkbasket.asSummary().getId());
       }
+      taskChangeEventPublisher.publishTransfer(
+          taskId, destinationWorkbasket.getId(), oldWorkbasketSummary.getId());
       return task;
     } finally {
       taskanaEngine.returnConnection();
@@ -162,7 +166,7 @@ class TaskTransferrer {
       task.setModified(Instant.now());
       task.setState(TaskState.READY);
       task.setOwner(null);
-      taskMapper.update(task);
+      taskService.updateIfUnmodified(task);
       LOGGER.debug(
           "Method transfer() transferred Task '{}' to destination workbasket {}",
           taskId,
@@ -170,6 +174,8 @@ class TaskTransferrer {
       if (HistoryEventManager.isHistoryEnabled()) {
         createTaskTransferredEvent(task, oldWorkbasketSummary.getId(), destinationWorkbasketId);
       }
+      taskChangeEventPublisher.publishTransfer(
+          taskId, destinationWorkbasketId, oldWorkbasketSummary.getId());
       return task;
     } finally {
       taskanaEngine.returnConnection();
@@ -400,6 +406,10 @@ class TaskTransferrer {
       if (HistoryEventManager.isHistoryEnabled()) {
         createTasksTransferredEvents(taskSummaries, updateObject);
       }
+      taskSummaries.forEach(
+          task ->
+              taskChangeEventPublisher.publishTransfer(
+                  task.getTaskId(), destinationWorkbasket.getId(), task.getWorkbasketId()));
     }
     LOGGER.debug("exit from updateTasksToBeTransferred()");
   }
@@ -0,0 +1,311 @@
+package pro.taskana.task.internal.archive;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.json.JSONObject;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.models.ArchivedTask;
+import pro.taskana.task.internal.models.ArchivedTaskImpl;
+
+/**
+ * The archive of completed tasks in a directory of the local file system. The tasks are stored in
+ * gzip compressed chunk files with one JSON object per line. The index refers to the chunk file of
+ * every archived task, so a query only has to decompress the chunk files which contain matching
+ * tasks. The index is partitioned by the hash of the task id, the external id and the business
+ * process id. Every partition file contains one line per archived task with its id, external id,
+ * business process id and the name of its chunk file, so a lookup by one of these keys only reads
+ * the partitions of the requested values.
+ */
+public class TaskArchive {
+
+  static final String INDEX_DIRECTORY_NAME = "index";
+  private static final int INDEX_PARTITION_COUNT = 256;
+  private static final String CHUNK_FILE_PREFIX = "tasks-";
+  private static final String CHUNK_FILE_SUFFIX = ".jsonl.gz";
+  private static final DateTimeFormatter CHUNK_TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+  // the index is appended by the archive job and read by queries of the same JVM
+  private static final Object INDEX_LOCK = new Object();
+
+  private final Path directory;
+
+  public TaskArchive(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Writes the given tasks into a new chunk file. The file is written under a temporary name and
+   * renamed afterwards, so a chunk file is either complete or does not exist.
+   *
+   * @param archivedTasks the tasks to archive
+   * @return the name of the chunk file
+   */
+  public String writeChunk(List<? extends ArchivedTask> archivedTasks) {
+    String chunkFileName =
+        CHUNK_FILE_PREFIX
+            + CHUNK_TIMESTAMP_FORMATTER.format(Instant.now())
+            + "-"
+            + UUID.randomUUID()
+            + CHUNK_FILE_SUFFIX;
+    Path chunkFile = directory.resolve(chunkFileName);
+    Path temporaryFile = directory.resolve(chunkFileName + ".tmp");
+    try {
+      Files.createDirectories(directory);
+      try (Writer writer =
+          new BufferedWriter(
+              new OutputStreamWriter(
+                  new GZIPOutputStream(Files.newOutputStream(temporaryFile)),
+                  StandardCharsets.UTF_8))) {
+        for (ArchivedTask archivedTask : archivedTasks) {
+          writer.write(TaskArchiveSerializer.toJson(archivedTask).toString());
+          writer.write('\n');
+        }
+      }
+      Files.move(temporaryFile, chunkFile, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new SystemException(String.format("Could not write archive file %s", chunkFile), e);
+    }
+    return chunkFileName;
+  }
+
+  /**
+   * Adds the given tasks of a chunk file to the index. Only indexed tasks can be found by queries.
+   *
+   * @param chunkFileName the name of the chunk file which contains the tasks
+   * @param archivedTasks the tasks to add
+   */
+  public void addToIndex(String chunkFileName, List<? extends ArchivedTask> archivedTasks) {
+    Map<Path, List<String>> linesByPartitionFile = new LinkedHashMap<>();
+    for (ArchivedTask archivedTask : archivedTasks) {
+      IndexEntry entry = new IndexEntry(archivedTask, chunkFileName);
+      String line = entry.toJson().toString();
+      for (IndexKey key : IndexKey.values()) {
+        String value = key.getValue(entry);
+        if (value != null) {
+          linesByPartitionFile
+              .computeIfAbsent(getPartitionFile(key, value), file -> new ArrayList<>())
+              .add(line);
+        }
+      }
+    }
+    synchronized (INDEX_LOCK) {
+      try {
+        Files.createDirectories(directory.resolve(INDEX_DIRECTORY_NAME));
+        for (Entry<Path, List<String>> partition : linesByPartitionFile.entrySet()) {
+          Files.write(
+              partition.getKey(),
+              partition.getValue(),
+              StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.APPEND);
+        }
+      } catch (IOException e) {
+        throw new SystemException("Could not write the index of the task archive", e);
+      }
+    }
+  }
+
+  /**
+   * Reads the index entries whose value of the given key is one of the given values and which
+   * match the given filter. Only the partitions of the given values are read. Without values all
+   * partitions of the key are read one after the other, so only the matching entries of one
+   * partition are held in memory at a time. A task which was archived more than once is returned
+   * with the entry of its latest chunk file.
+   *
+   * @param key the key which selects the partitions
+   * @param values the values of the key or null to read all entries
+   * @param filter the filter for the entries
+   * @return the latest matching entry of every task
+   */
+  public Stream<IndexEntry> readIndex(
+      IndexKey key, Collection<String> values, Predicate<IndexEntry> filter) {
+    Stream<Path> partitionFiles =
+        values == null
+            ? IntStream.range(0, INDEX_PARTITION_COUNT)
+                .mapToObj(partition -> getPartitionFile(key, partition))
+            : values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> getPartitionFile(key, value))
+                .distinct();
+    Predicate<IndexEntry> keyFilter =
+        values == null ? entry -> true : entry -> values.contains(key.getValue(entry));
+    Stream<IndexEntry> entries =
+        partitionFiles.flatMap(file -> readPartition(file, keyFilter.and(filter)).stream());
+    if (key == IndexKey.TASK_ID) {
+      // all entries of a task are in the same partition
+      return entries;
+    }
+    return entries
+        .collect(
+            Collectors.toMap(
+                IndexEntry::getTaskId,
+                Function.identity(),
+                (earlierEntry, laterEntry) -> laterEntry,
+                LinkedHashMap::new))
+        .values()
+        .stream();
+  }
+
+  private Collection<IndexEntry> readPartition(Path partitionFile, Predicate<IndexEntry> filter) {
+    synchronized (INDEX_LOCK) {
+      if (!Files.exists(partitionFile)) {
+        return Collections.emptyList();
+      }
+      try (Stream<String> lines = Files.lines(partitionFile, StandardCharsets.UTF_8)) {
+        // the entries are appended, hence a later entry of a task refers to a later chunk file
+        return lines
+            .filter(line -> !line.isEmpty())
+            .map(line -> new IndexEntry(new JSONObject(line)))
+            .filter(filter)
+            .collect(
+                Collectors.toMap(
+                    IndexEntry::getTaskId,
+                    Function.identity(),
+                    (earlierEntry, laterEntry) -> laterEntry,
+                    LinkedHashMap::new))
+            .values();
+      } catch (IOException e) {
+        throw new SystemException("Could not read the index of the task archive", e);
+      }
+    }
+  }
+
+  private Path getPartitionFile(IndexKey key, String value) {
+    return getPartitionFile(key, Math.floorMod(value.hashCode(), INDEX_PARTITION_COUNT));
+  }
+
+  private Path getPartitionFile(IndexKey key, int partition) {
+    return directory
+        .resolve(INDEX_DIRECTORY_NAME)
+        .resolve(String.format("%s-%02x.jsonl", key.getFilePrefix(), partition));
+  }
+
+  /**
+   * Reads the tasks of a chunk file lazily. The returned stream has to be closed.
+   *
+   * @param chunkFileName the name of the chunk file
+   * @return the tasks of the chunk file
+   */
+  public Stream<ArchivedTaskImpl> readChunk(String chunkFileName) {
+    Path chunkFile = directory.resolve(chunkFileName);
+    try {
+      BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Files.newInputStream(chunkFile)), StandardCharsets.UTF_8));
+      return reader
+          .lines()
+          .map(line -> TaskArchiveSerializer.toArchivedTask(new JSONObject(line)))
+          .onClose(
+              () -> {
+                try {
+                  reader.close();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    } catch (IOException e) {
+      throw new SystemException(String.format("Could not read archive file %s", chunkFile), e);
+    }
+  }
+
+  /** The keys by which the archive index is partitioned. */
+  public enum IndexKey {
+    TASK_ID("task-id", IndexEntry::getTaskId),
+    EXTERNAL_ID("external-id", IndexEntry::getExternalId),
+    BUSINESS_PROCESS_ID("business-process-id", IndexEntry::getBusinessProcessId);
+
+    private final String filePrefix;
+    private final Function<IndexEntry, String> valueGetter;
+
+    IndexKey(String filePrefix, Function<IndexEntry, String> valueGetter) {
+      this.filePrefix = filePrefix;
+      this.valueGetter = valueGetter;
+    }
+
+    String getFilePrefix() {
+      return filePrefix;
+    }
+
+    String getValue(IndexEntry entry) {
+      return valueGetter.apply(entry);
+    }
+  }
+
+  /** An entry of the archive index. */
+  public static class IndexEntry {
+
+    private final String taskId;
+    private final String externalId;
+    private final String businessProcessId;
+    private final String chunkFileName;
+
+    IndexEntry(ArchivedTask archivedTask, String chunkFileName) {
+      this.taskId = archivedTask.getTask().getId();
+      this.externalId = archivedTask.getTask().getExternalId();
+      this.businessProcessId = archivedTask.getTask().getBusinessProcessId();
+      this.chunkFileName = chunkFileName;
+    }
+
+    IndexEntry(JSONObject json) {
+      this.taskId = json.getString("taskId");
+      this.externalId = json.optString("externalId", null);
+      this.businessProcessId = json.optString("businessProcessId", null);
+      this.chunkFileName = json.getString("file");
+    }
+
+    public String getTaskId() {
+      return taskId;
+    }
+
+    public String getExternalId() {
+      return externalId;
+    }
+
+    public String getBusinessProcessId() {
+      return businessProcessId;
+    }
+
+    public String getChunkFileName() {
+      return chunkFileName;
+    }
+
+    JSONObject toJson() {
+      return new JSONObject()
+          .put("taskId", taskId)
+          .put("externalId", externalId)
+          .put("businessProcessId", businessProcessId)
+          .put("file", chunkFileName);
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package pro.taskana.task.internal.archive;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
+import pro.taskana.spi.history.api.events.task.TaskHistoryCustomField;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.ArchivedTask;
+import pro.taskana.task.api.models.Attachment;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.internal.models.ArchivedTaskImpl;
+import pro.taskana.task.internal.models.AttachmentImpl;
+import pro.taskana.task.internal.models.TaskCommentImpl;
+import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/**
+ * Converts archived tasks to and from the JSON objects which are stored in the archive files. The
+ * classification and the workbasket of a task are stored as references only, like in the TASK
+ * table. Attributes which are null are omitted.
+ */
+final class TaskArchiveSerializer {
+
+  private TaskArchiveSerializer() {}
+
+  static JSONObject toJson(ArchivedTask archivedTask) {
+    return new JSONObject()
+        .put("archived", toString(archivedTask.getArchived()))
+        .put("task", taskToJson((TaskImpl) archivedTask.getTask()))
+        .put(
+            "comments",
+            toJsonArray(archivedTask.getTaskComments(), TaskArchiveSerializer::commentToJson))
+        .put(
+            "history",
+            toJsonArray(archivedTask.getHistoryEvents(), TaskArchiveSerializer::eventToJson));
+  }
+
+  static ArchivedTaskImpl toArchivedTask(JSONObject json) {
+    ArchivedTaskImpl archivedTask = new ArchivedTaskImpl();
+    archivedTask.setArchived(toInstant(json.optString("archived", null)));
+    archivedTask.setTask(toTask(json.getJSONObject("task")));
+    archivedTask.setTaskComments(
+        toList(json.optJSONArray("comments"), TaskArchiveSerializer::toTaskComment));
+    archivedTask.setHistoryEvents(
+        toList(json.optJSONArray("history"), TaskArchiveSerializer::toHistoryEvent));
+    return archivedTask;
+  }
+
+  private static JSONObject taskToJson(TaskImpl task) {
+    JSONObject json =
+        new JSONObject()
+            .put("id", task.getId())
+            .put("externalId", task.getExternalId())
+            .put("created", toString(task.getCreated()))
+            .put("claimed", toString(task.getClaimed()))
+            .put("completed", toString(task.getCompleted()))
+            .put("modified", toString(task.getModified()))
+            .put("planned", toString(task.getPlanned()))
+            .put("due", toString(task.getDue()))
+            .put("name", task.getName())
+            .put("creator", task.getCreator())
+            .put("note", task.getNote())
+            .put("description", task.getDescription())
+            .put("priority", task.getPriority())
+            .put("state", task.getState())
+            .put("classification", classificationToJson(task.getClassificationSummary()))
+            .put("workbasket", workbasketToJson(task.getWorkbasketSummary()))
+            .put("domain", task.getDomain())
+            .put("businessProcessId", task.getBusinessProcessId())
+            .put("parentBusinessProcessId", task.getParentBusinessProcessId())
+            .put("owner", task.getOwner())
+            .put("primaryObjRef", objectReferenceToJson(task.getPrimaryObjRef()))
+            .put("isRead", task.isRead())
+            .put("isTransferred", task.isTransferred())
+            .put("callbackState", task.getCallbackState())
+            .put("callbackInfo", task.getCallbackInfo())
+            .put("customAttributes", task.getCustomAttributeMap())
+            .put(
+                "attachments",
+                toJsonArray(task.getAttachments(), TaskArchiveSerializer::attachmentToJson));
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      json.put(customField.name(), task.getCustomAttribute(customField));
+    }
+    return json;
+  }
+
+  private static TaskImpl toTask(JSONObject json) {
+    TaskImpl task = new TaskImpl();
+    task.setId(json.optString("id", null));
+    task.setExternalId(json.optString("externalId", null));
+    task.setCreated(toInstant(json.optString("created", null)));
+    task.setClaimed(toInstant(json.optString("claimed", null)));
+    task.setCompleted(toInstant(json.optString("completed", null)));
+    task.setModified(toInstant(json.optString("modified", null)));
+    task.setPlanned(toInstant(json.optString("planned", null)));
+    task.setDue(toInstant(json.optString("due", null)));
+    task.setName(json.optString("name", null));
+    task.setCreator(json.optString("creator", null));
+    task.setNote(json.optString("note", null));
+    task.setDescription(json.optString("description", null));
+    task.setPriority(json.optInt("priority"));
+    task.setState(json.optEnum(TaskState.class, "state"));
+    task.setClassificationSummary(toClassificationSummary(json.optJSONObject("classification")));
+    task.setWorkbasketSummary(toWorkbasketSummary(json.optJSONObject("workbasket")));
+    task.setDomain(json.optString("domain", null));
+    task.setBusinessProcessId(json.optString("businessProcessId", null));
+    task.setParentBusinessProcessId(json.optString("parentBusinessProcessId", null));
+    task.setOwner(json.optString("owner", null));
+    task.setPrimaryObjRef(toObjectReference(json.optJSONObject("primaryObjRef")));
+    task.setRead(json.optBoolean("isRead"));
+    task.setTransferred(json.optBoolean("isTransferred"));
+    task.setCallbackState(json.optEnum(CallbackState.class, "callbackState"));
+    task.setCallbackInfo(toMap(json.optJSONObject("callbackInfo")));
+    task.setCustomAttributeMap(toMap(json.optJSONObject("customAttributes")));
+    task.setAttachments(
+        toList(json.optJSONArray("attachments"), TaskArchiveSerializer::toAttachment));
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      task.setCustomAttribute(customField, json.optString(customField.name(), null));
+    }
+    return task;
+  }
+
+  private static JSONObject attachmentToJson(Attachment attachment) {
+    return new JSONObject()
+        .put("id", attachment.getId())
+        .put("taskId", attachment.getTaskId())
+        .put("created", toString(attachment.getCreated()))
+        .put("modified", toString(attachment.getModified()))
+        .put("classification", classificationToJson(attachment.getClassificationSummary()))
+        .put("objectReference", objectReferenceToJson(attachment.getObjectReference()))
+        .put("channel", attachment.getChannel())
+        .put("received", toString(attachment.getReceived()))
+        .put("customAttributes", attachment.getCustomAttributeMap());
+  }
+
+  private static Attachment toAttachment(JSONObject json) {
+    AttachmentImpl attachment = new AttachmentImpl();
+    attachment.setId(json.optString("id", null));
+    attachment.setTaskId(json.optString("taskId", null));
+    attachment.setCreated(toInstant(json.optString("created", null)));
+    attachment.setModified(toInstant(json.optString("modified", null)));
+    attachment.setClassificationSummary(
+        toClassificationSummary(json.optJSONObject("classification")));
+    attachment.setObjectReference(toObjectReference(json.optJSONObject("objectReference")));
+    attachment.setChannel(json.optString("channel", null));
+    attachment.setReceived(toInstant(json.optString("received", null)));
+    attachment.setCustomAttributeMap(toMap(json.optJSONObject("customAttributes")));
+    return attachment;
+  }
+
+  private static JSONObject commentToJson(TaskComment taskComment) {
+    return new JSONObject()
+        .put("id", taskComment.getId())
+        .put("taskId", taskComment.getTaskId())
+        .put("textField", taskComment.getTextField())
+        .put("creator", taskComment.getCreator())
+        .put("created", toString(taskComment.getCreated()))
+        .put("modified", toString(taskComment.getModified()));
+  }
+
+  private static TaskComment toTaskComment(JSONObject json) {
+    TaskCommentImpl taskComment = new TaskCommentImpl();
+    taskComment.setId(json.optString("id", null));
+    taskComment.setTaskId(json.optString("taskId", null));
+    taskComment.setTextField(json.optString("textField", null));
+    taskComment.setCreator(json.optString("creator", null));
+    taskComment.setCreated(toInstant(json.optString("created", null)));
+    taskComment.setModified(toInstant(json.optString("modified", null)));
+    return taskComment;
+  }
+
+  private static JSONObject eventToJson(TaskHistoryEvent event) {
+    JSONObject json =
+        new JSONObject()
+            .put("id", event.getId())
+            .put("businessProcessId", event.getBusinessProcessId())
+            .put("parentBusinessProcessId", event.getParentBusinessProcessId())
+            .put("taskId", event.getTaskId())
+            .put("eventType", event.getEventType())
+            .put("created", toString(event.getCreated()))
+            .put("userId", event.getUserId())
+            .put("domain", event.getDomain())
+            .put("workbasketKey", event.getWorkbasketKey())
+            .put("porCompany", event.getPorCompany())
+            .put("porSystem", event.getPorSystem())
+            .put("porInstance", event.getPorInstance())
+            .put("porType", event.getPorType())
+            .put("porValue", event.getPorValue())
+            .put("taskClassificationKey", event.getTaskClassificationKey())
+            .put("taskClassificationCategory", event.getTaskClassificationCategory())
+            .put("attachmentClassificationKey", event.getAttachmentClassificationKey())
+            .put("oldValue", event.getOldValue())
+            .put("newValue", event.getNewValue())
+            .put("details", event.getDetails());
+    for (TaskHistoryCustomField customField : TaskHistoryCustomField.values()) {
+      json.put(customField.name(), event.getCustomAttribute(customField));
+    }
+    return json;
+  }
+
+  private static TaskHistoryEvent toHistoryEvent(JSONObject json) {
+    TaskHistoryEvent event = new TaskHistoryEvent();
+    event.setId(json.optString("id", null));
+    event.setBusinessProcessId(json.optString("businessProcessId", null));
+    event.setParentBusinessProcessId(json.optString("parentBusinessProcessId", null));
+    event.setTaskId(json.optString("taskId", null));
+    event.setEventType(json.optString("eventType", null));
+    event.setCreated(toInstant(json.optString("created", null)));
+    event.setUserId(json.optString("userId", null));
+    event.setDomain(json.optString("domain", null));
+    event.setWorkbasketKey(json.optString("workbasketKey", null));
+    event.setPorCompany(json.optString("porCompany", null));
+    event.setPorSystem(json.optString("porSystem", null));
+    event.setPorInstance(json.optString("porInstance", null));
+    event.setPorType(json.optString("porType", null));
+    event.setPorValue(json.optString("porValue", null));
+    event.setTaskClassificationKey(json.optString("taskClassificationKey", null));
+    event.setTaskClassificationCategory(json.optString("taskClassificationCategory", null));
+    event.setAttachmentClassificationKey(json.optString("attachmentClassificationKey", null));
+    event.setOldValue(json.optString("oldValue", null));
+    event.setNewValue(json.optString("newValue", null));
+    event.setDetails(json.optString("details", null));
+    for (TaskHistoryCustomField customField : TaskHistoryCustomField.values()) {
+      event.setCustomAttribute(customField, json.optString(customField.name(), null));
+    }
+    return event;
+  }
+
+  private static JSONObject classificationToJson(ClassificationSummary classificationSummary) {
+    if (classificationSummary == null) {
+      return null;
+    }
+    return new JSONObject()
+        .put("id", classificationSummary.getId())
+        .put("key", classificationSummary.getKey())
+        .put("category", classificationSummary.getCategory())
+        .put("domain", classificationSummary.getDomain());
+  }
+
+  private static ClassificationSummary toClassificationSummary(JSONObject json) {
+    if (json == null) {
+      return null;
+    }
+    ClassificationSummaryImpl classificationSummary = new ClassificationSummaryImpl();
+    classificationSummary.setId(json.optString("id", null));
+    classificationSummary.setKey(json.optString("key", null));
+    classificationSummary.setCategory(json.optString("category", null));
+    classificationSummary.setDomain(json.optString("domain", null));
+    return classificationSummary;
+  }
+
+  private static JSONObject workbasketToJson(WorkbasketSummary workbasketSummary) {
+    if (workbasketSummary == null) {
+      return null;
+    }
+    return new JSONObject()
+        .put("id", workbasketSummary.getId())
+        .put("key", workbasketSummary.getKey())
+        .put("domain", workbasketSummary.getDomain());
+  }
+
+  private static WorkbasketSummary toWorkbasketSummary(JSONObject json) {
+    if (json == null) {
+      return null;
+    }
+    WorkbasketSummaryImpl workbasketSummary = new WorkbasketSummaryImpl();
+    workbasketSummary.setId(json.optString("id", null));
+    workbasketSummary.setKey(json.optString("key", null));
+    workbasketSummary.setDomain(json.optString("domain", null));
+    return workbasketSummary;
+  }
+
+  private static JSONObject objectReferenceToJson(ObjectReference objectReference) {
+    if (objectReference == null) {
+      return null;
+    }
+    return new JSONObject()
+        .put("id", objectReference.getId())
+        .put("company", objectReference.getCompany())
+        .put("system", objectReference.getSystem())
+        .put("systemInstance", objectReference.getSystemInstance())
+        .put("type", objectReference.getType())
+        .put("value", objectReference.getValue());
+  }
+
+  private static ObjectReference toObjectReference(JSONObject json) {
+    if (json == null) {
+      return null;
+    }
+    ObjectReference objectReference = new ObjectReference();
+    objectReference.setId(json.optString("id", null));
+    objectReference.setCompany(json.optString("company", null));
+    objectReference.setSystem(json.optString("system", null));
+    objectReference.setSystemInstance(json.optString("systemInstance", null));
+    objectReference.setType(json.optString("type", null));
+    objectReference.setValue(json.optString("value", null));
+    return objectReference;
+  }
+
+  private static <T> JSONArray toJsonArray(List<T> elements, Function<T, JSONObject> toJson) {
+    return new JSONArray(elements.stream().map(toJson).collect(Collectors.toList()));
+  }
+
+  private static <T> List<T> toList(JSONArray jsonArray, Function<JSONObject, T> fromJson) {
+    if (jsonArray == null) {
+      return new ArrayList<>();
+    }
+    return StreamSupport.stream(jsonArray.spliterator(), false)
+        .map(JSONObject.class::cast)
+        .map(fromJson)
+        .collect(Collectors.toList());
+  }
+
+  private static Map<String, String> toMap(JSONObject json) {
+    Map<String, String> map = new HashMap<>();
+    if (json != null) {
+      json.keySet().forEach(key -> map.put(key, json.getString(key)));
+    }
+    return map;
+  }
+
+  private static String toString(Instant instant) {
+    return instant == null ? null : instant.toString();
+  }
+
+  private static Instant toInstant(String value) {
+    return value == null ? null : Instant.parse(value);
+  }
+}
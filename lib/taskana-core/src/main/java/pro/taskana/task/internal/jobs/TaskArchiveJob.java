@@ -0,0 +1,204 @@
+package pro.taskana.task.internal.jobs;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.ScheduledJob.Type;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.CollectionUtil;
+import pro.taskana.common.internal.util.LogSanitizer;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.internal.HistoryEventManager;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.task.internal.archive.TaskArchive;
+import pro.taskana.task.internal.models.ArchivedTaskImpl;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Job to move completed tasks into the archive after a period of time. The tasks are written to
+ * the archive together with their attachments, comments and history events and are deleted from
+ * the database afterwards.
+ */
+public class TaskArchiveJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchiveJob.class);
+
+  // Parameter
+  private final Path archiveDirectory;
+  private final Duration minimumAge;
+  private final int chunkSize;
+
+  public TaskArchiveJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider<Object> txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob);
+    archiveDirectory = taskanaEngine.getConfiguration().getArchiveDirectory();
+    minimumAge = taskanaEngine.getConfiguration().getArchiveJobMinimumAge();
+    chunkSize = taskanaEngine.getConfiguration().getArchiveJobChunkSize();
+  }
+
+  @Override
+  public void run() throws TaskanaException {
+    if (archiveDirectory == null) {
+      LOGGER.warn("TaskArchiveJob skipped, since no archive directory is configured.");
+      scheduleNextArchiveJob();
+      return;
+    }
+    Instant completedBefore = Instant.now().minus(minimumAge);
+    LOGGER.info("Running job to archive all tasks completed before ({})", completedBefore);
+    try {
+      TaskArchive archive = new TaskArchive(archiveDirectory);
+      List<String> taskIdsCompletedBefore =
+          taskanaEngineImpl
+              .getTaskService()
+              .createTaskQuery()
+              .stateIn(TaskState.END_STATES)
+              .completedWithin(new TimeInterval(null, completedBefore))
+              .listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING);
+
+      int totalNumberOfTasksArchived = 0;
+      for (List<String> taskIds :
+          CollectionUtil.partitionBasedOnSize(taskIdsCompletedBefore, chunkSize)) {
+        totalNumberOfTasksArchived += archiveTasksTransactionally(archive, taskIds);
+      }
+
+      LOGGER.info("Job ended successfully. {} tasks archived.", totalNumberOfTasksArchived);
+    } catch (Exception e) {
+      throw new TaskanaException("Error while processing TaskArchiveJob.", e);
+    } finally {
+      scheduleNextArchiveJob();
+    }
+  }
+
+  /**
+   * Initializes the TaskArchiveJob schedule. <br>
+   * All scheduled archive jobs are cancelled/deleted and a new one is scheduled.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    jobService.deleteJobs(Type.TASKARCHIVEJOB);
+    TaskArchiveJob job = new TaskArchiveJob(taskanaEngine, null, null);
+    job.scheduleNextArchiveJob();
+  }
+
+  private int archiveTasksTransactionally(TaskArchive archive, List<String> taskIds)
+      throws TaskanaException {
+    if (txProvider != null) {
+      return (Integer)
+          txProvider.executeInTransaction(
+              () -> {
+                try {
+                  return archiveTasks(archive, taskIds);
+                } catch (TaskanaException e) {
+                  throw new SystemException("Could not archive tasks.", e);
+                }
+              });
+    } else {
+      return archiveTasks(archive, taskIds);
+    }
+  }
+
+  // The tasks are written to a chunk file and the index before they are deleted. If the deletion
+  // fails or is rolled back, the tasks stay in the database and are archived again by the next
+  // run. Queries of the archive read a task from the latest chunk file, so the repeated index
+  // entry does not duplicate the task.
+  private int archiveTasks(TaskArchive archive, List<String> taskIds) throws TaskanaException {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+    List<TaskImpl> tasks = taskService.getTasks(taskIds);
+    List<String> loadedTaskIds = tasks.stream().map(TaskImpl::getId).collect(Collectors.toList());
+    Map<String, List<TaskComment>> taskCommentsByTaskId =
+        taskService.getTaskComments(loadedTaskIds);
+    Map<String, List<TaskHistoryEvent>> historyEventsByTaskId =
+        getHistoryEventsByTaskId(loadedTaskIds);
+    Instant archived = Instant.now();
+
+    List<ArchivedTaskImpl> archivedTasks = new ArrayList<>();
+    for (TaskImpl task : tasks) {
+      ArchivedTaskImpl archivedTask = new ArchivedTaskImpl();
+      archivedTask.setTask(task);
+      archivedTask.setTaskComments(
+          taskCommentsByTaskId.getOrDefault(task.getId(), Collections.emptyList()));
+      archivedTask.setHistoryEvents(
+          historyEventsByTaskId.getOrDefault(task.getId(), Collections.emptyList()));
+      archivedTask.setArchived(archived);
+      archivedTasks.add(archivedTask);
+    }
+    if (archivedTasks.isEmpty()) {
+      return 0;
+    }
+
+    String chunkFileName = archive.writeChunk(archivedTasks);
+    archive.addToIndex(chunkFileName, archivedTasks);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.deleteTasks(loadedTaskIds);
+    for (String failedId : results.getFailedIds()) {
+      if (LOGGER.isWarnEnabled()) {
+        LOGGER.warn(
+            "Task with id {} was archived, but could not be deleted. Reason: {}",
+            LogSanitizer.stripLineBreakingChars(failedId),
+            LogSanitizer.stripLineBreakingChars(results.getErrorForId(failedId)));
+      }
+    }
+    List<String> deletedTaskIds =
+        loadedTaskIds.stream()
+            .filter(taskId -> !results.getErrorMap().containsKey(taskId))
+            .collect(Collectors.toList());
+    deleteHistoryEvents(deletedTaskIds);
+
+    LOGGER.debug("{} tasks archived in {}.", deletedTaskIds.size(), chunkFileName);
+    return deletedTaskIds.size();
+  }
+
+  private Map<String, List<TaskHistoryEvent>> getHistoryEventsByTaskId(List<String> taskIds) {
+    if (!taskanaEngineImpl.isHistoryEnabled()) {
+      return Collections.emptyMap();
+    }
+    return getHistoryEventManager().getTaskEvents(taskIds).stream()
+        .collect(Collectors.groupingBy(TaskHistoryEvent::getTaskId));
+  }
+
+  private void deleteHistoryEvents(List<String> deletedTaskIds) {
+    // deleteTasks already removed the history events if this is enabled
+    if (deletedTaskIds.isEmpty()
+        || !taskanaEngineImpl.isHistoryEnabled()
+        || taskanaEngineImpl.getConfiguration().isDeleteHistoryOnTaskDeletionEnabled()) {
+      return;
+    }
+    getHistoryEventManager().deleteEvents(deletedTaskIds);
+  }
+
+  private HistoryEventManager getHistoryEventManager() {
+    return taskanaEngineImpl.getInternalTaskanaEngine().getHistoryEventManager();
+  }
+
+  private void scheduleNextArchiveJob() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.TASKARCHIVEJOB);
+    job.setDue(getNextDueForCleanupJob());
+    taskanaEngineImpl.getJobService().createJob(job);
+  }
+}
@@ -24,6 +24,7 @@ import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 /** Job to cleanup completed tasks after a period of time. */
 public class TaskCleanupJob extends AbstractTaskanaJob {
@@ -61,6 +62,8 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
               .sum();
 
       LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
+
+      deleteTaskTombstonesTransactionally(completedBefore);
     } catch (Exception e) {
       throw new TaskanaException("Error while processing TaskCleanupJob.", e);
     } finally {
@@ -165,6 +168,20 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return deletedTaskCount;
   }
 
+  private void deleteTaskTombstonesTransactionally(Instant deletedBefore) {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+    int deletedTombstones;
+    if (txProvider != null) {
+      deletedTombstones =
+          (Integer)
+              txProvider.executeInTransaction(
+                  () -> taskService.deleteTaskTombstones(deletedBefore));
+    } else {
+      deletedTombstones = taskService.deleteTaskTombstones(deletedBefore);
+    }
+    LOGGER.debug("{} records of deleted tasks removed from the change feed.", deletedTombstones);
+  }
+
   private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
       throws InvalidArgumentException, NotAuthorizedException {
     if (LOGGER.isDebugEnabled()) {
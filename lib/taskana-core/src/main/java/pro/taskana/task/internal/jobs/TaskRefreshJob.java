@@ -1,11 +1,17 @@
 package pro.taskana.task.internal.jobs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
@@ -39,9 +45,21 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
-          affectedTaskIds, serviceLevelChanged, priorityChanged);
+      if (priorityChanged
+          && taskanaEngineImpl.getConfiguration().isTaskRefreshJobPriorityInDatabase()) {
+        recomputePriorityInDatabase(taskService);
+        if (serviceLevelChanged) {
+          taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+              affectedTaskIds, true, false);
+        }
+      } else {
+        taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            affectedTaskIds, serviceLevelChanged, priorityChanged);
+      }
       LOGGER.info("TaskRefreshJob ended successfully.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TaskanaException("TaskRefreshJob was interrupted.", e);
     } catch (Exception e) {
       throw new TaskanaException("Error while processing TaskRefreshJob.", e);
     }
@@ -51,4 +69,46 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
   public String toString() {
     return "TaskRefreshJob [affectedTaskIds= " + affectedTaskIds + "]";
   }
+
+  // the chunks are independent of each other, hence each chunk is recomputed in its own
+  // transaction and the chunks are distributed over the configured number of threads.
+  private void recomputePriorityInDatabase(TaskServiceImpl taskService)
+      throws InterruptedException, ExecutionException {
+    TaskanaEngineConfiguration configuration = taskanaEngineImpl.getConfiguration();
+    List<List<String>> chunks =
+        partition(affectedTaskIds, Math.max(1, configuration.getTaskRefreshJobChunkSize()));
+    int threads = Math.min(Math.max(1, configuration.getTaskRefreshJobThreads()), chunks.size());
+    int updatedTasks = 0;
+    if (threads <= 1) {
+      for (List<String> chunk : chunks) {
+        updatedTasks += recomputePriorityTransactionally(taskService, chunk);
+      }
+    } else {
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<Integer>> results = new ArrayList<>();
+        for (List<String> chunk : chunks) {
+          results.add(executor.submit(() -> recomputePriorityTransactionally(taskService, chunk)));
+        }
+        for (Future<Integer> result : results) {
+          updatedTasks += result.get();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+    LOGGER.debug(
+        "Recomputed the priority of {} tasks in {} chunks, {} tasks changed.",
+        affectedTaskIds.size(),
+        chunks.size(),
+        updatedTasks);
+  }
+
+  private int recomputePriorityTransactionally(TaskServiceImpl taskService, List<String> taskIds) {
+    if (txProvider != null) {
+      return (Integer)
+          txProvider.executeInTransaction(() -> taskService.recomputePriorityOfTasks(taskIds));
+    }
+    return taskService.recomputePriorityOfTasks(taskIds);
+  }
 }
@@ -0,0 +1,67 @@
+package pro.taskana.task.internal.models;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.task.api.models.ArchivedTask;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskComment;
+
+public class ArchivedTaskImpl implements ArchivedTask {
+
+  private Task task;
+  private List<TaskComment> taskComments = new ArrayList<>();
+  private List<TaskHistoryEvent> historyEvents = new ArrayList<>();
+  private Instant archived;
+
+  @Override
+  public Task getTask() {
+    return task;
+  }
+
+  public void setTask(Task task) {
+    this.task = task;
+  }
+
+  @Override
+  public List<TaskComment> getTaskComments() {
+    return taskComments;
+  }
+
+  public void setTaskComments(List<TaskComment> taskComments) {
+    this.taskComments = taskComments;
+  }
+
+  @Override
+  public List<TaskHistoryEvent> getHistoryEvents() {
+    return historyEvents;
+  }
+
+  public void setHistoryEvents(List<TaskHistoryEvent> historyEvents) {
+    this.historyEvents = historyEvents;
+  }
+
+  @Override
+  public Instant getArchived() {
+    return archived;
+  }
+
+  public void setArchived(Instant archived) {
+    this.archived = archived;
+  }
+
+  @Override
+  public String toString() {
+    return "ArchivedTaskImpl [task="
+        + task
+        + ", taskComments="
+        + taskComments
+        + ", historyEvents="
+        + historyEvents
+        + ", archived="
+        + archived
+        + "]";
+  }
+}
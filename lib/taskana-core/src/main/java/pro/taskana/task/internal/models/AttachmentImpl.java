@@ -40,6 +40,7 @@ public class AttachmentImpl extends AttachmentSummaryImpl implements Attachment
     summary.setTaskId(this.taskId);
     summary.setChannel(this.channel);
     summary.setObjectReference(this.objectReference);
+    summary.setVersion(this.version);
     return summary;
   }
 
@@ -105,6 +106,8 @@ public class AttachmentImpl extends AttachmentSummaryImpl implements Attachment
         + channel
         + ", received="
         + received
+        + ", version="
+        + version
         + ", customAttributes="
         + customAttributes
         + "]";
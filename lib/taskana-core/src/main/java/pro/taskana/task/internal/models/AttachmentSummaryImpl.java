@@ -20,6 +20,7 @@ public class AttachmentSummaryImpl implements AttachmentSummary {
   protected ObjectReference objectReference;
   protected String channel;
   protected Instant received;
+  protected int version;
 
   AttachmentSummaryImpl() {}
 
@@ -104,6 +105,15 @@ public class AttachmentSummaryImpl implements AttachmentSummary {
     this.received = received != null ? received.truncatedTo(ChronoUnit.MILLIS) : null;
   }
 
+  @Override
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
   @Override
   public AttachmentSummaryImpl copy() {
     return new AttachmentSummaryImpl(this);
@@ -128,7 +138,15 @@ public class AttachmentSummaryImpl implements AttachmentSummary {
   @Override
   public int hashCode() {
     return Objects.hash(
-        id, taskId, created, modified, classificationSummary, objectReference, channel, received);
+        id,
+        taskId,
+        created,
+        modified,
+        classificationSummary,
+        objectReference,
+        channel,
+        received,
+        version);
   }
 
   @Override
@@ -150,7 +168,8 @@ public class AttachmentSummaryImpl implements AttachmentSummary {
         && Objects.equals(classificationSummary, other.classificationSummary)
         && Objects.equals(objectReference, other.objectReference)
         && Objects.equals(channel, other.channel)
-        && Objects.equals(received, other.received);
+        && Objects.equals(received, other.received)
+        && version == other.version;
   }
 
   @Override
@@ -171,6 +190,8 @@ public class AttachmentSummaryImpl implements AttachmentSummary {
         + channel
         + ", received="
         + received
+        + ", version="
+        + version
         + "]";
   }
 }
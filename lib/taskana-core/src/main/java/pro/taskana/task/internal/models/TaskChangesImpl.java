@@ -0,0 +1,64 @@
+package pro.taskana.task.internal.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pro.taskana.task.api.models.TaskChanges;
+import pro.taskana.task.api.models.TaskSummary;
+
+public class TaskChangesImpl implements TaskChanges {
+
+  private List<TaskSummary> changedTasks = new ArrayList<>();
+  private List<String> deletedTaskIds = new ArrayList<>();
+  private String watermark;
+  private boolean moreChanges;
+
+  @Override
+  public List<TaskSummary> getChangedTasks() {
+    return changedTasks;
+  }
+
+  public void setChangedTasks(List<TaskSummary> changedTasks) {
+    this.changedTasks = changedTasks;
+  }
+
+  @Override
+  public List<String> getDeletedTaskIds() {
+    return deletedTaskIds;
+  }
+
+  public void setDeletedTaskIds(List<String> deletedTaskIds) {
+    this.deletedTaskIds = deletedTaskIds;
+  }
+
+  @Override
+  public String getWatermark() {
+    return watermark;
+  }
+
+  public void setWatermark(String watermark) {
+    this.watermark = watermark;
+  }
+
+  @Override
+  public boolean hasMoreChanges() {
+    return moreChanges;
+  }
+
+  public void setMoreChanges(boolean moreChanges) {
+    this.moreChanges = moreChanges;
+  }
+
+  @Override
+  public String toString() {
+    return "TaskChangesImpl [changedTasks="
+        + changedTasks
+        + ", deletedTaskIds="
+        + deletedTaskIds
+        + ", watermark="
+        + watermark
+        + ", moreChanges="
+        + moreChanges
+        + "]";
+  }
+}
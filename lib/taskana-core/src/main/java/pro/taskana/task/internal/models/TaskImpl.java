@@ -241,6 +241,7 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
     taskSummary.setRead(isRead);
     taskSummary.setState(state);
     taskSummary.setTransferred(isTransferred);
+    taskSummary.setVersion(version);
     taskSummary.setWorkbasketSummary(workbasketSummary);
     return taskSummary;
   }
@@ -357,6 +358,8 @@ public class TaskImpl extends TaskSummaryImpl implements Task {
         + isRead
         + ", isTransferred="
         + isTransferred
+        + ", version="
+        + version
         + ", attachmentSummaries="
         + attachmentSummaries
         + ", custom1="
@@ -42,6 +42,8 @@ public class TaskSummaryImpl implements TaskSummary {
   protected ObjectReference primaryObjRef;
   protected boolean isRead;
   protected boolean isTransferred;
+  protected int version;
+  protected int commentCount;
   // All objects have to be serializable
   protected List<AttachmentSummary> attachmentSummaries = new ArrayList<>();
   protected String custom1;
@@ -322,6 +324,24 @@ public class TaskSummaryImpl implements TaskSummary {
     this.isTransferred = isTransferred;
   }
 
+  @Override
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
+  @Override
+  public int getCommentCount() {
+    return commentCount;
+  }
+
+  public void setCommentCount(int commentCount) {
+    this.commentCount = commentCount;
+  }
+
   @Override
   public String getCustomAttribute(TaskCustomField customField) {
 
@@ -568,6 +588,7 @@ public class TaskSummaryImpl implements TaskSummary {
         primaryObjRef,
         isRead,
         isTransferred,
+        version,
         attachmentSummaries,
         custom1,
         custom2,
@@ -602,6 +623,7 @@ public class TaskSummaryImpl implements TaskSummary {
     return priority == other.priority
         && isRead == other.isRead
         && isTransferred == other.isTransferred
+        && version == other.version
         && Objects.equals(id, other.id)
         && Objects.equals(externalId, other.externalId)
         && Objects.equals(created, other.created)
@@ -684,6 +706,10 @@ public class TaskSummaryImpl implements TaskSummary {
         + isRead
         + ", isTransferred="
         + isTransferred
+        + ", version="
+        + version
+        + ", commentCount="
+        + commentCount
         + ", attachmentSummaries="
         + attachmentSummaries
         + ", custom1="
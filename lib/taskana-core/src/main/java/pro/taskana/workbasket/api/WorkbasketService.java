@@ -1,6 +1,8 @@
 package pro.taskana.workbasket.api;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -45,6 +47,16 @@ public interface WorkbasketService {
   Workbasket getWorkbasket(String workbasketKey, String domain)
       throws WorkbasketNotFoundException, NotAuthorizedException;
 
+  /**
+   * Get the Workbaskets with the given ids with one query per 1000 ids instead of one query per
+   * Workbasket. Workbaskets which do not exist or which the current user is not authorized to read
+   * are omitted from the result.
+   *
+   * @param workbasketIds the ids of the requested Workbaskets
+   * @return the readable Workbaskets identified by the ids, in no particular order
+   */
+  List<Workbasket> getWorkbaskets(List<String> workbasketIds);
+
   /**
    * Creates a new Workbasket. <br>
    * The default values are:
@@ -256,6 +268,16 @@ public interface WorkbasketService {
   List<WorkbasketSummary> getDistributionTargets(String workbasketKey, String domain)
       throws NotAuthorizedException, WorkbasketNotFoundException;
 
+  /**
+   * Returns the ids of the distribution targets of the given workbaskets with one query per 1000
+   * workbaskets instead of one query per workbasket. Workbaskets which the current user is not
+   * authorized to read are omitted from the result, like workbaskets without distribution targets.
+   *
+   * @param workbasketIds the ids of the source workbaskets
+   * @return the ids of the distribution targets by the id of their source workbasket
+   */
+  Map<String, Set<String>> getDistributionTargetIds(List<String> workbasketIds);
+
   /**
    * Set the distribution targets for a workbasket.
    *
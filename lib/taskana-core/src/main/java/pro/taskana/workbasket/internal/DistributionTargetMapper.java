@@ -4,8 +4,11 @@ import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Select;
 
+import pro.taskana.common.internal.util.Pair;
+
 /** This class is the mybatis mapping of distribution targets. */
 @SuppressWarnings("checkstyle:LineLength")
 public interface DistributionTargetMapper {
@@ -14,6 +17,11 @@ public interface DistributionTargetMapper {
       "INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) VALUES (#{sourceId}, #{targetId})")
   void insert(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
 
+  @Insert(
+      "<script>INSERT INTO DISTRIBUTION_TARGETS (SOURCE_ID, TARGET_ID) VALUES <foreach item='target' collection='targetIds' separator=',' >(#{sourceId}, #{target})</foreach></script>")
+  void insertMultiple(
+      @Param("sourceId") String sourceId, @Param("targetIds") List<String> targetIds);
+
   @Delete(
       "DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}")
   void delete(@Param("sourceId") String sourceId, @Param("targetId") String targetId);
@@ -24,6 +32,14 @@ public interface DistributionTargetMapper {
           + "</script>")
   List<String> findBySourceId(@Param("sourceId") String sourceId);
 
+  @Select(
+      "<script>SELECT SOURCE_ID, TARGET_ID FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID IN (<foreach item='sourceId' collection='sourceIds' separator=',' >#{sourceId}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "left", column = "SOURCE_ID")
+  @Result(property = "right", column = "TARGET_ID")
+  List<Pair<String, String>> findBySourceIds(@Param("sourceIds") List<String> sourceIds);
+
   @Select(
       "<script>SELECT count(*) FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID = #{targetId}"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -107,6 +107,14 @@ public interface WorkbasketAccessMapper {
   @Options(keyProperty = "id", keyColumn = "ID")
   void insert(@Param("workbasketAccessItem") WorkbasketAccessItemImpl workbasketAccessItem);
 
+  @Insert(
+      "<script>INSERT INTO WORKBASKET_ACCESS_LIST (ID, WORKBASKET_ID, ACCESS_ID, ACCESS_NAME, PERM_READ, PERM_OPEN, PERM_APPEND, PERM_TRANSFER, PERM_DISTRIBUTE,  PERM_CUSTOM_1, PERM_CUSTOM_2, PERM_CUSTOM_3, PERM_CUSTOM_4, PERM_CUSTOM_5, PERM_CUSTOM_6, PERM_CUSTOM_7, PERM_CUSTOM_8, PERM_CUSTOM_9, PERM_CUSTOM_10, PERM_CUSTOM_11, PERM_CUSTOM_12) VALUES "
+          + "<foreach item='item' collection='workbasketAccessItems' separator=',' >"
+          + "(#{item.id}, #{item.workbasketId}, #{item.accessId}, #{item.accessName}, #{item.permRead}, #{item.permOpen}, #{item.permAppend}, #{item.permTransfer}, #{item.permDistribute}, #{item.permCustom1}, #{item.permCustom2}, #{item.permCustom3}, #{item.permCustom4}, #{item.permCustom5}, #{item.permCustom6}, #{item.permCustom7}, #{item.permCustom8}, #{item.permCustom9}, #{item.permCustom10}, #{item.permCustom11}, #{item.permCustom12})"
+          + "</foreach></script>")
+  void insertMultiple(
+      @Param("workbasketAccessItems") List<WorkbasketAccessItemImpl> workbasketAccessItems);
+
   @Update(
       "UPDATE WORKBASKET_ACCESS_LIST SET WORKBASKET_ID = #{workbasketAccessItem.workbasketId}, ACCESS_ID = #{workbasketAccessItem.accessId}, ACCESS_NAME = #{workbasketAccessItem.accessName}, PERM_READ = #{workbasketAccessItem.permRead}, PERM_OPEN = #{workbasketAccessItem.permOpen}, PERM_APPEND = #{workbasketAccessItem.permAppend}, PERM_TRANSFER = #{workbasketAccessItem.permTransfer}, PERM_DISTRIBUTE = #{workbasketAccessItem.permDistribute}, PERM_CUSTOM_1 = #{workbasketAccessItem.permCustom1}, PERM_CUSTOM_2 = #{workbasketAccessItem.permCustom2}, PERM_CUSTOM_3 = #{workbasketAccessItem.permCustom3}, PERM_CUSTOM_4 = #{workbasketAccessItem.permCustom4}, PERM_CUSTOM_5 = #{workbasketAccessItem.permCustom5}, PERM_CUSTOM_6 = #{workbasketAccessItem.permCustom6}, PERM_CUSTOM_7 = #{workbasketAccessItem.permCustom7}, PERM_CUSTOM_8 = #{workbasketAccessItem.permCustom8}, PERM_CUSTOM_9 = #{workbasketAccessItem.permCustom9}, PERM_CUSTOM_10 = #{workbasketAccessItem.permCustom10}, PERM_CUSTOM_11 = #{workbasketAccessItem.permCustom11}, PERM_CUSTOM_12 = #{workbasketAccessItem.permCustom12} "
           + "WHERE id = #{workbasketAccessItem.id}")
@@ -115,6 +123,10 @@ public interface WorkbasketAccessMapper {
   @Delete("DELETE FROM WORKBASKET_ACCESS_LIST WHERE ID = #{id}")
   void delete(@Param("id") String id);
 
+  @Delete(
+      "<script>DELETE FROM WORKBASKET_ACCESS_LIST WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>)</script>")
+  void deleteMultiple(@Param("ids") List<String> ids);
+
   @Delete("DELETE FROM WORKBASKET_ACCESS_LIST WHERE WORKBASKET_ID = #{workbasketId}")
   void deleteAllAccessItemsForWorkbasketId(@Param("workbasketId") String workbasketId);
 
@@ -40,6 +40,30 @@ public interface WorkbasketMapper {
   @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")
   WorkbasketImpl findById(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "key", column = "KEY")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "name", column = "NAME")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "description", column = "DESCRIPTION")
+  @Result(property = "owner", column = "OWNER")
+  @Result(property = "custom1", column = "CUSTOM_1")
+  @Result(property = "custom2", column = "CUSTOM_2")
+  @Result(property = "custom3", column = "CUSTOM_3")
+  @Result(property = "custom4", column = "CUSTOM_4")
+  @Result(property = "orgLevel1", column = "ORG_LEVEL_1")
+  @Result(property = "orgLevel2", column = "ORG_LEVEL_2")
+  @Result(property = "orgLevel3", column = "ORG_LEVEL_3")
+  @Result(property = "orgLevel4", column = "ORG_LEVEL_4")
+  @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")
+  List<WorkbasketImpl> findByIds(@Param("ids") List<String> ids);
+
   @Select(
       "<script>SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION FROM WORKBASKET WHERE UPPER(KEY) = UPPER(#{key}) and UPPER(DOMAIN) = UPPER(#{domain}) "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
@@ -149,6 +173,12 @@ public interface WorkbasketMapper {
   @Result(property = "orgLevel4", column = "ORG_LEVEL_4")
   List<WorkbasketSummaryImpl> findAll();
 
+  @Select(
+      "<script>SELECT ID FROM WORKBASKET WHERE ID IN (<foreach item='id' collection='ids' separator=',' >#{id}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingIds(@Param("ids") List<String> ids);
+
   @Insert(
       "<script>INSERT INTO WORKBASKET (ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, ORG_LEVEL_1, ORG_LEVEL_2, ORG_LEVEL_3, ORG_LEVEL_4, MARKED_FOR_DELETION) VALUES (#{workbasket.id}, #{workbasket.key}, #{workbasket.created}, #{workbasket.modified}, #{workbasket.name}, #{workbasket.domain}, #{workbasket.type}, #{workbasket.description}, #{workbasket.owner}, #{workbasket.custom1}, #{workbasket.custom2}, #{workbasket.custom3}, #{workbasket.custom4}, #{workbasket.orgLevel1}, #{workbasket.orgLevel2}, #{workbasket.orgLevel3}, #{workbasket.orgLevel4}, #{workbasket.markedForDeletion}) "
           + "</script>")
@@ -1,8 +1,11 @@
 package pro.taskana.workbasket.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -431,6 +434,24 @@ public class WorkbasketQueryImpl implements WorkbasketQuery {
     }
   }
 
+  @Override
+  public void forEach(Consumer<? super WorkbasketSummary> action) {
+    LOGGER.debug("entry to forEach(), this = {}", this);
+    try {
+      taskanaEngine.openConnection();
+      handleCallerRolesAndAccessIds();
+      try (Cursor<WorkbasketSummary> cursor =
+          taskanaEngine.getSqlSession().selectCursor(LINK_TO_MAPPER, this)) {
+        cursor.forEach(action);
+      } catch (IOException e) {
+        throw new SystemException("Could not close the cursor of the workbasket query", e);
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from forEach()");
+    }
+  }
+
   @Override
   public WorkbasketSummary single() {
     LOGGER.debug("entry to single(), this = {}", this);
@@ -3,16 +3,26 @@ package pro.taskana.workbasket.internal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
@@ -21,6 +31,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketAccessItemCreatedEvent;
@@ -39,6 +50,7 @@ import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.api.WorkbasketAccessItemQuery;
 import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.WorkbasketQuery;
+import pro.taskana.workbasket.api.WorkbasketQueryColumnName;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.InvalidWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistException;
@@ -56,6 +68,8 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class WorkbasketServiceImpl implements WorkbasketService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketServiceImpl.class);
+  // limits the number of rows which are inserted or deleted by a single statement
+  private static final int BATCH_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketMapper workbasketMapper;
@@ -125,6 +139,30 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  @Override
+  public List<Workbasket> getWorkbaskets(List<String> workbasketIds) {
+    LOGGER.debug("entry to getWorkbaskets(workbasketIds = {})", workbasketIds);
+    List<Workbasket> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> workbasketIdsOfBatch :
+          CollectionUtil.partitionBasedOnSize(new HashSet<>(workbasketIds), BATCH_SIZE)) {
+        // the workbasket query only returns the workbaskets which the current user may read
+        List<String> readableWorkbasketIds =
+            createWorkbasketQuery()
+                .idIn(workbasketIdsOfBatch.toArray(new String[0]))
+                .listValues(WorkbasketQueryColumnName.ID, SortDirection.ASCENDING);
+        if (!readableWorkbasketIds.isEmpty()) {
+          result.addAll(workbasketMapper.findByIds(readableWorkbasketIds));
+        }
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug("exit from getWorkbaskets(), found {} workbaskets", result.size());
+    }
+  }
+
   @Override
   public Workbasket createWorkbasket(Workbasket newWorkbasket)
       throws InvalidWorkbasketException, NotAuthorizedException, WorkbasketAlreadyExistException,
@@ -523,25 +561,60 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     Set<String> ids = new HashSet<>();
     Set<WorkbasketAccessItemImpl> accessItems =
-        checkAccessItemsPreconditionsAndSetId(workbasketId, ids, wbAccessItems);
+        checkAccessItemsPreconditions(workbasketId, ids, wbAccessItems);
 
     try {
       taskanaEngine.openConnection();
 
-      List<WorkbasketAccessItemImpl> originalAccessItems = new ArrayList<>();
-
-      if (HistoryEventManager.isHistoryEnabled()) {
-        originalAccessItems = workbasketAccessMapper.findByWorkbasketId(workbasketId);
-      }
-      // delete all current ones
-      workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
-      accessItems.forEach(workbasketAccessMapper::insert);
-
-      if (HistoryEventManager.isHistoryEnabled()) {
+      Map<String, WorkbasketAccessItemImpl> originalAccessItems =
+          workbasketAccessMapper.findByWorkbasketId(workbasketId).stream()
+              .collect(
+                  Collectors.toMap(WorkbasketAccessItemImpl::getAccessId, Function.identity()));
+      Map<String, WorkbasketAccessItemImpl> newAccessItems =
+          accessItems.stream()
+              .collect(
+                  Collectors.toMap(WorkbasketAccessItemImpl::getAccessId, Function.identity()));
+
+      // access items are matched by their access id, a changed access item is replaced as a whole
+      List<WorkbasketAccessItemImpl> removedAccessItems =
+          originalAccessItems.values().stream()
+              .filter(item -> !isSameAccessItem(newAccessItems.get(item.getAccessId()), item))
+              .collect(Collectors.toList());
+      List<WorkbasketAccessItemImpl> addedAccessItems =
+          newAccessItems.values().stream()
+              .filter(item -> !isSameAccessItem(item, originalAccessItems.get(item.getAccessId())))
+              .collect(Collectors.toList());
+      Set<String> addedAccessIds =
+          addedAccessItems.stream()
+              .map(WorkbasketAccessItemImpl::getAccessId)
+              .collect(Collectors.toSet());
+      newAccessItems.values().stream()
+          .filter(item -> item.getId() == null || item.getId().isEmpty())
+          .forEach(
+              item -> {
+                WorkbasketAccessItemImpl originalItem = originalAccessItems.get(item.getAccessId());
+                item.setId(
+                    addedAccessIds.contains(item.getAccessId())
+                        ? IdGenerator.generateWithPrefix(
+                            IdGenerator.ID_PREFIX_WORKBASKET_AUTHORIZATION)
+                        : originalItem.getId());
+              });
+
+      CollectionUtil.partitionBasedOnSize(
+              removedAccessItems.stream()
+                  .map(WorkbasketAccessItemImpl::getId)
+                  .collect(Collectors.toList()),
+              BATCH_SIZE)
+          .forEach(workbasketAccessMapper::deleteMultiple);
+      CollectionUtil.partitionBasedOnSize(addedAccessItems, BATCH_SIZE)
+          .forEach(workbasketAccessMapper::insertMultiple);
+
+      if (HistoryEventManager.isHistoryEnabled()
+          && (!addedAccessItems.isEmpty() || !removedAccessItems.isEmpty())) {
 
         String details =
-            ObjectAttributeChangeDetector.determineChangesInAttributes(
-                originalAccessItems, new ArrayList<>(accessItems));
+            ObjectAttributeChangeDetector.determineChangesInCollection(
+                removedAccessItems, addedAccessItems);
 
         Workbasket workbasket = workbasketMapper.findById(workbasketId);
 
@@ -646,6 +719,43 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  @Override
+  public Map<String, Set<String>> getDistributionTargetIds(List<String> workbasketIds) {
+    LOGGER.debug("entry to getDistributionTargetIds(workbasketIds = {})", workbasketIds);
+    Map<String, Set<String>> result = new HashMap<>();
+    try {
+      taskanaEngine.openConnection();
+      boolean mayReadAllWorkbaskets =
+          taskanaEngine
+              .getEngine()
+              .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN);
+      for (List<String> workbasketIdsOfBatch :
+          CollectionUtil.partitionBasedOnSize(new HashSet<>(workbasketIds), BATCH_SIZE)) {
+        // the workbasket query only returns the workbaskets which the current user may read
+        List<String> readableWorkbasketIds =
+            mayReadAllWorkbaskets
+                ? workbasketIdsOfBatch
+                : createWorkbasketQuery()
+                    .idIn(workbasketIdsOfBatch.toArray(new String[0]))
+                    .listValues(WorkbasketQueryColumnName.ID, SortDirection.ASCENDING);
+        if (!readableWorkbasketIds.isEmpty()) {
+          distributionTargetMapper
+              .findBySourceIds(readableWorkbasketIds)
+              .forEach(
+                  target ->
+                      result
+                          .computeIfAbsent(target.getLeft(), sourceId -> new LinkedHashSet<>())
+                          .add(target.getRight()));
+        }
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+      LOGGER.debug(
+          "exit from getDistributionTargetIds(), found targets of {} workbaskets", result.size());
+    }
+  }
+
   @Override
   public void setDistributionTargets(String sourceWorkbasketId, List<String> targetWorkbasketIds)
       throws WorkbasketNotFoundException, NotAuthorizedException {
@@ -659,44 +769,55 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       // check existence of source workbasket
-      WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
-
-      List<String> originalTargetWorkbasketIds = new ArrayList<>();
-
-      if (HistoryEventManager.isHistoryEnabled()) {
-        originalTargetWorkbasketIds = distributionTargetMapper.findBySourceId(sourceWorkbasketId);
+      final WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+
+      Set<String> targetIds =
+          targetWorkbasketIds == null
+              ? Collections.emptySet()
+              : new LinkedHashSet<>(targetWorkbasketIds);
+      checkWorkbasketsExist(targetIds);
+
+      Set<String> originalTargetWorkbasketIds =
+          new LinkedHashSet<>(distributionTargetMapper.findBySourceId(sourceWorkbasketId));
+      List<String> removedTargetIds =
+          originalTargetWorkbasketIds.stream()
+              .filter(id -> !targetIds.contains(id))
+              .collect(Collectors.toList());
+      List<String> addedTargetIds =
+          targetIds.stream()
+              .filter(id -> !originalTargetWorkbasketIds.contains(id))
+              .collect(Collectors.toList());
+
+      CollectionUtil.partitionBasedOnSize(removedTargetIds, BATCH_SIZE)
+          .forEach(
+              ids -> distributionTargetMapper.deleteMultipleBySourceId(sourceWorkbasketId, ids));
+      CollectionUtil.partitionBasedOnSize(addedTargetIds, BATCH_SIZE)
+          .forEach(ids -> distributionTargetMapper.insertMultiple(sourceWorkbasketId, ids));
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Method setDistributionTargets() removed distribution targets {} and created "
+                + "distribution targets {} for source '{}'",
+            removedTargetIds,
+            addedTargetIds,
+            sourceWorkbasketId);
       }
 
-      distributionTargetMapper.deleteAllDistributionTargetsBySourceId(sourceWorkbasketId);
-
       sourceWorkbasket.setModified(Instant.now());
       workbasketMapper.update(sourceWorkbasket);
 
-      if (targetWorkbasketIds != null) {
-        for (String targetId : targetWorkbasketIds) {
-          // check for existence of target workbasket
-          getWorkbasket(targetId);
-          distributionTargetMapper.insert(sourceWorkbasketId, targetId);
-          LOGGER.debug(
-              "Method setDistributionTargets() created distribution target "
-                  + "for source '{}' and target {}",
-              sourceWorkbasketId,
-              targetId);
-        }
-
-        if (HistoryEventManager.isHistoryEnabled() && !targetWorkbasketIds.isEmpty()) {
+      if (HistoryEventManager.isHistoryEnabled()
+          && (!addedTargetIds.isEmpty() || !removedTargetIds.isEmpty())) {
 
-          String details =
-              ObjectAttributeChangeDetector.determineChangesInAttributes(
-                  originalTargetWorkbasketIds, targetWorkbasketIds);
+        String details =
+            ObjectAttributeChangeDetector.determineChangesInCollection(
+                removedTargetIds, addedTargetIds);
 
-          historyEventManager.createEvent(
-              new WorkbasketDistributionTargetsUpdatedEvent(
-                  IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT),
-                  sourceWorkbasket,
-                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
-                  details));
-        }
+        historyEventManager.createEvent(
+            new WorkbasketDistributionTargetsUpdatedEvent(
+                IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT),
+                sourceWorkbasket,
+                taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+                details));
       }
 
     } finally {
@@ -1056,7 +1177,38 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
-  private Set<WorkbasketAccessItemImpl> checkAccessItemsPreconditionsAndSetId(
+  private void checkWorkbasketsExist(Collection<String> workbasketIds)
+      throws WorkbasketNotFoundException {
+    Set<String> existingIds = new HashSet<>();
+    CollectionUtil.partitionBasedOnSize(workbasketIds, BATCH_SIZE)
+        .forEach(ids -> existingIds.addAll(workbasketMapper.findExistingIds(ids)));
+    Optional<String> missingId =
+        workbasketIds.stream().filter(id -> !existingIds.contains(id)).findFirst();
+    if (missingId.isPresent()) {
+      throw new WorkbasketNotFoundException(
+          missingId.get(), "Workbasket with id " + missingId.get() + " was not found.");
+    }
+  }
+
+  // a given access item without an id matches a stored one with the same content
+  private boolean isSameAccessItem(
+      WorkbasketAccessItemImpl accessItem, WorkbasketAccessItemImpl storedAccessItem) {
+    return accessItem != null
+        && storedAccessItem != null
+        && (accessItem.getId() == null
+            || accessItem.getId().isEmpty()
+            || accessItem.getId().equals(storedAccessItem.getId()))
+        && Objects.equals(accessItem.getWorkbasketId(), storedAccessItem.getWorkbasketId())
+        && Objects.equals(accessItem.getAccessId(), storedAccessItem.getAccessId())
+        && Objects.equals(accessItem.getAccessName(), storedAccessItem.getAccessName())
+        && Arrays.stream(WorkbasketPermission.values())
+            .allMatch(
+                permission ->
+                    accessItem.getPermission(permission)
+                        == storedAccessItem.getPermission(permission));
+  }
+
+  private Set<WorkbasketAccessItemImpl> checkAccessItemsPreconditions(
       String workbasketId, Set<String> ids, List<WorkbasketAccessItem> wbAccessItems)
       throws InvalidArgumentException, WorkbasketAccessItemAlreadyExistException {
 
@@ -1080,10 +1232,6 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                       + "- the WBID does not match. Target-WBID=''%s'' WorkbasketAccessItem=%s",
                   workbasketId, workbasketAccessItem));
         }
-        if (wbAccessItemImpl.getId() == null || wbAccessItemImpl.getId().isEmpty()) {
-          wbAccessItemImpl.setId(
-              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_AUTHORIZATION));
-        }
         if (ids.contains(wbAccessItemImpl.getAccessId())) {
           throw new WorkbasketAccessItemAlreadyExistException(wbAccessItemImpl);
         }
@@ -48,6 +48,8 @@ class ArchitectureTest {
           "pro.taskana.classification.internal",
           "pro.taskana.spi.history.api",
           "pro.taskana.spi.history.internal",
+          "pro.taskana.spi.metrics.api",
+          "pro.taskana.spi.metrics.internal",
           "pro.taskana.monitor.api",
           "pro.taskana.monitor.internal",
           "pro.taskana.task.api",
@@ -163,6 +165,8 @@ class ArchitectureTest {
                 .and()
                 .haveSimpleNameNotEndingWith("AbstractTaskanaJob")
                 .and()
+                .haveSimpleNameNotEndingWith("JobRunner")
+                .and()
                 .haveNameNotMatching(".*ScheduledJob.Type")
                 .and()
                 .resideInAPackage("..common..")
@@ -25,6 +25,8 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 
+import pro.taskana.task.internal.models.TaskSummaryImpl;
+
 /** check classes with a custom equals and hashcode implementation for correctness. */
 class PojoTest {
 
@@ -110,9 +112,13 @@ class PojoTest {
   }
 
   private void verifyHashAndEquals(Class<?> cl) {
+    // the comment count is only queried on demand and not part of the identity of a task
+    String[] ignoredFields =
+        TaskSummaryImpl.class.isAssignableFrom(cl) ? new String[] {"commentCount"} : new String[0];
     EqualsVerifier.forClass(cl)
         .suppress(Warning.NONFINAL_FIELDS, Warning.STRICT_INHERITANCE)
         .withRedefinedSuperclass()
+        .withIgnoredFields(ignoredFields)
         .verify();
   }
 
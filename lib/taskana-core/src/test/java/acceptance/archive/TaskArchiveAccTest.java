@@ -0,0 +1,201 @@
+package acceptance.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.ArchivedTask;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
+
+/** Acceptance test for archiving completed tasks and querying the archive. */
+@ExtendWith(JaasExtension.class)
+class TaskArchiveAccTest extends AbstractAccTest {
+
+  @TempDir Path archiveDirectory;
+
+  private TaskService taskService;
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    taskService = taskanaEngine.getTaskService();
+    taskanaEngine.getConfiguration().setArchiveDirectory(archiveDirectory);
+    taskanaEngine.getConfiguration().setArchiveJobMinimumAge(Duration.ofDays(14));
+    taskanaEngine.getConfiguration().setArchiveJobChunkSize(5);
+  }
+
+  @AfterEach
+  void after() {
+    taskanaEngine.getConfiguration().setArchiveDirectory(null);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_MoveCompletedTasksIntoArchive_When_RunningArchiveJob() throws Exception {
+    List<String> completedTaskIds = getIdsOfTasksCompletedBeforeMinimumAge();
+    long totalTasksCount = taskService.createTaskQuery().count();
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    assertThat(taskService.createTaskQuery().count())
+        .isEqualTo(totalTasksCount - completedTaskIds.size());
+    assertThat(taskService.createArchivedTaskQuery().count()).isEqualTo(completedTaskIds.size());
+    assertThat(taskService.createArchivedTaskQuery().list())
+        .extracting(archivedTask -> archivedTask.getTask().getId())
+        .containsExactlyInAnyOrderElementsOf(completedTaskIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ArchiveTaskWithAttachmentsAndComments() throws Exception {
+    String taskId = getIdsOfTasksCompletedBeforeMinimumAge().get(0);
+    TaskComment taskComment = taskService.newTaskComment(taskId);
+    taskComment.setTextField("archive me");
+    taskService.createTaskComment(taskComment);
+    Task task = taskService.getTask(taskId);
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    ArchivedTask archivedTask = taskService.createArchivedTaskQuery().idIn(taskId).single();
+    assertThat(archivedTask.getArchived()).isBefore(Instant.now());
+    assertThat(archivedTask.getTask())
+        .usingRecursiveComparison()
+        .ignoringFields("classificationSummary", "workbasketSummary", "attachments")
+        .isEqualTo(task);
+    assertThat(archivedTask.getTask().getClassificationSummary().getKey())
+        .isEqualTo(task.getClassificationSummary().getKey());
+    assertThat(archivedTask.getTask().getWorkbasketSummary().getId())
+        .isEqualTo(task.getWorkbasketSummary().getId());
+    assertThat(archivedTask.getTask().getAttachments())
+        .extracting(attachment -> attachment.getId())
+        .containsExactlyElementsOf(
+            task.getAttachments().stream()
+                .map(attachment -> attachment.getId())
+                .collect(Collectors.toList()));
+    assertThat(archivedTask.getTaskComments())
+        .extracting(TaskComment::getTextField)
+        .contains("archive me");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_FindArchivedTasksByExternalIdAndBusinessProcessId() throws Exception {
+    String taskId = getIdsOfTasksCompletedBeforeMinimumAge().get(0);
+    Task task = taskService.getTask(taskId);
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    assertThat(taskService.createArchivedTaskQuery().externalIdIn(task.getExternalId()).list())
+        .extracting(archivedTask -> archivedTask.getTask().getId())
+        .containsExactly(taskId);
+    assertThat(
+            taskService
+                .createArchivedTaskQuery()
+                .businessProcessIdIn(task.getBusinessProcessId())
+                .list())
+        .extracting(archivedTask -> archivedTask.getTask().getBusinessProcessId())
+        .containsOnly(task.getBusinessProcessId());
+    assertThat(taskService.createArchivedTaskQuery().externalIdIn("does not exist").count())
+        .isZero();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReadOnlyIndexPartitionOfTask_When_QueryingArchivedTaskById() throws Exception {
+    String taskId = getIdsOfTasksCompletedBeforeMinimumAge().get(0);
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    // every other partition is made unreadable
+    try (Stream<Path> partitionFiles = Files.list(archiveDirectory.resolve("index"))) {
+      for (Path partitionFile : partitionFiles.collect(Collectors.toList())) {
+        if (!new String(Files.readAllBytes(partitionFile), StandardCharsets.UTF_8)
+            .contains(taskId)) {
+          Files.write(partitionFile, "not an index entry".getBytes(StandardCharsets.UTF_8));
+        }
+      }
+    }
+
+    assertThat(taskService.createArchivedTaskQuery().idIn(taskId).single().getTask().getId())
+        .isEqualTo(taskId);
+    assertThat(taskService.createArchivedTaskQuery().idIn(taskId).count()).isOne();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_StreamArchivedTasks() throws Exception {
+    int numberOfCompletedTasks = getIdsOfTasksCompletedBeforeMinimumAge().size();
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    try (Stream<ArchivedTask> archivedTasks = taskService.createArchivedTaskQuery().stream()) {
+      assertThat(archivedTasks.count()).isEqualTo(numberOfCompletedTasks);
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotArchiveTasks_When_NoArchiveDirectoryIsConfigured() throws Exception {
+    taskanaEngine.getConfiguration().setArchiveDirectory(null);
+    long totalTasksCount = taskService.createTaskQuery().count();
+
+    new TaskArchiveJob(taskanaEngine, null, null).run();
+
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(totalTasksCount);
+    assertThat(taskService.createArchivedTaskQuery().list()).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_KeepTasksAndThrowException_When_ArchiveCannotBeWritten() throws Exception {
+    Path archiveFile = Files.createFile(archiveDirectory.resolve("not-a-directory"));
+    taskanaEngine.getConfiguration().setArchiveDirectory(archiveFile);
+    long totalTasksCount = taskService.createTaskQuery().count();
+
+    TaskArchiveJob job = new TaskArchiveJob(taskanaEngine, null, null);
+
+    assertThatThrownBy(job::run).isInstanceOf(TaskanaException.class);
+    assertThat(taskService.createTaskQuery().count()).isEqualTo(totalTasksCount);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_UserQueriesArchiveWithoutAdminRole() {
+    assertThatThrownBy(() -> taskService.createArchivedTaskQuery())
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  private List<String> getIdsOfTasksCompletedBeforeMinimumAge() {
+    return taskService
+        .createTaskQuery()
+        .stateIn(TaskState.END_STATES)
+        .completedWithin(new TimeInterval(null, Instant.now().minus(Duration.ofDays(14))))
+        .list()
+        .stream()
+        .map(TaskSummary::getId)
+        .collect(Collectors.toList());
+  }
+}
@@ -86,6 +86,27 @@ class GetClassificationAccTest extends AbstractAccTest {
     assertThat(classification.getCustomAttribute(CUSTOM_8)).isEqualTo("custom8");
   }
 
+  @Test
+  void should_ReturnExistingClassificationsOnly_When_GettingClassificationsByIds()
+      throws Exception {
+    Classification classification =
+        classificationService.getClassification("CLI:100000000000000000000000000000000011");
+
+    List<Classification> classifications =
+        classificationService.getClassifications(
+            List.of(
+                "CLI:100000000000000000000000000000000011",
+                "CLI:100000000000000000000000000000000003",
+                "CLI:100000000000000000000000000000000011",
+                "CLI:NotExisting"));
+
+    assertThat(classifications)
+        .extracting(Classification::getId)
+        .containsExactlyInAnyOrder(
+            "CLI:100000000000000000000000000000000011", "CLI:100000000000000000000000000000000003");
+    assertThat(classifications).contains(classification);
+  }
+
   @Test
   void testGetClassificationWithSpecialCharacter() throws Exception {
     Classification classification =
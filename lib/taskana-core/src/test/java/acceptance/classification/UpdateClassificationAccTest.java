@@ -7,7 +7,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import acceptance.AbstractAccTest;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
@@ -26,6 +28,7 @@ import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.task.internal.models.TaskImpl;
 
 /** Acceptance test for all "update classification" scenarios. */
@@ -474,6 +477,34 @@ class UpdateClassificationAccTest extends AbstractAccTest {
         before, tasksWithPD1, taskService, converter, 1, 555);
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassAffectedTaskIdsInBatchesOrderedByPlanned_When_ClassificationIsReferenced()
+      throws Exception {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngine.getTaskService();
+    List<List<String>> batches = new ArrayList<>();
+
+    int numberOfAffectedTasks =
+        taskService.processTaskIdsAffectedByClassificationChange(
+            "CLI:100000000000000000000000000000000003", 5, batches::add);
+
+    List<String> affectedTaskIds =
+        batches.stream().flatMap(List::stream).collect(Collectors.toList());
+    assertThat(batches).hasSizeGreaterThan(1);
+    assertThat(batches.subList(0, batches.size() - 1))
+        .allSatisfy(batch -> assertThat(batch).hasSize(5));
+    assertThat(affectedTaskIds)
+        .hasSize(numberOfAffectedTasks)
+        .doesNotHaveDuplicates()
+        .contains("TKI:000000000000000000000000000000000000")
+        .contains("TKI:000000000000000000000000000000000053");
+    List<Instant> plannedTimestamps = new ArrayList<>();
+    for (String taskId : affectedTaskIds) {
+      plannedTimestamps.add(taskService.getTask(taskId).getPlanned());
+    }
+    assertThat(plannedTimestamps).isSorted();
+  }
+
   private void updateClassificationAndRunAssociatedJobs(Classification classification)
       throws Exception {
     classificationService.updateClassification(classification);
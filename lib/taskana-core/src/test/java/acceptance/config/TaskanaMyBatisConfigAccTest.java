@@ -0,0 +1,162 @@
+package acceptance.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineTestConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the MyBatis settings of the TaskanaEngineConfiguration. */
+@ExtendWith(JaasExtension.class)
+class TaskanaMyBatisConfigAccTest extends AbstractAccTest {
+
+  @TempDir Path tempDir;
+
+  @AfterEach
+  void resetData() throws Exception {
+    resetDb(false);
+  }
+
+  @Test
+  void should_ReadMyBatisSettings_When_PropertiesAreConfigured() throws Exception {
+    Path propertiesFile = tempDir.resolve("taskana-mybatis.properties");
+    Files.write(
+        propertiesFile,
+        List.of(
+            "taskana.mybatis.executorType=REUSE",
+            "taskana.mybatis.localCacheScope=STATEMENT",
+            "taskana.mybatis.defaultFetchSize=100",
+            "taskana.mybatis.defaultStatementTimeout=30",
+            "taskana.mybatis.fetchSize.TaskQueryMapper=500",
+            "taskana.mybatis.sharedSqlSessionFactory.enabled=true"),
+        StandardCharsets.UTF_8);
+    TaskanaEngineConfiguration configuration = createConfiguration();
+
+    configuration.initTaskanaProperties(propertiesFile.toString(), "|");
+
+    assertThat(configuration.getExecutorType()).isEqualTo(ExecutorType.REUSE);
+    assertThat(configuration.getLocalCacheScope()).isEqualTo(LocalCacheScope.STATEMENT);
+    assertThat(configuration.getDefaultFetchSize()).isEqualTo(100);
+    assertThat(configuration.getDefaultStatementTimeout()).isEqualTo(30);
+    assertThat(configuration.getMapperFetchSizes())
+        .containsExactly(Map.entry("TaskQueryMapper", 500));
+    assertThat(configuration.isSharedSqlSessionFactoryEnabled()).isTrue();
+  }
+
+  @Test
+  void should_KeepSimpleExecutor_When_BatchExecutorIsConfigured() throws Exception {
+    Path propertiesFile = tempDir.resolve("taskana-mybatis.properties");
+    Files.write(
+        propertiesFile, List.of("taskana.mybatis.executorType=BATCH"), StandardCharsets.UTF_8);
+    TaskanaEngineConfiguration configuration = createConfiguration();
+
+    configuration.initTaskanaProperties(propertiesFile.toString(), "|");
+
+    assertThat(configuration.getExecutorType()).isEqualTo(ExecutorType.SIMPLE);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_QueryAndCreateTasks_When_UsingTunedStatementExecution() throws Exception {
+    TaskanaEngineConfiguration configuration = createConfiguration();
+    configuration.setExecutorType(ExecutorType.REUSE);
+    configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+    configuration.setDefaultFetchSize(100);
+    configuration.setDefaultStatementTimeout(30);
+    configuration.setMapperFetchSizes(Map.of("TaskQueryMapper", 500));
+    TaskanaEngine tunedEngine = configuration.buildTaskanaEngine();
+    tunedEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+    TaskService taskService = tunedEngine.getTaskService();
+
+    Configuration myBatisConfiguration = getMyBatisConfiguration(tunedEngine);
+    assertThat(myBatisConfiguration.getDefaultExecutorType()).isEqualTo(ExecutorType.REUSE);
+    assertThat(myBatisConfiguration.getLocalCacheScope()).isEqualTo(LocalCacheScope.STATEMENT);
+    assertThat(myBatisConfiguration.getDefaultFetchSize()).isEqualTo(100);
+    assertThat(myBatisConfiguration.getDefaultStatementTimeout()).isEqualTo(30);
+
+    List<TaskSummary> tasks =
+        taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING).list();
+    assertThat(tasks)
+        .isNotEmpty()
+        .isEqualTo(
+            taskanaEngine
+                .getTaskService()
+                .createTaskQuery()
+                .orderByTaskId(SortDirection.ASCENDING)
+                .list());
+
+    Task newTask = taskService.newTask("USER-1-1", "DOMAIN_A");
+    newTask.setClassificationKey("T2100");
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    Task createdTask = taskService.createTask(newTask);
+
+    assertThat(taskanaEngine.getTaskService().getTask(createdTask.getId()))
+        .isEqualTo(createdTask);
+  }
+
+  @Test
+  void should_ShareSqlSessionFactory_When_SharingIsEnabled() throws Exception {
+    TaskanaEngineConfiguration sharedConfiguration = createConfiguration();
+    sharedConfiguration.setSharedSqlSessionFactoryEnabled(true);
+    TaskanaEngineConfiguration otherSharedConfiguration = createConfiguration();
+    otherSharedConfiguration.setSharedSqlSessionFactoryEnabled(true);
+    TaskanaEngineConfiguration reuseConfiguration = createConfiguration();
+    reuseConfiguration.setSharedSqlSessionFactoryEnabled(true);
+    reuseConfiguration.setExecutorType(ExecutorType.REUSE);
+    TaskanaEngineConfiguration managedConfiguration =
+        new TaskanaEngineConfiguration(
+            TaskanaEngineTestConfiguration.getDataSource(),
+            true,
+            TaskanaEngineTestConfiguration.getSchemaName());
+    managedConfiguration.setSharedSqlSessionFactoryEnabled(true);
+
+    Configuration sharedMyBatisConfiguration =
+        getMyBatisConfiguration(sharedConfiguration.buildTaskanaEngine());
+
+    assertThat(getMyBatisConfiguration(otherSharedConfiguration.buildTaskanaEngine()))
+        .isSameAs(sharedMyBatisConfiguration);
+    assertThat(getMyBatisConfiguration(reuseConfiguration.buildTaskanaEngine()))
+        .isNotSameAs(sharedMyBatisConfiguration);
+    assertThat(getMyBatisConfiguration(managedConfiguration.buildTaskanaEngine()))
+        .isNotSameAs(sharedMyBatisConfiguration);
+    assertThat(getMyBatisConfiguration(createConfiguration().buildTaskanaEngine()))
+        .isNotSameAs(sharedMyBatisConfiguration);
+  }
+
+  private TaskanaEngineConfiguration createConfiguration() {
+    return new TaskanaEngineConfiguration(
+        TaskanaEngineTestConfiguration.getDataSource(),
+        false,
+        TaskanaEngineTestConfiguration.getSchemaName());
+  }
+
+  private Configuration getMyBatisConfiguration(TaskanaEngine engine) {
+    return ((TaskanaEngineImpl) engine)
+        .getInternalTaskanaEngine()
+        .getSqlSession()
+        .getConfiguration();
+  }
+}
@@ -0,0 +1,200 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineTestConfiguration;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.models.Attachment;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.TaskServiceImpl;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+
+/** Acceptance test for the TaskRefreshJob which recomputes the priority in the database. */
+@ExtendWith(JaasExtension.class)
+class TaskRefreshJobAccTest extends AbstractAccTest {
+
+  private static final String CLASSIFICATION_ID = "CLI:100000000000000000000000000000000003";
+
+  private final ClassificationService classificationService =
+      taskanaEngine.getClassificationService();
+  private final TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngine.getTaskService();
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration = taskanaEngine.getConfiguration();
+    configuration.setTaskRefreshJobPriorityInDatabase(true);
+    configuration.setTaskRefreshJobChunkSize(4);
+    configuration.setTaskRefreshJobThreads(3);
+  }
+
+  @AfterEach
+  void after() {
+    TaskanaEngineConfiguration configuration = taskanaEngine.getConfiguration();
+    configuration.setTaskRefreshJobPriorityInDatabase(false);
+    configuration.setTaskRefreshJobChunkSize(1000);
+    configuration.setTaskRefreshJobThreads(1);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RecomputePriorityOfAffectedTasksInDatabase_When_PriorityOfClassificationChanged()
+      throws Exception {
+    Classification classification = classificationService.getClassification(CLASSIFICATION_ID);
+    classification.setPriority(7);
+    classificationService.updateClassification(classification);
+    List<String> affectedTaskIds =
+        taskService.findTasksIdsAffectedByClassificationChange(CLASSIFICATION_ID);
+    final Instant before = Instant.now();
+
+    createTaskRefreshJob(affectedTaskIds, true, false).run();
+
+    assertThat(affectedTaskIds).hasSizeGreaterThan(4);
+    for (String taskId : affectedTaskIds) {
+      Task task = taskService.getTask(taskId);
+      assertThat(task.getPriority()).describedAs(taskId).isEqualTo(expectedPriority(task));
+    }
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000003"))
+        .extracting(Task::getPriority, t -> t.getModified().isAfter(before))
+        .containsExactly(7, true);
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000008").getPriority())
+        .isEqualTo(9);
+    assertThat(taskService.getTask("TKI:000000000000000000000000000000000011").getPriority())
+        .isEqualTo(101);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotUpdateTasks_When_PriorityIsAlreadyCorrect() throws Exception {
+    List<String> affectedTaskIds =
+        taskService.findTasksIdsAffectedByClassificationChange(CLASSIFICATION_ID);
+    createTaskRefreshJob(affectedTaskIds, true, false).run();
+    final Instant before = Instant.now();
+
+    createTaskRefreshJob(affectedTaskIds, true, false).run();
+
+    for (String taskId : affectedTaskIds) {
+      assertThat(taskService.getTask(taskId).getModified()).isBefore(before);
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ComputeDueDateOfEveryTask_When_TasksShareDaysAndServiceLevels() throws Exception {
+    // several tasks of a day reuse the cached number of calendar days of their service level
+    List<String> plannedDates =
+        List.of(
+            "2020-04-01T08:00:00", // Wednesday
+            "2020-04-01T10:30:00",
+            "2020-04-01T16:45:00",
+            "2020-04-03T10:00:00", // Friday before a weekend
+            "2020-04-04T10:00:00", // Saturday
+            "2020-04-09T12:00:00", // Thursday before Good Friday and Easter Monday
+            "2020-04-09T14:00:00",
+            "2020-04-10T12:00:00", // Good Friday
+            "2020-04-13T12:00:00"); // Easter Monday
+    List<String> classificationKeys = List.of("L10000", "T2100", "T6310");
+    List<String> taskIds = new ArrayList<>();
+    for (int i = 0; i < plannedDates.size(); i++) {
+      for (String classificationKey : classificationKeys) {
+        Instant planned =
+            LocalDateTime.parse(plannedDates.get(i)).atZone(ZoneId.systemDefault()).toInstant();
+        taskIds.add(createTaskPlannedAt(classificationKey, planned));
+      }
+    }
+
+    createTaskRefreshJob(taskIds, false, true).run();
+
+    for (String taskId : taskIds) {
+      Task task = taskService.getTask(taskId);
+      Duration serviceLevel =
+          Duration.parse(
+              classificationService
+                  .getClassification(task.getClassificationSummary().getId())
+                  .getServiceLevel());
+      assertThat(task.getDue())
+          .describedAs(taskId)
+          .isEqualTo(converter.addWorkingDaysToInstant(task.getPlanned(), serviceLevel));
+    }
+    assertThat(taskService.getTask(taskIds.get(9)).getDue())
+        .isEqualTo(
+            LocalDateTime.parse("2020-04-06T10:00:00").atZone(ZoneId.systemDefault()).toInstant());
+    assertThat(taskService.getTask(taskIds.get(15)).getDue())
+        .isEqualTo(
+            LocalDateTime.parse("2020-04-14T12:00:00").atZone(ZoneId.systemDefault()).toInstant());
+  }
+
+  // the planned date is written directly, since creating or updating a task moves it to the
+  // next working day
+  private String createTaskPlannedAt(String classificationKey, Instant planned) throws Exception {
+    Task task = taskService.newTask("USER-1-1", "DOMAIN_A");
+    task.setClassificationKey(classificationKey);
+    task.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    String taskId = taskService.createTask(task).getId();
+    try (Connection connection = TaskanaEngineTestConfiguration.getDataSource().getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(
+                String.format(
+                    "UPDATE %s.TASK SET PLANNED = ?, DUE = ? WHERE ID = ?",
+                    TaskanaEngineTestConfiguration.getSchemaName()))) {
+      statement.setTimestamp(1, Timestamp.from(planned));
+      statement.setTimestamp(2, Timestamp.from(planned));
+      statement.setString(3, taskId);
+      statement.executeUpdate();
+    }
+    return taskId;
+  }
+
+  private int expectedPriority(Task task) throws Exception {
+    int priority =
+        Math.max(
+            0,
+            classificationService
+                .getClassification(task.getClassificationSummary().getId())
+                .getPriority());
+    for (Attachment attachment : task.getAttachments()) {
+      priority =
+          Math.max(
+              priority,
+              classificationService
+                  .getClassification(attachment.getClassificationSummary().getId())
+                  .getPriority());
+    }
+    return priority;
+  }
+
+  private TaskRefreshJob createTaskRefreshJob(
+      List<String> taskIds, boolean priorityChanged, boolean serviceLevelChanged) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.TASK_IDS, String.join(",", taskIds));
+    args.put(TaskRefreshJob.PRIORITY_CHANGED, Boolean.toString(priorityChanged));
+    args.put(TaskRefreshJob.SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(ScheduledJob.Type.UPDATETASKSJOB);
+    job.setArguments(args);
+    return new TaskRefreshJob(taskanaEngine, null, job);
+  }
+}
@@ -0,0 +1,87 @@
+package acceptance.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Attachment;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for the metrics SPI. */
+@ExtendWith(JaasExtension.class)
+class MetricsAccTest extends AbstractAccTest {
+
+  @BeforeEach
+  void clearRecordedMetrics() {
+    TestMetricsProvider.reset();
+  }
+
+  @Test
+  void should_EnableMetrics_When_MetricsProviderIsRegistered() {
+    assertThat(MetricsManager.isMetricsEnabled()).isTrue();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_RecordServiceMethodStatementsAndSession_When_ClaimingTask() throws Exception {
+    taskanaEngine.getTaskService().claim("TKI:000000000000000000000000000000000025");
+
+    assertThat(TestMetricsProvider.getRecordedOperations())
+        .contains(
+            "taskana.service.method:TaskService.claim",
+            "taskana.sql.statement:pro.taskana.task.internal.TaskMapper.findById",
+            "taskana.sql.statement:pro.taskana.task.internal.TaskMapper.update",
+            "taskana.connection.hold:AUTOCOMMIT");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_RecordBatchedStatements_When_UpdatingAttachments() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+    task.getAttachments().forEach(attachment -> attachment.setChannel("FAX"));
+    TestMetricsProvider.reset();
+
+    taskService.updateTask(task);
+
+    assertThat(TestMetricsProvider.getRecordedOperations())
+        .contains("taskana.sql.statement:pro.taskana.task.internal.AttachmentMapper.update");
+    assertThat(taskService.getTask(task.getId()).getAttachments())
+        .isNotEmpty()
+        .extracting(Attachment::getChannel)
+        .containsOnly("FAX");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_NotRecordServiceMethod_When_MethodIsNotInstrumented() throws Exception {
+    taskanaEngine.getTaskService().getTask("TKI:000000000000000000000000000000000025");
+
+    assertThat(TestMetricsProvider.getRecordedOperations())
+        .noneMatch(operation -> operation.startsWith("taskana.service.method"))
+        .contains("taskana.connection.hold:AUTOCOMMIT");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_RecordFailedServiceMethod_When_ClaimingTaskFails() {
+    ThrowingCallable call =
+        () -> taskanaEngine.getTaskService().claim("TKI:000000000000000000000000000000000000");
+
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+    assertThat(TestMetricsProvider.getRecordedOperations())
+        .contains("taskana.service.method:TaskService.claim");
+    assertThat(TestMetricsProvider.getFailedOperations())
+        .containsExactly("taskana.service.method:TaskService.claim");
+  }
+}
@@ -0,0 +1,57 @@
+package acceptance.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+
+public class TestMetricsProvider implements MetricsProvider {
+
+  private static final Queue<String> RECORDED_OPERATIONS = new ConcurrentLinkedQueue<>();
+  private static final Queue<String> FAILED_OPERATIONS = new ConcurrentLinkedQueue<>();
+  private static volatile Consumer<String> recordingListener = operation -> {};
+
+  public static void reset() {
+    RECORDED_OPERATIONS.clear();
+    FAILED_OPERATIONS.clear();
+    recordingListener = operation -> {};
+  }
+
+  // the listener is called by the thread which executed the recorded operation
+  public static void setRecordingListener(Consumer<String> listener) {
+    recordingListener = listener;
+  }
+
+  public static List<String> getRecordedOperations() {
+    return new ArrayList<>(RECORDED_OPERATIONS);
+  }
+
+  public static List<String> getFailedOperations() {
+    return new ArrayList<>(FAILED_OPERATIONS);
+  }
+
+  @Override
+  public void initialize(TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    // nothing to initialize
+  }
+
+  @Override
+  public void recordDuration(TaskanaMetric metric, String operation, long durationInNanos) {
+    RECORDED_OPERATIONS.add(metric.getMetricName() + ":" + operation);
+    recordingListener.accept(metric.getMetricName() + ":" + operation);
+  }
+
+  @Override
+  public void recordDuration(
+      TaskanaMetric metric, String operation, boolean successful, long durationInNanos) {
+    recordDuration(metric, operation, durationInNanos);
+    if (!successful) {
+      FAILED_OPERATIONS.add(metric.getMetricName() + ":" + operation);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineProxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.SessionStatistics;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+
+/** Acceptance test for the handling of database sessions. */
+@ExtendWith(JaasExtension.class)
+class DatabaseSessionAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_StartOneSessionPerApiCall_When_CallingServicesOutsideOfSession() throws Exception {
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+
+    taskanaEngine.getTaskService().getTask("TKI:000000000000000000000000000000000000");
+
+    SessionStatistics statistics = engineProxy.getEngine().getSessionStatistics();
+    assertThat(statistics.isActive()).isFalse();
+    assertThat(statistics.getSchemaInitializationCount()).isLessThanOrEqualTo(1);
+    assertThat(statistics.getOpenCount()).isGreaterThan(1);
+    assertThat(statistics.getMaxNestingDepth()).isGreaterThan(1);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ShareSessionBetweenApiCalls_When_RunningInSession() throws Exception {
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+
+    SessionStatistics statisticsWithinSession =
+        taskanaEngine.runInSession(
+            () -> {
+              taskanaEngine.getTaskService().createTaskQuery().count();
+              taskanaEngine.getWorkbasketService().createWorkbasketQuery().count();
+              taskanaEngine.getClassificationService().createClassificationQuery().count();
+              return engineProxy.getEngine().getSessionStatistics();
+            });
+
+    assertThat(statisticsWithinSession.isActive()).isFalse();
+    assertThat(statisticsWithinSession.getSchemaInitializationCount()).isLessThanOrEqualTo(1);
+    assertThat(statisticsWithinSession.getOpenCount()).isGreaterThanOrEqualTo(4);
+    assertThat(statisticsWithinSession.getMaxNestingDepth()).isGreaterThanOrEqualTo(2);
+    assertThat(statisticsWithinSession.getHoldTime()).isPositive();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_SetSchemaAtMostOnce_When_NestingSessionsOfEnginesWithSameSchema()
+      throws Exception {
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    TaskanaEngine otherEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+
+    SessionStatistics statisticsWithinSession =
+        taskanaEngine.runInSession(
+            () -> {
+              taskanaEngine.getTaskService().createTaskQuery().count();
+              otherEngine.getTaskService().createTaskQuery().count();
+              otherEngine.getWorkbasketService().createWorkbasketQuery().count();
+              return engineProxy.getEngine().getSessionStatistics();
+            });
+
+    assertThat(statisticsWithinSession.getSchemaInitializationCount()).isLessThanOrEqualTo(1);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_SetSchemaAgain_When_AnotherEngineChangedSchemaOfSharedConnection()
+      throws Exception {
+    InternalTaskanaEngine internalEngine = new TaskanaEngineProxy(taskanaEngine).getEngine();
+
+    long count =
+        taskanaEngine.runInSession(
+            () -> {
+              taskanaEngine.getTaskService().createTaskQuery().count();
+              // simulates a nested call of an engine with another schema on the same connection
+              try {
+                internalEngine.getSqlSession().getConnection().setSchema("PUBLIC");
+              } catch (SQLException e) {
+                throw new SystemException("could not change the schema", e);
+              }
+              return taskanaEngine.getTaskService().createTaskQuery().count();
+            });
+
+    assertThat(count).isPositive();
+    assertThat(internalEngine.getSessionStatistics().getSchemaInitializationCount())
+        .isGreaterThanOrEqualTo(1);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RunAllSessionEndActions_When_SessionEndActionFails() throws Exception {
+    InternalTaskanaEngine internalEngine = new TaskanaEngineProxy(taskanaEngine).getEngine();
+    List<String> executedActions = new ArrayList<>();
+
+    ThrowingCallable call =
+        () ->
+            taskanaEngine.runInSession(
+                () -> {
+                  internalEngine.executeBeforeSessionEnd(
+                      () -> {
+                        throw new SystemException("first failure");
+                      });
+                  internalEngine.executeBeforeSessionEnd(() -> executedActions.add("second"));
+                  internalEngine.executeBeforeSessionEnd(
+                      () -> {
+                        throw new SystemException("third failure");
+                      });
+                  return taskanaEngine.getTaskService().createTaskQuery().count();
+                });
+
+    assertThatThrownBy(call)
+        .isInstanceOf(SystemException.class)
+        .hasMessage("first failure")
+        .satisfies(
+            e ->
+                assertThat(e.getSuppressed())
+                    .extracting(Throwable::getMessage)
+                    .containsExactly("third failure"));
+    assertThat(executedActions).containsExactly("second");
+    assertThat(internalEngine.getSessionStatistics().isActive()).isFalse();
+
+    // the failed actions are not executed again by the next session
+    taskanaEngine.runInSession(() -> taskanaEngine.getTaskService().createTaskQuery().count());
+    assertThat(executedActions).containsExactly("second");
+  }
+}
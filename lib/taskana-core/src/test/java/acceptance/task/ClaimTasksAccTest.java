@@ -0,0 +1,227 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineTestConfiguration;
+import acceptance.metrics.TestMetricsProvider;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.BulkOperationExecutor;
+import pro.taskana.common.internal.transaction.TaskanaCallable;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.InvalidOwnerException;
+import pro.taskana.task.api.exceptions.InvalidStateException;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for claiming tasks and cancelling their claims in bulk. */
+@ExtendWith(JaasExtension.class)
+class ClaimTasksAccTest extends AbstractAccTest {
+
+  private static final String READY_TASK_ID = "TKI:000000000000000000000000000000000025";
+  private static final String CLAIMED_BY_OTHER_TASK_ID =
+      "TKI:000000000000000000000000000000000026";
+  private static final String CLAIMED_BY_CALLER_TASK_ID =
+      "TKI:000000000000000000000000000000000027";
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @AfterEach
+  void resetData() throws Exception {
+    TestMetricsProvider.reset();
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimTasksAndAddErrorsForOthers_When_BulkClaimingTasks() throws Exception {
+    Instant beforeBulkClaim = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.claimTasks(
+            List.of(READY_TASK_ID, CLAIMED_BY_CALLER_TASK_ID, CLAIMED_BY_OTHER_TASK_ID, "invalid"));
+
+    assertThat(results.getFailedIds())
+        .containsExactlyInAnyOrder(CLAIMED_BY_OTHER_TASK_ID, "invalid");
+    assertThat(results.getErrorForId(CLAIMED_BY_OTHER_TASK_ID))
+        .isInstanceOf(InvalidOwnerException.class);
+    assertThat(results.getErrorForId("invalid")).isInstanceOf(TaskNotFoundException.class);
+    for (String taskId : List.of(READY_TASK_ID, CLAIMED_BY_CALLER_TASK_ID)) {
+      Task task = taskService.getTask(taskId);
+      assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+      assertThat(task.getOwner()).isEqualTo("user-1-2");
+      assertThat(task.isRead()).isTrue();
+      assertThat(task.getClaimed()).isEqualTo(task.getModified()).isAfterOrEqualTo(beforeBulkClaim);
+    }
+    assertThat(taskService.getTask(CLAIMED_BY_OTHER_TASK_ID).getOwner()).isNotEqualTo("user-1-2");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimTaskOfAnotherUser_When_BulkForceClaimingTasks() throws Exception {
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.forceClaimTasks(List.of(CLAIMED_BY_OTHER_TASK_ID));
+
+    assertThat(results.containsErrors()).isFalse();
+    Task task = taskService.getTask(CLAIMED_BY_OTHER_TASK_ID);
+    assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(task.getOwner()).isEqualTo("user-1-2");
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CancelOwnClaimsOnly_When_BulkCancellingClaims() throws Exception {
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.cancelClaimTasks(List.of(CLAIMED_BY_CALLER_TASK_ID, CLAIMED_BY_OTHER_TASK_ID));
+
+    assertThat(results.getFailedIds()).containsExactly(CLAIMED_BY_OTHER_TASK_ID);
+    assertThat(results.getErrorForId(CLAIMED_BY_OTHER_TASK_ID))
+        .isInstanceOf(InvalidOwnerException.class);
+    Task unclaimedTask = taskService.getTask(CLAIMED_BY_CALLER_TASK_ID);
+    assertThat(unclaimedTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(unclaimedTask.getOwner()).isNull();
+    assertThat(unclaimedTask.getClaimed()).isNull();
+    assertThat(taskService.getTask(CLAIMED_BY_OTHER_TASK_ID).getState())
+        .isEqualTo(TaskState.CLAIMED);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CancelClaimOfAnotherUser_When_BulkForceCancellingClaims() throws Exception {
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.forceCancelClaimTasks(List.of(CLAIMED_BY_OTHER_TASK_ID));
+
+    assertThat(results.containsErrors()).isFalse();
+    Task unclaimedTask = taskService.getTask(CLAIMED_BY_OTHER_TASK_ID);
+    assertThat(unclaimedTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(unclaimedTask.getOwner()).isNull();
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_BulkClaimingNullList() {
+    assertThatThrownBy(() -> taskService.claimTasks(null))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThatThrownBy(() -> taskService.cancelClaimTasks(null))
+        .isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimTasksAsCaller_When_ExecutingChunksInParallel() throws Exception {
+    BulkOperationExecutor executor = new BulkOperationExecutor(TaskanaCallable::call, 1, 2);
+    List<String> taskIds =
+        List.of(READY_TASK_ID, CLAIMED_BY_CALLER_TASK_ID, CLAIMED_BY_OTHER_TASK_ID, "invalid");
+    try {
+      BulkOperationResults<String, TaskanaException> results =
+          executor.execute(taskIds, taskService::claimTasks);
+
+      assertThat(results.getFailedIds())
+          .containsExactlyInAnyOrder(CLAIMED_BY_OTHER_TASK_ID, "invalid");
+      assertThat(taskService.getTask(READY_TASK_ID).getOwner()).isEqualTo("user-1-2");
+      assertThat(taskService.getTask(CLAIMED_BY_CALLER_TASK_ID).getOwner())
+          .isEqualTo("user-1-2");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReportAllIdsOfChunk_When_TransactionOfChunkFails() throws Exception {
+    BulkOperationExecutor executor = new BulkOperationExecutor(TaskanaCallable::call, 2, 2);
+    try {
+      BulkOperationResults<String, TaskanaException> results =
+          executor.execute(
+              List.of(READY_TASK_ID, CLAIMED_BY_CALLER_TASK_ID, CLAIMED_BY_OTHER_TASK_ID),
+              taskIds -> {
+                if (taskIds.contains(CLAIMED_BY_OTHER_TASK_ID)) {
+                  throw new IllegalStateException("chunk failed");
+                }
+                return taskService.claimTasks(taskIds);
+              });
+
+      assertThat(results.getFailedIds()).containsExactly(CLAIMED_BY_OTHER_TASK_ID);
+      assertThat(taskService.getTask(READY_TASK_ID).getState()).isEqualTo(TaskState.CLAIMED);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReportModifiedTasks_When_TasksAreModifiedWhileBulkClaiming() throws Exception {
+    modifyTaskAfterItWasRead(CLAIMED_BY_CALLER_TASK_ID);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.claimTasks(List.of(READY_TASK_ID, CLAIMED_BY_CALLER_TASK_ID));
+
+    assertThat(results.getFailedIds()).containsExactly(CLAIMED_BY_CALLER_TASK_ID);
+    assertThat(results.getErrorForId(CLAIMED_BY_CALLER_TASK_ID))
+        .isInstanceOf(InvalidStateException.class);
+    assertThat(taskService.getTask(READY_TASK_ID).getState()).isEqualTo(TaskState.CLAIMED);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReportModifiedTasks_When_TasksAreModifiedWhileBulkCancellingClaims()
+      throws Exception {
+    modifyTaskAfterItWasRead(CLAIMED_BY_CALLER_TASK_ID);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.cancelClaimTasks(List.of(CLAIMED_BY_CALLER_TASK_ID));
+
+    assertThat(results.getFailedIds()).containsExactly(CLAIMED_BY_CALLER_TASK_ID);
+    assertThat(results.getErrorForId(CLAIMED_BY_CALLER_TASK_ID))
+        .isInstanceOf(InvalidStateException.class);
+    Task task = taskService.getTask(CLAIMED_BY_CALLER_TASK_ID);
+    assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(task.getOwner()).isEqualTo("user-1-2");
+  }
+
+  // modifies the task with another connection as soon as the bulk operation read the tasks
+  private void modifyTaskAfterItWasRead(String taskId) {
+    TestMetricsProvider.setRecordingListener(
+        operation -> {
+          if (operation.endsWith("TaskQueryMapper.queryTaskSummaries")
+              || operation.endsWith("TaskQueryMapper.queryTaskSummariesDb2")) {
+            TestMetricsProvider.reset();
+            incrementVersion(taskId);
+          }
+        });
+  }
+
+  private void incrementVersion(String taskId) {
+    try (Connection connection = TaskanaEngineTestConfiguration.getDataSource().getConnection()) {
+      // a pooled connection may still be in the transaction mode of its previous user
+      connection.setAutoCommit(true);
+      try (PreparedStatement statement =
+          connection.prepareStatement(
+              String.format(
+                  "UPDATE %s.TASK SET VERSION = VERSION + 1 WHERE ID = ?",
+                  TaskanaEngineTestConfiguration.getSchemaName()))) {
+        statement.setString(1, taskId);
+        statement.executeUpdate();
+      }
+    } catch (SQLException e) {
+      throw new SystemException("Could not modify task " + taskId, e);
+    }
+  }
+}
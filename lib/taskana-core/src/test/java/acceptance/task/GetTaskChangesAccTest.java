@@ -0,0 +1,186 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskChanges;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/** Acceptance test for the change feed of the tasks. */
+@ExtendWith(JaasExtension.class)
+class GetTaskChangesAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @BeforeEach
+  void disableSafetyLag() {
+    taskanaEngine.getConfiguration().setTaskChangesSafetyLag(Duration.ZERO);
+  }
+
+  @AfterEach
+  void resetData() throws Exception {
+    taskanaEngine.getConfiguration().setTaskChangesSafetyLag(Duration.ofSeconds(5));
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnAllTasksOrderedByModification_When_ReadingFeedInBatches() throws Exception {
+    List<TaskSummary> changedTasks = new ArrayList<>();
+    TaskChanges changes = taskService.getTaskChanges(null, 10);
+    changedTasks.addAll(changes.getChangedTasks());
+    while (changes.hasMoreChanges()) {
+      assertThat(changes.getChangedTasks()).hasSize(10);
+      changes = taskService.getTaskChanges(changes.getWatermark(), 10);
+      changedTasks.addAll(changes.getChangedTasks());
+    }
+
+    assertThat(changedTasks)
+        .extracting(TaskSummary::getId)
+        .doesNotHaveDuplicates()
+        .hasSize((int) taskService.createTaskQuery().count());
+    assertThat(changedTasks).extracting(TaskSummary::getModified).isSorted();
+    assertThat(taskService.getTaskChanges(changes.getWatermark(), 10).getChangedTasks()).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnChangesLater_When_ChangesAreYoungerThanSafetyLag() throws Exception {
+    final String watermark = readFeedToItsEnd();
+    taskanaEngine.getConfiguration().setTaskChangesSafetyLag(Duration.ofHours(1));
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+    task.setNote("changed for the change feed");
+    taskService.updateTask(task);
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000001");
+
+    TaskChanges changes = taskService.getTaskChanges(watermark, 10);
+
+    assertThat(changes.getChangedTasks()).isEmpty();
+    assertThat(changes.getDeletedTaskIds()).isEmpty();
+    assertThat(changes.getWatermark()).isEqualTo(watermark);
+
+    taskanaEngine.getConfiguration().setTaskChangesSafetyLag(Duration.ZERO);
+    changes = taskService.getTaskChanges(watermark, 10);
+
+    assertThat(changes.getChangedTasks())
+        .extracting(TaskSummary::getId)
+        .containsExactly("TKI:000000000000000000000000000000000000");
+    assertThat(changes.getDeletedTaskIds())
+        .containsExactly("TKI:000000000000000000000000000000000001");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnModifiedAndDeletedTasks_When_ReadingFeedAfterWatermark() throws Exception {
+    final String watermark = readFeedToItsEnd();
+
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+    task.setNote("changed for the change feed");
+    taskService.updateTask(task);
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000001");
+    taskService.deleteTasks(List.of("TKI:000000000000000000000000000000000039"));
+
+    TaskChanges changes = taskService.getTaskChanges(watermark, 10);
+
+    assertThat(changes.hasMoreChanges()).isFalse();
+    assertThat(changes.getChangedTasks())
+        .extracting(TaskSummary::getId)
+        .containsExactly("TKI:000000000000000000000000000000000000");
+    assertThat(changes.getDeletedTaskIds())
+        .containsExactly(
+            "TKI:000000000000000000000000000000000001", "TKI:000000000000000000000000000000000039");
+    assertThat(taskService.getTaskChanges(changes.getWatermark(), 10).getDeletedTaskIds())
+        .isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_LimitBatchAndSetMoreChanges_When_MoreChangesThanMaxResultsExist()
+      throws Exception {
+    final String watermark = readFeedToItsEnd();
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000001");
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000002");
+
+    TaskChanges firstBatch = taskService.getTaskChanges(watermark, 1);
+    TaskChanges secondBatch = taskService.getTaskChanges(firstBatch.getWatermark(), 1);
+
+    assertThat(firstBatch.hasMoreChanges()).isTrue();
+    assertThat(firstBatch.getDeletedTaskIds())
+        .containsExactly("TKI:000000000000000000000000000000000001");
+    assertThat(secondBatch.hasMoreChanges()).isFalse();
+    assertThat(secondBatch.getDeletedTaskIds())
+        .containsExactly("TKI:000000000000000000000000000000000002");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_OnlyReturnTasksOfReadableWorkbaskets_When_UserIsNoAdmin() throws Exception {
+    TaskChanges changes = taskService.getTaskChanges(null, 1000);
+
+    assertThat(changes.hasMoreChanges()).isFalse();
+    assertThat(changes.getChangedTasks())
+        .extracting(TaskSummary::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            taskService.createTaskQuery().list().stream()
+                .map(TaskSummary::getId)
+                .collect(Collectors.toList()));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnWatermarkOfRequest_When_NoChangesExist() throws Exception {
+    final String watermark = readFeedToItsEnd();
+
+    TaskChanges changes = taskService.getTaskChanges(watermark, 10);
+
+    assertThat(changes.getChangedTasks()).isEmpty();
+    assertThat(changes.getDeletedTaskIds()).isEmpty();
+    assertThat(changes.getWatermark()).isEqualTo(watermark);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_WatermarkIsInvalid() {
+    ThrowingCallable call = () -> taskService.getTaskChanges("not a watermark", 10);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+
+    call = () -> taskService.getTaskChanges(null, 0);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RemoveOldDeletions_When_TombstonesAreDeleted() throws Exception {
+    final String watermark = readFeedToItsEnd();
+    taskService.forceDeleteTask("TKI:000000000000000000000000000000000001");
+
+    ((TaskServiceImpl) taskService)
+        .deleteTaskTombstones(Instant.now().plusSeconds(1));
+
+    assertThat(taskService.getTaskChanges(watermark, 10).getDeletedTaskIds()).isEmpty();
+  }
+
+  private String readFeedToItsEnd() throws Exception {
+    TaskChanges changes = taskService.getTaskChanges(null, 1000);
+    assertThat(changes.hasMoreChanges()).isFalse();
+    return changes.getWatermark();
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import java.util.List;
+import java.util.Map;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,6 +54,50 @@ class GetTaskCommentAccTest extends AbstractAccTest {
     assertThatThrownBy(httpCall).isInstanceOf(NotAuthorizedException.class);
   }
 
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnTaskCommentsByTaskId_When_RetrievingCommentsOfSeveralTasks() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    Map<String, List<TaskComment>> taskComments =
+        taskService.getTaskComments(
+            List.of(
+                "TKI:000000000000000000000000000000000000",
+                "TKI:000000000000000000000000000000000002",
+                "TKI:000000000000000000000000000000000001"));
+
+    assertThat(taskComments)
+        .containsOnlyKeys(
+            "TKI:000000000000000000000000000000000000",
+            "TKI:000000000000000000000000000000000002",
+            "TKI:000000000000000000000000000000000001");
+    assertThat(taskComments.get("TKI:000000000000000000000000000000000000"))
+        .extracting(TaskComment::getId)
+        .containsExactly(
+            "TCI:000000000000000000000000000000000001",
+            "TCI:000000000000000000000000000000000000",
+            "TCI:000000000000000000000000000000000002");
+    assertThat(taskComments.get("TKI:000000000000000000000000000000000001")).hasSize(2);
+    assertThat(taskComments.get("TKI:000000000000000000000000000000000002")).hasSize(2);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_OmitTasks_When_TasksAreNotVisibleOrDontExist() {
+
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    Map<String, List<TaskComment>> taskComments =
+        taskService.getTaskComments(
+            List.of(
+                "TKI:000000000000000000000000000000000000",
+                "TKI:000000000000000000000000000000000004",
+                "TKI:not-existing"));
+
+    assertThat(taskComments).containsOnlyKeys("TKI:000000000000000000000000000000000000");
+  }
+
   @WithAccessId(user = "user-1-1")
   @Test
   void should_ReturnTaskComment_For_TaskCommentId() throws Exception {
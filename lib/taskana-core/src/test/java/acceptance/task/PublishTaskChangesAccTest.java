@@ -0,0 +1,183 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineProxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.events.TaskChangeEvent;
+import pro.taskana.task.api.events.TaskChangeListener;
+import pro.taskana.task.api.events.TaskChangeType;
+import pro.taskana.task.api.models.Task;
+
+/** Acceptance test for the {@link TaskChangeListener TaskChangeListeners} of the engine. */
+@ExtendWith(JaasExtension.class)
+class PublishTaskChangesAccTest extends AbstractAccTest {
+
+  private static final String TARGET_WORKBASKET_ID = "WBI:100000000000000000000000000000000006";
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+  private final List<TaskChangeEvent> events = new ArrayList<>();
+  private final TaskChangeListener listener = events::add;
+
+  @BeforeEach
+  void registerListener() {
+    taskanaEngine.addTaskChangeListener(listener);
+  }
+
+  @AfterEach
+  void removeListenerAndResetData() throws Exception {
+    taskanaEngine.removeTaskChangeListener(listener);
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PublishUpdate_When_TaskIsClaimed() throws Exception {
+    Task task = taskService.claim("TKI:000000000000000000000000000000000003");
+
+    assertThat(events)
+        .containsExactly(
+            new TaskChangeEvent(
+                TaskChangeType.UPDATED, task.getId(), task.getWorkbasketSummary().getId()));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PublishTransferWithSourceWorkbasket_When_TaskIsTransferred() throws Exception {
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000003");
+
+    taskService.transfer(task.getId(), TARGET_WORKBASKET_ID);
+
+    assertThat(events)
+        .containsExactly(
+            new TaskChangeEvent(
+                TaskChangeType.TRANSFERRED,
+                task.getId(),
+                TARGET_WORKBASKET_ID,
+                task.getWorkbasketSummary().getId()));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PublishTransferForEachTask_When_TasksAreTransferredInBulk() throws Exception {
+    List<String> taskIds =
+        List.of(
+            "TKI:000000000000000000000000000000000004", "TKI:000000000000000000000000000000000005");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.transferTasks(TARGET_WORKBASKET_ID, taskIds);
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(events)
+        .extracting(TaskChangeEvent::getType)
+        .containsOnly(TaskChangeType.TRANSFERRED);
+    assertThat(events)
+        .extracting(TaskChangeEvent::getWorkbasketId)
+        .containsOnly(TARGET_WORKBASKET_ID);
+    assertThat(events).extracting(TaskChangeEvent::getTaskId).containsExactlyElementsOf(taskIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_OnlyPublishDeletionOfDeletedTasks_When_TasksAreDeletedInBulk() throws Exception {
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.deleteTasks(
+            List.of(
+                "TKI:000000000000000000000000000000000039",
+                "TKI:000000000000000000000000000000000000"));
+
+    assertThat(results.getFailedIds()).containsExactly("TKI:000000000000000000000000000000000000");
+    assertThat(events).extracting(TaskChangeEvent::getType).containsExactly(TaskChangeType.DELETED);
+    assertThat(events)
+        .extracting(TaskChangeEvent::getTaskId)
+        .containsExactly("TKI:000000000000000000000000000000000039");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ChangeTask_When_ListenerThrowsException() throws Exception {
+    TaskChangeListener failingListener =
+        event -> {
+          throw new IllegalStateException("listener failed");
+        };
+    taskanaEngine.addTaskChangeListener(failingListener);
+    try {
+      Task task = taskService.setTaskRead("TKI:000000000000000000000000000000000003", true);
+
+      assertThat(taskService.getTask(task.getId()).isRead()).isTrue();
+      assertThat(events).extracting(TaskChangeEvent::getTaskId).containsExactly(task.getId());
+    } finally {
+      taskanaEngine.removeTaskChangeListener(failingListener);
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotPublish_When_ListenerWasRemoved() throws Exception {
+    taskanaEngine.removeTaskChangeListener(listener);
+
+    taskService.claim("TKI:000000000000000000000000000000000003");
+
+    assertThat(events).isEmpty();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PublishChangesAfterSessionEnded_When_TaskIsChangedWithinSession() throws Exception {
+    List<TaskChangeEvent> eventsWithinSession =
+        taskanaEngine.runInSession(
+            () -> {
+              claim("TKI:000000000000000000000000000000000003");
+              return new ArrayList<>(events);
+            });
+
+    assertThat(eventsWithinSession).isEmpty();
+    assertThat(events)
+        .extracting(TaskChangeEvent::getTaskId)
+        .containsExactly("TKI:000000000000000000000000000000000003");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotPublishChanges_When_SessionIsNotCommitted() throws Exception {
+    InternalTaskanaEngine internalEngine = new TaskanaEngineProxy(taskanaEngine).getEngine();
+
+    ThrowingCallable call =
+        () ->
+            taskanaEngine.runInSession(
+                () -> {
+                  internalEngine.executeBeforeSessionEnd(
+                      () -> {
+                        throw new SystemException("session failed");
+                      });
+                  return claim("TKI:000000000000000000000000000000000003");
+                });
+
+    assertThatThrownBy(call).isInstanceOf(SystemException.class).hasMessage("session failed");
+    assertThat(events).isEmpty();
+  }
+
+  private Task claim(String taskId) {
+    try {
+      return taskService.claim(taskId);
+    } catch (TaskanaException e) {
+      throw new SystemException("Could not claim task " + taskId, e);
+    }
+  }
+}
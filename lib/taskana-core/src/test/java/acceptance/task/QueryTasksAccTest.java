@@ -19,6 +19,7 @@ import static pro.taskana.task.api.TaskQueryColumnName.STATE;
 import acceptance.AbstractAccTest;
 import acceptance.TaskTestMapper;
 import acceptance.TaskanaEngineProxy;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -146,6 +147,55 @@ class QueryTasksAccTest extends AbstractAccTest {
     listUtilMock.verify(() -> CollectionUtil.partitionBasedOnSize(any(), eq(32000)));
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassSameTasksAsList_When_IteratingOverQueryWithCursor() {
+    TaskQuery query = TASK_SERVICE.createTaskQuery().orderByTaskId(ASCENDING);
+    List<TaskSummary> expected = query.list();
+
+    List<TaskSummary> result = new ArrayList<>();
+    query.forEach(result::add);
+
+    assertThat(result).hasSize(expected.size()).containsExactlyElementsOf(expected);
+    assertThat(result)
+        .extracting(TaskSummary::getWorkbasketSummary)
+        .allSatisfy(workbasket -> assertThat(workbasket.getKey()).isNotNull());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnCommentCount_When_QueryingTasksWithCommentCount() {
+    List<TaskSummary> results =
+        TASK_SERVICE
+            .createTaskQuery()
+            .idIn(
+                "TKI:000000000000000000000000000000000000",
+                "TKI:000000000000000000000000000000000001",
+                "TKI:000000000000000000000000000000000036")
+            .withCommentCount()
+            .orderByTaskId(ASCENDING)
+            .list();
+
+    assertThat(results).extracting(TaskSummary::getCommentCount).containsExactly(3, 2, 0);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotReturnCommentCount_When_QueryingTasksWithoutCommentCount() {
+    List<TaskSummary> results =
+        TASK_SERVICE.createTaskQuery().idIn("TKI:000000000000000000000000000000000000").list();
+    List<TaskSummary> resultsWithCommentCount =
+        TASK_SERVICE
+            .createTaskQuery()
+            .idIn("TKI:000000000000000000000000000000000000")
+            .withCommentCount()
+            .list();
+
+    assertThat(results).extracting(TaskSummary::getCommentCount).containsExactly(0);
+    assertThat(resultsWithCommentCount).extracting(TaskSummary::getCommentCount).containsExactly(3);
+    assertThat(results).isEqualTo(resultsWithCommentCount);
+  }
+
   @WithAccessId(user = "admin")
   @Test
   void testQueryForOwnerLike() {
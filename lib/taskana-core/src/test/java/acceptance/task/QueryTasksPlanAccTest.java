@@ -0,0 +1,124 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineProxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.TaskQueryImpl;
+
+/**
+ * Acceptance test for the query plans of the task queries. The plans are only checked on H2 and
+ * Postgres, DB2 uses different statements for the task queries.
+ */
+@ExtendWith(JaasExtension.class)
+class QueryTasksPlanAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_UseAccessListIndexForPermissionCheck_When_QueryingTasks() throws Exception {
+    TaskQueryImpl query = (TaskQueryImpl) taskanaEngine.getTaskService().createTaskQuery();
+    assertThat(query.list()).isNotEmpty();
+
+    String plan = explain(query);
+
+    if (DB.isPostgres(getDatabaseId())) {
+      assertThat(plan).contains("Semi Join");
+    } else {
+      assertThat(plan).containsPattern("IDX_WBAL_[34]");
+    }
+    assertThat(plan).doesNotContainIgnoringCase("GROUP BY");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_UseInboxIndex_When_QueryingTasksOfWorkbasketByState() throws Exception {
+    TaskQueryImpl query =
+        (TaskQueryImpl)
+            taskanaEngine
+                .getTaskService()
+                .createTaskQuery()
+                .workbasketIdIn("WBI:100000000000000000000000000000000006")
+                .stateIn(TaskState.CLAIMED)
+                .orderByPriority(SortDirection.DESCENDING);
+    assertThat(query.list()).isNotEmpty();
+
+    String plan = explain(query);
+
+    if (DB.isPostgres(getDatabaseId())) {
+      assertThat(plan).containsIgnoringCase("idx_task_3");
+    } else {
+      assertThat(plan).contains("IDX_TASK_3");
+    }
+  }
+
+  private String explain(TaskQueryImpl query) throws Exception {
+    String databaseId = getDatabaseId();
+    assumeTrue(DB.isH2(databaseId) || DB.isPostgres(databaseId));
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    SqlSession session = engineProxy.getSqlSession();
+    MappedStatement mappedStatement =
+        session.getConfiguration().getMappedStatement(query.getLinkToMapperScript());
+    BoundSql boundSql = mappedStatement.getBoundSql(query);
+    try {
+      engineProxy.openConnection();
+      Connection connection = session.getConnection();
+      try (Statement statement = connection.createStatement()) {
+        if (DB.isPostgres(databaseId)) {
+          // the test database is too small to make an index scan cheaper than a sequential scan
+          statement.execute("SET enable_seqscan = off");
+        } else {
+          statement.execute("ANALYZE");
+        }
+      }
+      try (PreparedStatement statement =
+          connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+        ParameterHandler parameterHandler =
+            new DefaultParameterHandler(mappedStatement, query, boundSql);
+        parameterHandler.setParameters(statement);
+        return readPlan(statement);
+      } finally {
+        if (DB.isPostgres(databaseId)) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = on");
+          }
+        }
+      }
+    } finally {
+      engineProxy.returnConnection();
+    }
+  }
+
+  private String readPlan(PreparedStatement statement) throws SQLException {
+    StringBuilder plan = new StringBuilder();
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        plan.append(resultSet.getString(1)).append('\n');
+      }
+    }
+    return plan.toString();
+  }
+
+  private String getDatabaseId() throws Exception {
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    return engineProxy.getSqlSession().getConfiguration().getDatabaseId();
+  }
+}
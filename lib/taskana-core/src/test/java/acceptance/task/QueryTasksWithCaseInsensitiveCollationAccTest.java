@@ -0,0 +1,127 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineTestConfiguration;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.WildcardSearchField;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+/**
+ * Acceptance test for the queries of a TaskanaEngine which relies on the case-insensitive
+ * collation of the database. The H2 test database is created with IGNORECASE=TRUE.
+ */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithCaseInsensitiveCollationAccTest extends AbstractAccTest {
+
+  private static TaskanaEngine caseInsensitiveEngine;
+
+  @BeforeAll
+  static void setupCaseInsensitiveEngine() throws Exception {
+    DataSource dataSource = TaskanaEngineTestConfiguration.getDataSource();
+    try (Connection connection = dataSource.getConnection()) {
+      assumeTrue(
+          DB.isH2(DB.getDatabaseProductId(connection.getMetaData().getDatabaseProductName())));
+    }
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            dataSource, false, TaskanaEngineTestConfiguration.getSchemaName());
+    configuration.setCaseInsensitiveCollationEnabled(true);
+    caseInsensitiveEngine = configuration.buildTaskanaEngine();
+    caseInsensitiveEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_FindSameTasks_When_FilteringWithLikeWithoutUpperCase() {
+    List<TaskSummary> expected =
+        createLikeQuery(taskanaEngine.getTaskService()).orderByName(SortDirection.ASCENDING).list();
+
+    List<TaskSummary> tasks =
+        createLikeQuery(caseInsensitiveEngine.getTaskService())
+            .orderByName(SortDirection.ASCENDING)
+            .list();
+
+    assertThat(expected).isNotEmpty();
+    assertThat(tasks).isEqualTo(expected);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_FindSameTasks_When_UsingWildcardSearchWithoutUpperCase() {
+    long expected =
+        taskanaEngine
+            .getTaskService()
+            .createTaskQuery()
+            .wildcardSearchFieldsIn(WildcardSearchField.NAME, WildcardSearchField.CUSTOM_3)
+            .wildcardSearchValueLike("%99%")
+            .count();
+
+    long count =
+        caseInsensitiveEngine
+            .getTaskService()
+            .createTaskQuery()
+            .wildcardSearchFieldsIn(WildcardSearchField.NAME, WildcardSearchField.CUSTOM_3)
+            .wildcardSearchValueLike("%99%")
+            .count();
+
+    assertThat(expected).isPositive();
+    assertThat(count).isEqualTo(expected);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_FindWorkbasketsAndClassifications_When_FilteringWithLikeWithoutUpperCase() {
+    List<WorkbasketSummary> workbaskets =
+        caseInsensitiveEngine
+            .getWorkbasketService()
+            .createWorkbasketQuery()
+            .nameLike("gruppenpostkorb%")
+            .keyIn("gpk_ksc", "GPK_KSC_1")
+            .list();
+    List<ClassificationSummary> classifications =
+        caseInsensitiveEngine
+            .getClassificationService()
+            .createClassificationQuery()
+            .nameLike("dynamik%")
+            .list();
+
+    assertThat(workbaskets)
+        .extracting(WorkbasketSummary::getKey)
+        .containsExactlyInAnyOrder("GPK_KSC", "GPK_KSC_1");
+    assertThat(classifications)
+        .isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(
+            taskanaEngine
+                .getClassificationService()
+                .createClassificationQuery()
+                .nameLike("dynamik%")
+                .list());
+  }
+
+  private TaskQuery createLikeQuery(TaskService taskService) {
+    return taskService
+        .createTaskQuery()
+        .nameLike("widerruf", "task%")
+        .ownerLike("USER-1-%");
+  }
+}
@@ -130,15 +130,40 @@ class UpdateTaskAccTest extends AbstractAccTest {
     final Task task2 = taskService.getTask("TKI:000000000000000000000000000000000000");
 
     task.setCustomAttribute(CUSTOM_1, "willi");
-    Thread.sleep(10);
     taskService.updateTask(task);
     task2.setCustomAttribute(CUSTOM_2, "Walter");
-    // TODO flaky test ... if speed is too high,
     assertThatThrownBy(() -> taskService.updateTask(task2))
         .isInstanceOf(ConcurrencyException.class)
         .hasMessage("The task has already been updated by another user");
   }
 
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_TaskHasBeenClaimedInTheMeantime() throws Exception {
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+    taskService.forceClaim(task.getId());
+
+    task.setCustomAttribute(CUSTOM_1, "willi");
+    assertThatThrownBy(() -> taskService.updateTask(task))
+        .isInstanceOf(ConcurrencyException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_IncrementVersion_When_TaskIsUpdated() throws Exception {
+    Task task = taskService.getTask("TKI:000000000000000000000000000000000000");
+    final int versionBeforeUpdate = task.getVersion();
+
+    task.setCustomAttribute(CUSTOM_1, "willi");
+    Task updatedTask = taskService.updateTask(task);
+
+    assertThat(updatedTask.getVersion()).isEqualTo(versionBeforeUpdate + 1);
+    assertThat(taskService.getTask(task.getId()).getVersion())
+        .isEqualTo(versionBeforeUpdate + 1);
+    updatedTask.setCustomAttribute(CUSTOM_2, "Walter");
+    assertThatCode(() -> taskService.updateTask(updatedTask)).doesNotThrowAnyException();
+  }
+
   @WithAccessId(user = "admin")
   @WithAccessId(user = "taskadmin")
   @TestTemplate
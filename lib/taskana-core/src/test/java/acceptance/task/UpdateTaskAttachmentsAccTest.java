@@ -15,12 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
+import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.TaskImpl;
@@ -116,6 +118,63 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     assertThatThrownBy(call).isInstanceOf(AttachmentPersistenceException.class);
   }
 
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowAttachmentPersistenceException_When_ClassificationOfAttachmentDoesNotExist() {
+    ClassificationSummaryImpl classificationSummary = new ClassificationSummaryImpl();
+    classificationSummary.setId("CLI:000000000000000000000000000000000099");
+    classificationSummary.setKey("DOCTYPE_DEFAULT");
+    attachment.setClassificationSummary(classificationSummary);
+    task.addAttachment(attachment);
+
+    ThrowingCallable call = () -> taskService.updateTask(task);
+    assertThatThrownBy(call)
+        .isInstanceOf(AttachmentPersistenceException.class)
+        .hasMessageContaining("CLI:000000000000000000000000000000000099");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_InsertUpdateAndDeleteAttachments_When_UpdatingTaskWithManyAttachments()
+      throws Exception {
+    for (int i = 0; i < 25; i++) {
+      task.addAttachment(createAttachmentWithReference("initial-" + i));
+    }
+    task = taskService.updateTask(task);
+    task = taskService.getTask(task.getId());
+    assertThat(task.getAttachments()).hasSize(25);
+
+    task.getAttachments().subList(0, 5).clear();
+    task.getAttachments().subList(0, 10).forEach(a -> a.setChannel("FAX"));
+    for (int i = 0; i < 5; i++) {
+      task.addAttachment(createAttachmentWithReference("added-" + i));
+    }
+    task = taskService.updateTask(task);
+    task = taskService.getTask(task.getId());
+
+    assertThat(task.getAttachments())
+        .hasSize(25)
+        .extracting(Attachment::getObjectReference)
+        .extracting(ObjectReference::getValue)
+        .doesNotContain("initial-0", "initial-4")
+        .contains("initial-5", "initial-24", "added-0", "added-4");
+    assertThat(task.getAttachments())
+        .filteredOn(a -> "FAX".equals(a.getChannel()))
+        .extracting(Attachment::getObjectReference)
+        .extracting(ObjectReference::getValue)
+        .containsExactlyInAnyOrder(
+            "initial-5",
+            "initial-6",
+            "initial-7",
+            "initial-8",
+            "initial-9",
+            "initial-10",
+            "initial-11",
+            "initial-12",
+            "initial-13",
+            "initial-14");
+  }
+
   @WithAccessId(user = "user-1-1")
   @Test
   void should_UpdateExistingAttachment_When_AddingSameButNotEqualAttachmentAgain()
@@ -498,4 +557,13 @@ class UpdateTaskAttachmentsAccTest extends AbstractAccTest {
     assertThat(updatedTask.getModified()).isEqualTo(updatedAttachment.getModified());
     assertThat(updatedAttachment.getCustomAttributeMap().get("TEST_KEY")).isEqualTo("TEST_VALUE");
   }
+
+  private Attachment createAttachmentWithReference(String referenceValue) throws Exception {
+    return createAttachment(
+        "DOCTYPE_DEFAULT",
+        createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", referenceValue),
+        "E-MAIL",
+        "2018-01-15",
+        null);
+  }
 }
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
@@ -81,6 +82,29 @@ class WorkOnTaskAccTest extends AbstractAccTest {
     assertThatThrownBy(call).isInstanceOf(InvalidOwnerException.class);
   }
 
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReturnPersistedTask_When_ClaimingTask() throws Exception {
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    Task claimedTask = taskService.claim("TKI:000000000000000000000000000000000027");
+
+    assertThat(claimedTask.getState()).isEqualTo(TaskState.CLAIMED);
+    assertThat(claimedTask.getOwner()).isEqualTo("user-1-2");
+    assertThat(claimedTask)
+        .isEqualTo(taskService.getTask("TKI:000000000000000000000000000000000027"));
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_ForceClaimingTaskWithoutReadPermission() {
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    ThrowingCallable call =
+        () -> taskService.forceClaim("TKI:000000000000000000000000000000000004");
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
   @WithAccessId(user = "user-1-2")
   @Test
   void testCancelClaimTask() throws Exception {
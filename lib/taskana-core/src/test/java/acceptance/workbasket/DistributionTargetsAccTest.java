@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
@@ -114,6 +117,37 @@ class DistributionTargetsAccTest extends AbstractAccTest {
     assertThat(distributionTargets).hasSize(4);
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnDistributionTargetIdsBySource_When_GettingTargetIdsOfSeveralWorkbaskets() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    String existingWb = "WBI:100000000000000000000000000000000001";
+    String nonExistingWb = "WBI:100000000000000000000000000000000xx1";
+
+    Map<String, Set<String>> distributionTargetIds =
+        workbasketService.getDistributionTargetIds(List.of(existingWb, nonExistingWb));
+
+    assertThat(distributionTargetIds).containsOnlyKeys(existingWb);
+    assertThat(distributionTargetIds.get(existingWb))
+        .containsExactlyInAnyOrder(
+            "WBI:100000000000000000000000000000000002",
+            "WBI:100000000000000000000000000000000003",
+            "WBI:100000000000000000000000000000000004",
+            "WBI:100000000000000000000000000000000005");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_OmitUnreadableWorkbaskets_When_GettingTargetIdsOfSeveralWorkbaskets() {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    String existingWb = "WBI:100000000000000000000000000000000001";
+
+    Map<String, Set<String>> distributionTargetIds =
+        workbasketService.getDistributionTargetIds(List.of(existingWb));
+
+    assertThat(distributionTargetIds).isEmpty();
+  }
+
   @WithAccessId(user = "user-1-1")
   @WithAccessId(user = "taskadmin")
   @TestTemplate
@@ -255,6 +289,36 @@ class DistributionTargetsAccTest extends AbstractAccTest {
     resetDb(false);
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_KeepExistingAndAddNewDistributionTargets_When_SettingOverlappingTargets()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    Workbasket sourceWorkbasket = workbasketService.getWorkbasket("GPK_KSC_1", "DOMAIN_A");
+    List<String> initialTargetIds =
+        workbasketService.getDistributionTargets(sourceWorkbasket.getId()).stream()
+            .map(WorkbasketSummary::getId)
+            .collect(Collectors.toList());
+    String newTargetId = workbasketService.getWorkbasket("GPK_B_KSC_1", "DOMAIN_B").getId();
+
+    List<String> newTargetIds = new ArrayList<>(initialTargetIds.subList(1, 4));
+    newTargetIds.add(newTargetId);
+    newTargetIds.add(newTargetId);
+    workbasketService.setDistributionTargets(sourceWorkbasket.getId(), newTargetIds);
+
+    assertThat(workbasketService.getDistributionTargets(sourceWorkbasket.getId()))
+        .extracting(WorkbasketSummary::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            List.of(
+                initialTargetIds.get(1),
+                initialTargetIds.get(2),
+                initialTargetIds.get(3),
+                newTargetId));
+
+    // reset DB to original state
+    resetDb(false);
+  }
+
   @WithAccessId(user = "businessadmin")
   @Test
   void testGetDistributionSourcesById() throws Exception {
@@ -2,6 +2,7 @@ package acceptance.workbasket;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_1;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_2;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_3;
@@ -53,6 +54,36 @@ class GetWorkbasketAccTest extends AbstractAccTest {
     assertThat(workbasket.getCustomAttribute(CUSTOM_4)).isEqualTo("custom4");
   }
 
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReturnReadableWorkbasketsOnly_When_GettingWorkbasketsByIds() {
+    List<Workbasket> workbaskets =
+        WORKBASKET_SERVICE.getWorkbaskets(
+            List.of(
+                "WBI:100000000000000000000000000000000007",
+                "WBI:100000000000000000000000000000000006",
+                "WBI:100000000000000000000000000000000007",
+                "invalid"));
+
+    assertThat(workbaskets)
+        .extracting(Workbasket::getKey, Workbasket::getDescription)
+        .containsExactly(tuple("USER-1-2", "PPK User 2 KSC 1"));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReturnAllWorkbaskets_When_GettingWorkbasketsByIdsAsAdmin() {
+    List<Workbasket> workbaskets =
+        WORKBASKET_SERVICE.getWorkbaskets(
+            List.of(
+                "WBI:100000000000000000000000000000000007",
+                "WBI:100000000000000000000000000000000006"));
+
+    assertThat(workbaskets)
+        .extracting(Workbasket::getKey)
+        .containsExactlyInAnyOrder("USER-1-2", "USER-1-1");
+  }
+
   @WithAccessId(user = "admin")
   @WithAccessId(user = "businessadmin")
   @WithAccessId(user = "taskadmin")
@@ -7,6 +7,7 @@ import static pro.taskana.common.api.BaseQuery.SortDirection.DESCENDING;
 import static pro.taskana.workbasket.api.WorkbasketQueryColumnName.NAME;
 
 import acceptance.AbstractAccTest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -68,6 +69,18 @@ class QueryWorkbasketAccTest extends AbstractAccTest {
     assertThat(workbaskets).hasSize(count);
   }
 
+  @WithAccessId(user = "teamlead-1")
+  @Test
+  void should_PassSameWorkbasketsAsList_When_IteratingOverQueryWithCursor() {
+    WorkbasketQuery query = WORKBASKET_SERVICE.createWorkbasketQuery();
+    List<WorkbasketSummary> expected = query.list();
+
+    List<WorkbasketSummary> result = new ArrayList<>();
+    query.forEach(result::add);
+
+    assertThat(result).containsExactlyElementsOf(expected);
+  }
+
   @WithAccessId(user = "teamlead-1", groups = GROUP_1_DN)
   @Test
   void testQueryWorkbasketValuesForColumnName() {
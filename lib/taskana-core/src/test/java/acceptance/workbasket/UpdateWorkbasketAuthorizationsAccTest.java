@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
@@ -198,6 +199,33 @@ class UpdateWorkbasketAuthorizationsAccTest extends AbstractAccTest {
     assertThat(item.getPermission(WorkbasketPermission.TRANSFER)).isFalse();
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_KeepStoredAccessItems_When_SettingUnchangedAccessItemsWithoutId()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    final String wbId = "WBI:100000000000000000000000000000000004";
+    List<WorkbasketAccessItem> storedAccessItems = workbasketService.getWorkbasketAccessItems(wbId);
+
+    List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+    for (WorkbasketAccessItem storedAccessItem : storedAccessItems) {
+      WorkbasketAccessItem accessItem =
+          workbasketService.newWorkbasketAccessItem(wbId, storedAccessItem.getAccessId());
+      accessItem.setAccessName(storedAccessItem.getAccessName());
+      for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+        accessItem.setPermission(permission, storedAccessItem.getPermission(permission));
+      }
+      accessItems.add(accessItem);
+    }
+    workbasketService.setWorkbasketAccessItems(wbId, accessItems);
+
+    assertThat(workbasketService.getWorkbasketAccessItems(wbId))
+        .containsExactlyInAnyOrderElementsOf(storedAccessItems)
+        .extracting(WorkbasketAccessItem::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            accessItems.stream().map(WorkbasketAccessItem::getId).collect(Collectors.toList()));
+  }
+
   @WithAccessId(user = "businessadmin")
   @Test
   void testInsertAccessItemList() throws Exception {
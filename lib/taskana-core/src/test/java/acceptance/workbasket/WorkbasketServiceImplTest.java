@@ -79,14 +79,17 @@ class WorkbasketServiceImplTest {
     when(internalTaskanaEngineMock.domainExists(any())).thenReturn(true);
 
     final Workbasket actualWb = workbasketServiceSpy.createWorkbasket(expectedWb);
-    workbasketServiceSpy.setDistributionTargets(
-        expectedWb.getId(), createTestDistributionTargets(distTargetAmount));
+    List<String> distributionTargets = createTestDistributionTargets(distTargetAmount);
+    when(workbasketMapperMock.findExistingIds(distributionTargets)).thenReturn(distributionTargets);
+    workbasketServiceSpy.setDistributionTargets(expectedWb.getId(), distributionTargets);
 
     verify(internalTaskanaEngineMock, times(4)).openConnection();
     verify(workbasketMapperMock, times(3)).insert(any());
-    verify(workbasketServiceSpy, times(distTargetAmount + 1)).getWorkbasket(any());
-    verify(distributionTargetMapperMock, times(1)).deleteAllDistributionTargetsBySourceId(any());
-    verify(distributionTargetMapperMock, times(distTargetAmount)).insert(any(), any());
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(workbasketMapperMock, times(1)).findExistingIds(distributionTargets);
+    verify(distributionTargetMapperMock, times(1)).findBySourceId(expectedWb.getId());
+    verify(distributionTargetMapperMock, times(1))
+        .insertMultiple(expectedWb.getId(), distributionTargets);
     verify(workbasketMapperMock, times(3)).findByKeyAndDomain(any(), any());
     verify(workbasketMapperMock, times(1)).update(any());
     verify(internalTaskanaEngineMock, times(4)).returnConnection();
@@ -128,18 +131,15 @@ class WorkbasketServiceImplTest {
         .hasFieldOrPropertyWithValue("key", null)
         .hasFieldOrPropertyWithValue("domain", null);
 
-    verify(internalTaskanaEngineMock, times(3)).openConnection();
+    verify(internalTaskanaEngineMock, times(2)).openConnection();
     verify(workbasketMapperMock, times(1)).insert(expectedWb);
-    verify(workbasketMapperMock, times(1)).findById(any());
     verify(workbasketMapperMock, times(1)).findByKeyAndDomain(any(), any());
-    verify(workbasketServiceSpy, times(2)).getWorkbasket(any());
-    verify(internalTaskanaEngineMock, times(3)).returnConnection();
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(workbasketMapperMock, times(1)).findExistingIds(destinations);
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
     verify(taskanaEngine, times(2)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(internalTaskanaEngineMock, times(1)).domainExists(any());
-    verify(distributionTargetMapperMock)
-        .deleteAllDistributionTargetsBySourceId(expectedWb.getId());
-    verify(workbasketMapperMock).update(expectedWb);
     verify(internalTaskanaEngineMock, times(1)).getHistoryEventManager();
 
     verifyNoMoreInteractions(
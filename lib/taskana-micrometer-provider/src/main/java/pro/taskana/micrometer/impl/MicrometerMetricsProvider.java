@@ -0,0 +1,77 @@
+package pro.taskana.micrometer.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+
+/**
+ * Publishes the TASKANA metrics as Micrometer {@link Timer timers}. Every metric is registered
+ * with its metric name and tagged with the name of the measured operation and, if known, with its
+ * outcome. By default the timers are registered in the {@link Metrics#globalRegistry global
+ * registry}.
+ */
+public class MicrometerMetricsProvider implements MetricsProvider {
+
+  public static final String OPERATION_TAG = "operation";
+  public static final String OUTCOME_TAG = "outcome";
+  public static final String OUTCOME_SUCCESS = "success";
+  public static final String OUTCOME_FAILURE = "failure";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerMetricsProvider.class);
+  private final MeterRegistry meterRegistry;
+  private final Map<TaskanaMetric, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+  public MicrometerMetricsProvider() {
+    this(Metrics.globalRegistry);
+  }
+
+  public MicrometerMetricsProvider(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void initialize(TaskanaEngineConfiguration taskanaEngineConfiguration) {
+    LOGGER.info(
+        "Publishing metrics of the TASKANA schema {} to {}",
+        taskanaEngineConfiguration.getSchemaName(),
+        meterRegistry.getClass().getSimpleName());
+  }
+
+  @Override
+  public void recordDuration(TaskanaMetric metric, String operation, long durationInNanos) {
+    getTimer(metric, operation, null).record(durationInNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void recordDuration(
+      TaskanaMetric metric, String operation, boolean successful, long durationInNanos) {
+    getTimer(metric, operation, successful ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+        .record(durationInNanos, TimeUnit.NANOSECONDS);
+  }
+
+  // building a timer requires a lookup in the registry. Hence the timers are cached per operation
+  // and outcome.
+  private Timer getTimer(TaskanaMetric metric, String operation, String outcome) {
+    return timers
+        .computeIfAbsent(metric, m -> new ConcurrentHashMap<>())
+        .computeIfAbsent(
+            outcome == null ? operation : operation + "|" + outcome,
+            key -> {
+              Timer.Builder builder =
+                  Timer.builder(metric.getMetricName()).tag(OPERATION_TAG, operation);
+              if (outcome != null) {
+                builder.tag(OUTCOME_TAG, outcome);
+              }
+              return builder.register(meterRegistry);
+            });
+  }
+}
@@ -0,0 +1,72 @@
+package pro.taskana.micrometer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.micrometer.impl.MicrometerMetricsProvider.OUTCOME_FAILURE;
+import static pro.taskana.micrometer.impl.MicrometerMetricsProvider.OUTCOME_SUCCESS;
+import static pro.taskana.micrometer.impl.MicrometerMetricsProvider.OUTCOME_TAG;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.spi.metrics.api.TaskanaMetric;
+
+class MicrometerMetricsProviderTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MicrometerMetricsProvider metricsProvider;
+
+  @BeforeEach
+  void setupProvider() {
+    meterRegistry = new SimpleMeterRegistry();
+    metricsProvider = new MicrometerMetricsProvider(meterRegistry);
+  }
+
+  @Test
+  void should_RecordDurationInTimerOfOperation_When_DurationIsRecorded() {
+    metricsProvider.recordDuration(TaskanaMetric.SERVICE_METHOD, "TaskService.claim", 2_000_000L);
+    metricsProvider.recordDuration(TaskanaMetric.SERVICE_METHOD, "TaskService.claim", 4_000_000L);
+
+    Timer timer =
+        meterRegistry
+            .get("taskana.service.method")
+            .tag(MicrometerMetricsProvider.OPERATION_TAG, "TaskService.claim")
+            .timer();
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+  }
+
+  @Test
+  void should_RegisterSeparateTimers_When_RecordingDifferentOperations() {
+    metricsProvider.recordDuration(TaskanaMetric.SQL_STATEMENT, "TaskMapper.findById", 1L);
+    metricsProvider.recordDuration(TaskanaMetric.SQL_STATEMENT, "TaskMapper.update", 1L);
+    metricsProvider.recordDuration(TaskanaMetric.JOB, "TASKCLEANUPJOB", 1L);
+
+    assertThat(meterRegistry.get("taskana.sql.statement").timers()).hasSize(2);
+    assertThat(meterRegistry.get("taskana.job").timers()).hasSize(1);
+  }
+
+  @Test
+  void should_TagTimerWithOutcome_When_RecordingDurationWithOutcome() {
+    metricsProvider.recordDuration(TaskanaMetric.SERVICE_METHOD, "TaskService.claim", true, 1L);
+    metricsProvider.recordDuration(TaskanaMetric.SERVICE_METHOD, "TaskService.claim", false, 1L);
+    metricsProvider.recordDuration(TaskanaMetric.SERVICE_METHOD, "TaskService.claim", false, 1L);
+
+    assertThat(
+            meterRegistry
+                .get("taskana.service.method")
+                .tag(OUTCOME_TAG, OUTCOME_SUCCESS)
+                .timer()
+                .count())
+        .isOne();
+    assertThat(
+            meterRegistry
+                .get("taskana.service.method")
+                .tag(OUTCOME_TAG, OUTCOME_FAILURE)
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+}
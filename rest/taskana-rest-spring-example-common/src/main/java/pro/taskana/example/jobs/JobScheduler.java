@@ -20,6 +20,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.security.UserPrincipal;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.task.internal.jobs.TaskArchiveJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
 
@@ -45,6 +46,9 @@ public class JobScheduler {
     LOGGER.debug("Entry to scheduleCleanupJob.");
     TaskCleanupJob.initializeSchedule(taskanaEngine);
     WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+    if (taskanaEngine.getConfiguration().getArchiveDirectory() != null) {
+      TaskArchiveJob.initializeSchedule(taskanaEngine);
+    }
 
     if (taskanaEngine.isHistoryEnabled()) {
       Thread.currentThread()
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.classification.api.ClassificationCustomField;
 import pro.taskana.classification.api.ClassificationQuery;
@@ -42,6 +43,7 @@ import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
 
 /** Controller for Importing / Exporting classifications. */
 @RestController
@@ -54,15 +56,18 @@ public class ClassificationDefinitionController {
   private final ObjectMapper mapper;
   private final ClassificationService classificationService;
   private final ClassificationDefinitionRepresentationModelAssembler assembler;
+  private final StreamingRepresentationModelWriter streamingWriter;
 
   @Autowired
   ClassificationDefinitionController(
       ObjectMapper mapper,
       ClassificationService classificationService,
-      ClassificationDefinitionRepresentationModelAssembler assembler) {
+      ClassificationDefinitionRepresentationModelAssembler assembler,
+      StreamingRepresentationModelWriter streamingWriter) {
     this.mapper = mapper;
     this.classificationService = classificationService;
     this.assembler = assembler;
+    this.streamingWriter = streamingWriter;
   }
 
   /**
@@ -101,6 +106,44 @@ public class ClassificationDefinitionController {
     return response;
   }
 
+  /**
+   * This endpoint exports all configured Classifications. In contrast to the regular export the
+   * Classifications are written while they are read from the database. Thus the size of the export
+   * is not limited by the memory of the server.
+   *
+   * @param domain Filter the export by domain
+   * @return the configured Classifications.
+   * @title Stream the export of Classifications
+   */
+  @GetMapping(
+      path = RestEndpoints.URL_CLASSIFICATION_DEFINITIONS,
+      params = StreamingRepresentationModelWriter.STREAM_PARAMETER_ENABLED)
+  public ResponseEntity<StreamingResponseBody> streamClassifications(
+      @RequestParam(required = false) String[] domain) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Entry to streamClassifications(domain= {})", Arrays.toString(domain));
+    }
+    ClassificationQuery query = classificationService.createClassificationQuery();
+    if (domain != null) {
+      query.domainIn(domain);
+    }
+
+    ResponseEntity<StreamingResponseBody> response =
+        streamingWriter.stream(
+            "classifications",
+            action ->
+                StreamingRepresentationModelWriter.loadInChunks(
+                    ids -> query.forEach(summary -> ids.accept(summary.getId())),
+                    classificationService::getClassifications,
+                    Classification::getId,
+                    classification -> action.accept(assembler.toModel(classification))));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from streamClassifications(), returning {}", response);
+    }
+
+    return response;
+  }
+
   /**
    * This endpoint imports all Classifications. Existing Classifications will not be removed.
    * Existing Classifications with the same key/domain will be overridden.
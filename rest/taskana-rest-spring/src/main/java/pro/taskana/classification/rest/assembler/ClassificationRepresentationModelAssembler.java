@@ -1,23 +1,21 @@
 package pro.taskana.classification.rest.assembler;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.classification.api.ClassificationCustomField;
 import pro.taskana.classification.api.ClassificationService;
-import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.internal.models.ClassificationImpl;
-import pro.taskana.classification.rest.ClassificationController;
 import pro.taskana.classification.rest.models.ClassificationCollectionRepresentationModel;
 import pro.taskana.classification.rest.models.ClassificationRepresentationModel;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.RestEndpoints;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
+import pro.taskana.common.rest.assembler.ItemLinks;
+import pro.taskana.common.rest.assembler.LinkTemplate;
 
 /**
  * Transforms {@link Classification} to its resource counterpart {@link
@@ -30,25 +28,25 @@ public class ClassificationRepresentationModelAssembler
         ClassificationRepresentationModel,
         ClassificationCollectionRepresentationModel> {
 
+  private static final LinkTemplate CLASSIFICATION_LINK =
+      LinkTemplate.of(RestEndpoints.URL_CLASSIFICATIONS_ID);
+
   final ClassificationService classificationService;
+  private final ItemLinks itemLinks;
 
   @Autowired
-  public ClassificationRepresentationModelAssembler(ClassificationService classificationService) {
+  public ClassificationRepresentationModelAssembler(
+      ClassificationService classificationService, ItemLinks itemLinks) {
     this.classificationService = classificationService;
+    this.itemLinks = itemLinks;
   }
 
   @NonNull
   @Override
   public ClassificationRepresentationModel toModel(@NonNull Classification classification) {
     ClassificationRepresentationModel repModel = toModelWithoutLinks(classification);
-    try {
-      repModel.add(
-          WebMvcLinkBuilder.linkTo(
-                  methodOn(ClassificationController.class)
-                      .getClassification(classification.getId()))
-              .withSelfRel());
-    } catch (ClassificationNotFoundException e) {
-      throw new SystemException("caught unexpected Exception.", e.getCause());
+    if (itemLinks.isEnabled()) {
+      repModel.add(CLASSIFICATION_LINK.toLink(IanaLinkRelations.SELF, classification.getId()));
     }
     return repModel;
   }
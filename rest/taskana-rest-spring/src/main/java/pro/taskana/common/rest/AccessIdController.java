@@ -16,6 +16,7 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.ldap.LdapClient;
+import pro.taskana.common.rest.ldap.LdapDirectoryMirror;
 import pro.taskana.common.rest.models.AccessIdRepresentationModel;
 
 /** Controller for Access Id validation. */
@@ -26,16 +27,20 @@ public class AccessIdController {
   private static final Logger LOGGER = LoggerFactory.getLogger(AccessIdController.class);
 
   private final LdapClient ldapClient;
+  private final LdapDirectoryMirror ldapMirror;
   private final TaskanaEngine taskanaEngine;
 
   @Autowired
-  public AccessIdController(LdapClient ldapClient, TaskanaEngine taskanaEngine) {
+  public AccessIdController(
+      LdapClient ldapClient, LdapDirectoryMirror ldapMirror, TaskanaEngine taskanaEngine) {
     this.ldapClient = ldapClient;
+    this.ldapMirror = ldapMirror;
     this.taskanaEngine = taskanaEngine;
   }
 
   /**
-   * This endpoint searches a provided access Id in the configured ldap.
+   * This endpoint searches a provided access Id in the configured ldap. The search is answered by
+   * the ldap mirror if it is enabled.
    *
    * @title Search for Access Id (users and groups)
    * @param searchFor the Access Id which should be searched for.
@@ -53,7 +58,10 @@ public class AccessIdController {
 
     taskanaEngine.checkRoleMembership(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN);
 
-    List<AccessIdRepresentationModel> accessIdUsers = ldapClient.searchUsersAndGroups(searchFor);
+    List<AccessIdRepresentationModel> accessIdUsers =
+        ldapMirror.isActive()
+            ? ldapMirror.searchUsersAndGroups(searchFor)
+            : ldapClient.searchUsersAndGroups(searchFor);
     ResponseEntity<List<AccessIdRepresentationModel>> response = ResponseEntity.ok(accessIdUsers);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Exit from validateAccessIds(), returning {}", response);
@@ -80,12 +88,18 @@ public class AccessIdController {
 
     taskanaEngine.checkRoleMembership(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN);
 
-    if (!ldapClient.validateAccessId(accessId)) {
-      throw new InvalidArgumentException("The accessId is invalid");
+    List<AccessIdRepresentationModel> accessIds;
+    if (ldapMirror.isActive()) {
+      if (!ldapMirror.validateAccessId(accessId)) {
+        throw new InvalidArgumentException("The accessId is invalid");
+      }
+      accessIds = ldapMirror.searchGroupsAccessIdIsMemberOf(accessId);
+    } else {
+      if (!ldapClient.validateAccessId(accessId)) {
+        throw new InvalidArgumentException("The accessId is invalid");
+      }
+      accessIds = ldapClient.searchGroupsAccessIdIsMemberOf(accessId);
     }
-
-    List<AccessIdRepresentationModel> accessIds =
-        ldapClient.searchGroupsAccessIdIsMemberOf(accessId);
     ResponseEntity<List<AccessIdRepresentationModel>> response = ResponseEntity.ok(accessIds);
 
     if (LOGGER.isDebugEnabled()) {
@@ -0,0 +1,88 @@
+package pro.taskana.common.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A column of the compact response format written by {@link
+ * StreamingRepresentationModelWriter#streamCompact}.
+ *
+ * <p>Strings, numbers and booleans are written as they are, every other value is written with its
+ * string representation. Columns with few distinct values, e.g. states or keys, can be dictionary
+ * encoded: the first occurrence of a value is written as string, every further occurrence as the
+ * index of its first occurrence within this column.
+ *
+ * @param <T> the type of the elements whose values are written
+ */
+public final class CompactColumn<T> {
+
+  private final String name;
+  private final Function<? super T, ?> valueExtractor;
+  private final boolean dictionaryEncoded;
+
+  private CompactColumn(
+      String name, Function<? super T, ?> valueExtractor, boolean dictionaryEncoded) {
+    this.name = name;
+    this.valueExtractor = valueExtractor;
+    this.dictionaryEncoded = dictionaryEncoded;
+  }
+
+  public static <T> CompactColumn<T> of(String name, Function<? super T, ?> valueExtractor) {
+    return new CompactColumn<>(name, valueExtractor, false);
+  }
+
+  public static <T> CompactColumn<T> dictionary(
+      String name, Function<? super T, ?> valueExtractor) {
+    return new CompactColumn<>(name, valueExtractor, true);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public boolean isDictionaryEncoded() {
+    return dictionaryEncoded;
+  }
+
+  Writer<T> newWriter() {
+    return new Writer<>(this);
+  }
+
+  /** Writes the values of one column within one response. Holds the dictionary of the column. */
+  static final class Writer<T> {
+
+    private final CompactColumn<T> column;
+    private final Map<String, Integer> dictionary;
+
+    private Writer(CompactColumn<T> column) {
+      this.column = column;
+      this.dictionary = column.dictionaryEncoded ? new HashMap<>() : null;
+    }
+
+    void write(JsonGenerator generator, T element) throws IOException {
+      Object value = column.valueExtractor.apply(element);
+      if (value == null) {
+        generator.writeNull();
+      } else if (dictionary != null) {
+        String string = value.toString();
+        Integer index = dictionary.putIfAbsent(string, dictionary.size());
+        if (index == null) {
+          generator.writeString(string);
+        } else {
+          generator.writeNumber(index);
+        }
+      } else if (value instanceof Integer) {
+        generator.writeNumber((Integer) value);
+      } else if (value instanceof Long) {
+        generator.writeNumber((Long) value);
+      } else if (value instanceof Boolean) {
+        generator.writeBoolean((Boolean) value);
+      } else {
+        generator.writeString(value.toString());
+      }
+    }
+  }
+}
@@ -10,12 +10,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.SpringHandlerInstantiator;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.BulkOperationExecutor;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.workbasket.api.WorkbasketService;
@@ -64,6 +67,16 @@ public class RestConfiguration {
     return new SpringTaskanaEngineConfiguration(dataSource, true, true, schemaName);
   }
 
+  // every chunk of a bulk operation is processed in its own transaction on a pooled thread
+  @Bean
+  public BulkOperationExecutor bulkOperationExecutor(
+      TaskanaEngineConfiguration taskanaEngineConfiguration,
+      PlatformTransactionManager transactionManager) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    return new BulkOperationExecutor(
+        taskanaEngineConfiguration, action -> transactionTemplate.execute(status -> action.call()));
+  }
+
   // Needed for injection into jackson deserializer.
   @Bean
   public HandlerInstantiator handlerInstantiator(ApplicationContext context) {
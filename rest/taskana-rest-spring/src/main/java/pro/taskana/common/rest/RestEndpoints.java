@@ -41,6 +41,10 @@ public final class RestEndpoints {
   // task endpoints
   public static final String URL_TASKS = API_V1 + "tasks";
   public static final String URL_TASKS_ID = API_V1 + "tasks/{taskId}";
+  public static final String URL_TASKS_CHANGES = API_V1 + "tasks/changes";
+  public static final String URL_TASKS_EVENTS = API_V1 + "tasks/events";
+  public static final String URL_TASKS_CLAIM = API_V1 + "tasks/claim";
+  public static final String URL_TASKS_CANCEL_CLAIM = API_V1 + "tasks/cancel-claim";
   public static final String URL_TASKS_ID_CLAIM = API_V1 + "tasks/{taskId}/claim";
   public static final String URL_TASKS_ID_SELECT_AND_CLAIM = API_V1 + "tasks/select-and-claim";
   public static final String URL_TASKS_ID_COMPLETE = API_V1 + "tasks/{taskId}/complete";
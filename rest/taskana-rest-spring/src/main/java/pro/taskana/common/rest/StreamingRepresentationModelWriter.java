@@ -0,0 +1,312 @@
+package pro.taskana.common.rest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.security.auth.Subject;
+import javax.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Writes collection representation models as a stream of JSON tokens. The elements are serialized
+ * one by one while they are read from the database. Therefore the memory consumption of a response
+ * does not depend on the size of the result and the first bytes are sent while the query is still
+ * running.
+ *
+ * <p>The written JSON has the same layout as the corresponding {@link
+ * pro.taskana.common.rest.models.CollectionRepresentationModel CollectionRepresentationModel}.
+ * Alternatively the elements can be written in the {@link #COMPACT_JSON compact format}.
+ */
+@Component
+public class StreamingRepresentationModelWriter {
+
+  /** Request parameter which switches an endpoint into the streaming response mode. */
+  public static final String STREAM_PARAMETER = "stream";
+
+  /** Request mapping condition for endpoints which are in streaming response mode. */
+  public static final String STREAM_PARAMETER_ENABLED = STREAM_PARAMETER + "=true";
+
+  /**
+   * Media type of the compact response format. Instead of one object per element it contains the
+   * names of the columns once and one array of values per element:
+   *
+   * <pre>
+   * {
+   *   "columns" : [ { "name" : "taskId", "dictionary" : false }, ... ],
+   *   "rows" : [ [ "TKI:01", ... ], ... ],
+   *   "_links" : { "self" : { "href" : "..." } }
+   * }
+   * </pre>
+   *
+   * <p>The values of dictionary columns are encoded as described in {@link CompactColumn}. The
+   * media type has no <code>+json</code> suffix on purpose. Otherwise it would be selected for
+   * every client which accepts <code>application/*+json</code>.
+   */
+  public static final String COMPACT_JSON_VALUE = "application/vnd.taskana.compact-json";
+
+  public static final MediaType COMPACT_JSON = MediaType.valueOf(COMPACT_JSON_VALUE);
+
+  private static final JsonFactory COMPACT_JSON_FACTORY = new JsonFactory();
+  private static final int LOAD_CHUNK_SIZE = 100;
+
+  private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+  private final TransactionTemplate transactionTemplate;
+  private ObjectWriter halWriter;
+
+  @Autowired
+  public StreamingRepresentationModelWriter(
+      ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter,
+      PlatformTransactionManager transactionManager) {
+    this.handlerAdapter = handlerAdapter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Creates a streaming response which contains all representation models passed by the given
+   * producer. The producer is executed within a read-only transaction after the controller method
+   * has returned, but with the security context of the current request.
+   *
+   * @param contentProperty the name of the JSON property which contains the elements
+   * @param contentProducer passes every element of the collection to the given consumer
+   * @return the streaming response
+   */
+  public ResponseEntity<StreamingResponseBody> stream(
+      String contentProperty, Consumer<Consumer<RepresentationModel<?>>> contentProducer) {
+    String selfLink = ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+    return streamingResponse(
+        MediaTypes.HAL_JSON,
+        outputStream -> write(outputStream, contentProperty, selfLink, contentProducer));
+  }
+
+  /**
+   * Creates a streaming response in the {@link #COMPACT_JSON compact format}. The values of every
+   * element passed by the given producer are written directly, no representation models are
+   * created. The producer is executed like in {@link #stream}.
+   *
+   * @param columns the columns which are written for every element
+   * @param contentProducer passes every element of the collection to the given consumer
+   * @param <T> the type of the elements
+   * @return the streaming response
+   */
+  public <T> ResponseEntity<StreamingResponseBody> streamCompact(
+      List<CompactColumn<T>> columns, Consumer<Consumer<T>> contentProducer) {
+    String selfLink = ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+    return streamingResponse(
+        COMPACT_JSON,
+        outputStream -> writeCompact(outputStream, columns, selfLink, contentProducer));
+  }
+
+  /**
+   * Loads the elements whose ids are passed by the given producer in chunks and passes them in the
+   * order of their ids to the given consumer. Thus an export which needs more than the summaries
+   * of a query issues one additional query per chunk instead of one per element.
+   *
+   * @param idProducer passes the id of every element to the given consumer, e.g. a query cursor
+   * @param loader loads the elements with the given ids. Missing elements are skipped.
+   * @param idGetter returns the id of a loaded element
+   * @param consumer receives every loaded element
+   * @param <T> the type of the elements
+   */
+  public static <T> void loadInChunks(
+      Consumer<Consumer<String>> idProducer,
+      Function<List<String>, List<T>> loader,
+      Function<T, String> idGetter,
+      Consumer<? super T> consumer) {
+    List<String> ids = new ArrayList<>(LOAD_CHUNK_SIZE);
+    idProducer.accept(
+        id -> {
+          ids.add(id);
+          if (ids.size() == LOAD_CHUNK_SIZE) {
+            loadChunk(ids, loader, idGetter, consumer);
+            ids.clear();
+          }
+        });
+    loadChunk(ids, loader, idGetter, consumer);
+  }
+
+  private static <T> void loadChunk(
+      List<String> ids,
+      Function<List<String>, List<T>> loader,
+      Function<T, String> idGetter,
+      Consumer<? super T> consumer) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    Map<String, T> elementsById =
+        loader.apply(ids).stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    ids.stream().map(elementsById::get).filter(Objects::nonNull).forEach(consumer);
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamingResponse(
+      MediaType mediaType, Consumer<OutputStream> writer) {
+    // the attributes of the original request are marked as completed once the controller method
+    // returns. Hence the response body is written with new attributes for the same request.
+    HttpServletRequest request =
+        ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    Subject subject = Subject.getSubject(AccessController.getContext());
+
+    StreamingResponseBody body =
+        outputStream -> {
+          try {
+            runInRequestContext(
+                new ServletRequestAttributes(request),
+                subject,
+                () ->
+                    transactionTemplate.executeWithoutResult(
+                        status -> writer.accept(outputStream)));
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+        };
+    return ResponseEntity.ok().contentType(mediaType).body(body);
+  }
+
+  private void write(
+      OutputStream outputStream,
+      String contentProperty,
+      String selfLink,
+      Consumer<Consumer<RepresentationModel<?>>> contentProducer) {
+    ObjectWriter writer = getHalWriter();
+    try (JsonGenerator generator =
+        writer
+            .getFactory()
+            .createGenerator(outputStream)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart(contentProperty);
+      contentProducer.accept(
+          element -> {
+            try {
+              writer.writeValue(generator, element);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      generator.writeEndArray();
+      writeSelfLink(generator, selfLink);
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private <T> void writeCompact(
+      OutputStream outputStream,
+      List<CompactColumn<T>> columns,
+      String selfLink,
+      Consumer<Consumer<T>> contentProducer) {
+    try (JsonGenerator generator =
+        COMPACT_JSON_FACTORY
+            .createGenerator(outputStream)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("columns");
+      List<CompactColumn.Writer<T>> columnWriters = new ArrayList<>(columns.size());
+      for (CompactColumn<T> column : columns) {
+        generator.writeStartObject();
+        generator.writeStringField("name", column.getName());
+        generator.writeBooleanField("dictionary", column.isDictionaryEncoded());
+        generator.writeEndObject();
+        columnWriters.add(column.newWriter());
+      }
+      generator.writeEndArray();
+      generator.writeArrayFieldStart("rows");
+      contentProducer.accept(
+          element -> {
+            try {
+              generator.writeStartArray();
+              for (CompactColumn.Writer<T> columnWriter : columnWriters) {
+                columnWriter.write(generator, element);
+              }
+              generator.writeEndArray();
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+      generator.writeEndArray();
+      writeSelfLink(generator, selfLink);
+      generator.writeEndObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeSelfLink(JsonGenerator generator, String selfLink) throws IOException {
+    generator.writeObjectFieldStart("_links");
+    generator.writeObjectFieldStart("self");
+    generator.writeStringField("href", selfLink);
+    generator.writeEndObject();
+    generator.writeEndObject();
+  }
+
+  private void runInRequestContext(
+      RequestAttributes requestAttributes, Subject subject, Runnable runnable) {
+    RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    try {
+      if (subject == null) {
+        runnable.run();
+      } else {
+        Subject.doAs(
+            subject,
+            (PrivilegedAction<Void>)
+                () -> {
+                  runnable.run();
+                  return null;
+                });
+      }
+    } finally {
+      RequestContextHolder.setRequestAttributes(previousAttributes);
+    }
+  }
+
+  // the HAL specific ObjectMapper is only configured within the message converters of spring mvc.
+  // Reusing it ensures that streamed and regular responses are rendered identically.
+  private ObjectWriter getHalWriter() {
+    if (halWriter == null) {
+      ObjectMapper halMapper =
+          handlerAdapter.getObject().getMessageConverters().stream()
+              .filter(AbstractJackson2HttpMessageConverter.class::isInstance)
+              .map(AbstractJackson2HttpMessageConverter.class::cast)
+              .filter(c -> c.canWrite(RepresentationModel.class, MediaTypes.HAL_JSON))
+              .findFirst()
+              .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+              .orElseThrow(
+                  () -> new SystemException("No HAL message converter is configured."));
+      halWriter = halMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+    return halWriter;
+  }
+}
@@ -0,0 +1,25 @@
+package pro.taskana.common.rest.assembler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether the assemblers add links to every single item of a response.
+ *
+ * <p>Bulk clients which only read the data of large pages can set <code>
+ * taskana.rest.itemLinks.enabled=false</code> to save building and serializing these links. The
+ * links of the page itself are not affected.
+ */
+@Component
+public class ItemLinks {
+
+  private final boolean enabled;
+
+  public ItemLinks(@Value("${taskana.rest.itemLinks.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+}
@@ -0,0 +1,91 @@
+package pro.taskana.common.rest.assembler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * A precompiled link to a controller mapping, e.g. {@link
+ * pro.taskana.common.rest.RestEndpoints#URL_TASKS_ID}.
+ *
+ * <p>{@link org.springframework.hateoas.server.mvc.WebMvcLinkBuilder#methodOn} creates a proxy and
+ * resolves the request mapping reflectively for every link. A LinkTemplate splits the mapping
+ * into its literal parts and variables once, so that expanding it for an item only concatenates
+ * strings. The base URI of the current request is resolved once per request.
+ *
+ * <p>Without a current request the links are relative, just like the ones built by {@link
+ * org.springframework.hateoas.server.mvc.WebMvcLinkBuilder}.
+ */
+public final class LinkTemplate {
+
+  private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+  private final String pathTemplate;
+  private final String[] literals;
+
+  private LinkTemplate(String pathTemplate) {
+    this.pathTemplate = pathTemplate;
+    List<String> parts = new ArrayList<>();
+    int start = 0;
+    int open = pathTemplate.indexOf('{');
+    while (open >= 0) {
+      int close = pathTemplate.indexOf('}', open);
+      if (close < 0) {
+        throw new IllegalArgumentException("Unclosed variable in path template " + pathTemplate);
+      }
+      parts.add(pathTemplate.substring(start, open));
+      start = close + 1;
+      open = pathTemplate.indexOf('{', start);
+    }
+    parts.add(pathTemplate.substring(start));
+    literals = parts.toArray(new String[0]);
+  }
+
+  public static LinkTemplate of(String pathTemplate) {
+    return new LinkTemplate(pathTemplate);
+  }
+
+  public Link toLink(LinkRelation relation, Object... values) {
+    return Link.of(expand(values), relation);
+  }
+
+  public String expand(Object... values) {
+    if (values.length != literals.length - 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Path template %s expects %d values, but got %d",
+              pathTemplate, literals.length - 1, values.length));
+    }
+    StringBuilder href = new StringBuilder(currentBaseUri()).append(literals[0]);
+    for (int i = 0; i < values.length; i++) {
+      href.append(UriUtils.encodePathSegment(String.valueOf(values[i]), StandardCharsets.UTF_8))
+          .append(literals[i + 1]);
+    }
+    return href.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "LinkTemplate [pathTemplate=" + pathTemplate + "]";
+  }
+
+  private static String currentBaseUri() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return "";
+    }
+    String baseUri =
+        (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (baseUri == null) {
+      baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+      attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+    }
+    return baseUri;
+  }
+}
@@ -424,7 +424,7 @@ public class LdapClient {
     return dn;
   }
 
-  private String getUserFullnameAttribute() {
+  String getUserFullnameAttribute() {
     return LdapSettings.TASKANA_LDAP_USER_FULLNAME_ATTRIBUTE.getValueFromEnv(env);
   }
 
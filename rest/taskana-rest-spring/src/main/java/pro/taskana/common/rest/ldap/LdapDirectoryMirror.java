@@ -0,0 +1,502 @@
+package pro.taskana.common.rest.ldap;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.naming.directory.SearchControls;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
+import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
+import org.springframework.ldap.support.LdapNameBuilder;
+import org.springframework.stereotype.Component;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.models.AccessIdRepresentationModel;
+
+/**
+ * In-memory mirror of the users and groups of the LDAP directory. The mirror answers the access id
+ * searches of the {@link LdapClient} without contacting the directory server.
+ *
+ * <p>The mirror is only active if <code>taskana.ldap.mirror.enabled</code> is set. It is loaded
+ * completely on startup and every <code>taskana.ldap.mirror.fullSyncIntervalInSeconds</code>. In
+ * between, only the entries whose <code>modifyTimestamp</code> changed are read every <code>
+ * taskana.ldap.mirror.refreshIntervalInSeconds</code>. Deleted or renamed entries are therefore
+ * only removed by the next full synchronization.
+ */
+@Component
+public class LdapDirectoryMirror {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LdapDirectoryMirror.class);
+  private static final String CN = "cn";
+  private static final String MODIFY_TIMESTAMP = "modifyTimestamp";
+  private static final int PAGE_SIZE = 500;
+  private static final int TRIGRAM_LENGTH = 3;
+  // tolerates clock skew between TASKANA and the directory server for incremental updates
+  private static final Duration MODIFY_TIMESTAMP_OVERLAP = Duration.ofMinutes(1);
+  private static final DateTimeFormatter GENERALIZED_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final LdapClient ldapClient;
+  private final LdapTemplate ldapTemplate;
+  private final boolean enabled;
+  private final Duration refreshInterval;
+  private final Duration fullSyncInterval;
+  private volatile Snapshot snapshot;
+  private Instant lastSync;
+  private Instant lastFullSync;
+  private ScheduledExecutorService scheduler;
+
+  @Autowired
+  public LdapDirectoryMirror(
+      LdapClient ldapClient,
+      LdapTemplate ldapTemplate,
+      @Value("${taskana.ldap.mirror.enabled:false}") boolean enabled,
+      @Value("${taskana.ldap.mirror.refreshIntervalInSeconds:300}") long refreshIntervalInSeconds,
+      @Value("${taskana.ldap.mirror.fullSyncIntervalInSeconds:86400}")
+          long fullSyncIntervalInSeconds) {
+    this.ldapClient = ldapClient;
+    this.ldapTemplate = ldapTemplate;
+    this.enabled = enabled;
+    this.refreshInterval = Duration.ofSeconds(refreshIntervalInSeconds);
+    this.fullSyncInterval = Duration.ofSeconds(fullSyncIntervalInSeconds);
+  }
+
+  /**
+   * Returns whether the mirror is enabled and has been loaded at least once.
+   *
+   * @return true if the searches can be answered by the mirror
+   */
+  public boolean isActive() {
+    return enabled && snapshot != null;
+  }
+
+  /**
+   * Search the mirror for matching users or groups. The search matches the same entries as {@link
+   * LdapClient#searchUsersAndGroups(String)}.
+   *
+   * @param name lookup string for names or groups
+   * @return a list of AccessIdResources sorted by AccessId and limited to
+   *     maxNumberOfReturnedAccessIds
+   * @throws InvalidArgumentException if input is shorter than minSearchForLength
+   */
+  public List<AccessIdRepresentationModel> searchUsersAndGroups(final String name)
+      throws InvalidArgumentException {
+    LOGGER.debug("entry to searchUsersAndGroups(name = {})", name);
+    ldapClient.testMinSearchForLength(name);
+    Snapshot currentSnapshot = getSnapshotOrFail();
+
+    List<AccessIdRepresentationModel> accessIds;
+    if (ldapClient.nameIsDn(name)) {
+      DirectoryEntry entry = currentSnapshot.entriesByDn.get(normalizeDn(name));
+      accessIds =
+          entry == null
+              ? new ArrayList<>()
+              : new ArrayList<>(Collections.singletonList(entry.toAccessId()));
+    } else {
+      accessIds = currentSnapshot.search(name);
+    }
+    ldapClient.sortListOfAccessIdResources(accessIds);
+    List<AccessIdRepresentationModel> result = ldapClient.getFirstPageOfaResultList(accessIds);
+    LOGGER.debug(
+        "exit from searchUsersAndGroups(name = {}). Returning {} users and groups: {}",
+        name,
+        accessIds.size(),
+        result);
+    return result;
+  }
+
+  /**
+   * Returns the groups the given access id is a direct member of. The access id is either the id
+   * of a user or the DN of a group.
+   *
+   * @param accessId the access id whose groups are returned
+   * @return the groups of the access id sorted by their AccessId
+   * @throws InvalidArgumentException if input is shorter than minSearchForLength
+   */
+  public List<AccessIdRepresentationModel> searchGroupsAccessIdIsMemberOf(final String accessId)
+      throws InvalidArgumentException {
+    LOGGER.debug("entry to searchGroupsAccessIdIsMemberOf(name = {}).", accessId);
+    ldapClient.testMinSearchForLength(accessId);
+    Snapshot currentSnapshot = getSnapshotOrFail();
+
+    String userDn =
+        LdapNameBuilder.newInstance()
+            .add(ldapClient.getBaseDn())
+            .add(ldapClient.getUserSearchBase())
+            .add("uid", accessId)
+            .build()
+            .toString();
+    List<AccessIdRepresentationModel> accessIds =
+        currentSnapshot.getGroupsOfMembers(normalizeDn(accessId), normalizeDn(userDn));
+    ldapClient.sortListOfAccessIdResources(accessIds);
+    LOGGER.debug(
+        "exit from searchGroupsAccessIdIsMemberOf. Retrieved the following accessIds: {}.",
+        accessIds);
+    return accessIds;
+  }
+
+  /**
+   * Validates a given AccessId / name against the mirror.
+   *
+   * @param name lookup string for names or groups
+   * @return whether the given name is valid or not
+   */
+  public boolean validateAccessId(final String name) {
+    LOGGER.debug("entry to validateAccessId(name = {})", name);
+    Snapshot currentSnapshot = getSnapshotOrFail();
+    if (ldapClient.nameIsDn(name)) {
+      return currentSnapshot.entriesByDn.containsKey(normalizeDn(name));
+    }
+    return currentSnapshot.usersByAccessId.containsKey(name.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Synchronizes the mirror with the directory. All entries are read if the mirror was not loaded
+   * yet or the last full synchronization is older than the full synchronization interval.
+   * Otherwise only the entries modified since the last synchronization are read.
+   */
+  public synchronized void refresh() {
+    Instant start = Instant.now();
+    boolean fullSync = snapshot == null || !lastFullSync.plus(fullSyncInterval).isAfter(start);
+    Map<String, DirectoryEntry> users = new HashMap<>();
+    Map<String, DirectoryEntry> groups = new HashMap<>();
+    Filter modifiedSince = null;
+    if (!fullSync) {
+      users.putAll(snapshot.users);
+      groups.putAll(snapshot.groups);
+      String timestamp = GENERALIZED_TIME.format(lastSync.minus(MODIFY_TIMESTAMP_OVERLAP));
+      modifiedSince = new GreaterThanOrEqualsFilter(MODIFY_TIMESTAMP, timestamp);
+    }
+
+    List<DirectoryEntry> modifiedUsers =
+        searchAll(
+            ldapClient.getUserSearchBase(),
+            createFilter(
+                ldapClient.getUserSearchFilterName(),
+                ldapClient.getUserSearchFilterValue(),
+                modifiedSince),
+            getUserAttributesToReturn(),
+            new UserEntryMapper());
+    List<DirectoryEntry> modifiedGroups =
+        searchAll(
+            ldapClient.getGroupSearchBase(),
+            createFilter(
+                ldapClient.getGroupSearchFilterName(),
+                ldapClient.getGroupSearchFilterValue(),
+                modifiedSince),
+            getGroupAttributesToReturn(),
+            new GroupEntryMapper());
+    modifiedUsers.forEach(user -> users.put(user.dn, user));
+    modifiedGroups.forEach(group -> groups.put(group.dn, group));
+
+    snapshot = new Snapshot(users, groups);
+    lastSync = start;
+    if (fullSync) {
+      lastFullSync = start;
+    }
+    LOGGER.info(
+        "{} synchronization of the LDAP mirror read {} users and {} groups in {} ms. "
+            + "The mirror contains {} users and {} groups.",
+        fullSync ? "Full" : "Incremental",
+        modifiedUsers.size(),
+        modifiedGroups.size(),
+        Duration.between(start, Instant.now()).toMillis(),
+        users.size(),
+        groups.size());
+  }
+
+  @PostConstruct
+  void init() {
+    if (!enabled) {
+      return;
+    }
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-ldap-mirror");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        this::refreshAndLogErrors, 0, refreshInterval.getSeconds(), TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  static String normalizeDn(String dn) {
+    return dn.trim().replaceAll("\\s*([,=+])\\s*", "$1").toLowerCase(Locale.ROOT);
+  }
+
+  private void refreshAndLogErrors() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      // the searches fall back to the directory until the mirror could be loaded
+      LOGGER.warn("Could not synchronize the LDAP mirror.", e);
+    }
+  }
+
+  private Snapshot getSnapshotOrFail() {
+    Snapshot currentSnapshot = snapshot;
+    if (!enabled || currentSnapshot == null) {
+      throw new IllegalStateException("The LDAP mirror is not active.");
+    }
+    return currentSnapshot;
+  }
+
+  private List<DirectoryEntry> searchAll(
+      String base,
+      Filter filter,
+      String[] attributes,
+      AbstractContextMapper<DirectoryEntry> mapper) {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(attributes);
+    // the paged results control requires all pages to be read with the same connection
+    return SingleContextSource.doWithSingleContext(
+        ldapTemplate.getContextSource(),
+        operations -> {
+          PagedResultsDirContextProcessor processor =
+              new PagedResultsDirContextProcessor(PAGE_SIZE);
+          List<DirectoryEntry> entries = new ArrayList<>();
+          do {
+            entries.addAll(
+                operations.search(base, filter.encode(), searchControls, mapper, processor));
+          } while (processor.hasMore());
+          return entries;
+        });
+  }
+
+  private Filter createFilter(String filterName, String filterValue, Filter modifiedSince) {
+    AndFilter andFilter = new AndFilter();
+    andFilter.and(new EqualsFilter(filterName, filterValue));
+    if (modifiedSince != null) {
+      andFilter.and(modifiedSince);
+    }
+    return andFilter;
+  }
+
+  private String[] getUserAttributesToReturn() {
+    return new String[] {
+      ldapClient.getUserFirstnameAttribute(),
+      ldapClient.getUserLastnameAttribute(),
+      ldapClient.getUserFullnameAttribute(),
+      ldapClient.getUserIdAttribute()
+    };
+  }
+
+  private String[] getGroupAttributesToReturn() {
+    return Stream.concat(
+            Arrays.stream(ldapClient.getLookUpGroupAttributesToReturn()),
+            Stream.of(ldapClient.getGroupsOfUser()))
+        .distinct()
+        .toArray(String[]::new);
+  }
+
+  private static List<String> toSearchableValues(String... values) {
+    return Arrays.stream(values)
+        .filter(value -> value != null)
+        .map(value -> value.toLowerCase(Locale.ROOT))
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  /** A user or group of the directory. */
+  private static final class DirectoryEntry {
+
+    private final String dn;
+    private final String accessId;
+    private final String name;
+    private final List<String> searchableValues;
+    private final List<String> members;
+
+    private DirectoryEntry(
+        String dn,
+        String accessId,
+        String name,
+        List<String> searchableValues,
+        List<String> members) {
+      this.dn = dn;
+      this.accessId = accessId;
+      this.name = name;
+      this.searchableValues = searchableValues;
+      this.members = members;
+    }
+
+    // same semantics as the WhitespaceWildcardsFilter: one value contains all tokens in order
+    boolean matches(String[] tokens) {
+      for (String value : searchableValues) {
+        int position = 0;
+        for (String token : tokens) {
+          position = value.indexOf(token, position);
+          if (position < 0) {
+            break;
+          }
+          position += token.length();
+        }
+        if (position >= 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    AccessIdRepresentationModel toAccessId() {
+      return new AccessIdRepresentationModel(name, accessId);
+    }
+  }
+
+  /**
+   * An immutable state of the mirror. Besides the entries it holds a trigram index over the
+   * searchable values of all entries, which narrows the entries that have to be matched against a
+   * search string.
+   */
+  private static final class Snapshot {
+
+    private final Map<String, DirectoryEntry> users;
+    private final Map<String, DirectoryEntry> groups;
+    private final List<DirectoryEntry> entries = new ArrayList<>();
+    private final Map<String, DirectoryEntry> entriesByDn = new HashMap<>();
+    private final Map<String, DirectoryEntry> usersByAccessId = new HashMap<>();
+    private final Map<String, List<DirectoryEntry>> groupsByMember = new HashMap<>();
+    private final Map<String, BitSet> trigramIndex = new HashMap<>();
+
+    private Snapshot(Map<String, DirectoryEntry> users, Map<String, DirectoryEntry> groups) {
+      this.users = users;
+      this.groups = groups;
+      entries.addAll(users.values());
+      entries.addAll(groups.values());
+      for (DirectoryEntry user : users.values()) {
+        if (user.accessId != null) {
+          usersByAccessId.put(user.accessId.toLowerCase(Locale.ROOT), user);
+        }
+      }
+      for (DirectoryEntry group : groups.values()) {
+        group.members.forEach(
+            member -> groupsByMember.computeIfAbsent(member, m -> new ArrayList<>()).add(group));
+      }
+      for (int i = 0; i < entries.size(); i++) {
+        DirectoryEntry entry = entries.get(i);
+        entriesByDn.put(entry.dn, entry);
+        for (String value : entry.searchableValues) {
+          for (int j = 0; j + TRIGRAM_LENGTH <= value.length(); j++) {
+            trigramIndex
+                .computeIfAbsent(value.substring(j, j + TRIGRAM_LENGTH), t -> new BitSet())
+                .set(i);
+          }
+        }
+      }
+    }
+
+    List<AccessIdRepresentationModel> search(String name) {
+      String[] tokens = name.trim().toLowerCase(Locale.ROOT).split("\\s+");
+      BitSet candidates = null;
+      for (String token : tokens) {
+        for (int j = 0; j + TRIGRAM_LENGTH <= token.length(); j++) {
+          BitSet entriesWithTrigram = trigramIndex.get(token.substring(j, j + TRIGRAM_LENGTH));
+          if (entriesWithTrigram == null) {
+            return new ArrayList<>();
+          }
+          if (candidates == null) {
+            candidates = (BitSet) entriesWithTrigram.clone();
+          } else {
+            candidates.and(entriesWithTrigram);
+          }
+        }
+      }
+      if (candidates == null) {
+        // no token is long enough for the index, hence all entries have to be matched
+        candidates = new BitSet(entries.size());
+        candidates.set(0, entries.size());
+      }
+      List<AccessIdRepresentationModel> accessIds = new ArrayList<>();
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+        DirectoryEntry entry = entries.get(i);
+        if (entry.matches(tokens)) {
+          accessIds.add(entry.toAccessId());
+        }
+      }
+      return accessIds;
+    }
+
+    List<AccessIdRepresentationModel> getGroupsOfMembers(String... members) {
+      return Arrays.stream(members)
+          .flatMap(member -> groupsByMember.getOrDefault(member, Collections.emptyList()).stream())
+          .distinct()
+          .map(DirectoryEntry::toAccessId)
+          .collect(Collectors.toList());
+    }
+  }
+
+  /** Context Mapper for user entries. */
+  private class UserEntryMapper extends AbstractContextMapper<DirectoryEntry> {
+
+    @Override
+    protected DirectoryEntry doMapFromContext(DirContextOperations context) {
+      String dn = ldapClient.getDnWithBaseDn(context.getDn().toString());
+      String accessId = context.getStringAttribute(ldapClient.getUserIdAttribute());
+      String firstName = context.getStringAttribute(ldapClient.getUserFirstnameAttribute());
+      String lastName = context.getStringAttribute(ldapClient.getUserLastnameAttribute());
+      String fullName = context.getStringAttribute(ldapClient.getUserFullnameAttribute());
+      return new DirectoryEntry(
+          normalizeDn(dn),
+          accessId,
+          String.format("%s, %s", lastName, firstName),
+          toSearchableValues(firstName, lastName, fullName, accessId),
+          Collections.emptyList());
+    }
+  }
+
+  /** Context Mapper for group entries. */
+  private class GroupEntryMapper extends AbstractContextMapper<DirectoryEntry> {
+
+    @Override
+    protected DirectoryEntry doMapFromContext(DirContextOperations context) {
+      String dn = ldapClient.getDnWithBaseDn(context.getDn().toString());
+      String name = context.getStringAttribute(ldapClient.getGroupNameAttribute());
+      String[] members = context.getStringAttributes(ldapClient.getGroupsOfUser());
+      return new DirectoryEntry(
+          normalizeDn(dn),
+          dn,
+          name,
+          toSearchableValues(name, context.getStringAttribute(CN)),
+          members == null
+              ? Collections.emptyList()
+              : Arrays.stream(members)
+                  .map(LdapDirectoryMirror::normalizeDn)
+                  .distinct()
+                  .collect(Collectors.toList()));
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package pro.taskana.common.rest.models;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+import java.util.Map;
+
+/** EntityModel class for the results of an operation on multiple objects. */
+public class BulkOperationResultsRepresentationModel {
+
+  /** The ids of the objects the operation succeeded for. */
+  private final List<String> succeededIds;
+  /** The errors of the objects the operation failed for, mapped by their ids. */
+  private final Map<String, Error> failedIds;
+
+  @ConstructorProperties({"succeededIds", "failedIds"})
+  public BulkOperationResultsRepresentationModel(
+      List<String> succeededIds, Map<String, Error> failedIds) {
+    this.succeededIds = succeededIds;
+    this.failedIds = failedIds;
+  }
+
+  public List<String> getSucceededIds() {
+    return succeededIds;
+  }
+
+  public Map<String, Error> getFailedIds() {
+    return failedIds;
+  }
+
+  /** The reason why the operation failed for an object. */
+  public static class Error {
+
+    /** The name of the exception. */
+    private final String exception;
+    /** The message of the exception. */
+    private final String message;
+
+    @ConstructorProperties({"exception", "message"})
+    public Error(String exception, String message) {
+      this.exception = exception;
+      this.message = message;
+    }
+
+    public String getException() {
+      return exception;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+  }
+}
@@ -8,6 +8,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
 
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
+
 public class QueryParamsValidator {
 
   private QueryParamsValidator() {
@@ -24,7 +26,10 @@ public class QueryParamsValidator {
                     Optional.ofNullable(field.getDeclaredAnnotation(JsonProperty.class))
                         .map(JsonProperty::value)
                         .orElseGet(field::getName))
-            .collect(Collectors.toSet());
+            .collect(Collectors.toCollection(HashSet::new));
+
+    // the streaming mode is selected by the request mapping itself and is valid for every query
+    allowedParams.add(StreamingRepresentationModelWriter.STREAM_PARAMETER);
 
     Set<String> providedParams = new HashSet<>(request.getParameterMap().keySet());
 
@@ -0,0 +1,444 @@
+package pro.taskana.task.rest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.events.TaskChangeEvent;
+import pro.taskana.task.api.events.TaskChangeListener;
+import pro.taskana.task.api.events.TaskChangeType;
+import pro.taskana.task.rest.models.TaskChangeEventRepresentationModel;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+/**
+ * Pushes the changes of tasks to the clients which subscribed to them with server-sent events, so
+ * that they do not have to poll the task lists.
+ *
+ * <p>The changes of a transaction are collected and only passed to the subscribers after the
+ * transaction was committed. Changes made outside of a Spring transaction are passed by TASKANA
+ * after its session was committed.
+ * A subscriber only receives the changes of tasks in workbaskets it was allowed to read when it
+ * subscribed. Administrators receive all changes.
+ *
+ * <p>The changing threads never wait for the subscribers. The changes are queued per subscriber
+ * and sent by a pool of <code>taskana.rest.taskEvents.senderThreads</code> threads. Multiple
+ * changes of the same task which were not sent yet are combined. If more than <code>
+ * taskana.rest.taskEvents.queueCapacity</code> tasks wait to be sent to a subscriber, its queue is
+ * dropped and a single {@value #OVERFLOW_EVENT} event tells the client to reload its tasks. At
+ * most <code>taskana.rest.taskEvents.maxSubscribers</code> clients can subscribe at the same time.
+ *
+ * <p>Sending an event blocks the sender thread until the client took it. If this takes longer than
+ * <code>taskana.rest.taskEvents.sendTimeoutInSeconds</code>, the client is considered slow: its
+ * subscription is dropped, its sender thread is interrupted and replaced by an additional thread
+ * until the blocked send returns, so that the other subscribers are not stalled.
+ */
+@Component
+public class TaskChangeBroadcaster implements TaskChangeListener {
+
+  public static final String TASK_EVENT = "task";
+  public static final String OVERFLOW_EVENT = "overflow";
+  private static final String SUBSCRIBED_COMMENT = "subscribed";
+  private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeBroadcaster.class);
+
+  private final TaskanaEngine taskanaEngine;
+  private final int queueCapacity;
+  private final int maxSubscribers;
+  private final int senderThreads;
+  private final Duration timeout;
+  private final Duration sendTimeout;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private ThreadPoolExecutor sender;
+  private ScheduledExecutorService slowSubscriberDetector;
+
+  @Autowired
+  public TaskChangeBroadcaster(
+      TaskanaEngine taskanaEngine,
+      @Value("${taskana.rest.taskEvents.queueCapacity:1000}") int queueCapacity,
+      @Value("${taskana.rest.taskEvents.maxSubscribers:1000}") int maxSubscribers,
+      @Value("${taskana.rest.taskEvents.senderThreads:4}") int senderThreads,
+      @Value("${taskana.rest.taskEvents.timeoutInSeconds:1800}") long timeoutInSeconds,
+      @Value("${taskana.rest.taskEvents.sendTimeoutInSeconds:10}") long sendTimeoutInSeconds) {
+    this.taskanaEngine = taskanaEngine;
+    this.queueCapacity = queueCapacity;
+    this.maxSubscribers = maxSubscribers;
+    this.senderThreads = senderThreads;
+    this.timeout = Duration.ofSeconds(timeoutInSeconds);
+    this.sendTimeout = Duration.ofSeconds(sendTimeoutInSeconds);
+  }
+
+  /**
+   * Subscribes the current user to the changes of the tasks in the workbaskets the user can read.
+   * The subscription ends when the client disconnects or the timeout elapses. Clients have to
+   * subscribe again to receive changes of workbaskets they have been granted access to since.
+   *
+   * @return the emitter of the events or an empty Optional if the maximum number of subscribers is
+   *     reached
+   */
+  public Optional<SseEmitter> subscribe() {
+    if (subscribers.size() >= maxSubscribers) {
+      LOGGER.warn("Rejected subscription, since {} clients are subscribed", subscribers.size());
+      return Optional.empty();
+    }
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(emitter, getReadableWorkbasketIds());
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(error -> subscriber.close());
+    try {
+      // commits the response, so that the client knows that the subscription is active
+      emitter.send(SseEmitter.event().comment(SUBSCRIBED_COMMENT));
+    } catch (IOException e) {
+      throw new SystemException("Could not subscribe to the task changes", e);
+    }
+    subscribers.add(subscriber);
+    LOGGER.debug("Added subscriber, {} clients are subscribed", subscribers.size());
+    return Optional.of(emitter);
+  }
+
+  @Override
+  public void onTaskChange(TaskChangeEvent event) {
+    if (subscribers.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatch(Collections.singletonList(event));
+      return;
+    }
+    @SuppressWarnings("unchecked")
+    List<TaskChangeEvent> transactionEvents =
+        (List<TaskChangeEvent>) TransactionSynchronizationManager.getResource(this);
+    if (transactionEvents == null) {
+      List<TaskChangeEvent> events = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(this, events);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              TransactionSynchronizationManager.unbindResourceIfPossible(
+                  TaskChangeBroadcaster.this);
+              if (status == STATUS_COMMITTED) {
+                dispatch(events);
+              }
+            }
+          });
+      transactionEvents = events;
+    }
+    transactionEvents.add(event);
+  }
+
+  @PostConstruct
+  void init() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    sender =
+        new ThreadPoolExecutor(
+            senderThreads,
+            senderThreads,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "taskana-task-events-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    sender.allowCoreThreadTimeOut(true);
+    ScheduledThreadPoolExecutor detector =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "taskana-task-events-watchdog");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long checkIntervalMillis = Math.max(sendTimeout.toMillis() / 2, 100);
+    detector.scheduleWithFixedDelay(
+        this::dropSlowSubscribers, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    slowSubscriberDetector = detector;
+    taskanaEngine.addTaskChangeListener(this);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    taskanaEngine.removeTaskChangeListener(this);
+    if (slowSubscriberDetector != null) {
+      slowSubscriberDetector.shutdownNow();
+    }
+    if (sender != null) {
+      sender.shutdownNow();
+    }
+    for (Subscriber subscriber : subscribers) {
+      subscriber.close();
+      subscriber.emitter.complete();
+    }
+  }
+
+  private Set<String> getReadableWorkbasketIds() {
+    if (taskanaEngine.isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)) {
+      return null;
+    }
+    return taskanaEngine
+        .getWorkbasketService()
+        .createWorkbasketQuery()
+        .callerHasPermission(WorkbasketPermission.READ)
+        .list()
+        .stream()
+        .map(WorkbasketSummary::getId)
+        .collect(Collectors.toSet());
+  }
+
+  private void dropSlowSubscribers() {
+    long now = System.nanoTime();
+    for (Subscriber subscriber : subscribers) {
+      subscriber.dropIfSlow(now);
+    }
+  }
+
+  // Adds a sender thread for each send which is blocked by a dropped subscriber, so that the
+  // other subscribers are still served by the configured number of threads.
+  private void resizeSender(int additionalThreads) {
+    synchronized (sender) {
+      int poolSize = sender.getCorePoolSize() + additionalThreads;
+      if (additionalThreads > 0) {
+        sender.setMaximumPoolSize(poolSize);
+        sender.setCorePoolSize(poolSize);
+      } else {
+        sender.setCorePoolSize(poolSize);
+        sender.setMaximumPoolSize(poolSize);
+      }
+    }
+  }
+
+  private void dispatch(List<TaskChangeEvent> events) {
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.offer(events)) {
+        try {
+          sender.execute(subscriber::drain);
+        } catch (RejectedExecutionException e) {
+          LOGGER.debug("Dropped task changes, since the broadcaster was shut down", e);
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Combines two changes of the same task. The latest change wins, but a pending transfer is
+   * kept, so that the client still learns about the workbasket the task left.
+   *
+   * @param pending the change which was not sent yet
+   * @param latest the change which is queued
+   * @return the change which is sent instead of both changes
+   */
+  private static TaskChangeEvent combine(TaskChangeEvent pending, TaskChangeEvent latest) {
+    if (pending.getType() == TaskChangeType.CREATED
+        && latest.getType() == TaskChangeType.UPDATED) {
+      return new TaskChangeEvent(
+          TaskChangeType.CREATED, latest.getTaskId(), latest.getWorkbasketId());
+    }
+    if (pending.getType() == TaskChangeType.TRANSFERRED
+        && latest.getType() != TaskChangeType.DELETED) {
+      return new TaskChangeEvent(
+          TaskChangeType.TRANSFERRED,
+          latest.getTaskId(),
+          latest.getWorkbasketId(),
+          pending.getPreviousWorkbasketId());
+    }
+    return latest;
+  }
+
+  /**
+   * The queue of the changes which were not sent to a subscriber yet. At most one sender thread
+   * drains the queue of a subscriber at the same time, so that its events keep their order.
+   */
+  private final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final Set<String> readableWorkbasketIds;
+    private final Map<String, TaskChangeEvent> pendingEvents = new LinkedHashMap<>();
+    private final Object sendLock = new Object();
+    private boolean overflowed;
+    private boolean draining;
+    private volatile boolean closed;
+    // the thread which currently sends an event and when it started, guarded by sendLock
+    private Thread sendingThread;
+    private long sendStartedNanos;
+    private boolean slow;
+
+    private Subscriber(SseEmitter emitter, Set<String> readableWorkbasketIds) {
+      this.emitter = emitter;
+      this.readableWorkbasketIds = readableWorkbasketIds;
+    }
+
+    /**
+     * Queues the changes this subscriber may read.
+     *
+     * @param events the changes to queue
+     * @return true if the queue has to be drained by a sender thread
+     */
+    private synchronized boolean offer(List<TaskChangeEvent> events) {
+      if (closed) {
+        return false;
+      }
+      boolean queued = false;
+      for (TaskChangeEvent event : events) {
+        if (isReadable(event) && !overflowed) {
+          pendingEvents.merge(event.getTaskId(), event, TaskChangeBroadcaster::combine);
+          if (pendingEvents.size() > queueCapacity) {
+            pendingEvents.clear();
+            overflowed = true;
+          }
+          queued = true;
+        }
+      }
+      if (!queued || draining) {
+        return false;
+      }
+      draining = true;
+      return true;
+    }
+
+    private void drain() {
+      boolean drained = false;
+      try {
+        drained = sendPendingEvents();
+        if (!drained) {
+          emitter.complete();
+        }
+      } catch (IOException | RuntimeException e) {
+        LOGGER.debug("Removed subscriber, since the task changes could not be sent", e);
+        close();
+        emitter.completeWithError(e);
+      } finally {
+        if (!drained) {
+          synchronized (this) {
+            draining = false;
+          }
+        }
+        boolean replaced;
+        synchronized (sendLock) {
+          replaced = slow;
+          slow = false;
+        }
+        if (replaced) {
+          // clears the interrupt of the dropped send before the thread returns to the pool
+          Thread.interrupted();
+          resizeSender(-1);
+        }
+      }
+    }
+
+    // returns true if all pending events were sent, false if the subscriber was closed meanwhile
+    private boolean sendPendingEvents() throws IOException {
+      List<TaskChangeEvent> events;
+      boolean sendOverflow;
+      while (true) {
+        if (closed) {
+          return false;
+        }
+        synchronized (this) {
+          if (pendingEvents.isEmpty() && !overflowed) {
+            draining = false;
+            return true;
+          }
+          events = new ArrayList<>(pendingEvents.values());
+          pendingEvents.clear();
+          sendOverflow = overflowed;
+          overflowed = false;
+        }
+        if (sendOverflow) {
+          send(SseEmitter.event().name(OVERFLOW_EVENT).data(OVERFLOW_EVENT));
+        }
+        for (TaskChangeEvent event : events) {
+          if (closed) {
+            return false;
+          }
+          send(
+              SseEmitter.event()
+                  .name(TASK_EVENT)
+                  .data(toRepresentationModel(event), MediaType.APPLICATION_JSON));
+        }
+      }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) throws IOException {
+      synchronized (sendLock) {
+        sendingThread = Thread.currentThread();
+        sendStartedNanos = System.nanoTime();
+      }
+      try {
+        emitter.send(event);
+      } finally {
+        synchronized (sendLock) {
+          sendingThread = null;
+        }
+      }
+    }
+
+    private void dropIfSlow(long now) {
+      synchronized (sendLock) {
+        if (sendingThread == null || now - sendStartedNanos < sendTimeout.toNanos()) {
+          return;
+        }
+        LOGGER.debug("Dropped subscriber, since an event was not taken within {}", sendTimeout);
+        close();
+        slow = true;
+        sendingThread.interrupt();
+        resizeSender(1);
+      }
+    }
+
+    private void close() {
+      closed = true;
+      subscribers.remove(this);
+      synchronized (this) {
+        pendingEvents.clear();
+        overflowed = false;
+      }
+    }
+
+    private boolean isReadable(TaskChangeEvent event) {
+      return readableWorkbasketIds == null
+          || readableWorkbasketIds.contains(event.getWorkbasketId())
+          || readableWorkbasketIds.contains(event.getPreviousWorkbasketId());
+    }
+
+    private TaskChangeEventRepresentationModel toRepresentationModel(TaskChangeEvent event) {
+      return new TaskChangeEventRepresentationModel(
+          event.getType(),
+          event.getTaskId(),
+          event.getWorkbasketId(),
+          event.getPreviousWorkbasketId());
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package pro.taskana.task.rest;
 
 import java.beans.ConstructorProperties;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
@@ -10,7 +12,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +23,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.common.api.BaseQuery.SortDirection;
@@ -28,10 +36,13 @@ import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.internal.BulkOperationExecutor;
 import pro.taskana.common.rest.QueryPagingParameter;
 import pro.taskana.common.rest.QuerySortBy;
 import pro.taskana.common.rest.QuerySortParameter;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
 import pro.taskana.common.rest.util.QueryParamsValidator;
 import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskService;
@@ -41,9 +52,11 @@ import pro.taskana.task.api.exceptions.InvalidStateException;
 import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
 import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskChanges;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.rest.assembler.TaskRepresentationModelAssembler;
 import pro.taskana.task.rest.assembler.TaskSummaryRepresentationModelAssembler;
+import pro.taskana.task.rest.models.TaskChangesRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryPagedRepresentationModel;
@@ -59,15 +72,24 @@ public class TaskController {
   private final TaskService taskService;
   private final TaskRepresentationModelAssembler taskRepresentationModelAssembler;
   private final TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler;
+  private final StreamingRepresentationModelWriter streamingWriter;
+  private final TaskChangeBroadcaster taskChangeBroadcaster;
+  private final BulkOperationExecutor bulkOperationExecutor;
 
   @Autowired
   TaskController(
       TaskService taskService,
       TaskRepresentationModelAssembler taskRepresentationModelAssembler,
-      TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler) {
+      TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler,
+      StreamingRepresentationModelWriter streamingWriter,
+      TaskChangeBroadcaster taskChangeBroadcaster,
+      BulkOperationExecutor bulkOperationExecutor) {
     this.taskService = taskService;
     this.taskRepresentationModelAssembler = taskRepresentationModelAssembler;
     this.taskSummaryRepresentationModelAssembler = taskSummaryRepresentationModelAssembler;
+    this.streamingWriter = streamingWriter;
+    this.taskChangeBroadcaster = taskChangeBroadcaster;
+    this.bulkOperationExecutor = bulkOperationExecutor;
   }
 
   /**
@@ -112,6 +134,85 @@ public class TaskController {
     return response;
   }
 
+  /**
+   * This endpoint streams a list of existing Tasks. Filters can be applied. In contrast to the
+   * regular listing the Tasks are written while they are read from the database. This allows
+   * clients to retrieve arbitrarily large results without paging.
+   *
+   * @title Stream a list of all Tasks
+   * @param request the HTTP request
+   * @param filterParameter the filter parameters
+   * @param sortParameter the sort parameters
+   * @return the Tasks with the given filter and sort options.
+   */
+  @GetMapping(
+      path = RestEndpoints.URL_TASKS,
+      params = StreamingRepresentationModelWriter.STREAM_PARAMETER_ENABLED)
+  public ResponseEntity<StreamingResponseBody> streamTasks(
+      HttpServletRequest request,
+      TaskQueryFilterParameter filterParameter,
+      TaskQuerySortParameter sortParameter) {
+
+    QueryParamsValidator.validateParams(
+        request, TaskQueryFilterParameter.class, QuerySortParameter.class);
+
+    TaskQuery query = taskService.createTaskQuery();
+
+    filterParameter.applyToQuery(query);
+    sortParameter.applyToQuery(query);
+
+    ResponseEntity<StreamingResponseBody> response =
+        streamingWriter.stream(
+            "tasks",
+            action ->
+                query.forEach(
+                    summary ->
+                        action.accept(taskSummaryRepresentationModelAssembler.toModel(summary))));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from streamTasks(), returning {}", response);
+    }
+
+    return response;
+  }
+
+  /**
+   * This endpoint streams a list of existing Tasks in a compact format. It is selected by
+   * requesting the media type {@value StreamingRepresentationModelWriter#COMPACT_JSON_VALUE}.
+   * Filters can be applied. The Tasks are written as rows of values while they are read from the
+   * database, which allows clients to synchronize large amounts of Tasks without paging.
+   *
+   * @title Stream a compact list of all Tasks
+   * @param request the HTTP request
+   * @param filterParameter the filter parameters
+   * @param sortParameter the sort parameters
+   * @return the Tasks with the given filter and sort options.
+   */
+  @GetMapping(
+      path = RestEndpoints.URL_TASKS,
+      produces = StreamingRepresentationModelWriter.COMPACT_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamCompactTasks(
+      HttpServletRequest request,
+      TaskQueryFilterParameter filterParameter,
+      TaskQuerySortParameter sortParameter) {
+
+    QueryParamsValidator.validateParams(
+        request, TaskQueryFilterParameter.class, QuerySortParameter.class);
+
+    TaskQuery query = taskService.createTaskQuery();
+
+    filterParameter.applyToQuery(query);
+    sortParameter.applyToQuery(query);
+
+    ResponseEntity<StreamingResponseBody> response =
+        streamingWriter.streamCompact(
+            TaskSummaryRepresentationModelAssembler.COMPACT_COLUMNS, query::forEach);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from streamCompactTasks(), returning {}", response);
+    }
+
+    return response;
+  }
+
   /**
    * This endpoint deletes an aggregation of Tasks and returns the deleted Tasks. Filters can be
    * applied.
@@ -155,7 +256,60 @@ public class TaskController {
   }
 
   /**
-   * This endpoint retrieves a specific Task.
+   * This endpoint retrieves the next batch of the change feed of the Tasks. It contains the Tasks
+   * which were created or modified and the ids of the Tasks which were deleted after the given
+   * watermark, ordered by the time of the change. The watermark of the response and the 'next' link
+   * continue the feed. Clients can mirror the Tasks incrementally this way without paging through
+   * all Tasks.
+   *
+   * @title Get the changes of the Tasks
+   * @param watermark the watermark of the previous batch. Without watermark the feed starts with
+   *     the oldest Task.
+   * @param maxResults the maximum number of changes of the batch
+   * @return the changed Tasks, the ids of the deleted Tasks and the watermark of the next batch
+   * @throws InvalidArgumentException if the watermark is invalid or max-results is not positive
+   */
+  @GetMapping(path = RestEndpoints.URL_TASKS_CHANGES)
+  @Transactional(readOnly = true, rollbackFor = Exception.class)
+  public ResponseEntity<TaskChangesRepresentationModel> getTaskChanges(
+      @RequestParam(required = false) String watermark,
+      @RequestParam(name = "max-results", required = false, defaultValue = "100") int maxResults)
+      throws InvalidArgumentException {
+    LOGGER.debug("Entry to getTaskChanges(watermark= {}, maxResults= {})", watermark, maxResults);
+    TaskChanges changes = taskService.getTaskChanges(watermark, maxResults);
+    ResponseEntity<TaskChangesRepresentationModel> response =
+        ResponseEntity.ok(taskSummaryRepresentationModelAssembler.toChangesModel(changes));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from getTaskChanges(), returning {}", response);
+    }
+    return response;
+  }
+
+  /**
+   * This endpoint pushes the changes of the Tasks as server-sent events, so that clients can reload
+   * their Tasks when something actually changed instead of polling for changes. Each committed
+   * change of a Task in a Workbasket the current user can read is sent as a 'task' event, which
+   * contains the type of the change and the ids of the Task and its Workbaskets. Clients which do
+   * not keep up with the changes receive a single 'overflow' event instead and have to reload all
+   * their Tasks. The subscription ends after a configurable timeout; clients reconnect then.
+   *
+   * @title Subscribe to the changes of the Tasks
+   * @return the stream of the events or status 503 if too many clients are subscribed
+   */
+  @GetMapping(path = RestEndpoints.URL_TASKS_EVENTS, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> subscribeToTaskChanges() {
+    LOGGER.debug("Entry to subscribeToTaskChanges()");
+    ResponseEntity<SseEmitter> response =
+        taskChangeBroadcaster
+            .subscribe()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    LOGGER.debug("Exit from subscribeToTaskChanges(), returning {}", response.getStatusCode());
+    return response;
+  }
+
+  /**
+   * This endpoint retrieves a specific Task. The version of the Task is returned as ETag.
    *
    * @param taskId the Id of the requested Task
    * @return the requested Task
@@ -170,7 +324,9 @@ public class TaskController {
     LOGGER.debug("Entry to getTask(taskId= {})", taskId);
     Task task = taskService.getTask(taskId);
     ResponseEntity<TaskRepresentationModel> result =
-        ResponseEntity.ok(taskRepresentationModelAssembler.toModel(task));
+        ResponseEntity.ok()
+            .eTag(String.valueOf(task.getVersion()))
+            .body(taskRepresentationModelAssembler.toModel(task));
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Exit from getTask(), returning {}", result);
     }
@@ -210,6 +366,28 @@ public class TaskController {
     return result;
   }
 
+  /**
+   * This endpoint claims multiple Tasks for the current user. The Tasks are claimed in chunks,
+   * each within its own transaction, and the chunks are processed in parallel. Hence the Tasks
+   * which could be claimed stay claimed, even if other Tasks could not be claimed.
+   *
+   * @title Claim multiple Tasks
+   * @param taskIds the Ids of the Tasks to claim
+   * @return the Ids of the claimed Tasks and the reasons why the other Tasks were not claimed
+   * @throws InvalidArgumentException if the Ids of the Tasks are missing
+   */
+  @PostMapping(path = RestEndpoints.URL_TASKS_CLAIM)
+  public ResponseEntity<BulkOperationResultsRepresentationModel> claimTasks(
+      @RequestBody List<String> taskIds) throws InvalidArgumentException {
+    LOGGER.debug("Entry to claimTasks(taskIds= {})", taskIds);
+    BulkOperationResults<String, TaskanaException> results =
+        bulkOperationExecutor.execute(taskIds, taskService::claimTasks);
+    ResponseEntity<BulkOperationResultsRepresentationModel> response =
+        ResponseEntity.ok(toRepresentationModel(taskIds, results));
+    LOGGER.debug("Exit from claimTasks(), {} Tasks failed", results.getFailedIds().size());
+    return response;
+  }
+
   /**
    * This endpoint selects the first Task returned by the Task Query and claims it.
    *
@@ -275,6 +453,27 @@ public class TaskController {
     return result;
   }
 
+  /**
+   * This endpoint cancels the claims of multiple Tasks which were claimed by the current user. The
+   * claims are cancelled in chunks like in 'Claim multiple Tasks'.
+   *
+   * @title Cancel the claims of multiple Tasks
+   * @param taskIds the Ids of the Tasks whose claims are cancelled
+   * @return the Ids of the unclaimed Tasks and the reasons why the other claims were not cancelled
+   * @throws InvalidArgumentException if the Ids of the Tasks are missing
+   */
+  @PostMapping(path = RestEndpoints.URL_TASKS_CANCEL_CLAIM)
+  public ResponseEntity<BulkOperationResultsRepresentationModel> cancelClaimTasks(
+      @RequestBody List<String> taskIds) throws InvalidArgumentException {
+    LOGGER.debug("Entry to cancelClaimTasks(taskIds= {})", taskIds);
+    BulkOperationResults<String, TaskanaException> results =
+        bulkOperationExecutor.execute(taskIds, taskService::cancelClaimTasks);
+    ResponseEntity<BulkOperationResultsRepresentationModel> response =
+        ResponseEntity.ok(toRepresentationModel(taskIds, results));
+    LOGGER.debug("Exit from cancelClaimTasks(), {} Tasks failed", results.getFailedIds().size());
+    return response;
+  }
+
   /**
    * This endpoint completes a Task.
    *
@@ -424,6 +623,8 @@ public class TaskController {
    *
    * @param taskId the Id of the Task which should be updated
    * @param taskRepresentationModel the new Task for the requested id.
+   * @param ifMatch the optional ETag of the Task which should be updated. If it is present, it
+   *     takes precedence over the version of the Task in the payload.
    * @return the updated Task
    * @throws TaskNotFoundException if the requested Task does not exist.
    * @throws ClassificationNotFoundException if the updated Classification does not exist.
@@ -441,17 +642,27 @@ public class TaskController {
   @Transactional(rollbackFor = Exception.class)
   public ResponseEntity<TaskRepresentationModel> updateTask(
       @PathVariable(value = "taskId") String taskId,
-      @RequestBody TaskRepresentationModel taskRepresentationModel)
+      @RequestBody TaskRepresentationModel taskRepresentationModel,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
       throws TaskNotFoundException, ClassificationNotFoundException, InvalidArgumentException,
           ConcurrencyException, NotAuthorizedException, AttachmentPersistenceException,
           InvalidStateException {
     LOGGER.debug(
-        "Entry to updateTask(taskId= {}, taskResource= {})", taskId, taskRepresentationModel);
+        "Entry to updateTask(taskId= {}, taskResource= {}, ifMatch= {})",
+        taskId,
+        taskRepresentationModel,
+        ifMatch);
     ResponseEntity<TaskRepresentationModel> result;
     if (taskId.equals(taskRepresentationModel.getTaskId())) {
+      if (ifMatch != null && !"*".equals(ifMatch.trim())) {
+        taskRepresentationModel.setVersion(parseVersion(ifMatch));
+      }
       Task task = taskRepresentationModelAssembler.toEntityModel(taskRepresentationModel);
       task = taskService.updateTask(task);
-      result = ResponseEntity.ok(taskRepresentationModelAssembler.toModel(task));
+      result =
+          ResponseEntity.ok()
+              .eTag(String.valueOf(task.getVersion()))
+              .body(taskRepresentationModelAssembler.toModel(task));
     } else {
       throw new InvalidArgumentException(
           String.format(
@@ -467,6 +678,41 @@ public class TaskController {
     return result;
   }
 
+  private static int parseVersion(String entityTag) throws InvalidArgumentException {
+    String version = entityTag.trim();
+    if (version.startsWith("W/")) {
+      version = version.substring(2);
+    }
+    if (version.length() > 1 && version.startsWith("\"") && version.endsWith("\"")) {
+      version = version.substring(1, version.length() - 1);
+    }
+    try {
+      return Integer.parseInt(version);
+    } catch (NumberFormatException e) {
+      throw new InvalidArgumentException(
+          String.format("The ETag '%s' is not a valid version of a Task.", entityTag), e);
+    }
+  }
+
+  private static BulkOperationResultsRepresentationModel toRepresentationModel(
+      List<String> taskIds, BulkOperationResults<String, TaskanaException> results) {
+    Map<String, BulkOperationResultsRepresentationModel.Error> failedIds = new LinkedHashMap<>();
+    results
+        .getErrorMap()
+        .forEach(
+            (taskId, error) ->
+                failedIds.put(
+                    String.valueOf(taskId),
+                    new BulkOperationResultsRepresentationModel.Error(
+                        error.getClass().getSimpleName(), error.getMessage())));
+    List<String> succeededIds =
+        taskIds.stream()
+            .distinct()
+            .filter(taskId -> !results.getErrorMap().containsKey(taskId))
+            .collect(Collectors.toList());
+    return new BulkOperationResultsRepresentationModel(succeededIds, failedIds);
+  }
+
   public enum TaskQuerySortBy implements QuerySortBy<TaskQuery> {
     CLASSIFICATION_KEY(TaskQuery::orderByClassificationKey),
     POR_TYPE(TaskQuery::orderByPrimaryObjectReferenceType),
@@ -43,6 +43,7 @@ public class AttachmentRepresentationModelAssembler
     repModel.setCreated(attachment.getCreated());
     repModel.setModified(attachment.getModified());
     repModel.setReceived(attachment.getReceived());
+    repModel.setVersion(attachment.getVersion());
     repModel.setClassificationSummary(
         classificationSummaryAssembler.toModel(attachment.getClassificationSummary()));
     repModel.setObjectReference(objectReferenceAssembler.toModel(attachment.getObjectReference()));
@@ -59,6 +60,7 @@ public class AttachmentRepresentationModelAssembler
     attachment.setCreated(attachmentRepresentationModel.getCreated());
     attachment.setModified(attachmentRepresentationModel.getModified());
     attachment.setReceived(attachmentRepresentationModel.getReceived());
+    attachment.setVersion(attachmentRepresentationModel.getVersion());
     attachment.setClassificationSummary(
         classificationSummaryAssembler.toEntityModel(
             attachmentRepresentationModel.getClassificationSummary()));
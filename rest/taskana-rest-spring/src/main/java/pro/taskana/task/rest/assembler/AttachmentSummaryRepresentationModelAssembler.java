@@ -40,6 +40,7 @@ public class AttachmentSummaryRepresentationModelAssembler
     repModel.setCreated(summary.getCreated());
     repModel.setModified(summary.getModified());
     repModel.setReceived(summary.getReceived());
+    repModel.setVersion(summary.getVersion());
     repModel.setClassificationSummary(
         classificationSummaryAssembler.toModel(summary.getClassificationSummary()));
     repModel.setObjectReference(objectReferenceAssembler.toModel(summary.getObjectReference()));
@@ -55,6 +56,7 @@ public class AttachmentSummaryRepresentationModelAssembler
     attachment.setCreated(repModel.getCreated());
     attachment.setModified(repModel.getModified());
     attachment.setReceived(repModel.getReceived());
+    attachment.setVersion(repModel.getVersion());
     attachment.setClassificationSummary(
         classificationSummaryAssembler.toEntityModel(repModel.getClassificationSummary()));
     attachment.setObjectReference(objectReferenceAssembler.toEntity(repModel.getObjectReference()));
@@ -1,19 +1,18 @@
 package pro.taskana.task.rest.assembler;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.RestEndpoints;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
+import pro.taskana.common.rest.assembler.ItemLinks;
+import pro.taskana.common.rest.assembler.LinkTemplate;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.TaskComment;
 import pro.taskana.task.internal.models.TaskCommentImpl;
-import pro.taskana.task.rest.TaskCommentController;
 import pro.taskana.task.rest.models.TaskCommentCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskCommentRepresentationModel;
 
@@ -23,11 +22,16 @@ public class TaskCommentRepresentationModelAssembler
     implements CollectionRepresentationModelAssembler<
         TaskComment, TaskCommentRepresentationModel, TaskCommentCollectionRepresentationModel> {
 
+  private static final LinkTemplate TASK_COMMENT_LINK =
+      LinkTemplate.of(RestEndpoints.URL_TASK_COMMENT);
+
   private final TaskService taskService;
+  private final ItemLinks itemLinks;
 
   @Autowired
-  public TaskCommentRepresentationModelAssembler(TaskService taskService) {
+  public TaskCommentRepresentationModelAssembler(TaskService taskService, ItemLinks itemLinks) {
     this.taskService = taskService;
+    this.itemLinks = itemLinks;
   }
 
   @NonNull
@@ -40,12 +44,8 @@ public class TaskCommentRepresentationModelAssembler
     repModel.setCreator(taskComment.getCreator());
     repModel.setCreated(taskComment.getCreated());
     repModel.setModified(taskComment.getModified());
-    try {
-      repModel.add(
-          linkTo(methodOn(TaskCommentController.class).getTaskComment(taskComment.getId()))
-              .withSelfRel());
-    } catch (Exception e) {
-      throw new SystemException("caught unexpected Exception.", e.getCause());
+    if (itemLinks.isEnabled()) {
+      repModel.add(TASK_COMMENT_LINK.toLink(IanaLinkRelations.SELF, taskComment.getId()));
     }
     return repModel;
   }
@@ -1,23 +1,22 @@
 package pro.taskana.task.rest.assembler;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.classification.rest.assembler.ClassificationSummaryRepresentationModelAssembler;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.assembler.ItemLinks;
+import pro.taskana.common.rest.assembler.LinkTemplate;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.internal.models.TaskImpl;
-import pro.taskana.task.rest.TaskController;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel.CustomAttribute;
 import pro.taskana.workbasket.rest.assembler.WorkbasketSummaryRepresentationModelAssembler;
@@ -27,11 +26,14 @@ import pro.taskana.workbasket.rest.assembler.WorkbasketSummaryRepresentationMode
 public class TaskRepresentationModelAssembler
     implements RepresentationModelAssembler<Task, TaskRepresentationModel> {
 
+  private static final LinkTemplate TASK_LINK = LinkTemplate.of(RestEndpoints.URL_TASKS_ID);
+
   private final TaskService taskService;
   private final ClassificationSummaryRepresentationModelAssembler classificationAssembler;
   private final WorkbasketSummaryRepresentationModelAssembler workbasketAssembler;
   private final AttachmentRepresentationModelAssembler attachmentAssembler;
   private final ObjectReferenceRepresentationModelAssembler objectReferenceAssembler;
+  private final ItemLinks itemLinks;
 
   @Autowired
   public TaskRepresentationModelAssembler(
@@ -39,12 +41,14 @@ public class TaskRepresentationModelAssembler
       ClassificationSummaryRepresentationModelAssembler classificationAssembler,
       WorkbasketSummaryRepresentationModelAssembler workbasketAssembler,
       AttachmentRepresentationModelAssembler attachmentAssembler,
-      ObjectReferenceRepresentationModelAssembler objectReferenceAssembler) {
+      ObjectReferenceRepresentationModelAssembler objectReferenceAssembler,
+      ItemLinks itemLinks) {
     this.taskService = taskService;
     this.classificationAssembler = classificationAssembler;
     this.workbasketAssembler = workbasketAssembler;
     this.attachmentAssembler = attachmentAssembler;
     this.objectReferenceAssembler = objectReferenceAssembler;
+    this.itemLinks = itemLinks;
   }
 
   @NonNull
@@ -74,6 +78,7 @@ public class TaskRepresentationModelAssembler
     repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(task.getPrimaryObjRef()));
     repModel.setRead(task.isRead());
     repModel.setTransferred(task.isTransferred());
+    repModel.setVersion(task.getVersion());
     repModel.setAttachments(
         task.getAttachments().stream()
             .map(attachmentAssembler::toModel)
@@ -102,10 +107,8 @@ public class TaskRepresentationModelAssembler
     repModel.setCustom14(task.getCustomAttribute(TaskCustomField.CUSTOM_14));
     repModel.setCustom15(task.getCustomAttribute(TaskCustomField.CUSTOM_15));
     repModel.setCustom16(task.getCustomAttribute(TaskCustomField.CUSTOM_16));
-    try {
-      repModel.add(linkTo(methodOn(TaskController.class).getTask(task.getId())).withSelfRel());
-    } catch (Exception e) {
-      throw new SystemException("caught unexpected Exception.", e.getCause());
+    if (itemLinks.isEnabled()) {
+      repModel.add(TASK_LINK.toLink(IanaLinkRelations.SELF, task.getId()));
     }
     return repModel;
   }
@@ -137,6 +140,7 @@ public class TaskRepresentationModelAssembler
     task.setPrimaryObjRef(objectReferenceAssembler.toEntity(repModel.getPrimaryObjRef()));
     task.setRead(repModel.isRead());
     task.setTransferred(repModel.isTransferred());
+    task.setVersion(repModel.getVersion());
     task.setCustomAttribute(TaskCustomField.CUSTOM_1, repModel.getCustom1());
     task.setCustomAttribute(TaskCustomField.CUSTOM_2, repModel.getCustom2());
     task.setCustomAttribute(TaskCustomField.CUSTOM_3, repModel.getCustom3());
@@ -1,20 +1,29 @@
 package pro.taskana.task.rest.assembler;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import pro.taskana.classification.rest.assembler.ClassificationSummaryRepresentationModelAssembler;
+import pro.taskana.common.rest.CompactColumn;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
 import pro.taskana.common.rest.assembler.PagedRepresentationModelAssembler;
 import pro.taskana.common.rest.models.PageMetadata;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskChanges;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
+import pro.taskana.task.rest.models.TaskChangesRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryPagedRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryRepresentationModel;
@@ -28,6 +37,67 @@ public class TaskSummaryRepresentationModelAssembler
         CollectionRepresentationModelAssembler<
             TaskSummary, TaskSummaryRepresentationModel, TaskSummaryCollectionRepresentationModel> {
 
+  /**
+   * The columns of the compact response format. They correspond to the properties of {@link
+   * TaskSummaryRepresentationModel} without the attachment summaries.
+   */
+  public static final List<CompactColumn<TaskSummary>> COMPACT_COLUMNS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              CompactColumn.of("taskId", TaskSummary::getId),
+              CompactColumn.of("externalId", TaskSummary::getExternalId),
+              CompactColumn.of("created", TaskSummary::getCreated),
+              CompactColumn.of("claimed", TaskSummary::getClaimed),
+              CompactColumn.of("completed", TaskSummary::getCompleted),
+              CompactColumn.of("modified", TaskSummary::getModified),
+              CompactColumn.of("planned", TaskSummary::getPlanned),
+              CompactColumn.of("due", TaskSummary::getDue),
+              CompactColumn.of("name", TaskSummary::getName),
+              CompactColumn.dictionary("creator", TaskSummary::getCreator),
+              CompactColumn.of("note", TaskSummary::getNote),
+              CompactColumn.of("description", TaskSummary::getDescription),
+              CompactColumn.of("priority", TaskSummary::getPriority),
+              CompactColumn.dictionary("state", TaskSummary::getState),
+              CompactColumn.dictionary(
+                  "classificationId", t -> t.getClassificationSummary().getId()),
+              CompactColumn.dictionary(
+                  "classificationKey", t -> t.getClassificationSummary().getKey()),
+              CompactColumn.dictionary(
+                  "classificationCategory", t -> t.getClassificationSummary().getCategory()),
+              CompactColumn.dictionary("workbasketId", t -> t.getWorkbasketSummary().getId()),
+              CompactColumn.dictionary("workbasketKey", t -> t.getWorkbasketSummary().getKey()),
+              CompactColumn.dictionary("domain", TaskSummary::getDomain),
+              CompactColumn.of("businessProcessId", TaskSummary::getBusinessProcessId),
+              CompactColumn.of("parentBusinessProcessId", TaskSummary::getParentBusinessProcessId),
+              CompactColumn.dictionary("owner", TaskSummary::getOwner),
+              CompactColumn.dictionary(
+                  "primaryObjRefCompany", t -> t.getPrimaryObjRef().getCompany()),
+              CompactColumn.dictionary(
+                  "primaryObjRefSystem", t -> t.getPrimaryObjRef().getSystem()),
+              CompactColumn.dictionary(
+                  "primaryObjRefSystemInstance", t -> t.getPrimaryObjRef().getSystemInstance()),
+              CompactColumn.dictionary("primaryObjRefType", t -> t.getPrimaryObjRef().getType()),
+              CompactColumn.of("primaryObjRefValue", t -> t.getPrimaryObjRef().getValue()),
+              CompactColumn.of("read", TaskSummary::isRead),
+              CompactColumn.of("transferred", TaskSummary::isTransferred),
+              CompactColumn.of("version", TaskSummary::getVersion),
+              CompactColumn.of("custom1", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_1)),
+              CompactColumn.of("custom2", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_2)),
+              CompactColumn.of("custom3", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_3)),
+              CompactColumn.of("custom4", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_4)),
+              CompactColumn.of("custom5", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_5)),
+              CompactColumn.of("custom6", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_6)),
+              CompactColumn.of("custom7", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_7)),
+              CompactColumn.of("custom8", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_8)),
+              CompactColumn.of("custom9", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_9)),
+              CompactColumn.of("custom10", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_10)),
+              CompactColumn.of("custom11", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_11)),
+              CompactColumn.of("custom12", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_12)),
+              CompactColumn.of("custom13", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_13)),
+              CompactColumn.of("custom14", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_14)),
+              CompactColumn.of("custom15", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_15)),
+              CompactColumn.of("custom16", t -> t.getCustomAttribute(TaskCustomField.CUSTOM_16))));
+
   private final ClassificationSummaryRepresentationModelAssembler classificationAssembler;
   private final WorkbasketSummaryRepresentationModelAssembler workbasketAssembler;
   private final AttachmentSummaryRepresentationModelAssembler attachmentAssembler;
@@ -75,6 +145,7 @@ public class TaskSummaryRepresentationModelAssembler
     repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
     repModel.setRead(taskSummary.isRead());
     repModel.setTransferred(taskSummary.isTransferred());
+    repModel.setVersion(taskSummary.getVersion());
     repModel.setAttachmentSummaries(
         taskSummary.getAttachmentSummaries().stream()
             .map(attachmentAssembler::toModel)
@@ -124,6 +195,7 @@ public class TaskSummaryRepresentationModelAssembler
     taskSummary.setPrimaryObjRef(objectReferenceAssembler.toEntity(repModel.getPrimaryObjRef()));
     taskSummary.setRead(repModel.isRead());
     taskSummary.setTransferred(repModel.isTransferred());
+    taskSummary.setVersion(repModel.getVersion());
     taskSummary.setAttachmentSummaries(
         repModel.getAttachmentSummaries().stream()
             .map(attachmentAssembler::toEntityModel)
@@ -147,6 +219,25 @@ public class TaskSummaryRepresentationModelAssembler
     return taskSummary;
   }
 
+  public TaskChangesRepresentationModel toChangesModel(TaskChanges changes) {
+    List<TaskSummaryRepresentationModel> content =
+        changes.getChangedTasks().stream().map(this::toModel).collect(Collectors.toList());
+    TaskChangesRepresentationModel model =
+        new TaskChangesRepresentationModel(
+            content,
+            changes.getDeletedTaskIds(),
+            changes.getWatermark(),
+            changes.hasMoreChanges());
+    final UriComponentsBuilder original = ServletUriComponentsBuilder.fromCurrentRequest();
+    model.add(Link.of(original.toUriString()).withSelfRel());
+    if (changes.getWatermark() != null) {
+      model.add(
+          Link.of(original.replaceQueryParam("watermark", changes.getWatermark()).toUriString())
+              .withRel(IanaLinkRelations.NEXT));
+    }
+    return model;
+  }
+
   @Override
   public TaskSummaryPagedRepresentationModel buildPageableEntity(
       Collection<TaskSummaryRepresentationModel> content, PageMetadata pageMetadata) {
@@ -26,6 +26,8 @@ public class AttachmentSummaryRepresentationModel
   protected ObjectReferenceRepresentationModel objectReference;
   /** Determines on which channel this attachment was received. */
   protected String channel;
+  /** The version of the attachment. It is incremented with every update. */
+  protected int version;
 
   public String getAttachmentId() {
     return attachmentId;
@@ -59,6 +61,14 @@ public class AttachmentSummaryRepresentationModel
     this.modified = modified;
   }
 
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
   public Instant getReceived() {
     return received;
   }
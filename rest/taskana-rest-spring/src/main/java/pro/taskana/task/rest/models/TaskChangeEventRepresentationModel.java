@@ -0,0 +1,43 @@
+package pro.taskana.task.rest.models;
+
+import java.beans.ConstructorProperties;
+
+import pro.taskana.task.api.events.TaskChangeType;
+
+/** The data of an event pushed to the subscribers of the task changes. */
+public class TaskChangeEventRepresentationModel {
+
+  /** The kind of the change. */
+  private final TaskChangeType type;
+  /** The id of the changed task. */
+  private final String taskId;
+  /** The id of the workbasket the task belongs to after the change. */
+  private final String workbasketId;
+  /** The id of the workbasket the task was transferred from, if the task was transferred. */
+  private final String previousWorkbasketId;
+
+  @ConstructorProperties({"type", "taskId", "workbasketId", "previousWorkbasketId"})
+  public TaskChangeEventRepresentationModel(
+      TaskChangeType type, String taskId, String workbasketId, String previousWorkbasketId) {
+    this.type = type;
+    this.taskId = taskId;
+    this.workbasketId = workbasketId;
+    this.previousWorkbasketId = previousWorkbasketId;
+  }
+
+  public TaskChangeType getType() {
+    return type;
+  }
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public String getPreviousWorkbasketId() {
+    return previousWorkbasketId;
+  }
+}
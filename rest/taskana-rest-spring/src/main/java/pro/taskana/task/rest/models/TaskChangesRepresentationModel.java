@@ -0,0 +1,56 @@
+package pro.taskana.task.rest.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+import java.util.Collection;
+import java.util.List;
+
+import pro.taskana.common.rest.models.CollectionRepresentationModel;
+
+/** EntityModel class for a batch of the change feed of the tasks. */
+public class TaskChangesRepresentationModel
+    extends CollectionRepresentationModel<TaskSummaryRepresentationModel> {
+
+  /** The ids of the deleted tasks. */
+  @JsonProperty("deletedTaskIds")
+  private final List<String> deletedTaskIds;
+
+  /** The watermark which has to be passed to retrieve the next batch. */
+  @JsonProperty("watermark")
+  private final String watermark;
+
+  /** Whether further changes can be retrieved immediately. */
+  @JsonProperty("moreChanges")
+  private final boolean moreChanges;
+
+  @ConstructorProperties({"tasks", "deletedTaskIds", "watermark", "moreChanges"})
+  public TaskChangesRepresentationModel(
+      Collection<TaskSummaryRepresentationModel> content,
+      List<String> deletedTaskIds,
+      String watermark,
+      boolean moreChanges) {
+    super(content);
+    this.deletedTaskIds = deletedTaskIds;
+    this.watermark = watermark;
+    this.moreChanges = moreChanges;
+  }
+
+  /** The created or modified tasks. */
+  @JsonProperty("tasks")
+  @Override
+  public Collection<TaskSummaryRepresentationModel> getContent() {
+    return super.getContent();
+  }
+
+  public List<String> getDeletedTaskIds() {
+    return deletedTaskIds;
+  }
+
+  public String getWatermark() {
+    return watermark;
+  }
+
+  public boolean isMoreChanges() {
+    return moreChanges;
+  }
+}
@@ -67,6 +67,11 @@ public class TaskSummaryRepresentationModel
   protected boolean isRead;
   /** Indicator if the task has been transferred. */
   protected boolean isTransferred;
+  /**
+   * The version of the task. It is incremented with every update and has to be passed unchanged
+   * when the task is updated. Otherwise the update is rejected as a concurrent modification.
+   */
+  protected int version;
   /** A custom property with name "1". */
   protected String custom1;
   /** A custom property with name "2". */
@@ -280,6 +285,14 @@ public class TaskSummaryRepresentationModel
     this.isTransferred = isTransferred;
   }
 
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
   public List<AttachmentSummaryRepresentationModel> getAttachmentSummaries() {
     return attachmentSummaries;
   }
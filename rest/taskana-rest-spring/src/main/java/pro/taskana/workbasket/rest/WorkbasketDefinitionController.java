@@ -27,12 +27,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
 import pro.taskana.workbasket.api.WorkbasketQuery;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.InvalidWorkbasketException;
@@ -64,6 +66,7 @@ public class WorkbasketDefinitionController {
   private final WorkbasketRepresentationModelAssembler workbasketAssembler;
   private final WorkbasketAccessItemRepresentationModelAssembler accessItemAssembler;
   private final ObjectMapper mapper;
+  private final StreamingRepresentationModelWriter streamingWriter;
 
   @Autowired
   WorkbasketDefinitionController(
@@ -71,12 +74,14 @@ public class WorkbasketDefinitionController {
       WorkbasketDefinitionRepresentationModelAssembler workbasketDefinitionAssembler,
       WorkbasketRepresentationModelAssembler workbasketAssembler,
       WorkbasketAccessItemRepresentationModelAssembler accessItemAssembler,
-      ObjectMapper mapper) {
+      ObjectMapper mapper,
+      StreamingRepresentationModelWriter streamingWriter) {
     this.workbasketService = workbasketService;
     this.workbasketDefinitionAssembler = workbasketDefinitionAssembler;
     this.workbasketAssembler = workbasketAssembler;
     this.accessItemAssembler = accessItemAssembler;
     this.mapper = mapper;
+    this.streamingWriter = streamingWriter;
   }
 
   /**
@@ -116,6 +121,43 @@ public class WorkbasketDefinitionController {
     return response;
   }
 
+  /**
+   * This endpoint exports all Workbaskets with the corresponding Workbasket Access Items and
+   * Distribution Targets. In contrast to the regular export the Workbasket Definitions are written
+   * while they are read from the database. Thus the size of the export is not limited by the
+   * memory of the server.
+   *
+   * @title Stream the export of Workbaskets
+   * @param domain Filter the export for a specific domain.
+   * @return all workbaskets.
+   */
+  @GetMapping(
+      path = RestEndpoints.URL_WORKBASKET_DEFINITIONS,
+      params = StreamingRepresentationModelWriter.STREAM_PARAMETER_ENABLED)
+  public ResponseEntity<StreamingResponseBody> streamWorkbaskets(
+      @RequestParam(required = false) String[] domain) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Entry to streamWorkbaskets(domain= {})", Arrays.toString(domain));
+    }
+    WorkbasketQuery query = workbasketService.createWorkbasketQuery();
+    Optional.ofNullable(domain).ifPresent(query::domainIn);
+
+    ResponseEntity<StreamingResponseBody> response =
+        streamingWriter.stream(
+            "workbasketDefinitions",
+            action ->
+                StreamingRepresentationModelWriter.loadInChunks(
+                    ids -> query.forEach(summary -> ids.accept(summary.getId())),
+                    wrap(this::loadWorkbasketDefinitions),
+                    definition -> definition.getWorkbasket().getWorkbasketId(),
+                    action));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Exit from streamWorkbaskets(), returning {}", response);
+    }
+
+    return response;
+  }
+
   /**
    * This endpoint imports a list of Workbasket Definitions.
    *
@@ -233,6 +275,33 @@ public class WorkbasketDefinitionController {
     return response;
   }
 
+  // loads the access items and distribution targets of all workbaskets with one query each
+  private List<WorkbasketDefinitionRepresentationModel> loadWorkbasketDefinitions(
+      List<String> workbasketIds) throws NotAuthorizedException {
+    List<Workbasket> workbaskets = workbasketService.getWorkbaskets(workbasketIds);
+    if (workbaskets.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<String, List<WorkbasketAccessItem>> accessItemsByWorkbasketId =
+        workbasketService
+            .createWorkbasketAccessItemQuery()
+            .workbasketIdIn(workbaskets.stream().map(Workbasket::getId).toArray(String[]::new))
+            .list()
+            .stream()
+            .collect(Collectors.groupingBy(WorkbasketAccessItem::getWorkbasketId));
+    Map<String, Set<String>> distributionTargetIdsByWorkbasketId =
+        workbasketService.getDistributionTargetIds(workbasketIds);
+    return workbaskets.stream()
+        .map(
+            workbasket ->
+                workbasketDefinitionAssembler.toModel(
+                    workbasket,
+                    accessItemsByWorkbasketId.getOrDefault(workbasket.getId(), new ArrayList<>()),
+                    distributionTargetIdsByWorkbasketId.getOrDefault(
+                        workbasket.getId(), new HashSet<>())))
+        .collect(Collectors.toList());
+  }
+
   private Workbasket removeId(Workbasket importedWb) {
     WorkbasketRepresentationModel wbRes = workbasketAssembler.toModel(importedWb);
     wbRes.setWorkbasketId(null);
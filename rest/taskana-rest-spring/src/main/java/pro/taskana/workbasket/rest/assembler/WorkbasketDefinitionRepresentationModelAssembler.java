@@ -63,6 +63,33 @@ public class WorkbasketDefinitionRepresentationModelAssembler
       throw new SystemException("Caught Exception", e);
     }
 
+    return toModel(basket, authorizations, distroTargets);
+  }
+
+  /**
+   * Transforms the given workbasket with its already loaded access items and distribution targets.
+   * Thus the access items and distribution targets of several workbaskets can be loaded at once.
+   *
+   * @param workbasket the workbasket
+   * @param workbasketAccessItems the access items of the workbasket
+   * @param distroTargets the ids of the distribution targets of the workbasket
+   * @return the definition of the workbasket
+   */
+  @NonNull
+  public WorkbasketDefinitionRepresentationModel toModel(
+      @NonNull Workbasket workbasket,
+      List<WorkbasketAccessItem> workbasketAccessItems,
+      Set<String> distroTargets) {
+    return toModel(
+        workbasketAssembler.toModel(workbasket),
+        accessItemAssembler.toCollectionModel(workbasketAccessItems).getContent(),
+        distroTargets);
+  }
+
+  private WorkbasketDefinitionRepresentationModel toModel(
+      WorkbasketRepresentationModel basket,
+      Collection<WorkbasketAccessItemRepresentationModel> authorizations,
+      Set<String> distroTargets) {
     WorkbasketDefinitionRepresentationModel repModel =
         new WorkbasketDefinitionRepresentationModel();
 
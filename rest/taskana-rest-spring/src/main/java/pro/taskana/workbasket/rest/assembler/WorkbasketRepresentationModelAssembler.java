@@ -1,21 +1,19 @@
 package pro.taskana.workbasket.rest.assembler;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
-import pro.taskana.common.api.exceptions.NotAuthorizedException;
-import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.assembler.ItemLinks;
+import pro.taskana.common.rest.assembler.LinkTemplate;
 import pro.taskana.workbasket.api.WorkbasketCustomField;
 import pro.taskana.workbasket.api.WorkbasketService;
-import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.internal.models.WorkbasketImpl;
-import pro.taskana.workbasket.rest.WorkbasketController;
 import pro.taskana.workbasket.rest.models.WorkbasketRepresentationModel;
 
 /**
@@ -26,11 +24,23 @@ import pro.taskana.workbasket.rest.models.WorkbasketRepresentationModel;
 public class WorkbasketRepresentationModelAssembler
     implements RepresentationModelAssembler<Workbasket, WorkbasketRepresentationModel> {
 
+  private static final LinkTemplate WORKBASKET_LINK =
+      LinkTemplate.of(RestEndpoints.URL_WORKBASKET_ID);
+  private static final LinkTemplate DISTRIBUTION_TARGETS_LINK =
+      LinkTemplate.of(RestEndpoints.URL_WORKBASKET_ID_DISTRIBUTION);
+  private static final LinkTemplate ACCESS_ITEMS_LINK =
+      LinkTemplate.of(RestEndpoints.URL_WORKBASKET_ID_ACCESS_ITEMS);
+  private static final LinkTemplate ALL_WORKBASKETS_LINK =
+      LinkTemplate.of(RestEndpoints.URL_WORKBASKET);
+
   private final WorkbasketService workbasketService;
+  private final ItemLinks itemLinks;
 
   @Autowired
-  public WorkbasketRepresentationModelAssembler(WorkbasketService workbasketService) {
+  public WorkbasketRepresentationModelAssembler(
+      WorkbasketService workbasketService, ItemLinks itemLinks) {
     this.workbasketService = workbasketService;
+    this.itemLinks = itemLinks;
   }
 
   @NonNull
@@ -55,11 +65,10 @@ public class WorkbasketRepresentationModelAssembler
     repModel.setOrgLevel4(workbasket.getOrgLevel4());
     repModel.setCreated(workbasket.getCreated());
     repModel.setModified(workbasket.getModified());
-    try {
-      return addLinks(repModel, workbasket);
-    } catch (Exception e) {
-      throw new SystemException("caught unexpected Exception.", e.getCause());
+    if (itemLinks.isEnabled()) {
+      addLinks(repModel, workbasket);
     }
+    return repModel;
   }
 
   public Workbasket toEntityModel(WorkbasketRepresentationModel repModel) {
@@ -84,25 +93,14 @@ public class WorkbasketRepresentationModelAssembler
     return workbasket;
   }
 
-  private WorkbasketRepresentationModel addLinks(
-      WorkbasketRepresentationModel resource, Workbasket wb)
-      throws NotAuthorizedException, WorkbasketNotFoundException {
-    resource.add(
-        linkTo(methodOn(WorkbasketController.class).getWorkbasket(wb.getId())).withSelfRel());
-    resource.add(
-        linkTo(methodOn(WorkbasketController.class).getDistributionTargets(wb.getId()))
-            .withRel("distributionTargets"));
-    resource.add(
-        linkTo(methodOn(WorkbasketController.class).getWorkbasketAccessItems(wb.getId()))
-            .withRel("accessItems"));
+  private void addLinks(WorkbasketRepresentationModel resource, Workbasket wb) {
+    resource.add(WORKBASKET_LINK.toLink(IanaLinkRelations.SELF, wb.getId()));
     resource.add(
-        linkTo(methodOn(WorkbasketController.class).getWorkbaskets(null, null, null, null))
-            .withRel("allWorkbaskets"));
+        DISTRIBUTION_TARGETS_LINK.toLink(LinkRelation.of("distributionTargets"), wb.getId()));
+    resource.add(ACCESS_ITEMS_LINK.toLink(LinkRelation.of("accessItems"), wb.getId()));
+    resource.add(ALL_WORKBASKETS_LINK.toLink(LinkRelation.of("allWorkbaskets")));
     resource.add(
-        linkTo(
-                methodOn(WorkbasketController.class)
-                    .removeDistributionTargetForWorkbasketId(wb.getId()))
-            .withRel("removeDistributionTargets"));
-    return resource;
+        DISTRIBUTION_TARGETS_LINK.toLink(
+            LinkRelation.of("removeDistributionTargets"), wb.getId()));
   }
 }
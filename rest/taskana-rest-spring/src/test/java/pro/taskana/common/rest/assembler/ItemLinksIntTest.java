@@ -0,0 +1,71 @@
+package pro.taskana.common.rest.assembler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import pro.taskana.classification.rest.models.ClassificationRepresentationModel;
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.test.rest.RestHelper;
+import pro.taskana.common.test.rest.TaskanaSpringBootTest;
+import pro.taskana.task.rest.models.TaskCommentCollectionRepresentationModel;
+import pro.taskana.workbasket.rest.models.WorkbasketRepresentationModel;
+
+@TaskanaSpringBootTest
+@TestPropertySource(properties = "taskana.rest.itemLinks.enabled=false")
+class ItemLinksIntTest {
+
+  private final RestHelper restHelper;
+
+  @Autowired
+  ItemLinksIntTest(RestHelper restHelper) {
+    this.restHelper = restHelper;
+  }
+
+  @Test
+  void should_OmitLinksOfItems_When_ItemLinksAreDisabled() {
+    ResponseEntity<WorkbasketRepresentationModel> workbasket =
+        TEMPLATE.exchange(
+            restHelper.toUrl(
+                RestEndpoints.URL_WORKBASKET_ID, "WBI:100000000000000000000000000000000001"),
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(WorkbasketRepresentationModel.class));
+    ResponseEntity<ClassificationRepresentationModel> classification =
+        TEMPLATE.exchange(
+            restHelper.toUrl(
+                RestEndpoints.URL_CLASSIFICATIONS_ID, "CLI:100000000000000000000000000000000002"),
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(ClassificationRepresentationModel.class));
+
+    assertThat(workbasket.getBody()).isNotNull();
+    assertThat(workbasket.getBody().getLinks()).isEmpty();
+    assertThat(classification.getBody()).isNotNull();
+    assertThat(classification.getBody().getLinks()).isEmpty();
+  }
+
+  @Test
+  void should_KeepLinksOfCollection_When_ItemLinksAreDisabled() {
+    ResponseEntity<TaskCommentCollectionRepresentationModel> comments =
+        TEMPLATE.exchange(
+            restHelper.toUrl(
+                RestEndpoints.URL_TASK_COMMENTS, "TKI:000000000000000000000000000000000000"),
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ParameterizedTypeReference.forType(TaskCommentCollectionRepresentationModel.class));
+
+    assertThat(comments.getBody()).isNotNull();
+    assertThat(comments.getBody().getContent()).isNotEmpty();
+    assertThat(comments.getBody().getLink(IanaLinkRelations.SELF)).isPresent();
+    assertThat(comments.getBody().getContent())
+        .allSatisfy(comment -> assertThat(comment.getLinks()).isEmpty());
+  }
+}
@@ -0,0 +1,69 @@
+package pro.taskana.common.rest.assembler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.workbasket.rest.WorkbasketController;
+
+class LinkTemplateTest {
+
+  @AfterEach
+  void resetRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void should_ReturnRelativeLink_When_ThereIsNoCurrentRequest() {
+    LinkTemplate template = LinkTemplate.of(RestEndpoints.URL_TASKS_ID_TRANSFER_WORKBASKET_ID);
+
+    assertThat(template.expand("TKI:1", "WBI:2")).isEqualTo("/api/v1/tasks/TKI:1/transfer/WBI:2");
+  }
+
+  @Test
+  void should_EncodeValues_When_ExpandingTemplate() {
+    LinkTemplate template = LinkTemplate.of(RestEndpoints.URL_TASK_COMMENT);
+
+    assertThat(template.expand("a b/c?d")).isEqualTo("/api/v1/tasks/comments/a%20b%2Fc%3Fd");
+  }
+
+  @Test
+  void should_BuildSameLinkAsWebMvcLinkBuilder_When_ExpandingInCurrentRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workbaskets");
+    request.setServerName("taskana.example.com");
+    request.setServerPort(8443);
+    request.setScheme("https");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    Link link =
+        LinkTemplate.of(RestEndpoints.URL_WORKBASKET_ID_DISTRIBUTION)
+            .toLink(IanaLinkRelations.SELF, "WBI:100000000000000000000000000000000001");
+
+    Link expected =
+        WebMvcLinkBuilder.linkTo(
+                WebMvcLinkBuilder.methodOn(WorkbasketController.class)
+                    .getDistributionTargets("WBI:100000000000000000000000000000000001"))
+            .withSelfRel();
+    assertThat(link)
+        .extracting(Link::getHref, Link::getRel)
+        .containsExactly(expected.getHref(), expected.getRel());
+    assertThat(link.getHref()).startsWith("https://taskana.example.com:8443/api/v1/");
+  }
+
+  @Test
+  void should_ThrowException_When_NumberOfValuesDoesNotMatchTemplate() {
+    LinkTemplate template = LinkTemplate.of(RestEndpoints.URL_WORKBASKET_ID);
+
+    assertThatThrownBy(() -> template.expand("WBI:1", "WBI:2"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,147 @@
+package pro.taskana.common.rest.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
+
+import java.util.List;
+import java.util.stream.Stream;
+import javax.naming.Name;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.support.LdapNameBuilder;
+import org.springframework.test.context.TestPropertySource;
+
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.models.AccessIdRepresentationModel;
+import pro.taskana.common.test.rest.RestHelper;
+import pro.taskana.common.test.rest.TaskanaSpringBootTest;
+
+@TaskanaSpringBootTest
+@TestPropertySource(properties = "taskana.ldap.mirror.enabled=true")
+class LdapDirectoryMirrorIntTest {
+
+  private static final ParameterizedTypeReference<List<AccessIdRepresentationModel>>
+      ACCESS_ID_LIST_TYPE = new ParameterizedTypeReference<List<AccessIdRepresentationModel>>() {};
+
+  private final LdapDirectoryMirror mirror;
+  private final LdapClient ldapClient;
+  private final LdapTemplate ldapTemplate;
+  private final RestHelper restHelper;
+
+  @Autowired
+  LdapDirectoryMirrorIntTest(
+      LdapDirectoryMirror mirror,
+      LdapClient ldapClient,
+      LdapTemplate ldapTemplate,
+      RestHelper restHelper) {
+    this.mirror = mirror;
+    this.ldapClient = ldapClient;
+    this.ldapTemplate = ldapTemplate;
+    this.restHelper = restHelper;
+  }
+
+  @BeforeEach
+  void refreshMirror() {
+    mirror.refresh();
+  }
+
+  @TestFactory
+  Stream<DynamicTest> should_FindSameAccessIdsAsLdap_When_SearchingUsersAndGroups() {
+    return Stream.of(
+            "rig",
+            "läf",
+            "ksc-use",
+            "user-1",
+            "Tim Schl",
+            "organisationseinheit ksc",
+            "ksc-teamleads,cn=groups",
+            "uid=teamlead-1,cn=users,OU=Test,O=TASKANA",
+            "cn=ksc-users,cn=groups,OU=Test,O=TASKANA")
+        .map(
+            searchFor ->
+                DynamicTest.dynamicTest(
+                    searchFor,
+                    () ->
+                        assertThat(mirror.searchUsersAndGroups(searchFor))
+                            .usingElementComparatorOnFields("accessId", "name")
+                            .containsExactlyElementsOf(
+                                ldapClient.searchUsersAndGroups(searchFor))));
+  }
+
+  @TestFactory
+  Stream<DynamicTest> should_FindSameGroupsAsLdap_When_SearchingGroupsOfAccessId() {
+    return Stream.of(
+            "teamlead-2",
+            "user-2-1",
+            "cn=Organisationseinheit KSC 1,cn=Organisationseinheit KSC,cn=organisation,"
+                + "OU=Test,O=TASKANA")
+        .map(
+            accessId ->
+                DynamicTest.dynamicTest(
+                    accessId,
+                    () ->
+                        assertThat(mirror.searchGroupsAccessIdIsMemberOf(accessId))
+                            .usingElementComparatorOnFields("accessId", "name")
+                            .containsExactlyInAnyOrderElementsOf(
+                                ldapClient.searchGroupsAccessIdIsMemberOf(accessId))));
+  }
+
+  @Test
+  void should_ValidateAccessIdsLikeLdap() {
+    assertThat(mirror.validateAccessId("teamlead-1")).isTrue();
+    assertThat(mirror.validateAccessId("TEAMLEAD-1")).isTrue();
+    assertThat(mirror.validateAccessId("cn=ksc-users,cn=groups,OU=Test,O=TASKANA")).isTrue();
+    assertThat(mirror.validateAccessId("CN=KSC-USERS,CN=GROUPS,ou=test,o=taskana")).isTrue();
+    assertThat(mirror.validateAccessId("unknown-user")).isFalse();
+    assertThat(mirror.validateAccessId("cn=unknown,cn=groups,OU=Test,O=TASKANA")).isFalse();
+  }
+
+  @Test
+  void should_AnswerAccessIdSearchFromMirror_When_MirrorIsEnabled() {
+    ResponseEntity<List<AccessIdRepresentationModel>> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_ACCESS_ID) + "?search-for=rig",
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            ACCESS_ID_LIST_TYPE);
+
+    assertThat(mirror.isActive()).isTrue();
+    assertThat(response.getBody())
+        .isNotNull()
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactlyInAnyOrder("Schläfrig, Tim", "Eifrig, Elena");
+  }
+
+  @Test
+  void should_ContainNewUser_When_MirrorIsRefreshedIncrementally() throws Exception {
+    Name dn = LdapNameBuilder.newInstance().add("cn", "users").add("uid", "mirror-user").build();
+    DirContextAdapter user = new DirContextAdapter(dn);
+    user.setAttributeValues(
+        "objectclass", new String[] {"top", "person", "organizationalperson", "inetorgperson"});
+    user.setAttributeValue("uid", "mirror-user");
+    user.setAttributeValue("givenName", "Mira");
+    user.setAttributeValue("sn", "Spiegel");
+    user.setAttributeValue("cn", "Mira Spiegel");
+    ldapTemplate.bind(user);
+    try {
+      assertThat(mirror.validateAccessId("mirror-user")).isFalse();
+
+      mirror.refresh();
+
+      assertThat(mirror.validateAccessId("mirror-user")).isTrue();
+      assertThat(mirror.searchUsersAndGroups("spiegel"))
+          .extracting(AccessIdRepresentationModel::getAccessId)
+          .containsExactly("mirror-user");
+    } finally {
+      ldapTemplate.unbind(dn);
+    }
+  }
+}
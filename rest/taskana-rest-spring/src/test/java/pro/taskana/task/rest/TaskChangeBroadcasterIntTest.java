@@ -0,0 +1,146 @@
+package pro.taskana.task.rest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import pro.taskana.classification.rest.models.ClassificationSummaryRepresentationModel;
+import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.test.rest.RestHelper;
+import pro.taskana.common.test.rest.TaskanaSpringBootTest;
+import pro.taskana.task.api.events.TaskChangeType;
+import pro.taskana.task.rest.models.ObjectReferenceRepresentationModel;
+import pro.taskana.task.rest.models.TaskChangeEventRepresentationModel;
+import pro.taskana.task.rest.models.TaskRepresentationModel;
+import pro.taskana.workbasket.rest.models.WorkbasketSummaryRepresentationModel;
+
+/** Test the push of the task changes with server-sent events. */
+@TaskanaSpringBootTest
+class TaskChangeBroadcasterIntTest {
+
+  private static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000004";
+  private static final int READ_TIMEOUT_MILLIS = 10000;
+
+  private final RestHelper restHelper;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  TaskChangeBroadcasterIntTest(RestHelper restHelper, ObjectMapper objectMapper) {
+    this.restHelper = restHelper;
+    this.objectMapper = objectMapper;
+  }
+
+  @Test
+  void should_PushCommittedChangesOnlyToSubscribersWhoCanReadTheWorkbasket() throws Exception {
+    HttpURLConnection adminConnection = subscribe(RestHelper.AUTHORIZATION_ADMIN);
+    HttpURLConnection userConnection = subscribe(RestHelper.AUTHORIZATION_USER_B_1);
+    try (BufferedReader adminEvents = openEventStream(adminConnection);
+        BufferedReader userEvents = openEventStream(userConnection)) {
+
+      String taskId = createTask();
+      deleteTask(taskId);
+
+      TaskChangeEventRepresentationModel created = readTaskEvent(adminEvents);
+      TaskChangeEventRepresentationModel deleted = readTaskEvent(adminEvents);
+      assertThat(created.getType()).isEqualTo(TaskChangeType.CREATED);
+      assertThat(created.getTaskId()).isEqualTo(taskId);
+      assertThat(created.getWorkbasketId()).isEqualTo(WORKBASKET_ID);
+      assertThat(deleted.getType()).isEqualTo(TaskChangeType.DELETED);
+      assertThat(deleted.getTaskId()).isEqualTo(taskId);
+
+      userConnection.setReadTimeout(1000);
+      assertThat(readTaskEvent(userEvents)).isNull();
+    } finally {
+      adminConnection.disconnect();
+      userConnection.disconnect();
+    }
+  }
+
+  private HttpURLConnection subscribe(String authorization) throws Exception {
+    URL url = new URL(restHelper.toUrl(RestEndpoints.URL_TASKS_EVENTS));
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+    connection.setRequestProperty("Authorization", authorization);
+    connection.setRequestProperty("Accept", MediaType.TEXT_EVENT_STREAM_VALUE);
+    connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+    return connection;
+  }
+
+  private BufferedReader openEventStream(HttpURLConnection connection) throws Exception {
+    assertThat(connection.getResponseCode()).isEqualTo(HttpStatus.OK.value());
+    assertThat(connection.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    return new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8));
+  }
+
+  // returns the data of the next task event or null if no event arrived within the read timeout
+  private TaskChangeEventRepresentationModel readTaskEvent(BufferedReader events)
+      throws Exception {
+    String eventName = null;
+    try {
+      for (String line = events.readLine(); line != null; line = events.readLine()) {
+        if (line.startsWith("event:")) {
+          eventName = line.substring("event:".length());
+        } else if (line.startsWith("data:")) {
+          assertThat(eventName).isEqualTo(TaskChangeBroadcaster.TASK_EVENT);
+          return objectMapper.readValue(
+              line.substring("data:".length()), TaskChangeEventRepresentationModel.class);
+        }
+      }
+    } catch (SocketTimeoutException e) {
+      return null;
+    }
+    return null;
+  }
+
+  private String createTask() {
+    ClassificationSummaryRepresentationModel classification =
+        new ClassificationSummaryRepresentationModel();
+    classification.setKey("L11010");
+    WorkbasketSummaryRepresentationModel workbasket = new WorkbasketSummaryRepresentationModel();
+    workbasket.setWorkbasketId(WORKBASKET_ID);
+    ObjectReferenceRepresentationModel objectReference = new ObjectReferenceRepresentationModel();
+    objectReference.setCompany("MyCompany1");
+    objectReference.setSystem("MySystem1");
+    objectReference.setSystemInstance("MyInstance1");
+    objectReference.setType("MyType1");
+    objectReference.setValue("00000001");
+    TaskRepresentationModel task = new TaskRepresentationModel();
+    task.setClassificationSummary(classification);
+    task.setWorkbasketSummary(workbasket);
+    task.setPrimaryObjRef(objectReference);
+
+    ResponseEntity<TaskRepresentationModel> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS),
+            HttpMethod.POST,
+            new HttpEntity<>(task, restHelper.getHeadersTeamlead_1()),
+            ParameterizedTypeReference.forType(TaskRepresentationModel.class));
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getBody()).isNotNull();
+    return response.getBody().getTaskId();
+  }
+
+  private void deleteTask(String taskId) {
+    ResponseEntity<Void> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS_ID, taskId),
+            HttpMethod.DELETE,
+            new HttpEntity<>(restHelper.getHeadersAdmin()),
+            ParameterizedTypeReference.forType(Void.class));
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+  }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.BufferedWriter;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
@@ -13,6 +15,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,7 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -30,11 +35,14 @@ import org.springframework.web.client.RestTemplate;
 
 import pro.taskana.classification.rest.models.ClassificationSummaryRepresentationModel;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.StreamingRepresentationModelWriter;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
 import pro.taskana.common.test.rest.RestHelper;
 import pro.taskana.common.test.rest.TaskanaSpringBootTest;
 import pro.taskana.sampledata.SampleDataGenerator;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.rest.models.ObjectReferenceRepresentationModel;
+import pro.taskana.task.rest.models.TaskChangesRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel.CustomAttribute;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
@@ -54,9 +62,17 @@ class TaskControllerIntTest {
       TASK_SUMMARY_COLLECTION_MODEL_TYPE =
           new ParameterizedTypeReference<TaskSummaryCollectionRepresentationModel>() {};
 
+  private static final ParameterizedTypeReference<TaskChangesRepresentationModel>
+      TASK_CHANGES_MODEL_TYPE =
+          ParameterizedTypeReference.forType(TaskChangesRepresentationModel.class);
+
   private static final ParameterizedTypeReference<TaskRepresentationModel> TASK_MODEL_TYPE =
       ParameterizedTypeReference.forType(TaskRepresentationModel.class);
 
+  private static final ParameterizedTypeReference<BulkOperationResultsRepresentationModel>
+      BULK_OPERATION_RESULTS_MODEL_TYPE =
+          ParameterizedTypeReference.forType(BulkOperationResultsRepresentationModel.class);
+
   private static RestTemplate template;
   private final RestHelper restHelper;
   private final DataSource dataSource;
@@ -96,6 +112,183 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getContent()).hasSize(48);
   }
 
+  @Test
+  void should_StreamAllTasks_When_StreamParameterIsSet() {
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS) + "?stream=true&sort-by=PLANNED",
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    assertThat((response.getBody()).getLink(IanaLinkRelations.SELF)).isPresent();
+    assertThat(response.getBody().getContent())
+        .hasSize(48)
+        .extracting(TaskSummaryRepresentationModel::getPlanned)
+        .isSorted();
+  }
+
+  @Test
+  void should_ReturnRegularTaskList_When_StreamParameterIsFalse() {
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS) + "?stream=false",
+            HttpMethod.GET,
+            restHelper.defaultRequest(),
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).hasSize(48);
+  }
+
+  @Test
+  void should_StreamCompactTaskList_When_CompactFormatIsAccepted() throws Exception {
+    HttpHeaders headers = restHelper.getHeadersTeamlead_1();
+    headers.setAccept(List.of(StreamingRepresentationModelWriter.COMPACT_JSON));
+    ResponseEntity<String> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS)
+                + "?workbasket-id=WBI:100000000000000000000000000000000001&sort-by=PLANNED",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            String.class);
+
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(StreamingRepresentationModelWriter.COMPACT_JSON);
+    JsonNode body = new ObjectMapper().readTree(response.getBody());
+    List<String> columns = body.get("columns").findValuesAsText("name");
+    final int taskIdColumn = columns.indexOf("taskId");
+    int stateColumn = columns.indexOf("state");
+    JsonNode rows = body.get("rows");
+    assertThat(rows).hasSize(22);
+    assertThat(rows.get(0).isArray()).isTrue();
+    assertThat(rows.get(0)).hasSize(columns.size());
+    assertThat(body.get("columns").get(stateColumn).get("dictionary").asBoolean()).isTrue();
+    // the first occurrence of a dictionary value is written as text, all others as its index
+    List<String> states = new ArrayList<>();
+    for (JsonNode row : rows) {
+      JsonNode state = row.get(stateColumn);
+      if (state.isTextual()) {
+        states.add(state.asText());
+      } else {
+        assertThat(state.asInt()).isLessThan(states.size());
+      }
+    }
+    assertThat(states).hasSizeLessThan(rows.size()).doesNotHaveDuplicates();
+    assertThat(rows.get(0).get(taskIdColumn).asText()).startsWith("TKI:");
+  }
+
+  @Test
+  void should_ReturnChangedAndDeletedTasks_When_ReadingChangeFeed() {
+    template.exchange(
+        restHelper.toUrl(RestEndpoints.URL_TASKS_ID, "TKI:000000000000000000000000000000000010"),
+        HttpMethod.DELETE,
+        new HttpEntity<String>(restHelper.getHeadersAdmin()),
+        TASK_MODEL_TYPE);
+    try {
+      ResponseEntity<TaskChangesRepresentationModel> firstBatch =
+          template.exchange(
+              restHelper.toUrl(RestEndpoints.URL_TASKS_CHANGES) + "?max-results=5",
+              HttpMethod.GET,
+              new HttpEntity<String>(restHelper.getHeadersAdmin()),
+              TASK_CHANGES_MODEL_TYPE);
+      assertThat(firstBatch.getBody()).isNotNull();
+      assertThat(firstBatch.getBody().getContent()).hasSize(5);
+      assertThat(firstBatch.getBody().isMoreChanges()).isTrue();
+      assertThat(firstBatch.getBody().getLink(IanaLinkRelations.NEXT))
+          .get()
+          .extracting(Link::getHref)
+          .asString()
+          .contains("watermark=" + firstBatch.getBody().getWatermark());
+
+      ResponseEntity<TaskChangesRepresentationModel> remainingChanges =
+          template.exchange(
+              restHelper.toUrl(RestEndpoints.URL_TASKS_CHANGES)
+                  + "?max-results=1000&watermark="
+                  + firstBatch.getBody().getWatermark(),
+              HttpMethod.GET,
+              new HttpEntity<String>(restHelper.getHeadersAdmin()),
+              TASK_CHANGES_MODEL_TYPE);
+      assertThat(remainingChanges.getBody()).isNotNull();
+      assertThat(remainingChanges.getBody().isMoreChanges()).isFalse();
+      // the deletion is the latest change, other tests may have deleted tasks before
+      assertThat(remainingChanges.getBody().getDeletedTaskIds())
+          .endsWith("TKI:000000000000000000000000000000000010");
+      assertThat(remainingChanges.getBody().getContent())
+          .extracting(TaskSummaryRepresentationModel::getTaskId)
+          .doesNotContain("TKI:000000000000000000000000000000000010")
+          .doesNotContainAnyElementsOf(
+              firstBatch.getBody().getContent().stream()
+                  .map(TaskSummaryRepresentationModel::getTaskId)
+                  .collect(Collectors.toList()));
+    } finally {
+      resetDb();
+    }
+  }
+
+  @Test
+  void should_ClaimTasksAndCancelTheirClaims_When_UsingBulkEndpoints() {
+    List<String> taskIds =
+        List.of(
+            "TKI:000000000000000000000000000000000005",
+            "TKI:000000000000000000000000000000000006",
+            "TKI:000000000000000000000000000000000007",
+            "TKI:000000000000000000000000000000009999");
+    try {
+      ResponseEntity<BulkOperationResultsRepresentationModel> claimResponse =
+          template.exchange(
+              restHelper.toUrl(RestEndpoints.URL_TASKS_CLAIM),
+              HttpMethod.POST,
+              new HttpEntity<>(taskIds, restHelper.getHeadersAdmin()),
+              BULK_OPERATION_RESULTS_MODEL_TYPE);
+      assertThat(claimResponse.getBody()).isNotNull();
+      assertThat(claimResponse.getBody().getSucceededIds())
+          .containsExactlyElementsOf(taskIds.subList(0, 3));
+      assertThat(claimResponse.getBody().getFailedIds())
+          .containsOnlyKeys("TKI:000000000000000000000000000000009999");
+      assertThat(
+              claimResponse
+                  .getBody()
+                  .getFailedIds()
+                  .get("TKI:000000000000000000000000000000009999")
+                  .getException())
+          .isEqualTo("TaskNotFoundException");
+      TaskRepresentationModel claimedTask = getTaskAsAdmin(taskIds.get(2));
+      assertThat(claimedTask.getState()).isEqualTo(TaskState.CLAIMED);
+      assertThat(claimedTask.getOwner()).isEqualTo("admin");
+
+      ResponseEntity<BulkOperationResultsRepresentationModel> cancelClaimResponse =
+          template.exchange(
+              restHelper.toUrl(RestEndpoints.URL_TASKS_CANCEL_CLAIM),
+              HttpMethod.POST,
+              new HttpEntity<>(taskIds.subList(0, 3), restHelper.getHeadersAdmin()),
+              BULK_OPERATION_RESULTS_MODEL_TYPE);
+      assertThat(cancelClaimResponse.getBody()).isNotNull();
+      assertThat(cancelClaimResponse.getBody().getSucceededIds())
+          .containsExactlyElementsOf(taskIds.subList(0, 3));
+      assertThat(cancelClaimResponse.getBody().getFailedIds()).isEmpty();
+      TaskRepresentationModel unclaimedTask = getTaskAsAdmin(taskIds.get(0));
+      assertThat(unclaimedTask.getState()).isEqualTo(TaskState.READY);
+      assertThat(unclaimedTask.getOwner()).isNull();
+    } finally {
+      resetDb();
+    }
+  }
+
+  @Test
+  void should_ThrowException_When_ChangeFeedWatermarkIsInvalid() {
+    ThrowingCallable httpCall =
+        () ->
+            template.exchange(
+                restHelper.toUrl(RestEndpoints.URL_TASKS_CHANGES) + "?watermark=invalid",
+                HttpMethod.GET,
+                restHelper.defaultRequest(),
+                TASK_CHANGES_MODEL_TYPE);
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpClientErrorException.class)
+        .extracting(ex -> ((HttpClientErrorException) ex).getStatusCode())
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void testGetAllTasksByWorkbasketId() {
     ResponseEntity<TaskSummaryPagedRepresentationModel> response =
@@ -541,6 +734,10 @@ class TaskControllerIntTest {
             TASK_SUMMARY_PAGE_MODEL_TYPE);
     assertThat(response.getBody()).isNotNull();
     assertThat((response.getBody()).getContent()).hasSize(48);
+    // tasks with equal due dates have no defined order, hence page 5 is compared with the
+    // unpaged result instead of a fixed task id
+    final String firstTaskIdOfPage5 =
+        new ArrayList<>(response.getBody().getContent()).get(20).getTaskId();
 
     response =
         TEMPLATE.exchange(
@@ -554,7 +751,7 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getRequiredLink(IanaLinkRelations.LAST).getHref())
         .contains("page=10");
     assertThat(response.getBody().getContent().iterator().next().getTaskId())
-        .isEqualTo("TKI:000000000000000000000000000000000005");
+        .isEqualTo(firstTaskIdOfPage5);
 
     assertThat(response.getBody().getLink(IanaLinkRelations.SELF)).isNotNull();
     assertThat(response.getBody().getRequiredLink(IanaLinkRelations.SELF).getHref())
@@ -640,6 +837,44 @@ class TaskControllerIntTest {
     assertThat(originalTask.getModified()).isBefore(updatedTask.getModified());
   }
 
+  @Test
+  void should_RejectUpdate_When_IfMatchHeaderContainsOutdatedVersion() {
+    final String taskUrlString =
+        restHelper.toUrl(RestEndpoints.URL_TASKS_ID, "TKI:100000000000000000000000000000000000");
+    ResponseEntity<TaskRepresentationModel> responseGet =
+        template.exchange(
+            taskUrlString,
+            HttpMethod.GET,
+            new HttpEntity<>(restHelper.getHeadersTeamlead_1()),
+            TASK_MODEL_TYPE);
+    final TaskRepresentationModel originalTask = responseGet.getBody();
+    final String originalETag = responseGet.getHeaders().getETag();
+    assertThat(originalTask).isNotNull();
+    assertThat(originalETag).isEqualTo("\"" + originalTask.getVersion() + "\"");
+
+    HttpHeaders headers = restHelper.getHeadersTeamlead_1();
+    headers.setIfMatch(originalETag);
+    ResponseEntity<TaskRepresentationModel> responseUpdate =
+        template.exchange(
+            taskUrlString,
+            HttpMethod.PUT,
+            new HttpEntity<>(originalTask, headers),
+            TASK_MODEL_TYPE);
+    assertThat(responseUpdate.getHeaders().getETag())
+        .isEqualTo("\"" + (originalTask.getVersion() + 1) + "\"");
+
+    ThrowingCallable httpCall =
+        () ->
+            template.exchange(
+                taskUrlString,
+                HttpMethod.PUT,
+                new HttpEntity<>(responseUpdate.getBody(), headers),
+                TASK_MODEL_TYPE);
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpClientErrorException.class)
+        .hasMessageContaining("409");
+  }
+
   @Test
   void testCreateAndDeleteTask() {
 
@@ -945,6 +1180,17 @@ class TaskControllerIntTest {
         .isEqualTo(HttpStatus.BAD_REQUEST);
   }
 
+  private TaskRepresentationModel getTaskAsAdmin(String taskId) {
+    ResponseEntity<TaskRepresentationModel> response =
+        template.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS_ID, taskId),
+            HttpMethod.GET,
+            new HttpEntity<>(restHelper.getHeadersAdmin()),
+            TASK_MODEL_TYPE);
+    assertThat(response.getBody()).isNotNull();
+    return response.getBody();
+  }
+
   private TaskRepresentationModel getTaskResourceSample() {
     ClassificationSummaryRepresentationModel classificationResource =
         new ClassificationSummaryRepresentationModel();
@@ -5,6 +5,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -68,6 +69,33 @@ class TaskControllerRestDocTest extends BaseRestDocTest {
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void claimTasksDocTest() throws Exception {
+    List<String> taskIds =
+        List.of(
+            "TKI:000000000000000000000000000000000008", "TKI:000000000000000000000000000000000009");
+    mockMvc
+        .perform(
+            post(RestEndpoints.URL_TASKS_CLAIM).content(objectMapper.writeValueAsString(taskIds)))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+    taskService.cancelClaimTasks(taskIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void cancelClaimTasksDocTest() throws Exception {
+    List<String> taskIds =
+        List.of(
+            "TKI:000000000000000000000000000000000008", "TKI:000000000000000000000000000000000009");
+    taskService.claimTasks(taskIds);
+    mockMvc
+        .perform(
+            post(RestEndpoints.URL_TASKS_CANCEL_CLAIM)
+                .content(objectMapper.writeValueAsString(taskIds)))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
+
   @Test
   void selectAndClaimTaskDocTest() throws Exception {
     mockMvc
@@ -13,7 +13,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeEach;
@@ -97,6 +99,37 @@ class WorkbasketDefinitionControllerIntTest {
     assertThat(allAuthorizationsAreEmpty).isFalse();
   }
 
+  @Test
+  void should_StreamSameWorkbasketDefinitionsAsExport_When_StreamParameterIsSet() {
+    ResponseEntity<WorkbasketDefinitionCollectionRepresentationModel> expected =
+        executeExportRequestForDomain("DOMAIN_A");
+
+    ResponseEntity<WorkbasketDefinitionCollectionRepresentationModel> response =
+        executeExportRequestForDomain("DOMAIN_A&stream=true");
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(expected.getBody()).isNotNull();
+    assertThat(response.getBody().getLink(IanaLinkRelations.SELF)).isPresent();
+    assertThat(response.getBody().getContent())
+        .extracting(WorkbasketDefinitionRepresentationModel::getWorkbasket)
+        .extracting(WorkbasketRepresentationModel::getWorkbasketId)
+        .containsExactlyInAnyOrderElementsOf(
+            expected.getBody().getContent().stream()
+                .map(WorkbasketDefinitionRepresentationModel::getWorkbasket)
+                .map(WorkbasketRepresentationModel::getWorkbasketId)
+                .collect(Collectors.toList()));
+    assertThat(response.getBody().getContent())
+        .extracting(WorkbasketDefinitionRepresentationModel::getWorkbasket)
+        .extracting(WorkbasketRepresentationModel::getLinks)
+        .extracting(Links::isEmpty)
+        .containsOnly(true);
+    assertThat(toDistributionTargetsById(response.getBody()))
+        .isEqualTo(toDistributionTargetsById(expected.getBody()));
+    assertThat(toAuthorizationCountById(response.getBody()))
+        .isEqualTo(toAuthorizationCountById(expected.getBody()));
+  }
+
   @Test
   void should_NotContainAnyLinks_When_ExportIsRequested() {
     ResponseEntity<WorkbasketDefinitionCollectionRepresentationModel> response =
@@ -257,6 +290,24 @@ class WorkbasketDefinitionControllerIntTest {
     assertThatThrownBy(httpCall).isInstanceOf(HttpClientErrorException.class);
   }
 
+  private static Map<String, Set<String>> toDistributionTargetsById(
+      WorkbasketDefinitionCollectionRepresentationModel definitions) {
+    return definitions.getContent().stream()
+        .collect(
+            Collectors.toMap(
+                definition -> definition.getWorkbasket().getWorkbasketId(),
+                definition -> new HashSet<>(definition.getDistributionTargets())));
+  }
+
+  private static Map<String, Integer> toAuthorizationCountById(
+      WorkbasketDefinitionCollectionRepresentationModel definitions) {
+    return definitions.getContent().stream()
+        .collect(
+            Collectors.toMap(
+                definition -> definition.getWorkbasket().getWorkbasketId(),
+                definition -> definition.getAuthorizations().size()));
+  }
+
   private void changeWorkbasketIdOrKey(
       WorkbasketDefinitionRepresentationModel w, String newId, String newKey) {
     if (newId != null && !newId.isEmpty()) {
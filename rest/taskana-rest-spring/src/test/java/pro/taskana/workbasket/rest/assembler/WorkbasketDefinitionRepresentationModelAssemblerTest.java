@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -75,4 +76,24 @@ class WorkbasketDefinitionRepresentationModelAssemblerTest {
     inOrder.verifyNoMoreInteractions();
     Mockito.verifyNoMoreInteractions(mocks);
   }
+
+  @Test
+  void should_NotLoadAccessItemsAndDistributionTargets_When_TheyArePassedToTheAssembler() {
+    WorkbasketImpl workbasket = (WorkbasketImpl) workbasketService.newWorkbasket("1", "DOMAIN_A");
+    String id = "ID1";
+    workbasket.setId(id);
+    List<WorkbasketAccessItem> workbasketAccessItems =
+        List.of(workbasketService.newWorkbasketAccessItem(id, "a"));
+
+    Object[] mocks = {workbasketService, workbasketAssembler, accessItemAssembler};
+    Mockito.clearInvocations(mocks);
+
+    WorkbasketDefinitionRepresentationModel repModel =
+        assembler.toModel(workbasket, workbasketAccessItems, Set.of("target1"));
+
+    assertThat(repModel.getWorkbasket()).isNotNull();
+    assertThat(repModel.getAuthorizations()).hasSize(1);
+    assertThat(repModel.getDistributionTargets()).containsExactly("target1");
+    Mockito.verifyNoInteractions(workbasketService);
+  }
 }